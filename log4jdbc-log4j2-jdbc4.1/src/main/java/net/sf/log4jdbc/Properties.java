@@ -4,9 +4,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
 
+import net.sf.log4jdbc.log.ExecutionTime;
 import net.sf.log4jdbc.log.SpyLogDelegator;
 import net.sf.log4jdbc.log.SpyLogFactory;
+import net.sf.log4jdbc.log.async.AsyncSpyLogDelegator;
+import net.sf.log4jdbc.log.async.OverflowPolicy;
+import net.sf.log4jdbc.sql.jdbcapi.DriverDiscovery;
+import net.sf.log4jdbc.sql.resultsetcollector.ResultSetFormat;
 
 
 /**
@@ -39,6 +45,50 @@ import net.sf.log4jdbc.log.SpyLogFactory;
  * not only to the beginning of the package name (this can obviously done using "^"). 
  * This is true only if log4j2 is used (see <code>SpyLogDelegatorName</code>), 
  * otherwise it has the standard behavior.
+ * <li>Addition of a new attribute, <code>SqlTimingUnit</code>, and the corresponding getter, 
+ * <code>getSqlTimingUnit()</code>. Corresponds to the property "log4jdbc.sqltiming.unit". 
+ * Define the unit used to display execution times.
+ * <li>Addition of new attributes, <code>SqlStatisticsEnabled</code> and 
+ * <code>SqlStatisticsMaxShapes</code>, and the corresponding getters. 
+ * Correspond to the properties "log4jdbc.statistics.enabled" and 
+ * "log4jdbc.statistics.max.shapes". See <code>net.sf.log4jdbc.sql.statistics.SqlStatistics</code>.
+ * <li>Addition of new attributes, <code>AsyncEnabled</code>, <code>AsyncBufferSize</code>, 
+ * <code>AsyncOverflowPolicy</code> and <code>AsyncSampleRate</code>, and the corresponding getters. 
+ * Correspond to the properties "log4jdbc.async.enabled", "log4jdbc.async.buffer.size", 
+ * "log4jdbc.async.overflow.policy" and "log4jdbc.async.sample.rate". 
+ * See {@link AsyncSpyLogDelegator}.
+ * <li>Addition of a new attribute, <code>DumpSqlCacheSize</code>, and the corresponding getter. 
+ * Corresponds to the property "log4jdbc.dump.sql.cache.size". 
+ * See <code>net.sf.log4jdbc.log.FormattedSqlCache</code>.
+ * <li>Addition of new attributes, <code>LeakDetectionThresholdMsec</code>, 
+ * <code>LeakDetectionSampleRate</code> and <code>LeakDetectionIntervalMsec</code>, 
+ * and the corresponding getters. Correspond to the properties 
+ * "log4jdbc.leak.detection.threshold", "log4jdbc.leak.detection.sample.rate" and 
+ * "log4jdbc.leak.detection.interval". 
+ * See <code>net.sf.log4jdbc.sql.jdbcapi.ConnectionLeakDetector</code>.
+ * <li>Addition of new attributes, <code>ResultSetTableChunkRows</code>, 
+ * <code>ResultSetTableFirstRows</code> and <code>ResultSetTableLastRows</code>, 
+ * and the corresponding getters. Correspond to the properties 
+ * "log4jdbc.resultsettable.chunk.rows", "log4jdbc.resultsettable.first.rows" and 
+ * "log4jdbc.resultsettable.last.rows". 
+ * See <code>net.sf.log4jdbc.sql.resultsetcollector.DefaultResultSetCollector</code>.
+ * <li>Addition of a new attribute, <code>ResultSetTableMaxColumnWidth</code>, and the corresponding 
+ * getter. Corresponds to the property "log4jdbc.resultsettable.max.column.width". 
+ * See <code>net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollectorPrinter</code>.
+ * <li>Addition of a new attribute, <code>ResultSetTableFormat</code>, and the corresponding 
+ * getter. Corresponds to the property "log4jdbc.resultsettable.format". 
+ * See <code>net.sf.log4jdbc.sql.resultsetcollector.ResultSetFormat</code>.
+ * <li>Addition of a new attribute, <code>DriversDiscovery</code>, and the corresponding 
+ * getter. Corresponds to the property "log4jdbc.drivers.discovery". 
+ * See <code>net.sf.log4jdbc.sql.jdbcapi.DriverDiscovery</code>.
+ * <li>Addition of new attributes, <code>InstrumentationEnabled</code> and 
+ * <code>SpyAlwaysWrap</code>, and the corresponding getters. Correspond to the properties 
+ * "log4jdbc.instrumentation.enabled" and "log4jdbc.spy.always.wrap". 
+ * See <code>net.sf.log4jdbc.sql.jdbcapi.Instrumentation</code>.
+ * <li>Addition of new attributes, <code>DumpSqlMerge</code> and <code>DumpSqlCall</code>, 
+ * and the corresponding getters. Correspond to the properties "log4jdbc.dump.sql.merge" 
+ * and "log4jdbc.dump.sql.call", filtering <code>MERGE</code>/<code>UPSERT</code> statements 
+ * and stored procedure calls. See <code>net.sf.log4jdbc.sql.SqlOperation</code>.
  * </ul>
  * 
  * @author Mathieu Seppey
@@ -105,6 +155,116 @@ public final class Properties
 	 */
 	static final long SqlTimingErrorThresholdMsec;
 
+	/**
+	 * The <code>TimeUnit</code> used to display execution times 
+	 * (execution of SQL statements, opening and closing of connections). 
+	 * Execution times are measured in nanoseconds, and converted into this unit 
+	 * when logged. Corresponds to the property "log4jdbc.sqltiming.unit", 
+	 * accepting "ms", "us" or "ns". Default is <code>TimeUnit.MILLISECONDS</code>.
+	 */
+	static final TimeUnit SqlTimingUnit;
+
+	/**
+	 * If true, latency statistics are collected for each SQL shape, 
+	 * see <code>net.sf.log4jdbc.sql.statistics.SqlStatistics</code>. 
+	 * Corresponds to the property "log4jdbc.statistics.enabled". Default is false.
+	 */
+	static final boolean SqlStatisticsEnabled;
+
+	/**
+	 * The maximum number of SQL shapes for which statistics are collected. 
+	 * Corresponds to the property "log4jdbc.statistics.max.shapes". Default is 1000.
+	 */
+	static final int SqlStatisticsMaxShapes;
+
+	/**
+	 * If true, the <code>SpyLogDelegator</code> is decorated by an 
+	 * {@link AsyncSpyLogDelegator}, so that logging is performed by a background thread. 
+	 * Corresponds to the property "log4jdbc.async.enabled". Default is false.
+	 */
+	static final boolean AsyncEnabled;
+
+	/**
+	 * The number of events that can be pending in asynchronous mode. 
+	 * Corresponds to the property "log4jdbc.async.buffer.size". Default is 8192.
+	 */
+	static final int AsyncBufferSize;
+
+	/**
+	 * What to do with events when the buffer is full in asynchronous mode. 
+	 * Corresponds to the property "log4jdbc.async.overflow.policy" 
+	 * ("block", "drop" or "sample"). Default is <code>OverflowPolicy.BLOCK</code>.
+	 */
+	static final OverflowPolicy AsyncOverflowPolicy;
+
+	/**
+	 * When the overflow policy is <code>OverflowPolicy.SAMPLE</code>, one event 
+	 * out of this number is kept. Corresponds to the property 
+	 * "log4jdbc.async.sample.rate". Default is 10.
+	 */
+	static final int AsyncSampleRate;
+
+	/**
+	 * Time in milliseconds after which a connection still open is reported 
+	 * as possibly leaked, 0 to disable leak detection. 
+	 * Corresponds to the property "log4jdbc.leak.detection.threshold". Default is 0.
+	 * @see net.sf.log4jdbc.sql.jdbcapi.ConnectionLeakDetector
+	 */
+	static final long LeakDetectionThresholdMsec;
+
+	/**
+	 * The stack trace of the opening is captured for one connection out of 
+	 * this number, 0 to never capture it. 
+	 * Corresponds to the property "log4jdbc.leak.detection.sample.rate". Default is 10.
+	 */
+	static final int LeakDetectionSampleRate;
+
+	/**
+	 * Interval in milliseconds between two scans of the open connections 
+	 * for leak detection. 
+	 * Corresponds to the property "log4jdbc.leak.detection.interval". Default is 10000.
+	 */
+	static final long LeakDetectionIntervalMsec;
+
+	/**
+	 * If greater than 0, result sets are logged in chunks of this number of rows, 
+	 * rather than once the whole result set has been read. 
+	 * Corresponds to the property "log4jdbc.resultsettable.chunk.rows". Default is 0.
+	 * @see net.sf.log4jdbc.sql.resultsetcollector.DefaultResultSetCollector
+	 */
+	static final int ResultSetTableChunkRows;
+
+	/**
+	 * Number of first rows logged of each result set (or chunk). If this number or 
+	 * <code>ResultSetTableLastRows</code> is greater than 0, the rows in between 
+	 * are only counted. Corresponds to the property "log4jdbc.resultsettable.first.rows". 
+	 * Default is 0.
+	 */
+	static final int ResultSetTableFirstRows;
+
+	/**
+	 * Number of last rows logged of each result set (or chunk), see 
+	 * <code>ResultSetTableFirstRows</code>. 
+	 * Corresponds to the property "log4jdbc.resultsettable.last.rows". Default is 0.
+	 */
+	static final int ResultSetTableLastRows;
+
+	/**
+	 * Maximum width of the columns of the result set tables, longer values 
+	 * being truncated; 0 if not bounded. 
+	 * Corresponds to the property "log4jdbc.resultsettable.max.column.width". Default is 0.
+	 * @see net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollectorPrinter
+	 */
+	static final int ResultSetTableMaxColumnWidth;
+
+	/**
+	 * Format used to render the collected result sets: <code>table</code>, 
+	 * <code>csv</code>, <code>jsonl</code> or <code>markdown</code>. 
+	 * Corresponds to the property "log4jdbc.resultsettable.format". Default is <code>table</code>.
+	 * @see ResultSetFormat
+	 */
+	static final ResultSetFormat ResultSetTableFormat;
+
 	/**
 	 * When dumping boolean values, dump them as 'true' or 'false'.
 	 * If this option is not set, they will be dumped as 1 or 0 as many
@@ -119,6 +279,13 @@ public final class Properties
 	 */
 	static final int DumpSqlMaxLineLength;
 
+	/**
+	 * Maximum number of SQL templates of <code>PreparedStatement</code>s kept 
+	 * formatted in cache, 0 to disable the cache.
+	 * @see net.sf.log4jdbc.log.FormattedSqlCache
+	 */
+	static final int DumpSqlCacheSize;
+
 	/**
 	 * If this is true, display a special warning in the log along with the SQL
 	 * when the application uses a Statement (as opposed to a PreparedStatement.)
@@ -130,7 +297,7 @@ public final class Properties
 	/**
 	 * Options to more finely control which types of SQL statements will
 	 * be dumped, when dumping SQL.
-	 * By default all 5 of the following will be true.  If any one is set to
+	 * By default all 7 of the following will be true.  If any one is set to
 	 * false, then that particular type of SQL will not be dumped.
 	 */
 	static final boolean DumpSqlSelect;
@@ -138,8 +305,10 @@ public final class Properties
 	static final boolean DumpSqlUpdate;
 	static final boolean DumpSqlDelete;
 	static final boolean DumpSqlCreate;
+	static final boolean DumpSqlMerge;
+	static final boolean DumpSqlCall;
 
-	// only true if one ore more of the above 4 flags are false.
+	// only true if one ore more of the above 7 flags are false.
 	static final boolean DumpSqlFilteringOn;
 
 	/**
@@ -163,6 +332,29 @@ public final class Properties
 	 * to use beside the default drivers auto-loaded.
 	 */
 	static final Collection<String> AdditionalDrivers;
+	/**
+	 * How the popular and additional drivers are loaded: <code>eager</code>, 
+	 * <code>service_loader</code> or <code>lazy</code>. 
+	 * Corresponds to the property "log4jdbc.drivers.discovery". Default is <code>eager</code>.
+	 * @see DriverDiscovery
+	 */
+	static final DriverDiscovery DriversDiscovery;
+
+	/**
+	 * Whether the JDBC objects wrapped by log4jdbc report the calls made on them 
+	 * when the application starts. Can be changed at runtime. 
+	 * Corresponds to the property "log4jdbc.instrumentation.enabled". Default is <code>true</code>.
+	 * @see net.sf.log4jdbc.sql.jdbcapi.Instrumentation
+	 */
+	static final boolean InstrumentationEnabled;
+
+	/**
+	 * Whether connections are wrapped even when logging and statistics are disabled, 
+	 * so that they can be observed once logging is enabled. 
+	 * Corresponds to the property "log4jdbc.spy.always.wrap". Default is <code>false</code>.
+	 * @see net.sf.log4jdbc.sql.jdbcapi.Instrumentation
+	 */
+	static final boolean SpyAlwaysWrap;
 
 	/**
 	 * Trim SQL before logging it?
@@ -240,12 +432,75 @@ public final class Properties
 		}
 		SqlTimingErrorThresholdMsec = SqlTimingErrorThresholdMsecTemp;
 
+		String timingUnit = getStringOption(props, "log4jdbc.sqltiming.unit");
+		TimeUnit SqlTimingUnitTemp = ExecutionTime.parseUnit(timingUnit);
+		if (SqlTimingUnitTemp == null)
+		{
+			if (timingUnit != null)
+			{
+				log.debug("  unrecognized log4jdbc.sqltiming.unit, using ms");
+			}
+			SqlTimingUnitTemp = TimeUnit.MILLISECONDS;
+		}
+		SqlTimingUnit = SqlTimingUnitTemp;
+
+		SqlStatisticsEnabled = getBooleanOption(props, "log4jdbc.statistics.enabled", false);
+		SqlStatisticsMaxShapes = getLongOption(props, 
+				"log4jdbc.statistics.max.shapes", 1000L).intValue();
+
+		AsyncEnabled = getBooleanOption(props, "log4jdbc.async.enabled", false);
+		AsyncBufferSize = getLongOption(props, 
+				"log4jdbc.async.buffer.size", 8192L).intValue();
+		String overflowPolicy = getStringOption(props, "log4jdbc.async.overflow.policy");
+		OverflowPolicy AsyncOverflowPolicyTemp = OverflowPolicy.fromName(overflowPolicy);
+		if (AsyncOverflowPolicyTemp == null)
+		{
+			if (overflowPolicy != null)
+			{
+				log.debug("  unrecognized log4jdbc.async.overflow.policy, using block");
+			}
+			AsyncOverflowPolicyTemp = OverflowPolicy.BLOCK;
+		}
+		AsyncOverflowPolicy = AsyncOverflowPolicyTemp;
+		AsyncSampleRate = getLongOption(props, 
+				"log4jdbc.async.sample.rate", 10L).intValue();
+
+		LeakDetectionThresholdMsec = getLongOption(props, 
+				"log4jdbc.leak.detection.threshold", 0L).longValue();
+		LeakDetectionSampleRate = getLongOption(props, 
+				"log4jdbc.leak.detection.sample.rate", 10L).intValue();
+		LeakDetectionIntervalMsec = getLongOption(props, 
+				"log4jdbc.leak.detection.interval", 10000L).longValue();
+
+		ResultSetTableChunkRows = getLongOption(props, 
+				"log4jdbc.resultsettable.chunk.rows", 0L).intValue();
+		ResultSetTableFirstRows = getLongOption(props, 
+				"log4jdbc.resultsettable.first.rows", 0L).intValue();
+		ResultSetTableLastRows = getLongOption(props, 
+				"log4jdbc.resultsettable.last.rows", 0L).intValue();
+		ResultSetTableMaxColumnWidth = getLongOption(props, 
+				"log4jdbc.resultsettable.max.column.width", 0L).intValue();
+		String resultSetTableFormat = getStringOption(props, "log4jdbc.resultsettable.format");
+		ResultSetFormat ResultSetTableFormatTemp = ResultSetFormat.fromName(resultSetTableFormat);
+		if (ResultSetTableFormatTemp == null)
+		{
+			if (resultSetTableFormat != null)
+			{
+				log.debug("  unrecognized log4jdbc.resultsettable.format, using table");
+			}
+			ResultSetTableFormatTemp = ResultSetFormat.TABLE;
+		}
+		ResultSetTableFormat = ResultSetTableFormatTemp;
+
 		DumpBooleanAsTrueFalse =
 				getBooleanOption(props, "log4jdbc.dump.booleanastruefalse",false);
 
 		DumpSqlMaxLineLength = getLongOption(props,
 				"log4jdbc.dump.sql.maxlinelength", 90L).intValue();
 
+		DumpSqlCacheSize = getLongOption(props,
+				"log4jdbc.dump.sql.cache.size", 1000L).intValue();
+
 		DumpFullDebugStackTrace =
 				getBooleanOption(props, "log4jdbc.dump.fulldebugstacktrace",false);
 
@@ -257,9 +512,11 @@ public final class Properties
 		DumpSqlUpdate = getBooleanOption(props, "log4jdbc.dump.sql.update",true);
 		DumpSqlDelete = getBooleanOption(props, "log4jdbc.dump.sql.delete",true);
 		DumpSqlCreate = getBooleanOption(props, "log4jdbc.dump.sql.create",true);
+		DumpSqlMerge = getBooleanOption(props, "log4jdbc.dump.sql.merge",true);
+		DumpSqlCall = getBooleanOption(props, "log4jdbc.dump.sql.call",true);
 
 		DumpSqlFilteringOn = !(DumpSqlSelect && DumpSqlInsert && DumpSqlUpdate &&
-				DumpSqlDelete && DumpSqlCreate);
+				DumpSqlDelete && DumpSqlCreate && DumpSqlMerge && DumpSqlCall);
 
 		DumpSqlAddSemicolon = getBooleanOption(props,
 				"log4jdbc.dump.sql.addsemicolon", false);
@@ -278,6 +535,21 @@ public final class Properties
 				log.debug ("    will look for specific driver " + moreDriversArr[i]);
 			}
 		}
+		String driversDiscovery = getStringOption(props, "log4jdbc.drivers.discovery");
+		DriverDiscovery DriversDiscoveryTemp = DriverDiscovery.fromName(driversDiscovery);
+		if (DriversDiscoveryTemp == null)
+		{
+			if (driversDiscovery != null)
+			{
+				log.debug("  unrecognized log4jdbc.drivers.discovery, using eager");
+			}
+			DriversDiscoveryTemp = DriverDiscovery.EAGER;
+		}
+		DriversDiscovery = DriversDiscoveryTemp;
+
+		InstrumentationEnabled = getBooleanOption(props, 
+				"log4jdbc.instrumentation.enabled", true);
+		SpyAlwaysWrap = getBooleanOption(props, "log4jdbc.spy.always.wrap", false);
 
 		TrimSql = getBooleanOption(props, "log4jdbc.trim.sql", true);
 
@@ -290,6 +562,14 @@ public final class Properties
 		FormatParameterObjects = getBooleanOption(props, "log4jdbc.sql.formatParameterObjects", true);
 		
 		log.debug("log4jdbc-logj2 properties initialization done.");
+
+		//the SpyLogDelegator used by spies is decorated only now, 
+		//so that the properties above are used to configure it
+		if (AsyncEnabled)
+		{
+			SpyLogFactory.setSpyLogDelegator(new AsyncSpyLogDelegator(log, 
+					AsyncBufferSize, AsyncOverflowPolicy, AsyncSampleRate));
+		}
 	}   
 	
 	/**
@@ -494,6 +774,13 @@ public final class Properties
 	  public static int getDumpSqlMaxLineLength() {
 	    return DumpSqlMaxLineLength;
 	  }
+	  /**
+	   * @return the DumpSqlCacheSize
+	   * @see #DumpSqlCacheSize
+	   */
+	  public static int getDumpSqlCacheSize() {
+	    return DumpSqlCacheSize;
+	  }
 	  
 	  /**
 	   * @return the dumpSqlAddSemicolon
@@ -574,6 +861,18 @@ public final class Properties
 	  public static boolean isDumpSqlCreate() {
 	  	return DumpSqlCreate;
 	  }
+	  /**
+	   * @return the DumpSqlMerge
+	   */
+	  public static boolean isDumpSqlMerge() {
+	  	return DumpSqlMerge;
+	  }
+	  /**
+	   * @return the DumpSqlCall
+	   */
+	  public static boolean isDumpSqlCall() {
+	  	return DumpSqlCall;
+	  }
 	  
 	  /**
 	   * @return the sqlTimingErrorThresholdEnabled
@@ -600,6 +899,118 @@ public final class Properties
 	  public static long getSqlTimingWarnThresholdMsec() {
 	  	return SqlTimingWarnThresholdMsec;
 	  }
+	  /**
+	   * @return the SqlTimingUnit
+	   * @see #SqlTimingUnit
+	   */
+	  public static TimeUnit getSqlTimingUnit() {
+	  	return SqlTimingUnit;
+	  }
+	  /**
+	   * @return the SqlStatisticsEnabled
+	   * @see #SqlStatisticsEnabled
+	   */
+	  public static boolean isSqlStatisticsEnabled() {
+	  	return SqlStatisticsEnabled;
+	  }
+	  /**
+	   * @return the SqlStatisticsMaxShapes
+	   * @see #SqlStatisticsMaxShapes
+	   */
+	  public static int getSqlStatisticsMaxShapes() {
+	  	return SqlStatisticsMaxShapes;
+	  }
+	  /**
+	   * @return the AsyncEnabled
+	   * @see #AsyncEnabled
+	   */
+	  public static boolean isAsyncEnabled() {
+	  	return AsyncEnabled;
+	  }
+	  /**
+	   * @return the AsyncBufferSize
+	   * @see #AsyncBufferSize
+	   */
+	  public static int getAsyncBufferSize() {
+	  	return AsyncBufferSize;
+	  }
+	  /**
+	   * @return the AsyncOverflowPolicy
+	   * @see #AsyncOverflowPolicy
+	   */
+	  public static OverflowPolicy getAsyncOverflowPolicy() {
+	  	return AsyncOverflowPolicy;
+	  }
+	  /**
+	   * @return the AsyncSampleRate
+	   * @see #AsyncSampleRate
+	   */
+	  public static int getAsyncSampleRate() {
+	  	return AsyncSampleRate;
+	  }
+	  /**
+	   * @return <code>true</code> if <code>LeakDetectionThresholdMsec</code> is greater than 0.
+	   * @see #LeakDetectionThresholdMsec
+	   */
+	  public static boolean isLeakDetectionEnabled() {
+	  	return LeakDetectionThresholdMsec > 0;
+	  }
+	  /**
+	   * @return the LeakDetectionThresholdMsec
+	   * @see #LeakDetectionThresholdMsec
+	   */
+	  public static long getLeakDetectionThresholdMsec() {
+	  	return LeakDetectionThresholdMsec;
+	  }
+	  /**
+	   * @return the LeakDetectionSampleRate
+	   * @see #LeakDetectionSampleRate
+	   */
+	  public static int getLeakDetectionSampleRate() {
+	  	return LeakDetectionSampleRate;
+	  }
+	  /**
+	   * @return the LeakDetectionIntervalMsec
+	   * @see #LeakDetectionIntervalMsec
+	   */
+	  public static long getLeakDetectionIntervalMsec() {
+	  	return LeakDetectionIntervalMsec;
+	  }
+	  /**
+	   * @return the ResultSetTableChunkRows
+	   * @see #ResultSetTableChunkRows
+	   */
+	  public static int getResultSetTableChunkRows() {
+	  	return ResultSetTableChunkRows;
+	  }
+	  /**
+	   * @return the ResultSetTableFirstRows
+	   * @see #ResultSetTableFirstRows
+	   */
+	  public static int getResultSetTableFirstRows() {
+	  	return ResultSetTableFirstRows;
+	  }
+	  /**
+	   * @return the ResultSetTableLastRows
+	   * @see #ResultSetTableLastRows
+	   */
+	  public static int getResultSetTableLastRows() {
+	  	return ResultSetTableLastRows;
+	  }
+	  /**
+	   * @return the ResultSetTableMaxColumnWidth
+	   * @see #ResultSetTableMaxColumnWidth
+	   */
+	  public static int getResultSetTableMaxColumnWidth() {
+	  	return ResultSetTableMaxColumnWidth;
+	  }
+	  /**
+	   * @return the ResultSetTableFormat
+	   * @see #ResultSetTableFormat
+	   */
+	  public static ResultSetFormat getResultSetTableFormat() {
+	  	return ResultSetTableFormat;
+	  }
 	  /**
 	   * @return the AutoLoadPopularDrivers
 	   * @see #AutoLoadPopularDrivers
@@ -614,6 +1025,27 @@ public final class Properties
 	  public static Collection<String> getAdditionalDrivers() {
 		  return AdditionalDrivers;
 	  }
+	  /**
+	   * @return the DriversDiscovery
+	   * @see #DriversDiscovery
+	   */
+	  public static DriverDiscovery getDriversDiscovery() {
+		  return DriversDiscovery;
+	  }
+	  /**
+	   * @return the InstrumentationEnabled
+	   * @see #InstrumentationEnabled
+	   */
+	  public static boolean isInstrumentationEnabled() {
+		  return InstrumentationEnabled;
+	  }
+	  /**
+	   * @return the SpyAlwaysWrap
+	   * @see #SpyAlwaysWrap
+	   */
+	  public static boolean isSpyAlwaysWrap() {
+		  return SpyAlwaysWrap;
+	  }
 	  
 	  /**
 	   * @return the DumpBooleanAsTrueFalse
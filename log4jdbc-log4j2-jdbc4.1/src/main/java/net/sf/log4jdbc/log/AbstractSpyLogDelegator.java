@@ -1,7 +1,14 @@
 package net.sf.log4jdbc.log;
 
+import java.io.IOException;
+
 import net.sf.log4jdbc.Properties;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.jdbcapi.ConnectionLeakDetector;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
+import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
+import net.sf.log4jdbc.sql.statistics.SqlStatistics;
 
 /**
  * Class implementing logics common to all {@code SpyLogDelegator} implementations, 
@@ -19,6 +26,22 @@ public abstract class AbstractSpyLogDelegator implements SpyLogDelegator {
         
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation wraps {@code methodCall} into a {@code MethodCall} 
+     * (see {@link MethodCall#fromDescription(String)}), and delegates to 
+     * {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)}.
+     * 
+     * @see SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)
+     * @see #exceptionOccured(Spy, MethodCall, Exception, String, long)
+     */
+    @Override
+    public void exceptionOccured(Spy spy, String methodCall, Exception e,
+            String sql, long execTime) {
+        this.exceptionOccured(spy, MethodCall.fromDescription(methodCall), e, sql, execTime);
+    }
+    
     /**
      * {@inheritDoc}
      * <p>
@@ -26,36 +49,203 @@ public abstract class AbstractSpyLogDelegator implements SpyLogDelegator {
      * {@code SpyLogDelegator#GET_GENERATED_KEYS_METHOD_CALL}, if the property 
      * {@code log4jdbc.suppress.generated.keys.exception} is {@code true}. If the exception 
      * is allowed to be logged, this method will then delegate to the method 
-     * {@link #filteredExceptionOccured(Spy, String, Exception, String, long)}.
+     * {@link #filteredExceptionOccured(Spy, MethodCall, Exception, String, long)}.
      * 
-     * @see SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)
-     * @see #filteredExceptionOccured(Spy, String, Exception, String, long)
+     * @see SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)
+     * @see #filteredExceptionOccured(Spy, MethodCall, Exception, String, long)
      */
     @Override
-    public void exceptionOccured(Spy spy, String methodCall, Exception e,
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e,
             String sql, long execTime) {
         
         if (Properties.isSuppressGetGeneratedKeysException() && 
-                methodCall.equals(GET_GENERATED_KEYS_METHOD_CALL)) {
+                GET_GENERATED_KEYS_METHOD_CALL.equals(methodCall.toString())) {
             return;
         }
         this.filteredExceptionOccured(spy, methodCall, e, sql, execTime);
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation performs the same filtering as 
+     * {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)}, then renders 
+     * {@code sql} with its values, and delegates to 
+     * {@link #filteredExceptionOccured(Spy, MethodCall, Exception, String, long)}.
+     * 
+     * @see SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, DumpedSql, long)
+     */
+    @Override
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e,
+            DumpedSql sql, long execTime) {
+        
+        if (Properties.isSuppressGetGeneratedKeysException() && 
+                GET_GENERATED_KEYS_METHOD_CALL.equals(methodCall.toString())) {
+            return;
+        }
+        this.filteredExceptionOccured(spy, methodCall, e, sql.toString(), execTime);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation wraps {@code methodCall} into a {@code MethodCall} 
+     * (see {@link MethodCall#fromDescription(String)}), and delegates to 
+     * {@link #methodReturned(Spy, MethodCall, String)}.
+     * 
+     * @see SpyLogDelegator#methodReturned(Spy, String, String)
+     */
+    @Override
+    public void methodReturned(Spy spy, String methodCall, String returnMsg) {
+        this.methodReturned(spy, MethodCall.fromDescription(methodCall), returnMsg);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation renders {@code sql} with its values, and delegates to 
+     * {@link #sqlOccurred(Spy, String, String)}. Implementations should override it 
+     * to render the SQL only if it is actually logged.
+     * 
+     * @see SpyLogDelegator#sqlOccurred(Spy, String, DumpedSql)
+     */
+    @Override
+    public void sqlOccurred(Spy spy, String methodCall, DumpedSql sql) {
+        this.sqlOccurred(spy, methodCall, sql.toString());
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation renders {@code sql} with its values, and delegates to 
+     * {@link #sqlTimingOccurred(Spy, long, String, String)}. Implementations should 
+     * override it to render the SQL only if it is actually logged.
+     * 
+     * @see SpyLogDelegator#sqlTimingOccurred(Spy, long, String, DumpedSql)
+     */
+    @Override
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, DumpedSql sql) {
+        this.sqlTimingOccurred(spy, execTime, methodCall, sql.toString());
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the value of {@link #isJdbcLoggingEnabled()}, 
+     * implementations should override it to provide a more accurate value.
+     */
+    @Override
+    public boolean isAuditLoggingEnabled() {
+        return this.isJdbcLoggingEnabled();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the value of {@link #isJdbcLoggingEnabled()}, 
+     * implementations should override it to provide a more accurate value.
+     */
+    @Override
+    public boolean isResultSetLoggingEnabled() {
+        return this.isJdbcLoggingEnabled();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the value of {@link #isJdbcLoggingEnabled()}, 
+     * implementations should override it to provide a more accurate value.
+     */
+    @Override
+    public boolean isSqlOnlyLoggingEnabled() {
+        return this.isJdbcLoggingEnabled();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the value of {@link #isJdbcLoggingEnabled()}, 
+     * implementations should override it to provide a more accurate value.
+     */
+    @Override
+    public boolean isSqlTimingLoggingEnabled() {
+        return this.isJdbcLoggingEnabled();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the value of {@link #isJdbcLoggingEnabled()}, 
+     * implementations should override it to provide a more accurate value.
+     */
+    @Override
+    public boolean isConnectionLoggingEnabled() {
+        return this.isJdbcLoggingEnabled();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns {@link SqlStatistics#getInstance()} if the property 
+     * {@code log4jdbc.statistics.enabled} is {@code true}, {@code null} otherwise.
+     */
+    @Override
+    public SqlStatistics getSqlStatistics() {
+        if (Properties.isSqlStatisticsEnabled()) {
+            return SqlStatistics.getInstance();
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns {@link ConnectionLeakDetector#getInstance()} if the property 
+     * {@code log4jdbc.leak.detection.threshold} is greater than 0, {@code null} otherwise.
+     */
+    @Override
+    public ConnectionLeakDetector getConnectionLeakDetector() {
+        if (Properties.isLeakDetectionEnabled()) {
+            return ConnectionLeakDetector.getInstance();
+        }
+        return null;
+    }
+
+    /**
+     * Render the rows collected by {@code resultSetCollector}, in the format defined 
+     * by the property {@code log4jdbc.resultsettable.format}, to be logged by 
+     * {@link #resultSetCollected(ResultSetCollector)}. {@code resultSetCollector} 
+     * is not reset by this method.
+     * 
+     * @param resultSetCollector    the {@code ResultSetCollector} to render.
+     * @return                      A {@code String} that is the rendered rows, empty 
+     *                              if there is nothing to log.
+     */
+    protected String renderResultSet(ResultSetCollector resultSetCollector) {
+        StringBuilder out = new StringBuilder();
+        try {
+            Properties.getResultSetTableFormat().newRenderer().render(resultSetCollector, out);
+        } catch (IOException e) {
+            //never thrown by a StringBuilder
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+    
     /**
      * This method is called following a call to 
-     * {@link #exceptionOccured(Spy, String, Exception, String, long)}, 
+     * {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)}, 
      * if the exception is allowed to be logged. So this is the method performing 
-     * the actual logging. See {@link #exceptionOccured(Spy, String, Exception, String, long)} 
+     * the actual logging. See {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)} 
      * for details about the filtering. 
      * 
-     * @param spy           see {@link SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)}.
-     * @param methodCall    see {@link SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)}.
-     * @param e             see {@link SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)}. 
-     * @param sql           see {@link SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)}. 
-     * @param execTime      see {@link SpyLogDelegator#exceptionOccured(Spy, String, Exception, String, long)}
-     * @see #exceptionOccured(Spy, String, Exception, String, long)
+     * @param spy           see {@link SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)}.
+     * @param methodCall    see {@link SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)}.
+     * @param e             see {@link SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)}. 
+     * @param sql           see {@link SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)}. 
+     * @param execTime      see {@link SpyLogDelegator#exceptionOccured(Spy, MethodCall, Exception, String, long)}
+     * @see #exceptionOccured(Spy, MethodCall, Exception, String, long)
      */
-    protected abstract void filteredExceptionOccured(Spy spy, String methodCall, Exception e,
+    protected abstract void filteredExceptionOccured(Spy spy, MethodCall methodCall, Exception e,
             String sql, long execTime);
 }
@@ -0,0 +1,198 @@
+package net.sf.log4jdbc.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import net.sf.log4jdbc.Properties;
+
+/**
+ * Locate the point in the application that called into JDBC, to provide
+ * the debugging info of log4jdbc log events (see {@link #getDebugInfo()}).
+ * <p>
+ * Finding this location requires walking the stack of the current thread,
+ * which used to be done at each debug event by building the whole stack trace,
+ * then testing each frame against the regex <code>log4jdbc.debug.stack.prefix</code>,
+ * compiled at each test. This class:
+ * <ul>
+ * <li>examines at most {@link #MAX_FRAMES} frames of the stack trace,
+ * <li>compiles the regex only once, and caches the result of the test for each class name,
+ * <li>caches the rendered location of each call site, keyed on the frame
+ * selected by the walk, so that the location of an already seen call site
+ * is not rendered again.
+ * </ul>
+ * Caches are bounded: once full, results are computed without being cached.
+ * <p>
+ * The stack trace is still obtained from {@code Throwable#getStackTrace()}: the APIs
+ * walking only the top frames (<code>StackWalker</code>, <code>JavaLangAccess</code>)
+ * can only be used by reflection from this module compiled for Java 7,
+ * at a cost per frame that outweighs the frames they avoid building.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class CallerLocation {
+    /**
+     * System dependent line separator.
+     */
+    private static final String nl = System.getProperty("line.separator");
+    /**
+     * Prefix of the class names of log4jdbc.
+     */
+    private static final String LOG4JDBC_PACKAGE = "net.sf.log4jdbc";
+    /**
+     * An {@code int} that is the maximum number of frames examined when looking for
+     * the caller. If the application frame is deeper, the caller of log4jdbc is used.
+     */
+    static final int MAX_FRAMES = 256;
+    /**
+     * An {@code int} that is the maximum number of entries of each cache.
+     */
+    static final int MAX_CACHED = 4096;
+    /**
+     * The {@code CallerLocation} used by {@link #getDebugInfo()}, matching
+     * the regex <code>log4jdbc.debug.stack.prefix</code> if the option is set.
+     */
+    private static final CallerLocation defaultLocation = new CallerLocation(
+            Properties.isTraceFromApplication() ?
+                    Pattern.compile(Properties.getDebugStackPrefix()) : null);
+
+    /**
+     * The {@code Pattern} matching the class names of the application,
+     * {@code null} if the caller of log4jdbc should always be used.
+     */
+    private final Pattern applicationPattern;
+    /**
+     * Cache of the result of matching class names against {@link #applicationPattern}.
+     */
+    final ConcurrentMap<String, Boolean> applicationClasses =
+            new ConcurrentHashMap<String, Boolean>();
+    /**
+     * Cache of the rendered locations, associated to the frame of the call site.
+     */
+    final ConcurrentMap<StackTraceElement, String> callSites =
+            new ConcurrentHashMap<StackTraceElement, String>();
+
+    /**
+     * @param applicationPattern    The {@code Pattern} matching the class names
+     *                              of the application, {@code null} to always
+     *                              use the caller of log4jdbc.
+     */
+    CallerLocation(Pattern applicationPattern) {
+        this.applicationPattern = applicationPattern;
+    }
+
+    /**
+     * Get debugging info - the module and line number that called the logger
+     * version that prints the stack trace information from the point just before
+     * we got it (net.sf.log4jdbc)
+     * <p>
+     * if the optional log4jdbc.debug.stack.prefix system property is defined then
+     * the last call point from an application is shown in the debug
+     * trace output, instead of the last direct caller into log4jdbc.
+     * If log4jdbc.dump.fulldebugstacktrace is true, all frames not belonging to log4jdbc
+     * are returned.
+     *
+     * @return debugging info for whoever called into JDBC from within the application.
+     */
+    public static String getDebugInfo() {
+        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+        if (Properties.isDumpFullDebugStackTrace()) {
+            return dumpStackTrace(stackTrace);
+        }
+        if (stackTrace.length == 0) {
+            return null;
+        }
+        return defaultLocation.getLocation(defaultLocation.findCaller(stackTrace));
+    }
+
+    /**
+     * Find the frame of the call site: the first frame matching
+     * the application pattern if defined, otherwise,
+     * or if no frame matched, the frame calling the last log4jdbc frame.
+     *
+     * @param stackTrace    The {@code StackTraceElement}s of the current thread.
+     * @return              The {@code StackTraceElement} of the call site.
+     */
+    StackTraceElement findCaller(StackTraceElement[] stackTrace) {
+        int firstLog4jdbcCall = 0;
+        int max = Math.min(stackTrace.length, MAX_FRAMES);
+        for (int i = 0; i < max; i++) {
+            String className = stackTrace[i].getClassName();
+            if (className.startsWith(LOG4JDBC_PACKAGE)) {
+                firstLog4jdbcCall = i;
+            } else if (applicationPattern != null && isApplicationClass(className)) {
+                return stackTrace[i];
+            }
+        }
+        // if app not found, then use whoever was the last guy that called a log4jdbc class.
+        if (stackTrace.length > 1 + firstLog4jdbcCall) {
+            return stackTrace[1 + firstLog4jdbcCall];
+        }
+        return stackTrace[firstLog4jdbcCall];
+    }
+
+    /**
+     * @param caller    The {@code StackTraceElement} of a call site.
+     * @return          A {@code String} that is the rendered location of {@code caller},
+     *                  shared by all calls for a same call site while the cache is not full.
+     */
+    String getLocation(StackTraceElement caller) {
+        String location = callSites.get(caller);
+        if (location == null) {
+            location = " " + caller.getClassName() + "." + caller.getMethodName() + "(" +
+                    caller.getFileName() + ":" + caller.getLineNumber() + ")";
+            if (callSites.size() < MAX_CACHED) {
+                String previous = callSites.putIfAbsent(caller, location);
+                if (previous != null) {
+                    location = previous;
+                }
+            }
+        }
+        return location;
+    }
+
+    /**
+     * @param className A {@code String} that is the name of a class
+     *                  not belonging to log4jdbc.
+     * @return          {@code true} if {@code className} matches
+     *                  {@link #applicationPattern}.
+     */
+    private boolean isApplicationClass(String className) {
+        Boolean matches = applicationClasses.get(className);
+        if (matches == null) {
+            matches = Boolean.valueOf(applicationPattern.matcher(className).matches());
+            if (applicationClasses.size() < MAX_CACHED) {
+                applicationClasses.putIfAbsent(className, matches);
+            }
+        }
+        return matches.booleanValue();
+    }
+
+    /**
+     * The DumpFullDebugStackTrace option is useful in some situations when
+     * we want to see the full stack trace in the debug info-  watch out
+     * though as this will make the logs HUGE! Also used to report where
+     * a leaked connection was opened.
+     *
+     * @param stackTrace    The {@code StackTraceElement}s of a thread.
+     * @return              A {@code String} listing all frames not belonging to log4jdbc.
+     */
+    public static String dumpStackTrace(StackTraceElement[] stackTrace) {
+        StringBuilder dump = new StringBuilder();
+        boolean first = true;
+        for (int i = 0; i < stackTrace.length; i++) {
+            if (!stackTrace[i].getClassName().startsWith(LOG4JDBC_PACKAGE)) {
+                if (first) {
+                    first = false;
+                } else {
+                    dump.append("  ");
+                }
+                dump.append("at ");
+                dump.append(stackTrace[i]);
+                dump.append(nl);
+            }
+        }
+        return dump.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package net.sf.log4jdbc.log;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.log4jdbc.Properties;
+
+/**
+ * Helper methods to render the execution times provided to a {@link SpyLogDelegator}.
+ * <p>
+ * Spies measure execution times using the monotonic clock {@code System.nanoTime()},
+ * and provide them in nanoseconds to the {@code SpyLogDelegator}. These execution times
+ * are then displayed in the unit defined by the property {@code log4jdbc.sqltiming.unit}
+ * (see {@link Properties#getSqlTimingUnit()}), milliseconds by default.
+ * The thresholds {@code log4jdbc.sqltiming.warn.threshold} and
+ * {@code log4jdbc.sqltiming.error.threshold} are still defined in milliseconds,
+ * see {@link #exceedsThreshold(long, long)}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class ExecutionTime {
+    /**
+     * Private constructor, this class only provides {@code static} methods.
+     */
+    private ExecutionTime() {
+
+    }
+
+    /**
+     * Convert {@code execTime} into the unit used for display.
+     *
+     * @param execTime  A {@code long} that is an execution time in nanoseconds.
+     * @return          A {@code long} that is {@code execTime} converted
+     *                  into the unit returned by {@link Properties#getSqlTimingUnit()}.
+     */
+    public static long toDisplayUnit(long execTime) {
+        return Properties.getSqlTimingUnit().convert(execTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return  A {@code String} that is the symbol of the unit used for display
+     *          ("ms", "us", or "ns").
+     */
+    public static String getDisplayUnitSymbol() {
+        return getSymbol(Properties.getSqlTimingUnit());
+    }
+
+    /**
+     * Append {@code execTime} converted into the unit used for display
+     * to {@code out}, followed by a space and the symbol of the unit
+     * (for instance, "12 ms").
+     *
+     * @param out       The {@code StringBuilder} to append to.
+     * @param execTime  A {@code long} that is an execution time in nanoseconds.
+     * @return          {@code out}, for convenience.
+     */
+    public static StringBuilder append(StringBuilder out, long execTime) {
+        return out.append(toDisplayUnit(execTime)).append(' ').append(getDisplayUnitSymbol());
+    }
+
+    /**
+     * Determine whether {@code execTime} reaches a threshold defined in milliseconds,
+     * such as the threshold returned by {@link Properties#getSqlTimingWarnThresholdMsec()}.
+     *
+     * @param execTime          A {@code long} that is an execution time in nanoseconds.
+     * @param thresholdMsec     A {@code long} that is a threshold in milliseconds.
+     * @return                  {@code true} if {@code execTime} is greater than
+     *                          or equal to {@code thresholdMsec}.
+     */
+    public static boolean exceedsThreshold(long execTime, long thresholdMsec) {
+        return TimeUnit.NANOSECONDS.toMillis(execTime) >= thresholdMsec;
+    }
+
+    /**
+     * Parse the value of the property {@code log4jdbc.sqltiming.unit}.
+     *
+     * @param value A {@code String} that is either a symbol ("ms", "us", "ns"),
+     *              or the name of a {@code TimeUnit} (for instance, "MICROSECONDS"),
+     *              case insensitive.
+     * @return      The {@code TimeUnit} corresponding to {@code value},
+     *              {@code null} if {@code value} is {@code null} or not recognized.
+     */
+    public static TimeUnit parseUnit(String value) {
+        if (value == null) {
+            return null;
+        }
+        String unit = value.trim();
+        if ("ms".equalsIgnoreCase(unit) || "msec".equalsIgnoreCase(unit)) {
+            return TimeUnit.MILLISECONDS;
+        }
+        if ("us".equalsIgnoreCase(unit) || "\u00b5s".equals(unit)) {
+            return TimeUnit.MICROSECONDS;
+        }
+        if ("ns".equalsIgnoreCase(unit)) {
+            return TimeUnit.NANOSECONDS;
+        }
+        for (TimeUnit timeUnit: TimeUnit.values()) {
+            if (timeUnit.name().equalsIgnoreCase(unit)) {
+                return timeUnit;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param unit  A {@code TimeUnit}.
+     * @return      A {@code String} that is the symbol of {@code unit}.
+     */
+    private static String getSymbol(TimeUnit unit) {
+        switch (unit) {
+            case NANOSECONDS:
+                return "ns";
+            case MICROSECONDS:
+                return "us";
+            case MILLISECONDS:
+                return "ms";
+            case SECONDS:
+                return "s";
+            case MINUTES:
+                return "min";
+            case HOURS:
+                return "h";
+            default:
+                return "d";
+        }
+    }
+}
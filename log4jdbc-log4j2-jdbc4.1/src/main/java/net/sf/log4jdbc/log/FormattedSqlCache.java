@@ -0,0 +1,169 @@
+package net.sf.log4jdbc.log;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.log4jdbc.sql.SqlTemplate;
+
+/**
+ * A bounded, concurrent cache of formatted SQL, keyed on the raw SQL.
+ * It is used by {@link SqlFormatter} to format the SQL template of
+ * a <code>PreparedStatement</code> only once, whatever the number of executions.
+ * The formatted SQL is stored parsed into a {@link SqlTemplate}, so that its placeholders 
+ * are also located only once.
+ * <p>
+ * Lookups do not lock. When the cache is full, an arbitrary entry is evicted
+ * for each new entry: with a working set of a few hundred distinct statements,
+ * the cache is sized so that evictions do not happen.
+ * The numbers of hits, misses, and evictions are counted, to check the sizing
+ * (see <code>log4jdbc.dump.sql.cache.size</code>).
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class FormattedSqlCache {
+    /**
+     * The formatted SQL associated to the raw SQL.
+     */
+    private final ConcurrentMap<String, SqlTemplate> formattedSqls;
+    /**
+     * An {@code int} that is the maximum number of entries.
+     */
+    private final int maxSize;
+    /**
+     * An {@code AtomicLong} that is the number of lookups that found an entry.
+     */
+    private final AtomicLong hitCount;
+    /**
+     * An {@code AtomicLong} that is the number of lookups that did not find an entry.
+     */
+    private final AtomicLong missCount;
+    /**
+     * An {@code AtomicLong} that is the number of entries evicted.
+     */
+    private final AtomicLong evictionCount;
+
+    /**
+     * Constructor providing the maximum number of entries.
+     *
+     * @param maxSize   An {@code int} that is the maximum number of entries, greater than 0.
+     * @throws IllegalArgumentException If {@code maxSize} is less than 1.
+     */
+    public FormattedSqlCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The size of the cache must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.formattedSqls = new ConcurrentHashMap<String, SqlTemplate>(Math.min(maxSize, 1024));
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+        this.evictionCount = new AtomicLong();
+    }
+
+    /**
+     * @param sql   A {@code String} that is the raw SQL.
+     * @return      A {@code String} that is the formatted SQL associated to {@code sql},
+     *              {@code null} if none.
+     */
+    public String get(String sql) {
+        SqlTemplate formatted = this.getTemplate(sql);
+        return (formatted == null ? null : formatted.getSql());
+    }
+
+    /**
+     * @param sql   A {@code String} that is the raw SQL.
+     * @return      The {@code SqlTemplate} of the formatted SQL associated to {@code sql},
+     *              {@code null} if none.
+     */
+    public SqlTemplate getTemplate(String sql) {
+        SqlTemplate formatted = this.formattedSqls.get(sql);
+        if (formatted == null) {
+            this.missCount.incrementAndGet();
+        } else {
+            this.hitCount.incrementAndGet();
+        }
+        return formatted;
+    }
+
+    /**
+     * Associate {@code formatted} to {@code sql}, evicting an entry if the cache is full. 
+     * The placeholders are located in {@code formatted}: use {@link #put(String, SqlTemplate)} 
+     * for SQL templates whose formatting changes how comments are delimited.
+     *
+     * @param sql       A {@code String} that is the raw SQL.
+     * @param formatted A {@code String} that is {@code sql} formatted.
+     * @return          The {@code SqlTemplate} of {@code formatted}.
+     */
+    public SqlTemplate put(String sql, String formatted) {
+        return this.put(sql, SqlTemplate.parse(formatted));
+    }
+
+    /**
+     * Associate {@code formatted} to {@code sql}, evicting an entry if the cache is full.
+     *
+     * @param sql       A {@code String} that is the raw SQL.
+     * @param formatted The {@code SqlTemplate} of {@code sql} formatted, with 
+     *                  the placeholders of {@code sql}.
+     * @return          {@code formatted}.
+     */
+    public SqlTemplate put(String sql, SqlTemplate formatted) {
+        if (this.formattedSqls.size() >= this.maxSize) {
+            Iterator<String> iterator = this.formattedSqls.keySet().iterator();
+            //another thread might have emptied the cache in the meantime
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                this.evictionCount.incrementAndGet();
+            }
+        }
+        this.formattedSqls.put(sql, formatted);
+        return formatted;
+    }
+
+    /**
+     * Remove all entries and reset counters.
+     */
+    public void clear() {
+        this.formattedSqls.clear();
+        this.hitCount.set(0);
+        this.missCount.set(0);
+        this.evictionCount.set(0);
+    }
+
+    /**
+     * @return  An {@code int} that is the current number of entries.
+     */
+    public int size() {
+        return this.formattedSqls.size();
+    }
+
+    /**
+     * @return  An {@code int} that is the maximum number of entries.
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * @return  A {@code long} that is the number of lookups that found an entry.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * @return  A {@code long} that is the number of lookups that did not find an entry.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * @return  A {@code long} that is the number of entries evicted because the cache was full.
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+}
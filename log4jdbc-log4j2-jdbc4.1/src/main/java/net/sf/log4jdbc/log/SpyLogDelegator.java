@@ -15,8 +15,12 @@
  */
 package net.sf.log4jdbc.log;
 
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
 import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
+import net.sf.log4jdbc.sql.jdbcapi.ConnectionLeakDetector;
+import net.sf.log4jdbc.sql.statistics.SqlStatistics;
 
 /**
  * Delegates Spy events to a logger.
@@ -44,6 +48,27 @@ import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
  * to handle the property {@code log4jdbc.suppress.generated.keys.exception}. See 
  * {@link #GET_GENERATED_KEYS_METHOD_CALL} and 
  * {@link #exceptionOccured(Spy, String, Exception, String, long)}.
+ * <li>Addition of the methods {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)} 
+ * and {@link #methodReturned(Spy, MethodCall, String)}, accepting a lazy {@link MethodCall} 
+ * rather than a {@code String}, so that spies do not need to describe each JDBC call 
+ * when the related events are not logged. 
+ * <li>Addition of the methods {@link #isAuditLoggingEnabled()}, {@link #isResultSetLoggingEnabled()}, 
+ * {@link #isSqlOnlyLoggingEnabled()}, {@link #isSqlTimingLoggingEnabled()} 
+ * and {@link #isConnectionLoggingEnabled()}, 
+ * so that spies can skip all the work related to events that would not be logged. 
+ * <li>All execution times ({@code execTime} arguments) are now provided in nanoseconds, 
+ * measured with {@code System.nanoTime()}. See {@link ExecutionTime} to render them 
+ * in the unit defined by the property {@code log4jdbc.sqltiming.unit}. 
+ * <li>Addition of the method {@link #getSqlStatistics()}, providing to spies 
+ * the collector of per-SQL-shape latency statistics. 
+ * <li>Addition of the methods {@link #getConnectionLeakDetector()} and 
+ * {@link #connectionLeaked(Spy, long, String, String)}, to detect and report 
+ * connections open for too long. 
+ * <li>Addition of the methods {@link #exceptionOccured(Spy, MethodCall, Exception, DumpedSql, long)}, 
+ * {@link #sqlOccurred(Spy, String, DumpedSql)} and {@link #sqlTimingOccurred(Spy, long, String, DumpedSql)}: 
+ * the SQL executed by a <code>PreparedStatementSpy</code> is reported as a {@link DumpedSql}, 
+ * holding a snapshot of the values bound, formatted only when rendered 
+ * (see <code>SqlFormatter#format(DumpedSql)</code>). 
  * </ul>
  *
  * @author Arthur Blake
@@ -73,6 +98,81 @@ public interface SpyLogDelegator
      */
     public boolean isJdbcLoggingEnabled();
 
+    /**
+     * Determine whether the events generated by calls to JDBC objects other than 
+     * <code>ResultSet</code>s would be logged (equivalent of the "jdbc.audit" logger), 
+     * see {@link #methodReturned(Spy, MethodCall, String)}.
+     * <p>
+     * Spies can call this method when they are created, and cache the result, 
+     * to avoid converting return values to <code>String</code> for nothing. 
+     * As a consequence, a change of the logging configuration might only be taken into 
+     * account for spies created afterwards.
+     *
+     * @return <code>true</code> if returns of JDBC methods are logged, 
+     *         for JDBC objects other than <code>ResultSet</code>s.
+     */
+    public boolean isAuditLoggingEnabled();
+
+    /**
+     * Determine whether the events generated by calls to <code>ResultSet</code>s 
+     * would be logged (equivalent of the "jdbc.resultset" logger), 
+     * see {@link #methodReturned(Spy, MethodCall, String)}. 
+     * See {@link #isAuditLoggingEnabled()} for a note about caching.
+     *
+     * @return <code>true</code> if returns of <code>ResultSet</code> methods are logged.
+     */
+    public boolean isResultSetLoggingEnabled();
+
+    /**
+     * Determine whether the SQL reported before its execution would be logged 
+     * (equivalent of the "jdbc.sqlonly" logger), 
+     * see {@link #sqlOccurred(Spy, String, String)}. 
+     * See {@link #isAuditLoggingEnabled()} for a note about caching.
+     *
+     * @return <code>true</code> if the SQL reported by <code>sqlOccurred</code> is logged.
+     */
+    public boolean isSqlOnlyLoggingEnabled();
+
+    /**
+     * Determine whether SQL timing events would be logged 
+     * (equivalent of the "jdbc.sqltiming" logger), 
+     * see {@link #sqlTimingOccurred(Spy, long, String, String)}. 
+     * See {@link #isAuditLoggingEnabled()} for a note about caching.
+     *
+     * @return <code>true</code> if SQL timing events are logged.
+     */
+    public boolean isSqlTimingLoggingEnabled();
+
+    /**
+     * Determine whether opening, closing or aborting of connections would be logged 
+     * (equivalent of the "jdbc.connection" logger), 
+     * see {@link #connectionOpened(Spy, long)}, {@link #connectionClosed(Spy, long)}, 
+     * and {@link #connectionAborted(Spy, long)}. 
+     * See {@link #isAuditLoggingEnabled()} for a note about caching.
+     *
+     * @return <code>true</code> if connection events are logged.
+     */
+    public boolean isConnectionLoggingEnabled();
+
+    /**
+     * Obtain the {@code SqlStatistics} that spies should feed with the latency 
+     * of each SQL execution, independently of the logging configuration. 
+     * Spies obtain it once at creation.
+     *
+     * @return The {@code SqlStatistics} to record executions to, 
+     *         <code>null</code> if statistics are not collected.
+     */
+    public SqlStatistics getSqlStatistics();
+
+    /**
+     * Obtain the {@code ConnectionLeakDetector} that {@code ConnectionSpy}s 
+     * should register to at creation. 
+     *
+     * @return The {@code ConnectionLeakDetector} to register connections to, 
+     *         <code>null</code> if leak detection is disabled.
+     */
+    public ConnectionLeakDetector getConnectionLeakDetector();
+
     /**
      * Called when a spied upon method throws an Exception.
      * <p>
@@ -85,12 +185,46 @@ public interface SpyLogDelegator
      * @param methodCall a description of the name and call parameters of the method generated the Exception.
      * @param e          the Exception that was thrown.
      * @param sql        optional sql that occured just before the exception occured.
-     * @param execTime   optional amount of time that passed before an exception was thrown when sql was being executed.
+     * @param execTime   optional amount of time that passed before an exception was thrown when sql was being executed, 
+     *                   in nanoseconds.
      *                   caller should pass -1 if not used
      * @see #GET_GENERATED_KEYS_METHOD_CALL
      */
     public void exceptionOccured(Spy spy, String methodCall, Exception e, String sql, long execTime);
 
+    /**
+     * Same as {@link #exceptionOccured(Spy, String, Exception, String, long)}, but the method call 
+     * is described by a {@link MethodCall}, that should be converted to {@code String} 
+     * only if the event is actually logged.
+     *
+     * @param spy        the Spy wrapping the class that threw an Exception.
+     * @param methodCall a {@code MethodCall} describing the name and call parameters 
+     *                   of the method generated the Exception.
+     * @param e          the Exception that was thrown.
+     * @param sql        optional sql that occured just before the exception occured.
+     * @param execTime   optional amount of time that passed before an exception was thrown when sql was being executed, 
+     *                   in nanoseconds.
+     *                   caller should pass -1 if not used
+     * @see #exceptionOccured(Spy, String, Exception, String, long)
+     */
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e, String sql, long execTime);
+
+    /**
+     * Same as {@link #exceptionOccured(Spy, MethodCall, Exception, String, long)}, 
+     * called when the SQL executed by a <code>PreparedStatementSpy</code> failed.
+     *
+     * @param spy        the Spy wrapping the class that threw an Exception.
+     * @param methodCall a {@code MethodCall} describing the name and call parameters 
+     *                   of the method generated the Exception.
+     * @param e          the Exception that was thrown.
+     * @param sql        the sql that occured just before the exception occured, 
+     *                   with the values bound at that time, rendered by its {@code toString} method.
+     * @param execTime   amount of time that passed before an exception was thrown when sql was being executed, 
+     *                   in nanoseconds.
+     * @see #exceptionOccured(Spy, MethodCall, Exception, String, long)
+     */
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e, DumpedSql sql, long execTime);
+
     /**
      * Called when spied upon method call returns.
      *
@@ -101,6 +235,20 @@ public interface SpyLogDelegator
      */
     public void methodReturned(Spy spy, String methodCall, String returnMsg);
 
+    /**
+     * Same as {@link #methodReturned(Spy, String, String)}, but the method call 
+     * is described by a {@link MethodCall}, that should be converted to {@code String} 
+     * only if the event is actually logged.
+     *
+     * @param spy        the Spy wrapping the class that called the method that returned.
+     * @param methodCall a {@code MethodCall} describing the name and call parameters 
+     *                   of the method that returned.
+     * @param returnMsg  return value converted to a String for integral types, or String representation for Object
+     *                   return types this will be null for void return types.
+     * @see #methodReturned(Spy, String, String)
+     */
+    public void methodReturned(Spy spy, MethodCall methodCall, String returnMsg);
+
     /**
      * Called when a spied upon object is constructed.
      *
@@ -118,16 +266,39 @@ public interface SpyLogDelegator
      */
     public void sqlOccurred(Spy spy, String methodCall, String sql);
 
+    /**
+     * Same as {@link #sqlOccurred(Spy, String, String)}, for the SQL executed 
+     * by a <code>PreparedStatementSpy</code>.
+     *
+     * @param spy        the Spy wrapping the class where the SQL occurred.
+     * @param methodCall a description of the name and call parameters of the method that generated the SQL.
+     * @param sql        sql that occurred, with the values bound at that time, 
+     *                   rendered by its {@code toString} method.
+     */
+    public void sqlOccurred(Spy spy, String methodCall, DumpedSql sql);
+
     /**
      * Similar to sqlOccured, but reported after SQL executes and used to report timing stats on the SQL
      *
      * @param spy the    Spy wrapping the class where the SQL occurred.
-     * @param execTime   how long it took the sql to run, in msec.
+     * @param execTime   how long it took the sql to run, in nanoseconds.
      * @param methodCall a description of the name and call parameters of the method that generated the SQL.
      * @param sql        sql that occurred.
      */
     public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, String sql);
 
+    /**
+     * Same as {@link #sqlTimingOccurred(Spy, long, String, String)}, for the SQL executed 
+     * by a <code>PreparedStatementSpy</code>.
+     *
+     * @param spy the    Spy wrapping the class where the SQL occurred.
+     * @param execTime   how long it took the sql to run, in nanoseconds.
+     * @param methodCall a description of the name and call parameters of the method that generated the SQL.
+     * @param sql        sql that occurred, with the values bound at that time, 
+     *                   rendered by its {@code toString} method.
+     */
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, DumpedSql sql);
+
     /**
      * If a batch was executed, this reports how many elements were in that batch.
      * @param spy the Spy wrapping the class where the SQL occurred.
@@ -139,7 +310,7 @@ public interface SpyLogDelegator
      * Called whenever a new connection spy is created.
      * 
      * @param spy ConnectionSpy that was created.
-     * @param execTime  A <code>long</code> defining the time elapsed to open the connection in ms
+     * @param execTime  A <code>long</code> defining the time elapsed to open the connection in nanoseconds
      *          (useful information, as a connection might take some time to be opened sometimes). 
      *                    Caller should pass -1 if not used or unknown.
      */
@@ -149,7 +320,7 @@ public interface SpyLogDelegator
      * Called whenever a connection spy is closed.
      * 
      * @param spy     <code>ConnectionSpy</code> that was closed.
-     * @param execTime  A <code>long</code> defining the time elapsed to close the connection in ms
+     * @param execTime  A <code>long</code> defining the time elapsed to close the connection in nanoseconds
      *          (useful information, as a connection might take some time to be closed sometimes). 
      *                    Caller should pass -1 if not used or unknown.
      */
@@ -159,12 +330,27 @@ public interface SpyLogDelegator
      * Called whenever a connection spy is aborted.
      * 
      * @param spy     <code>ConnectionSpy</code> that was aborted.
-     * @param execTime  A <code>long</code> defining the time elapsed to abort the connection in ms
+     * @param execTime  A <code>long</code> defining the time elapsed to abort the connection in nanoseconds
      *          (useful information, as a connection might take some time to be aborted sometimes). 
      *                    Caller should pass -1 if not used or unknown.
      */
     public void connectionAborted(Spy spy, long execTime);  
 
+    /**
+     * Called by the {@code ConnectionLeakDetector}, from its own thread, 
+     * when a connection spy has been open for longer than the leak detection threshold. 
+     * Called at most once for each connection.
+     * 
+     * @param spy         <code>ConnectionSpy</code> possibly leaked.
+     * @param openTime    A <code>long</code> defining the time elapsed since the opening 
+     *                    of the connection in nanoseconds.
+     * @param lastSql     A <code>String</code> that is the last SQL executed 
+     *                    on the connection, <code>null</code> if none.
+     * @param openingSite A <code>String</code> that is the stack trace of the opening 
+     *                    of the connection, <code>null</code> if it was not sampled.
+     */
+    public void connectionLeaked(Spy spy, long openTime, String lastSql, String openingSite);
+
     /**
      * Log a Setup and/or administrative log message for log4jdbc.
      *
@@ -66,7 +66,11 @@ public class SpyLogFactory
     public static SpyLogDelegator getSpyLogDelegator()
     {  
         if (logger == null) {
-            loadSpyLogDelegator(Properties.getSpyLogDelegatorName());
+            //loading the Properties might have already set the logger
+            String spyLogDelegatorName = Properties.getSpyLogDelegatorName();
+            if (logger == null) {
+                loadSpyLogDelegator(spyLogDelegatorName);
+            }
         }
         return logger;
     }  
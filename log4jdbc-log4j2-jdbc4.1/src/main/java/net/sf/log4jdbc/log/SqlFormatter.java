@@ -0,0 +1,477 @@
+package net.sf.log4jdbc.log;
+
+import net.sf.log4jdbc.Properties;
+import net.sf.log4jdbc.sql.SqlTemplate;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
+
+/**
+ * Format SQL statements for display, in a single pass over the SQL,
+ * and writing directly to a <code>StringBuilder</code>:
+ * <ul>
+ * <li>the SQL is trimmed if <code>log4jdbc.trim.sql</code> is true,
+ * <li>it is broken up into multiple lines if <code>log4jdbc.dump.sql.maxlinelength</code>
+ * is greater than 0: whitespaces are collapsed, and a line break is inserted
+ * as soon as a line is longer than this length,
+ * <li>a semicolon is added if <code>log4jdbc.dump.sql.addsemicolon</code> is true,
+ * <li>contiguous blank lines are collapsed into one if
+ * <code>log4jdbc.trim.sql.extrablanklines</code> is true; line terminators are then
+ * replaced with the system dependent line separator.
+ * </ul>
+ * {@link #format(String)} uses a <code>StringBuilder</code> reused by each thread,
+ * so that the only allocation is the <code>String</code> returned.
+ * <p>
+ * The SQL of a <code>PreparedStatement</code> is formatted using {@link #format(DumpedSql)}:
+ * its SQL template is formatted only once, and kept in a {@link FormattedSqlCache};
+ * the bound values are then substituted to the placeholders of the formatted template
+ * at each execution. The placeholders are located in the raw template, and their positions 
+ * are carried through formatting: wrapping lines could otherwise extend a {@code --} comment 
+ * over the following placeholders. Lines are then broken up according to the length of the template,
+ * and bound values are displayed as is.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class SqlFormatter {
+    /**
+     * System dependent line separator.
+     */
+    private static final String nl = System.getProperty("line.separator");
+    /**
+     * An {@code int} that is the maximum capacity of the {@code StringBuilder}s
+     * kept by each thread, so that formatting an unusually large SQL statement
+     * does not retain a large buffer.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    /**
+     * The {@code StringBuilder} reused by each thread in {@link #format(String)}.
+     */
+    private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
+    /**
+     * A {@code boolean} defining whether the SQL should be trimmed.
+     */
+    private final boolean sqlTrim;
+    /**
+     * An {@code int} that is the length after which a line break is inserted,
+     * 0 or less to not break the SQL.
+     */
+    private final int maxLineLength;
+    /**
+     * A {@code boolean} defining whether a semicolon should be added.
+     */
+    private final boolean addSemicolon;
+    /**
+     * A {@code boolean} defining whether contiguous blank lines should be collapsed.
+     */
+    private final boolean trimExtraBlankLines;
+    /**
+     * A {@code boolean} defining whether each line should be followed by a line separator,
+     * when {@link #trimExtraBlankLines} is true. If false, line separators are only
+     * inserted between lines, it is then the responsibility of the caller to add
+     * a final line separator if needed.
+     */
+    private final boolean terminateLines;
+    /**
+     * The {@code FormattedSqlCache} storing the formatted SQL templates,
+     * {@code null} if they are not cached.
+     */
+    private final FormattedSqlCache templateCache;
+
+    /**
+     * The {@code SqlFormatter} using the options defined in the log4jdbc properties,
+     * terminating lines.
+     */
+    private static final SqlFormatter terminatingInstance = new SqlFormatter(true);
+    /**
+     * The {@code SqlFormatter} using the options defined in the log4jdbc properties,
+     * only separating lines.
+     */
+    private static final SqlFormatter separatingInstance = new SqlFormatter(false);
+
+    /**
+     * Get the {@code SqlFormatter} using the options defined in the log4jdbc properties.
+     * There is only one instance for each value of {@code terminateLines},
+     * so that SQL templates are cached only once.
+     *
+     * @param terminateLines    A {@code boolean} defining whether each line should be
+     *                          followed by a line separator when collapsing blank lines.
+     * @return                  The {@code SqlFormatter} using the options defined
+     *                          in the log4jdbc properties.
+     */
+    public static SqlFormatter getInstance(boolean terminateLines) {
+        return terminateLines ? terminatingInstance : separatingInstance;
+    }
+
+    /**
+     * Constructor using the options defined in the log4jdbc properties.
+     *
+     * @param terminateLines    A {@code boolean} defining whether each line should be
+     *                          followed by a line separator when collapsing blank lines.
+     * @see #getInstance(boolean)
+     */
+    public SqlFormatter(boolean terminateLines) {
+        this(Properties.isSqlTrim(), Properties.getDumpSqlMaxLineLength(),
+                Properties.isDumpSqlAddSemicolon(), Properties.isTrimExtraBlankLinesInSql(),
+                terminateLines, Properties.getDumpSqlCacheSize());
+    }
+
+    /**
+     * Constructor providing all the options.
+     *
+     * @param sqlTrim               A {@code boolean} defining whether the SQL should be trimmed.
+     * @param maxLineLength         An {@code int} that is the length after which a line break
+     *                              is inserted, 0 or less to not break the SQL.
+     * @param addSemicolon          A {@code boolean} defining whether a semicolon should be added.
+     * @param trimExtraBlankLines   A {@code boolean} defining whether contiguous blank lines
+     *                              should be collapsed.
+     * @param terminateLines        A {@code boolean} defining whether each line should be
+     *                              followed by a line separator when collapsing blank lines.
+     */
+    public SqlFormatter(boolean sqlTrim, int maxLineLength, boolean addSemicolon,
+            boolean trimExtraBlankLines, boolean terminateLines) {
+        this(sqlTrim, maxLineLength, addSemicolon, trimExtraBlankLines, terminateLines, 0);
+    }
+
+    /**
+     * Constructor providing all the options, and the size of the cache of SQL templates.
+     *
+     * @param sqlTrim               A {@code boolean} defining whether the SQL should be trimmed.
+     * @param maxLineLength         An {@code int} that is the length after which a line break
+     *                              is inserted, 0 or less to not break the SQL.
+     * @param addSemicolon          A {@code boolean} defining whether a semicolon should be added.
+     * @param trimExtraBlankLines   A {@code boolean} defining whether contiguous blank lines
+     *                              should be collapsed.
+     * @param terminateLines        A {@code boolean} defining whether each line should be
+     *                              followed by a line separator when collapsing blank lines.
+     * @param templateCacheSize     An {@code int} that is the maximum number of SQL templates
+     *                              kept formatted, 0 or less to not cache them.
+     */
+    public SqlFormatter(boolean sqlTrim, int maxLineLength, boolean addSemicolon,
+            boolean trimExtraBlankLines, boolean terminateLines, int templateCacheSize) {
+        this.sqlTrim = sqlTrim;
+        this.maxLineLength = maxLineLength;
+        this.addSemicolon = addSemicolon;
+        this.trimExtraBlankLines = trimExtraBlankLines;
+        this.terminateLines = terminateLines;
+        this.templateCache = (templateCacheSize > 0 ? new FormattedSqlCache(templateCacheSize) : null);
+    }
+
+    /**
+     * @return  The {@code FormattedSqlCache} storing the formatted SQL templates
+     *          of {@code PreparedStatement}s, {@code null} if they are not cached.
+     */
+    public FormattedSqlCache getTemplateCache() {
+        return this.templateCache;
+    }
+
+    /**
+     * Format {@code sql} executed by a {@code PreparedStatementSpy}: the bound values
+     * are substituted to the placeholders of its formatted SQL template. Bound values
+     * are formatted by the {@code RdbmsSpecifics} of the {@code PreparedStatementSpy}
+     * at this point.
+     *
+     * @param sql   A {@code DumpedSql} that is the SQL to format.
+     * @return      A {@code String} that is the formatted SQL, {@code null}
+     *              if {@code sql} is {@code null}.
+     */
+    public String format(DumpedSql sql) {
+        if (sql == null) {
+            return null;
+        }
+        if (this.templateCache == null) {
+            return this.format(sql.toString());
+        }
+        return this.getFormattedTemplate(sql.getTemplate()).substitute(sql.getBoundValues());
+    }
+
+    /**
+     * Format {@code sql} executed by a {@code PreparedStatementSpy} and append it to {@code out}.
+     *
+     * @param sql   A {@code DumpedSql} that is the SQL to format.
+     * @param out   The {@code StringBuilder} to append the formatted SQL to.
+     * @see #format(DumpedSql)
+     */
+    public void formatTo(DumpedSql sql, StringBuilder out) {
+        if (sql == null) {
+            out.append((String) null);
+            return;
+        }
+        if (this.templateCache == null) {
+            this.formatTo(sql.toString(), out);
+            return;
+        }
+        this.getFormattedTemplate(sql.getTemplate()).appendTo(out, sql.getBoundValues());
+    }
+
+    /**
+     * @param template  A {@code String} that is the SQL template of a {@code PreparedStatement}.
+     * @return          The {@code SqlTemplate} of {@code template} formatted,
+     *                  retrieved from {@link #templateCache} if possible.
+     */
+    private SqlTemplate getFormattedTemplate(String template) {
+        SqlTemplate formatted = this.templateCache.getTemplate(template);
+        if (formatted == null) {
+            formatted = this.templateCache.put(template, this.formatTemplate(template));
+        }
+        return formatted;
+    }
+
+    /**
+     * Format {@code template}, keeping track of the positions of its placeholders.
+     *
+     * @param template  A {@code String} that is the SQL template of a {@code PreparedStatement}.
+     * @return          The {@code SqlTemplate} of {@code template} formatted, with 
+     *                  the placeholders located in {@code template}.
+     */
+    private SqlTemplate formatTemplate(String template) {
+        PlaceholderTracker tracker = new PlaceholderTracker(SqlTemplate.parse(template));
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        this.formatTo(template, out, tracker);
+        return SqlTemplate.of(out.toString(), tracker.formattedPositions);
+    }
+
+    /**
+     * Maps the positions of the placeholders of a SQL template to their positions 
+     * in the formatted SQL, as the SQL is appended by ranges, in order.
+     */
+    private static final class PlaceholderTracker {
+        /**
+         * The positions of the placeholders in the raw SQL template.
+         */
+        private final int[] rawPositions;
+        /**
+         * The positions of the placeholders in the formatted SQL.
+         */
+        private final int[] formattedPositions;
+        /**
+         * The index of the next placeholder to map.
+         */
+        private int next;
+
+        private PlaceholderTracker(SqlTemplate rawTemplate) {
+            int count = rawTemplate.getPlaceholderCount();
+            this.rawPositions = new int[count];
+            this.formattedPositions = new int[count];
+            for (int i = 0; i < count; i++) {
+                this.rawPositions[i] = rawTemplate.getPlaceholderPosition(i);
+            }
+        }
+
+        /**
+         * Map the placeholders between {@code start} and {@code end} in the raw SQL, 
+         * about to be appended at {@code outStart}. Only whitespaces are skipped 
+         * between ranges, so that no placeholder is left behind.
+         */
+        private void appending(int start, int end, int outStart) {
+            while (this.next < this.rawPositions.length && this.rawPositions[this.next] < end) {
+                this.formattedPositions[this.next] = outStart + this.rawPositions[this.next] - start;
+                this.next++;
+            }
+        }
+    }
+
+    /**
+     * Format {@code sql} using a {@code StringBuilder} reused by the current thread.
+     *
+     * @param sql   A {@code String} that is the SQL to format.
+     * @return      A {@code String} that is the formatted SQL, {@code null}
+     *              if {@code sql} is {@code null}.
+     */
+    public String format(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        StringBuilder out = buffers.get();
+        out.setLength(0);
+        this.formatTo(sql, out);
+        String formatted = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            buffers.remove();
+        } else {
+            out.setLength(0);
+        }
+        return formatted;
+    }
+
+    /**
+     * Format {@code sql} and append it to {@code out}.
+     *
+     * @param sql   A {@code String} that is the SQL to format.
+     * @param out   The {@code StringBuilder} to append the formatted SQL to.
+     */
+    public void formatTo(String sql, StringBuilder out) {
+        if (sql == null) {
+            out.append((String) null);
+            return;
+        }
+        this.formatTo(sql, out, null);
+    }
+
+    /**
+     * Format {@code sql} and append it to {@code out}, mapping the positions 
+     * of its placeholders if {@code tracker} is not {@code null}.
+     */
+    private void formatTo(String sql, StringBuilder out, PlaceholderTracker tracker) {
+        int start = 0;
+        int end = sql.length();
+        if (this.sqlTrim) {
+            //same definition of whitespaces as String.trim()
+            while (start < end && sql.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && sql.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        if (this.maxLineLength > 0) {
+            this.appendWrapped(sql, start, end, out, tracker);
+        } else if (this.trimExtraBlankLines) {
+            this.appendLines(sql, start, end, out, tracker);
+        } else {
+            append(sql, start, end, out, tracker);
+            if (this.addSemicolon) {
+                out.append(';');
+            }
+        }
+    }
+
+    /**
+     * Append the SQL between {@code start} and {@code end}, breaking it up into lines
+     * longer than {@link #maxLineLength}. Tokens are separated by one space,
+     * whatever the whitespaces separating them in the SQL. Lines produced this way
+     * are never blank, so collapsing blank lines only means managing the final
+     * line separator.
+     */
+    private void appendWrapped(String sql, int start, int end, StringBuilder out,
+            PlaceholderTracker tracker) {
+        int outStart = out.length();
+        int lineLength = 0;
+        boolean endsWithLineSeparator = false;
+        int i = start;
+        while (i < end) {
+            if (isTokenDelimiter(sql.charAt(i))) {
+                i++;
+                continue;
+            }
+            int tokenStart = i;
+            while (i < end && !isTokenDelimiter(sql.charAt(i))) {
+                i++;
+            }
+            append(sql, tokenStart, i, out, tracker);
+            out.append(' ');
+            lineLength += i - tokenStart + 1;
+            endsWithLineSeparator = false;
+            if (lineLength > this.maxLineLength) {
+                out.append(nl);
+                lineLength = 0;
+                endsWithLineSeparator = true;
+            }
+        }
+        if (this.addSemicolon) {
+            out.append(';');
+            endsWithLineSeparator = false;
+        }
+        if (this.trimExtraBlankLines && out.length() > outStart) {
+            if (this.terminateLines && !endsWithLineSeparator) {
+                out.append(nl);
+            } else if (!this.terminateLines && endsWithLineSeparator) {
+                out.setLength(out.length() - nl.length());
+            }
+        }
+    }
+
+    /**
+     * Append the lines of the SQL between {@code start} and {@code end}, skipping
+     * blank lines following a blank line. Lines can be terminated by '\n', '\r', or "\r\n".
+     * Blank lines are appended as empty lines.
+     */
+    private void appendLines(String sql, int start, int end, StringBuilder out,
+            PlaceholderTracker tracker) {
+        int contiguousBlankLines = 0;
+        int lineCount = 0;
+        int lineStart = start;
+        int i = start;
+        while (true) {
+            boolean last = (i == end);
+            if (!last) {
+                char c = sql.charAt(i);
+                if (c != '\n' && c != '\r') {
+                    i++;
+                    continue;
+                }
+            } else if (lineStart == end && !this.addSemicolon) {
+                //no final line
+                break;
+            }
+            //line between lineStart and i; the semicolon is part of the last line
+            boolean semicolon = last && this.addSemicolon;
+            boolean blank = !semicolon && isBlank(sql, lineStart, i);
+            if (blank) {
+                contiguousBlankLines++;
+            } else {
+                contiguousBlankLines = 0;
+            }
+            if (contiguousBlankLines <= 1) {
+                if (!this.terminateLines && lineCount > 0) {
+                    out.append(nl);
+                }
+                if (!blank) {
+                    append(sql, lineStart, i, out, tracker);
+                    if (semicolon) {
+                        out.append(';');
+                    }
+                }
+                if (this.terminateLines) {
+                    out.append(nl);
+                }
+                lineCount++;
+            }
+            if (last) {
+                break;
+            }
+            if (sql.charAt(i) == '\r' && i + 1 < end && sql.charAt(i + 1) == '\n') {
+                i++;
+            }
+            i++;
+            lineStart = i;
+        }
+    }
+
+    /**
+     * Append the SQL between {@code start} and {@code end} to {@code out}, 
+     * notifying {@code tracker} if not {@code null}.
+     */
+    private static void append(String sql, int start, int end, StringBuilder out,
+            PlaceholderTracker tracker) {
+        if (tracker != null) {
+            tracker.appending(start, end, out.length());
+        }
+        out.append(sql, start, end);
+    }
+
+    /**
+     * @return  {@code true} if {@code c} is a delimiter of a
+     *          {@code java.util.StringTokenizer} with default delimiters.
+     */
+    private static boolean isTokenDelimiter(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /**
+     * @return  {@code true} if {@code sql} contains only whitespaces
+     *          between {@code start} and {@code end}, as defined by {@code String.trim()}.
+     */
+    private static boolean isBlank(String sql, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (sql.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
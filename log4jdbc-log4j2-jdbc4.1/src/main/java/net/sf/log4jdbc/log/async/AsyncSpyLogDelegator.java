@@ -0,0 +1,733 @@
+package net.sf.log4jdbc.log.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.jdbcapi.ConnectionLeakDetector;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
+import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
+import net.sf.log4jdbc.sql.statistics.SqlStatistics;
+
+/**
+ * A {@code SpyLogDelegator} decorating another {@code SpyLogDelegator}, to perform
+ * the logging asynchronously: events are published by the JDBC threads
+ * into a bounded ring buffer of preallocated slots (see {@link SpyLogEventRingBuffer}),
+ * and a background daemon thread calls the decorated {@code SpyLogDelegator}, that
+ * performs the formatting of the SQL and the calls to the logging backend.
+ * <p>
+ * Publishing an event only stores references (to the {@code Spy}, the lazy
+ * {@code MethodCall}, the SQL...) into a slot: arguments of the {@code MethodCall}s
+ * are rendered by the background thread, only the mutable ones being copied
+ * (see {@link MethodCall#snapshot()}). The methods determining whether events
+ * are logged ({@code isXXXEnabled}) are called synchronously on the decorated
+ * {@code SpyLogDelegator}, so that spies can still skip events that would not be logged.
+ * <p>
+ * When the ring buffer is full, the {@link OverflowPolicy} applies. Events discarded
+ * are counted, see {@link #getDroppedCount()}. Pending events are logged at shutdown
+ * of the JVM, or when {@link #close()} is called; events published after a call
+ * to {@code close()} are logged synchronously. Errors of the decorated
+ * {@code SpyLogDelegator} are reported through its {@code debug} method.
+ * <p>
+ * As the logging is performed by another thread, the caller information
+ * displayed in debug mode does not point to the application code that triggered
+ * the JDBC calls.
+ * <p>
+ * This {@code SpyLogDelegator} is used when the property {@code log4jdbc.async.enabled}
+ * is {@code true}, to decorate the {@code SpyLogDelegator} defined by the property
+ * {@code log4jdbc.spylogdelegator.name}. The size of the ring buffer, the overflow policy,
+ * and the sample rate, are defined by the properties {@code log4jdbc.async.buffer.size},
+ * {@code log4jdbc.async.overflow.policy}, and {@code log4jdbc.async.sample.rate}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class AsyncSpyLogDelegator implements SpyLogDelegator {
+    /**
+     * A {@code long} that is the time in nanoseconds that a JDBC thread waits
+     * before trying again to claim a slot, when the buffer is full and
+     * the policy is {@link OverflowPolicy#BLOCK}.
+     */
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    /**
+     * A {@code long} that is the time in nanoseconds that the consumer parks
+     * the first time it finds the buffer empty after spinning. This time is doubled
+     * each time the buffer is still empty, up to {@link #MAX_IDLE_WAIT_NANOS}.
+     * Producers unpark the consumer when they publish an event, so that these
+     * times only bound the wait if a wake-up is missed.
+     */
+    private static final long MIN_IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    /**
+     * A {@code long} that is the maximum time in nanoseconds that the consumer parks
+     * when the buffer is empty, see {@link #MIN_IDLE_WAIT_NANOS}.
+     */
+    private static final long MAX_IDLE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * An {@code int} that is the number of times the consumer yields,
+     * when the buffer is empty, before parking.
+     */
+    private static final int SPIN_TRIES = 100;
+    /**
+     * A {@code long} that is the maximum time in milliseconds to wait
+     * for pending events to be logged, when {@link #close()} is called.
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * The {@code SpyLogDelegator} performing the actual logging.
+     */
+    private final SpyLogDelegator delegate;
+    /**
+     * The {@code SpyLogEventRingBuffer} where events are published.
+     */
+    private final SpyLogEventRingBuffer ringBuffer;
+    /**
+     * The {@code OverflowPolicy} applied when {@link #ringBuffer} is full.
+     */
+    private final OverflowPolicy overflowPolicy;
+    /**
+     * An {@code int} that is the number of events discarded for one kept,
+     * when sampling, see {@link OverflowPolicy#SAMPLE}.
+     */
+    private final int sampleRate;
+    /**
+     * A {@code long} that is the number of events in {@link #ringBuffer}
+     * above which sampling starts, see {@link OverflowPolicy#SAMPLE}.
+     */
+    private final long sampleThreshold;
+    /**
+     * An {@code AtomicLong} counting the events considered for sampling.
+     */
+    private final AtomicLong sampledCount;
+    /**
+     * An {@code AtomicLong} counting the events discarded.
+     */
+    private final AtomicLong droppedCount;
+    /**
+     * The {@code Thread} consuming the events.
+     */
+    private final Thread consumer;
+    /**
+     * The {@code Thread} registered as shutdown hook, calling {@link #close()},
+     * removed when {@code close()} is called.
+     */
+    final Thread shutdownHook;
+    /**
+     * A {@code boolean} that is {@code false} once {@link #close()} has been called.
+     */
+    private volatile boolean running;
+    /**
+     * A {@code boolean} that is {@code true} while the consumer is about to park 
+     * or parked, so that producers unpark it when they publish an event.
+     */
+    private volatile boolean consumerParked;
+    /**
+     * A {@code long} that is the next position to be read, once the consumer thread
+     * has stopped, see {@link #drainStopped()}.
+     */
+    private long nextPosition;
+
+    /**
+     * Constructor providing the {@code SpyLogDelegator} to decorate,
+     * and the parameters of the ring buffer. The consumer thread is started
+     * by this constructor.
+     *
+     * @param delegate          The {@code SpyLogDelegator} performing the actual logging.
+     * @param bufferSize        An {@code int} that is the number of slots
+     *                          of the ring buffer, rounded up to the next power of 2.
+     * @param overflowPolicy    The {@code OverflowPolicy} applied when
+     *                          the ring buffer is full.
+     * @param sampleRate        An {@code int} that is the number of events discarded
+     *                          for one kept, when {@code overflowPolicy} is
+     *                          {@link OverflowPolicy#SAMPLE}.
+     * @throws IllegalArgumentException If {@code delegate} or {@code overflowPolicy}
+     *                                  is {@code null}.
+     */
+    public AsyncSpyLogDelegator(SpyLogDelegator delegate, int bufferSize,
+            OverflowPolicy overflowPolicy, int sampleRate) {
+        if (delegate == null || overflowPolicy == null) {
+            throw new IllegalArgumentException(
+                    "A SpyLogDelegator and an OverflowPolicy must be provided");
+        }
+        this.delegate = delegate;
+        this.ringBuffer = new SpyLogEventRingBuffer(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.sampleThreshold = this.ringBuffer.getCapacity() / 4 * 3;
+        this.sampledCount = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.running = true;
+
+        this.consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "log4jdbc-async-logger");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+
+        this.shutdownHook = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                close();
+            }
+        }, "log4jdbc-async-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    /**
+     * @return  The {@code SpyLogDelegator} performing the actual logging.
+     */
+    public SpyLogDelegator getDelegate() {
+        return this.delegate;
+    }
+
+    /**
+     * @return  A {@code long} that is the number of events discarded
+     *          because the ring buffer was full, or because of sampling.
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * Stop the consumer thread, after all pending events have been logged
+     * (waiting at most 5 seconds), and remove the shutdown hook registered 
+     * by the constructor. Events published after this call are logged
+     * synchronously.
+     */
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.consumer);
+        if (Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (IllegalStateException e) {
+                //the JVM is already shutting down
+            }
+        }
+        if (Thread.currentThread() == this.consumer) {
+            return;
+        }
+        this.drainStopped();
+    }
+
+    /**
+     * Wait for the consumer thread to stop (at most 5 seconds), then dispatch 
+     * the events published that it did not read: a producer can claim a slot 
+     * after the consumer read the last event, when {@link #close()} is called 
+     * concurrently. Called by {@code close()}, and by producers publishing 
+     * an event after {@code close()} was called.
+     */
+    private void drainStopped() {
+        try {
+            this.consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        synchronized (this) {
+            if (this.consumer.isAlive()) {
+                return;
+            }
+            while (this.ringBuffer.isPublished(this.nextPosition)) {
+                this.dispatchAndRelease(this.nextPosition);
+                this.nextPosition++;
+            }
+        }
+    }
+
+    //*************************************************
+    // PUBLISHING
+    //*************************************************
+    /**
+     * Claim a slot of the ring buffer, applying the {@link OverflowPolicy} if needed.
+     *
+     * @return  A {@code long} that is the position claimed, -1 if the event
+     *          must be discarded, or logged synchronously if the consumer is stopped.
+     */
+    private long claim() {
+        if (!this.running) {
+            return -1;
+        }
+        if (this.overflowPolicy == OverflowPolicy.SAMPLE &&
+                this.ringBuffer.size() >= this.sampleThreshold &&
+                this.sampledCount.incrementAndGet() % this.sampleRate != 0) {
+            this.droppedCount.incrementAndGet();
+            return -1;
+        }
+        long position = this.ringBuffer.tryClaim();
+        while (position < 0 && this.overflowPolicy == OverflowPolicy.BLOCK && this.running) {
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+            position = this.ringBuffer.tryClaim();
+        }
+        if (position < 0 && this.running) {
+            this.droppedCount.incrementAndGet();
+        }
+        return position;
+    }
+
+    /**
+     * Obtain the event at {@code position}, with its type and {@code Spy} set.
+     *
+     * @param position  A {@code long} that is a position claimed.
+     * @param type      An {@code int} that is the type of the event.
+     * @param spy       The {@code Spy} that generated the event.
+     * @return          The {@code SpyLogEvent} to fill before publishing it.
+     */
+    private SpyLogEvent event(long position, int type, Spy spy) {
+        SpyLogEvent event = this.ringBuffer.get(position);
+        event.type = type;
+        event.spy = spy;
+        return event;
+    }
+
+    /**
+     * Make the event at {@code position} visible to the consumer. If {@link #close()} 
+     * was called meanwhile, the consumer might have stopped before this event 
+     * was claimed, it is then dispatched by this thread (see {@link #drainStopped()}).
+     *
+     * @param position  A {@code long} that is a position claimed by this thread.
+     */
+    private void publish(long position) {
+        this.ringBuffer.publish(position);
+        if (this.consumerParked) {
+            LockSupport.unpark(this.consumer);
+        }
+        if (!this.running && Thread.currentThread() != this.consumer) {
+            this.drainStopped();
+        }
+    }
+
+    @Override
+    public void exceptionOccured(Spy spy, String methodCall, Exception e,
+            String sql, long execTime) {
+        this.exceptionOccured(spy, MethodCall.fromDescription(methodCall), e, sql, execTime);
+    }
+
+    @Override
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e,
+            String sql, long execTime) {
+        this.publishException(spy, methodCall, e, sql, execTime);
+    }
+
+    @Override
+    public void exceptionOccured(Spy spy, MethodCall methodCall, Exception e,
+            DumpedSql sql, long execTime) {
+        this.publishException(spy, methodCall, e, sql, execTime);
+    }
+
+    /**
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     * @see #exceptionOccured(Spy, MethodCall, Exception, String, long)
+     */
+    private void publishException(Spy spy, MethodCall methodCall, Exception e,
+            CharSequence sql, long execTime) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegateException(spy, methodCall, e, sql, execTime);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.EXCEPTION_OCCURED, spy);
+        event.methodCall = methodCall.snapshot();
+        event.exception = e;
+        event.sql = sql;
+        event.value = execTime;
+        this.publish(position);
+    }
+
+    @Override
+    public void methodReturned(Spy spy, String methodCall, String returnMsg) {
+        this.methodReturned(spy, MethodCall.fromDescription(methodCall), returnMsg);
+    }
+
+    @Override
+    public void methodReturned(Spy spy, MethodCall methodCall, String returnMsg) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegate.methodReturned(spy, methodCall, returnMsg);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.METHOD_RETURNED, spy);
+        event.methodCall = methodCall.snapshot();
+        event.text = returnMsg;
+        this.publish(position);
+    }
+
+    @Override
+    public void constructorReturned(Spy spy, String constructionInfo) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegate.constructorReturned(spy, constructionInfo);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.CONSTRUCTOR_RETURNED, spy);
+        event.text = constructionInfo;
+        this.publish(position);
+    }
+
+    @Override
+    public void sqlOccurred(Spy spy, String methodCall, String sql) {
+        this.publishSql(spy, methodCall, sql);
+    }
+
+    @Override
+    public void sqlOccurred(Spy spy, String methodCall, DumpedSql sql) {
+        this.publishSql(spy, methodCall, sql);
+    }
+
+    /**
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     * @see #sqlOccurred(Spy, String, String)
+     */
+    private void publishSql(Spy spy, String methodCall, CharSequence sql) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegateSql(spy, methodCall, sql);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.SQL_OCCURRED, spy);
+        event.methodDescription = methodCall;
+        event.sql = sql;
+        this.publish(position);
+    }
+
+    @Override
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, String sql) {
+        this.publishSqlTiming(spy, execTime, methodCall, sql);
+    }
+
+    @Override
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, DumpedSql sql) {
+        this.publishSqlTiming(spy, execTime, methodCall, sql);
+    }
+
+    /**
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     * @see #sqlTimingOccurred(Spy, long, String, String)
+     */
+    private void publishSqlTiming(Spy spy, long execTime, String methodCall, CharSequence sql) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegateSqlTiming(spy, execTime, methodCall, sql);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.SQL_TIMING_OCCURRED, spy);
+        event.methodDescription = methodCall;
+        event.sql = sql;
+        event.value = execTime;
+        this.publish(position);
+    }
+
+    @Override
+    public void sqlBatchSize(Spy spy, int batchsize) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegate.sqlBatchSize(spy, batchsize);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.SQL_BATCH_SIZE, spy);
+        event.value = batchsize;
+        this.publish(position);
+    }
+
+    @Override
+    public void connectionOpened(Spy spy, long execTime) {
+        this.connectionEvent(SpyLogEvent.CONNECTION_OPENED, spy, execTime);
+    }
+
+    @Override
+    public void connectionClosed(Spy spy, long execTime) {
+        this.connectionEvent(SpyLogEvent.CONNECTION_CLOSED, spy, execTime);
+    }
+
+    @Override
+    public void connectionAborted(Spy spy, long execTime) {
+        this.connectionEvent(SpyLogEvent.CONNECTION_ABORTED, spy, execTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Leaks are reported from the thread of the {@code ConnectionLeakDetector}, 
+     * they are forwarded synchronously to the delegate.
+     */
+    @Override
+    public void connectionLeaked(Spy spy, long openTime, String lastSql, String openingSite) {
+        this.delegate.connectionLeaked(spy, openTime, lastSql, openingSite);
+    }
+
+    /**
+     * Publish an event related to the opening, closing, or abortion of a connection.
+     *
+     * @param type      An {@code int} that is the type of the event.
+     * @param spy       The {@code Spy} of the connection.
+     * @param execTime  A {@code long} that is the time elapsed in nanoseconds.
+     */
+    private void connectionEvent(int type, Spy spy, long execTime) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                SpyLogEvent event = new SpyLogEvent();
+                event.type = type;
+                event.spy = spy;
+                event.value = execTime;
+                this.dispatch(event);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, type, spy);
+        event.value = execTime;
+        this.publish(position);
+    }
+
+    @Override
+    public void debug(String msg) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegate.debug(msg);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.DEBUG, null);
+        event.text = msg;
+        this.publish(position);
+    }
+
+    @Override
+    public void resultSetCollected(ResultSetCollector resultSetCollector) {
+        long position = this.claim();
+        if (position < 0) {
+            if (!this.running) {
+                this.delegate.resultSetCollected(resultSetCollector);
+            }
+            return;
+        }
+        SpyLogEvent event = this.event(position, SpyLogEvent.RESULT_SET_COLLECTED, null);
+        //the ResultSetSpy resets its collector as soon as this method returns
+        event.resultSetCollector = new CollectedResultSet(resultSetCollector);
+        this.publish(position);
+    }
+
+    //*************************************************
+    // SYNCHRONOUS METHODS
+    //*************************************************
+    @Override
+    public boolean isJdbcLoggingEnabled() {
+        return this.delegate.isJdbcLoggingEnabled();
+    }
+
+    @Override
+    public boolean isAuditLoggingEnabled() {
+        return this.delegate.isAuditLoggingEnabled();
+    }
+
+    @Override
+    public boolean isResultSetLoggingEnabled() {
+        return this.delegate.isResultSetLoggingEnabled();
+    }
+
+    @Override
+    public boolean isSqlOnlyLoggingEnabled() {
+        return this.delegate.isSqlOnlyLoggingEnabled();
+    }
+
+    @Override
+    public boolean isSqlTimingLoggingEnabled() {
+        return this.delegate.isSqlTimingLoggingEnabled();
+    }
+
+    @Override
+    public boolean isConnectionLoggingEnabled() {
+        return this.delegate.isConnectionLoggingEnabled();
+    }
+
+    @Override
+    public SqlStatistics getSqlStatistics() {
+        return this.delegate.getSqlStatistics();
+    }
+
+    @Override
+    public ConnectionLeakDetector getConnectionLeakDetector() {
+        return this.delegate.getConnectionLeakDetector();
+    }
+
+    @Override
+    public boolean isResultSetCollectionEnabled() {
+        return this.delegate.isResultSetCollectionEnabled();
+    }
+
+    @Override
+    public boolean isResultSetCollectionEnabledWithUnreadValueFillIn() {
+        return this.delegate.isResultSetCollectionEnabledWithUnreadValueFillIn();
+    }
+
+    //*************************************************
+    // CONSUMER
+    //*************************************************
+    /**
+     * Main loop of the consumer thread: read the events in order, until
+     * {@link #close()} is called and all published events have been dispatched.
+     */
+    private void consume() {
+        long position = 0;
+        int idle = 0;
+        long idleWait = MIN_IDLE_WAIT_NANOS;
+        while (true) {
+            if (this.ringBuffer.isPublished(position)) {
+                this.dispatchAndRelease(position);
+                position++;
+                idle = 0;
+                idleWait = MIN_IDLE_WAIT_NANOS;
+            } else if (!this.running && this.ringBuffer.size() <= 0) {
+                //read by drainStopped once this thread is terminated
+                this.nextPosition = position;
+                return;
+            } else if (idle < SPIN_TRIES) {
+                idle++;
+                Thread.yield();
+            } else {
+                //check again after announcing the park: a producer publishing 
+                //in between either is seen here, or sees the flag and unparks
+                this.consumerParked = true;
+                if (this.running && !this.ringBuffer.isPublished(position)) {
+                    LockSupport.parkNanos(this, idleWait);
+                    idleWait = Math.min(idleWait * 2, MAX_IDLE_WAIT_NANOS);
+                }
+                this.consumerParked = false;
+            }
+        }
+    }
+
+    /**
+     * Dispatch the event published at {@code position}, then release its slot.
+     * Errors of the logging backend are reported to the decorated {@code SpyLogDelegator},
+     * so that the consumer survives them.
+     *
+     * @param position  A {@code long} that is the next position to be read.
+     */
+    private void dispatchAndRelease(long position) {
+        SpyLogEvent event = this.ringBuffer.get(position);
+        try {
+            this.dispatch(event);
+        } catch (RuntimeException e) {
+            try {
+                this.delegate.debug("log4jdbc: error while logging asynchronously: " + e);
+            } catch (RuntimeException e2) {
+                //the logging backend is failing, nothing else can be done
+            }
+        }
+        event.clear();
+        this.ringBuffer.release(position);
+    }
+
+    /**
+     * Call the {@code exceptionOccured} method of the decorated {@code SpyLogDelegator}
+     * matching the type of {@code sql}: the values bound to a {@code DumpedSql} are formatted
+     * by the decorated {@code SpyLogDelegator}, in the consumer thread.
+     *
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     */
+    private void delegateException(Spy spy, MethodCall methodCall, Exception e,
+            CharSequence sql, long execTime) {
+        if (sql instanceof DumpedSql) {
+            this.delegate.exceptionOccured(spy, methodCall, e, (DumpedSql) sql, execTime);
+        } else {
+            this.delegate.exceptionOccured(spy, methodCall, e, (String) sql, execTime);
+        }
+    }
+
+    /**
+     * Call the {@code sqlOccurred} method of the decorated {@code SpyLogDelegator}
+     * matching the type of {@code sql}.
+     *
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     * @see #delegateException(Spy, MethodCall, Exception, CharSequence, long)
+     */
+    private void delegateSql(Spy spy, String methodCall, CharSequence sql) {
+        if (sql instanceof DumpedSql) {
+            this.delegate.sqlOccurred(spy, methodCall, (DumpedSql) sql);
+        } else {
+            this.delegate.sqlOccurred(spy, methodCall, (String) sql);
+        }
+    }
+
+    /**
+     * Call the {@code sqlTimingOccurred} method of the decorated {@code SpyLogDelegator}
+     * matching the type of {@code sql}.
+     *
+     * @param sql   A {@code String} or a {@code DumpedSql} that is the SQL reported.
+     * @see #delegateException(Spy, MethodCall, Exception, CharSequence, long)
+     */
+    private void delegateSqlTiming(Spy spy, long execTime, String methodCall, CharSequence sql) {
+        if (sql instanceof DumpedSql) {
+            this.delegate.sqlTimingOccurred(spy, execTime, methodCall, (DumpedSql) sql);
+        } else {
+            this.delegate.sqlTimingOccurred(spy, execTime, methodCall, (String) sql);
+        }
+    }
+
+    /**
+     * Call the method of the decorated {@code SpyLogDelegator} corresponding to {@code event}.
+     *
+     * @param event The {@code SpyLogEvent} to dispatch.
+     */
+    private void dispatch(SpyLogEvent event) {
+        switch (event.type) {
+            case SpyLogEvent.EXCEPTION_OCCURED:
+                this.delegateException(event.spy, event.methodCall, event.exception,
+                        event.sql, event.value);
+                break;
+            case SpyLogEvent.METHOD_RETURNED:
+                this.delegate.methodReturned(event.spy, event.methodCall, event.text);
+                break;
+            case SpyLogEvent.CONSTRUCTOR_RETURNED:
+                this.delegate.constructorReturned(event.spy, event.text);
+                break;
+            case SpyLogEvent.SQL_OCCURRED:
+                this.delegateSql(event.spy, event.methodDescription, event.sql);
+                break;
+            case SpyLogEvent.SQL_TIMING_OCCURRED:
+                this.delegateSqlTiming(event.spy, event.value,
+                        event.methodDescription, event.sql);
+                break;
+            case SpyLogEvent.SQL_BATCH_SIZE:
+                this.delegate.sqlBatchSize(event.spy, (int) event.value);
+                break;
+            case SpyLogEvent.CONNECTION_OPENED:
+                this.delegate.connectionOpened(event.spy, event.value);
+                break;
+            case SpyLogEvent.CONNECTION_CLOSED:
+                this.delegate.connectionClosed(event.spy, event.value);
+                break;
+            case SpyLogEvent.CONNECTION_ABORTED:
+                this.delegate.connectionAborted(event.spy, event.value);
+                break;
+            case SpyLogEvent.DEBUG:
+                this.delegate.debug(event.text);
+                break;
+            case SpyLogEvent.RESULT_SET_COLLECTED:
+                this.delegate.resultSetCollected(event.resultSetCollector);
+                break;
+            default:
+                break;
+        }
+    }
+}
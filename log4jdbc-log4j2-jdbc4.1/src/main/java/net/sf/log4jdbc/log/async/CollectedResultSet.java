@@ -0,0 +1,175 @@
+package net.sf.log4jdbc.log.async;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
+import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
+
+/**
+ * An immutable copy of the content of a {@code ResultSetCollector}, so that it can be
+ * printed by the consumer thread of an {@link AsyncSpyLogDelegator}: the original
+ * {@code ResultSetCollector} is reset by the {@code ResultSetSpy} as soon as
+ * {@code resultSetCollected} returns.
+ * <p>
+ * Only the rows and the column names are copied; the rows themselves are not,
+ * as a {@code ResultSetCollector} starts a new {@code List} of rows after a reset.
+ * The collecting methods of this class do nothing.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+final class CollectedResultSet implements ResultSetCollector {
+    /**
+     * The rows of the {@code ResultSetCollector} copied.
+     */
+    private final List<List<Object>> rows;
+    /**
+     * The column names of the {@code ResultSetCollector} copied, index 0 being column 1.
+     */
+    private final String[] columnNames;
+    /**
+     * The values returned by the {@code ResultSetCollector} copied, describing
+     * the rows omitted or streamed in chunks.
+     */
+    private final long rowCount;
+    private final long omittedRowCount;
+    private final int omittedRowsIndex;
+    private final long firstRowNumber;
+
+    /**
+     * Constructor copying the content of {@code resultSetCollector}.
+     *
+     * @param resultSetCollector    The {@code ResultSetCollector} to copy.
+     */
+    CollectedResultSet(ResultSetCollector resultSetCollector) {
+        List<List<Object>> collectedRows = resultSetCollector.getRows();
+        this.rows = (collectedRows == null ? null : new ArrayList<List<Object>>(collectedRows));
+        this.columnNames = new String[resultSetCollector.getColumnCount()];
+        for (int i = 0; i < this.columnNames.length; i++) {
+            this.columnNames[i] = resultSetCollector.getColumnName(i + 1);
+        }
+        this.rowCount = resultSetCollector.getRowCount();
+        this.omittedRowCount = resultSetCollector.getOmittedRowCount();
+        this.omittedRowsIndex = resultSetCollector.getOmittedRowsIndex();
+        this.firstRowNumber = resultSetCollector.getFirstRowNumber();
+    }
+
+    @Override
+    public List<List<Object>> getRows() {
+        return this.rows;
+    }
+
+    @Override
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public long getOmittedRowCount() {
+        return this.omittedRowCount;
+    }
+
+    @Override
+    public int getOmittedRowsIndex() {
+        return this.omittedRowsIndex;
+    }
+
+    @Override
+    public long getFirstRowNumber() {
+        return this.firstRowNumber;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return this.columnNames[column - 1];
+    }
+
+    @Override
+    public boolean methodReturned(ResultSetSpy resultSetSpy, MethodCall methodCall,
+            Object returnValue, Object targetObject) {
+        return false;
+    }
+
+    @Override
+    public boolean nextReturned(ResultSetSpy resultSetSpy, boolean hasRow) {
+        return false;
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, Object value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, boolean value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, byte value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, short value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, int value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, long value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, float value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, double value) {
+        //nothing to collect
+    }
+
+    @Override
+    public void wasNullReturned(ResultSetSpy resultSetSpy, boolean wasNull) {
+        //nothing to collect
+    }
+
+    @Override
+    public boolean closeReturned(ResultSetSpy resultSetSpy) {
+        return false;
+    }
+
+    @Override
+    public int getColumnIndex(String columnLabel) {
+        return 0;
+    }
+
+    @Override
+    public void preMethod(ResultSetSpy resultSetSpy, MethodCall methodCall) {
+        //nothing to collect
+    }
+
+    @Override
+    public void reset() {
+        //immutable
+    }
+
+    @Override
+    public void loadMetaDataIfNeeded(ResultSet rs) {
+        //already loaded
+    }
+}
@@ -0,0 +1,49 @@
+package net.sf.log4jdbc.log.async;
+
+/**
+ * Defines what an {@link AsyncSpyLogDelegator} does with an event when its ring buffer
+ * is full (or, for {@link #SAMPLE}, close to be full). Corresponds to the property
+ * {@code log4jdbc.async.overflow.policy}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public enum OverflowPolicy {
+    /**
+     * The JDBC thread waits until a slot is available: no event is lost,
+     * but JDBC calls are slowed down to the pace of the logging backend.
+     */
+    BLOCK,
+    /**
+     * The new event is discarded: JDBC calls are never slowed down,
+     * but events are lost while the buffer is full.
+     */
+    DROP,
+    /**
+     * When the buffer is more than three quarters full, only one event
+     * out of {@code log4jdbc.async.sample.rate} is kept, the others are discarded;
+     * when the buffer is full, events are discarded. This keeps a sample of the traffic
+     * during bursts, without slowing down JDBC calls.
+     */
+    SAMPLE;
+
+    /**
+     * Obtain the {@code OverflowPolicy} corresponding to {@code name}.
+     *
+     * @param name  A {@code String} that is the name of an {@code OverflowPolicy},
+     *              case insensitive.
+     * @return      The corresponding {@code OverflowPolicy}, {@code null}
+     *              if {@code name} is {@code null} or not recognized.
+     */
+    public static OverflowPolicy fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (OverflowPolicy policy: OverflowPolicy.values()) {
+            if (policy.name().equalsIgnoreCase(name.trim())) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package net.sf.log4jdbc.log.async;
+
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
+
+/**
+ * A slot of a {@link SpyLogEventRingBuffer}, describing one call to a {@code SpyLogDelegator}
+ * method. Instances are preallocated and reused: producers fill them,
+ * the consumer reads them and then calls {@link #clear()}.
+ * <p>
+ * Only references are stored (the {@code Spy}, the lazy {@code MethodCall}, the SQL
+ * {@code String}), so that publishing an event does not require any formatting.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+final class SpyLogEvent {
+    /**
+     * Event type corresponding to {@code exceptionOccured}.
+     */
+    static final int EXCEPTION_OCCURED = 1;
+    /**
+     * Event type corresponding to {@code methodReturned}.
+     */
+    static final int METHOD_RETURNED = 2;
+    /**
+     * Event type corresponding to {@code constructorReturned}.
+     */
+    static final int CONSTRUCTOR_RETURNED = 3;
+    /**
+     * Event type corresponding to {@code sqlOccurred}.
+     */
+    static final int SQL_OCCURRED = 4;
+    /**
+     * Event type corresponding to {@code sqlTimingOccurred}.
+     */
+    static final int SQL_TIMING_OCCURRED = 5;
+    /**
+     * Event type corresponding to {@code sqlBatchSize}.
+     */
+    static final int SQL_BATCH_SIZE = 6;
+    /**
+     * Event type corresponding to {@code connectionOpened}.
+     */
+    static final int CONNECTION_OPENED = 7;
+    /**
+     * Event type corresponding to {@code connectionClosed}.
+     */
+    static final int CONNECTION_CLOSED = 8;
+    /**
+     * Event type corresponding to {@code connectionAborted}.
+     */
+    static final int CONNECTION_ABORTED = 9;
+    /**
+     * Event type corresponding to {@code debug}.
+     */
+    static final int DEBUG = 10;
+    /**
+     * Event type corresponding to {@code resultSetCollected}.
+     */
+    static final int RESULT_SET_COLLECTED = 11;
+
+    /**
+     * An {@code int} that is the type of this event.
+     */
+    int type;
+    /**
+     * The {@code Spy} that generated this event.
+     */
+    Spy spy;
+    /**
+     * The {@code MethodCall} of {@code exceptionOccured} or {@code methodReturned} events.
+     */
+    MethodCall methodCall;
+    /**
+     * A {@code String} describing the method call, for the events
+     * providing it as a {@code String} ({@code sqlOccurred}, {@code sqlTimingOccurred}).
+     */
+    String methodDescription;
+    /**
+     * A {@code String} that is the SQL, the returned value, the construction info,
+     * or the debug message, depending on {@link #type}.
+     */
+    String text;
+    /**
+     * The SQL of {@code exceptionOccured}, {@code sqlOccurred} and {@code sqlTimingOccurred}
+     * events: a {@code String}, or a {@code DumpedSql} holding the values bound
+     * when the event was published.
+     */
+    CharSequence sql;
+    /**
+     * The {@code Exception} of {@code exceptionOccured} events.
+     */
+    Exception exception;
+    /**
+     * A {@code long} that is the execution time in nanoseconds, or the batch size,
+     * depending on {@link #type}.
+     */
+    long value;
+    /**
+     * The {@code ResultSetCollector} of {@code resultSetCollected} events.
+     */
+    ResultSetCollector resultSetCollector;
+
+    /**
+     * Release all references held by this event, so that the objects referenced
+     * can be garbage collected while this slot is unused.
+     */
+    void clear() {
+        this.type = 0;
+        this.spy = null;
+        this.methodCall = null;
+        this.methodDescription = null;
+        this.text = null;
+        this.sql = null;
+        this.exception = null;
+        this.value = 0;
+        this.resultSetCollector = null;
+    }
+}
@@ -0,0 +1,137 @@
+package net.sf.log4jdbc.log.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer
+ * of preallocated {@link SpyLogEvent}s (after the bounded queue of Dmitry Vyukov).
+ * <p>
+ * Each slot has a sequence number: a producer claims a position by incrementing
+ * the tail with a compare-and-set, only if the sequence of the slot shows that
+ * the consumer released it; it then fills the event and publishes it by updating
+ * the sequence of the slot. The consumer reads the slots in order, and releases them
+ * by updating their sequence for the next lap.
+ * <p>
+ * Usage by producers: {@link #tryClaim()}, {@link #get(long)}, fill the event,
+ * then {@link #publish(long)}. Usage by the consumer: {@link #isPublished(long)},
+ * {@link #get(long)}, read the event, then {@link #release(long)}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+final class SpyLogEventRingBuffer {
+    /**
+     * The preallocated {@code SpyLogEvent}s.
+     */
+    private final SpyLogEvent[] events;
+    /**
+     * An {@code AtomicLongArray} storing the sequence of each slot.
+     */
+    private final AtomicLongArray sequences;
+    /**
+     * An {@code int} that is the number of slots minus 1, used as a bit mask.
+     */
+    private final int mask;
+    /**
+     * An {@code AtomicLong} that is the next position to be claimed by producers.
+     */
+    private final AtomicLong tail;
+    /**
+     * A {@code long} that is the next position to be read by the consumer.
+     */
+    private volatile long head;
+
+    /**
+     * Constructor providing the requested capacity.
+     *
+     * @param requestedCapacity An {@code int} that is the requested number of slots,
+     *                          rounded up to the next power of 2.
+     */
+    SpyLogEventRingBuffer(int requestedCapacity) {
+        int capacity = 2;
+        while (capacity < requestedCapacity && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        this.events = new SpyLogEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.events[i] = new SpyLogEvent();
+            this.sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+        this.head = 0;
+    }
+
+    /**
+     * @return  An {@code int} that is the number of slots.
+     */
+    int getCapacity() {
+        return this.events.length;
+    }
+
+    /**
+     * @return  A {@code long} that is an estimate of the number of events
+     *          claimed and not yet released.
+     */
+    long size() {
+        return this.tail.get() - this.head;
+    }
+
+    /**
+     * Try to claim a slot, to be filled and then published by the caller.
+     *
+     * @return  A {@code long} that is the position claimed, -1 if the buffer is full.
+     */
+    long tryClaim() {
+        while (true) {
+            long position = this.tail.get();
+            long sequence = this.sequences.get((int) position & this.mask);
+            if (sequence == position) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                //the consumer did not yet release this slot
+                return -1;
+            }
+            //otherwise, another producer claimed this position, retry
+        }
+    }
+
+    /**
+     * @param position  A {@code long} that is a position claimed or published.
+     * @return          The {@code SpyLogEvent} at {@code position}.
+     */
+    SpyLogEvent get(long position) {
+        return this.events[(int) position & this.mask];
+    }
+
+    /**
+     * Make the event at {@code position} visible to the consumer.
+     *
+     * @param position  A {@code long} that is a position claimed by the caller.
+     */
+    void publish(long position) {
+        this.sequences.set((int) position & this.mask, position + 1);
+    }
+
+    /**
+     * @param position  A {@code long} that is the next position to be read by the consumer.
+     * @return          {@code true} if the event at {@code position} has been published.
+     */
+    boolean isPublished(long position) {
+        return this.sequences.get((int) position & this.mask) == position + 1;
+    }
+
+    /**
+     * Make the slot at {@code position} available again to producers.
+     *
+     * @param position  A {@code long} that is the position read by the consumer.
+     */
+    void release(long position) {
+        this.sequences.set((int) position & this.mask, position + this.events.length);
+        this.head = position + 1;
+    }
+}
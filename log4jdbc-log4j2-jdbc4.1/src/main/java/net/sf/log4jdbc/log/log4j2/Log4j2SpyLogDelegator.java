@@ -2,15 +2,19 @@ package net.sf.log4jdbc.log.log4j2;
 
 import net.sf.log4jdbc.Properties;
 import net.sf.log4jdbc.log.AbstractSpyLogDelegator;
+import net.sf.log4jdbc.log.ExecutionTime;
+import net.sf.log4jdbc.log.log4j2.message.ConnectionLeakMessage;
 import net.sf.log4jdbc.log.log4j2.message.ConnectionMessage;
 import net.sf.log4jdbc.log.log4j2.message.ExceptionOccuredMessage;
 import net.sf.log4jdbc.log.log4j2.message.MethodReturnedMessage;
 import net.sf.log4jdbc.log.log4j2.message.SqlTimingOccurredMessage;
 import net.sf.log4jdbc.log.log4j2.message.ConnectionMessage.Operation;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.SqlOperation;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
 import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
 import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
-import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollectorPrinter;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +70,10 @@ import org.apache.logging.log4j.MarkerManager;
  * named "LOG4JDBC_DELETE"
  * <li>log4jdbc.dump.sql.create property can be set using the <code>Marker</code> <code>CREATE_MARKER</code>, 
  * named "LOG4JDBC_CREATE"
+ * <li>log4jdbc.dump.sql.merge property can be set using the <code>Marker</code> <code>MERGE_MARKER</code>, 
+ * named "LOG4JDBC_MERGE"
+ * <li>log4jdbc.dump.sql.call property can be set using the <code>Marker</code> <code>CALL_MARKER</code>, 
+ * named "LOG4JDBC_CALL"
  * </ul>
  * These <code>Marker</code>s are all children of the <code>Marker</code> <code>SQL_MARKER</code>, named "LOG4JDBC_SQL".
  * These properties can also be set through the log4jdbc properties file. 
@@ -128,6 +136,16 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
      * (corresponds to the log4jdbc.dump.sql.create property)
      */
     private static final Marker CREATE_MARKER = MarkerManager.getMarker("LOG4JDBC_CREATE", SQL_MARKER);
+    /**
+     * <code>Marker</code> to log events following <code>merge</code> or <code>upsert</code> 
+     * statements (corresponds to the log4jdbc.dump.sql.merge property)
+     */
+    private static final Marker MERGE_MARKER = MarkerManager.getMarker("LOG4JDBC_MERGE", SQL_MARKER);
+    /**
+     * <code>Marker</code> to log events following calls to stored procedures 
+     * (corresponds to the log4jdbc.dump.sql.call property)
+     */
+    private static final Marker CALL_MARKER = MarkerManager.getMarker("LOG4JDBC_CALL", SQL_MARKER);
     /**
      * <code>Marker</code> parent of the <code>CONNECTION_MARKER</code> and 
      * <code>JDBC_MARKER</code>, to easily disable logging of connection, JDBC, and ResultSet calls. 
@@ -180,7 +198,40 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
     }
 
     @Override
-    public void filteredExceptionOccured(Spy spy, String methodCall, Exception e,
+    public boolean isAuditLoggingEnabled() {
+        return LOGGER.isInfoEnabled(AUDIT_MARKER);
+    }
+
+    @Override
+    public boolean isResultSetLoggingEnabled() {
+        return LOGGER.isInfoEnabled(RESULTSET_MARKER);
+    }
+
+    @Override
+    public boolean isSqlOnlyLoggingEnabled() {
+        //the features provided by the logger "jdbc.sqlonly" are not reproduced, 
+        //see sqlOccurred
+        return false;
+    }
+
+    @Override
+    public boolean isSqlTimingLoggingEnabled() {
+        //SQL timing events are logged at least at error level, with a Marker 
+        //depending on the operation performed: a filter might be configured 
+        //on any of them
+        return LOGGER.isErrorEnabled(SQL_MARKER) || LOGGER.isErrorEnabled(SELECT_MARKER) || 
+                LOGGER.isErrorEnabled(INSERT_MARKER) || LOGGER.isErrorEnabled(UPDATE_MARKER) || 
+                LOGGER.isErrorEnabled(DELETE_MARKER) || LOGGER.isErrorEnabled(CREATE_MARKER) || 
+                LOGGER.isErrorEnabled(MERGE_MARKER) || LOGGER.isErrorEnabled(CALL_MARKER);
+    }
+
+    @Override
+    public boolean isConnectionLoggingEnabled() {
+        return LOGGER.isInfoEnabled(CONNECTION_MARKER);
+    }
+
+    @Override
+    public void filteredExceptionOccured(Spy spy, MethodCall methodCall, Exception e,
             String sql, long execTime) {
 
         LOGGER.error(EXCEPTION_MARKER, new ExceptionOccuredMessage(spy, methodCall, 
@@ -188,7 +239,7 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
     }
 
     @Override
-    public void methodReturned(Spy spy, String methodCall, String returnMsg) 
+    public void methodReturned(Spy spy, MethodCall methodCall, String returnMsg) 
     {
         String classType = spy.getClassType();
         Marker marker = ResultSetSpy.classTypeDescription.equals(classType)?
@@ -209,6 +260,12 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
         //as the features provided by the logger "jdbc.sqlonly" are not reproduced.
     }
 
+    @Override
+    public void sqlOccurred(Spy spy, String methodCall, DumpedSql sql) {
+        //not implemented, 
+        //as the features provided by the logger "jdbc.sqlonly" are not reproduced.
+    }
+
     @Override
     public void sqlTimingOccurred(Spy spy, long execTime, String methodCall,
             String sql) 
@@ -220,23 +277,49 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
         /*if (!LOGGER.isErrorEnabled()) {
 			return;
 		}*/
-        String operation = this.getSqlOperation(sql);
+        SqlOperation operation = SqlOperation.of(spy, sql);
+        if (Properties.isDumpSqlFilteringOn() && !this.shouldSqlBeLogged(operation)) {
+            return;
+        }
+
+        Marker marker = this.getStatementMarker(operation);
+        this.logSqlTiming(marker, execTime, 
+                new SqlTimingOccurredMessage(spy, execTime, methodCall, sql, LOGGER.isDebugEnabled(marker)));
+    }
+
+    @Override
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall,
+            DumpedSql sql) 
+    {
+        //the operation is the one of the SQL template, the values bound 
+        //are formatted only if the message is actually logged
+        SqlOperation operation = SqlOperation.of(spy, sql.getTemplate());
         if (Properties.isDumpSqlFilteringOn() && !this.shouldSqlBeLogged(operation)) {
             return;
         }
 
         Marker marker = this.getStatementMarker(operation);
-        SqlTimingOccurredMessage message = 
-                new SqlTimingOccurredMessage(spy, execTime, methodCall, sql, LOGGER.isDebugEnabled(marker));
+        this.logSqlTiming(marker, execTime, 
+                new SqlTimingOccurredMessage(spy, execTime, methodCall, sql, LOGGER.isDebugEnabled(marker)));
+    }
 
+    /**
+     * Log <code>message</code> at the level defined by the thresholds 
+     * on the execution time of SQL statements.
+     * @param marker 	the <code>Marker</code> of the operation performed by the SQL statement.
+     * @param execTime 	how long it took the sql to run, in nanoseconds.
+     * @param message 	the <code>SqlTimingOccurredMessage</code> to log.
+     */
+    private void logSqlTiming(Marker marker, long execTime, SqlTimingOccurredMessage message) 
+    {
         if (Properties.isSqlTimingErrorThresholdEnabled() &&
-                execTime >= Properties.getSqlTimingErrorThresholdMsec()) {
+                ExecutionTime.exceedsThreshold(execTime, Properties.getSqlTimingErrorThresholdMsec())) {
 
             LOGGER.error(marker, message);
 
         } else if (LOGGER.isWarnEnabled()) {
             if (Properties.isSqlTimingWarnThresholdEnabled() &&
-                    execTime >= Properties.getSqlTimingWarnThresholdMsec()) {
+                    ExecutionTime.exceedsThreshold(execTime, Properties.getSqlTimingWarnThresholdMsec())) {
 
                 LOGGER.warn(marker, message);
             } else {
@@ -245,46 +328,21 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
         }
     }
 
-    /**
-     * Identify the operation performed by the <code>sql</code> statement 
-     * (either "select", "insert", "update", "delete", or "create").
-     *  
-     * @param sql 	A <code>String</code> representing the SQL statement to evaluate
-     * @return 		A <code>String</code> representing the operation 
-     * 				performed by the <code>sql</code> statement 
-     * 				(either "select", "insert", "update", "delete", or "create"), 
-     * 				or an empty <code>String</code> if the operation could not be determined 
-     * 				(<code>sql</code> <code>null</code>, etc.)
-     */
-    private String getSqlOperation(String sql) 
-    {
-        if (sql == null) {
-            return "";
-        }
-        sql = sql.trim();
-
-        if (sql.length()<6) {
-            return "";
-        }
-        return sql.substring(0,6).toLowerCase();
-    }
-
     /**
      * Return the appropriate <code>Marker</code> 
      * (either <code>SQL_MARKER</code>, <code>SELECT_MARKER</code>, 
      * <code>INSERT_MARKER</code>, <code>UPDATE_MARKER</code>, <code>DELETE_MARKER</code>, 
-     * or <code>CREATE_MARKER</code>) depending on the <code>operation</code> 
-     * performed by a SQL statement 
-     * (either "select", "insert", "update", "delete", or "create").
-     * @param operation 	a <code>String</code> representing the <code>operation</code> 
-     * 						performed by a SQL statement 
-     * 						(either "select", "insert", "update", "delete", or "create"). 
+     * <code>CREATE_MARKER</code>, <code>MERGE_MARKER</code>, or <code>CALL_MARKER</code>) depending on the <code>operation</code> 
+     * performed by a SQL statement.
+     * @param operation 	the <code>SqlOperation</code> performed by a SQL statement. 
      * @return 				the appropriate <code>Marker</code> depending on the <code>operation</code>: 
-     * 						<code>SELECT_MARKER</code> if <code>operation</code> is equal to "select".
-     * 						<code>INSERT_MARKER</code> if <code>operation</code> is equal to "insert".
-     * 						<code>UPDATE_MARKER</code> if <code>operation</code> is equal to "update".
-     * 						<code>DELETE_MARKER</code> if <code>operation</code> is equal to "delete".
-     * 						<code>CREATE_MARKER</code> if <code>operation</code> is equal to "create".
+     * 						<code>SELECT_MARKER</code> if <code>operation</code> is <code>SELECT</code>.
+     * 						<code>INSERT_MARKER</code> if <code>operation</code> is <code>INSERT</code>.
+     * 						<code>UPDATE_MARKER</code> if <code>operation</code> is <code>UPDATE</code>.
+     * 						<code>DELETE_MARKER</code> if <code>operation</code> is <code>DELETE</code>.
+     * 						<code>CREATE_MARKER</code> if <code>operation</code> is <code>CREATE</code>.
+     * 						<code>MERGE_MARKER</code> if <code>operation</code> is <code>MERGE</code>.
+     * 						<code>CALL_MARKER</code> if <code>operation</code> is <code>CALL</code>.
      * 						<code>SQL_MARKER</code> otherwise.
      * @see #SQL_MARKER
      * @see #SELECT_MARKER
@@ -292,23 +350,29 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
      * @see #UPDATE_MARKER
      * @see #DELETE_MARKER
      * @see #CREATE_MARKER
+     * @see #MERGE_MARKER
+     * @see #CALL_MARKER
      */
-    private Marker getStatementMarker(String operation)
+    private Marker getStatementMarker(SqlOperation operation)
     {
-        if (operation == null) {
-            return SQL_MARKER;
-        } else if ("select".equals(operation)) {
-            return SELECT_MARKER;
-        } else if ("insert".equals(operation)) {
-            return INSERT_MARKER;
-        } else if ("update".equals(operation)) {
-            return UPDATE_MARKER;
-        } else if ("delete".equals(operation)) {
-            return DELETE_MARKER;
-        } else if ("create".equals(operation)) {
-            return CREATE_MARKER;
+        switch (operation) {
+            case SELECT:
+                return SELECT_MARKER;
+            case INSERT:
+                return INSERT_MARKER;
+            case UPDATE:
+                return UPDATE_MARKER;
+            case DELETE:
+                return DELETE_MARKER;
+            case CREATE:
+                return CREATE_MARKER;
+            case MERGE:
+                return MERGE_MARKER;
+            case CALL:
+                return CALL_MARKER;
+            default:
+                return SQL_MARKER;
         }
-        return SQL_MARKER;
     }
 
     /**
@@ -316,20 +380,30 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
      * should be logged or not
      * based on the various DumpSqlXXXXXX flags.
      *
-     * @param operation	A <code>String</code> representing the operation of a SQL statement 
-     * 					(either "select", "insert", "update", "delete", or "create").
+     * @param operation	The <code>SqlOperation</code> of a SQL statement.
      * @return 	<code>true</code> if the SQL statement 
      * 			executing the given <code>operation</code> should be logged, false if not.
      */
-    private boolean shouldSqlBeLogged(String operation)
+    private boolean shouldSqlBeLogged(SqlOperation operation)
     {
-        return 
-                (operation == null) ||
-                (Properties.isDumpSqlSelect() && "select".equals(operation)) ||
-                (Properties.isDumpSqlInsert() && "insert".equals(operation)) ||
-                (Properties.isDumpSqlUpdate() && "update".equals(operation)) ||
-                (Properties.isDumpSqlDelete() && "delete".equals(operation)) ||
-                (Properties.isDumpSqlCreate() && "create".equals(operation));
+        switch (operation) {
+            case SELECT:
+                return Properties.isDumpSqlSelect();
+            case INSERT:
+                return Properties.isDumpSqlInsert();
+            case UPDATE:
+                return Properties.isDumpSqlUpdate();
+            case DELETE:
+                return Properties.isDumpSqlDelete();
+            case CREATE:
+                return Properties.isDumpSqlCreate();
+            case MERGE:
+                return Properties.isDumpSqlMerge();
+            case CALL:
+                return Properties.isDumpSqlCall();
+            default:
+                return false;
+        }
     }
 
     @Override
@@ -350,10 +424,17 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
         this.connectionModified(spy, execTime, Operation.ABORTING);
     }   
 
+    @Override
+    public void connectionLeaked(Spy spy, long openTime, String lastSql, String openingSite) 
+    {
+        LOGGER.warn(CONNECTION_MARKER, 
+                new ConnectionLeakMessage(spy, openTime, lastSql, openingSite));
+    }
+
     /**
      * 
      * @param spy       <code>ConnectionSpy</code> that was opened or closed.
-     * @param execTime    A <code>long</code> defining the time elapsed to open or close the connection in ms
+     * @param execTime    A <code>long</code> defining the time elapsed to open or close the connection in nanoseconds
      *            Caller should pass -1 if not used
      * @param operation   an <code>int</code> to define if the operation was to open, or to close connection. 
      *            Should be equals to <code>ConnectionMessage.OPENING</code> 
@@ -385,9 +466,11 @@ public class Log4j2SpyLogDelegator extends AbstractSpyLogDelegator
     @Override
     public void resultSetCollected(ResultSetCollector resultSetCollector) {
 
-        String resultToPrint = new ResultSetCollectorPrinter().getResultSetToPrint(resultSetCollector);		
+        String resultToPrint = this.renderResultSet(resultSetCollector);		
 
-        LOGGER.info(RESULTSETTABLE_MARKER,resultToPrint);
+        if (!resultToPrint.isEmpty()) {
+            LOGGER.info(RESULTSETTABLE_MARKER,resultToPrint);
+        }
 
 
     }
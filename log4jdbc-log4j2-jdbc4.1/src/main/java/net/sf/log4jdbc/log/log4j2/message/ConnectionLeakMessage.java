@@ -0,0 +1,87 @@
+package net.sf.log4jdbc.log.log4j2.message;
+
+import net.sf.log4jdbc.log.ExecutionTime;
+import net.sf.log4jdbc.sql.Spy;
+
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * <code>SqlMessage</code> related to a connection open for longer 
+ * than the leak detection threshold.
+ * 
+ * @see net.sf.log4jdbc.log.log4j2.Log4j2SpyLogDelegator#connectionLeaked(Spy, long, String, String)
+ * @version 1.17-SNAPSHOT
+ * @since 1.17-SNAPSHOT
+ */
+public class ConnectionLeakMessage extends SqlMessage implements Message 
+{
+  private static final long serialVersionUID = -2349201683624375718L;
+
+  /**
+   * <code>ConnectionSpy</code> possibly leaked. 
+   * Will be used to build the <code>message</code>, only when needed.
+   */
+  private Spy spy;
+  /**
+   * A <code>long</code> defining the time elapsed since the opening of the connection 
+   * in nanoseconds.
+   */
+  private long openTime;
+  /**
+   * A <code>String</code> that is the last SQL executed on the connection, 
+   * <code>null</code> if none.
+   */
+  private String lastSql;
+  /**
+   * A <code>String</code> that is the stack trace of the opening of the connection, 
+   * <code>null</code> if it was not sampled.
+   */
+  private String openingSite;
+
+  /**
+   * Default constructor
+   */
+  public ConnectionLeakMessage()
+  {
+    this(null, -1L, null, null);
+  }
+
+  /**
+   * 
+   * @param spy         <code>ConnectionSpy</code> possibly leaked.
+   * @param openTime    A <code>long</code> defining the time elapsed since the opening 
+   *                    of the connection in nanoseconds.
+   * @param lastSql     A <code>String</code> that is the last SQL executed 
+   *                    on the connection, <code>null</code> if none.
+   * @param openingSite A <code>String</code> that is the stack trace of the opening 
+   *                    of the connection, <code>null</code> if it was not sampled.
+   */
+  public ConnectionLeakMessage(Spy spy, long openTime, String lastSql, String openingSite)
+  {
+    //the debug info of the leak detector thread is meaningless
+    super(false);
+
+    this.spy = spy;
+    this.openTime = openTime;
+    this.lastSql = lastSql;
+    this.openingSite = openingSite;
+  }
+
+  @Override
+  protected void buildMessage() 
+  {
+    StringBuilder buildMsg = new StringBuilder();
+
+    buildMsg.append(spy.getConnectionNumber()).append(". Connection possibly leaked {open for ")
+        .append(ExecutionTime.toDisplayUnit(this.openTime))
+        .append(ExecutionTime.getDisplayUnitSymbol()).append("}");
+    if (this.lastSql != null) {
+      buildMsg.append(SqlMessage.nl).append("last SQL: ").append(this.lastSql);
+    }
+    if (this.openingSite != null) {
+      buildMsg.append(SqlMessage.nl).append("opened ").append(this.openingSite);
+    }
+
+    this.setMessage(buildMsg.toString());
+  }
+}
@@ -1,5 +1,6 @@
 package net.sf.log4jdbc.log.log4j2.message;
 
+import net.sf.log4jdbc.log.ExecutionTime;
 import net.sf.log4jdbc.sql.Spy;
 import net.sf.log4jdbc.sql.jdbcapi.ConnectionSpy;
 
@@ -47,7 +48,7 @@ public class ConnectionMessage extends SqlMessage implements Message
    */
   private Operation operation;  
   /**
-   * A <code>long</code> defining the time elapsed to open or close the connection in ms. 
+   * A <code>long</code> defining the time elapsed to open or close the connection in nanoseconds. 
    * Will be used to build the <code>message</code>, only when needed.
    * @see #message
    * @see #buildMessage()
@@ -65,7 +66,7 @@ public class ConnectionMessage extends SqlMessage implements Message
   /**
    * 
    * @param spy 			<code>ConnectionSpy</code> that was opened or closed.
-   * @param execTime 		A <code>long</code> defining the time elapsed to open or close the connection in ms
+   * @param execTime 		A <code>long</code> defining the time elapsed to open or close the connection in nanoseconds
    * 					Caller should pass -1 if not used
    * @param operation 	an <code>int</code> to define if the operation was to open, or to close connection. 
    * 						Should be equals to <code>OPENING</code> if the operation was to open the connection, 
@@ -106,7 +107,15 @@ public class ConnectionMessage extends SqlMessage implements Message
       buildMsg.append("opened, closed or aborted.");
     }
     if (this.execTime != -1) {
-      buildMsg.append(" {executed in ").append(this.execTime).append("ms} ");
+      buildMsg.append(" {executed in ")
+          .append(ExecutionTime.toDisplayUnit(this.execTime))
+          .append(ExecutionTime.getDisplayUnitSymbol()).append("} ");
+    }
+    if (this.operation == Operation.OPENING && spy instanceof ConnectionSpy && 
+        ((ConnectionSpy) spy).getDriverResolutionTime() != -1) {
+      buildMsg.append(" {driver resolved in ")
+          .append(ExecutionTime.toDisplayUnit(((ConnectionSpy) spy).getDriverResolutionTime()))
+          .append(ExecutionTime.getDisplayUnitSymbol()).append("} ");
     }
     if (this.isDebugEnabled()) {
       buildMsg.append(SqlMessage.nl);
@@ -1,5 +1,7 @@
 package net.sf.log4jdbc.log.log4j2.message;
 
+import net.sf.log4jdbc.log.ExecutionTime;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
 
 import org.apache.logging.log4j.message.Message;
@@ -23,16 +25,16 @@ public class ExceptionOccuredMessage extends SqlMessage implements Message
      */
 	private Spy spy;
 	/**
-     * a <code>String</code> describing the name and call parameters 
+     * a <code>MethodCall</code> describing the name and call parameters 
      * of the method generated the <code>Exception</code>. 
-     * Will be used to build the <code>message</code>, only when needed.
+     * Will be converted to a <code>String</code> to build the <code>message</code>, only when needed.
      * @see #message
      * @see #buildMessage()
      */
-	private String methodCall;
+	private MethodCall methodCall;
 	/**
      * <code>long</code> representing the amount of time 
-     * that passed before an <code>Exception</code> was thrown when sql was being executed.
+     * that passed before an <code>Exception</code> was thrown when sql was being executed, in nanoseconds.
      * Optional and should be set to -1 if not used. 
      * Will be used to build the <code>message</code>, only when needed.
      * @see #message
@@ -54,7 +56,7 @@ public class ExceptionOccuredMessage extends SqlMessage implements Message
      */
     public ExceptionOccuredMessage()
     {
-    	this(null, null, null, -1, false);
+    	this(null, (MethodCall) null, null, -1, false);
     }
     /**
      * 
@@ -65,12 +67,29 @@ public class ExceptionOccuredMessage extends SqlMessage implements Message
      * @param sql        	optional <code>String</code> representing the sql that occurred 
      * 						just before the exception occurred.
      * @param execTime   	optional <code>long</code> representing the amount of time 
-     * 						that passed before an <code>Exception</code> was thrown when sql was being executed.
+     * 						that passed before an <code>Exception</code> was thrown when sql was being executed, in nanoseconds.
      *                   	caller should pass -1 if not used.
      * @param isDebugEnabled A <code>boolean</code> to define whether debugInfo should be displayed.
      */
     public ExceptionOccuredMessage(Spy spy, String methodCall, 
 	        String sql, long execTime, boolean isdebugEnabled) {
+    	this(spy, MethodCall.fromDescription(methodCall), sql, execTime, isdebugEnabled);
+    }
+    /**
+     * 
+     * @param spy        	the <code>Spy</code> wrapping the class that threw an <code>Exception</code>.
+     * @param methodCall 	a <code>MethodCall</code> describing the name and call parameters 
+     * 						of the method generated the <code>Exception</code>, converted 
+     * 						to a <code>String</code> only when the message is built.
+     * @param sql        	optional <code>String</code> representing the sql that occurred 
+     * 						just before the exception occurred.
+     * @param execTime   	optional <code>long</code> representing the amount of time 
+     * 						that passed before an <code>Exception</code> was thrown when sql was being executed, in nanoseconds.
+     *                   	caller should pass -1 if not used.
+     * @param isDebugEnabled A <code>boolean</code> to define whether debugInfo should be displayed.
+     */
+    public ExceptionOccuredMessage(Spy spy, MethodCall methodCall, 
+	        String sql, long execTime, boolean isdebugEnabled) {
     	
 		super(isdebugEnabled);
 		
@@ -109,7 +128,8 @@ public class ExceptionOccuredMessage extends SqlMessage implements Message
     			tempMessage = header + " FAILED! " + tempSql;
     		}
     		if (this.execTime != -1) {
-    			tempMessage += " {FAILED after " + execTime + " ms}";
+    			tempMessage += " {FAILED after " + ExecutionTime.toDisplayUnit(execTime) + " " 
+    			        + ExecutionTime.getDisplayUnitSymbol() + "}";
     		}
     	}
     	
@@ -1,5 +1,6 @@
 package net.sf.log4jdbc.log.log4j2.message;
 
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
 
 import org.apache.logging.log4j.message.Message;
@@ -23,27 +24,27 @@ public class MethodReturnedMessage extends SqlMessage implements Message {
      */
 	private Spy spy;
 	/**
-     * a <code>String</code> describing the name and call parameters of the method that returned. 
+     * return value converted to a String for integral types, or String representation for Object.
+     * Will be null for void return types.. 
      * Will be used to build the <code>message</code>, only when needed.
      * @see #message
      * @see #buildMessage()
      */
 	private String returnMsg;
 	/**
-     * return value converted to a String for integral types, or String representation for Object.
-     * Will be null for void return types.. 
-     * Will be used to build the <code>message</code>, only when needed.
+     * a <code>MethodCall</code> describing the name and call parameters of the method that returned. 
+     * Will be converted to a <code>String</code> to build the <code>message</code>, only when needed.
      * @see #message
      * @see #buildMessage()
      */
-	private String methodCall;
+	private MethodCall methodCall;
 	
 	/**
 	 * Default constructor.
 	 */
 	public MethodReturnedMessage()
 	{
-		this(null, null, null, false);
+		this(null, (MethodCall) null, null, false);
 	}
 	
 	/**
@@ -55,6 +56,20 @@ public class MethodReturnedMessage extends SqlMessage implements Message {
      * @param isDebugEnabled A <code>boolean</code> to define whether debugInfo should be displayed.
 	 */
 	public MethodReturnedMessage(Spy spy, String methodCall, String returnMsg, boolean isDebugEnabled)
+	{
+		this(spy, MethodCall.fromDescription(methodCall), returnMsg, isDebugEnabled);
+	}
+	
+	/**
+	 * 
+	 * @param spy        the <code>Spy</code> wrapping the class that called the method that returned.
+     * @param methodCall a <code>MethodCall</code> describing the name and call parameters of the method 
+     *                   that returned, converted to a <code>String</code> only when the message is built.
+     * @param returnMsg  return value converted to a String for integral types, or String representation for Object.
+     *                   Will be null for void return types.
+     * @param isDebugEnabled A <code>boolean</code> to define whether debugInfo should be displayed.
+	 */
+	public MethodReturnedMessage(Spy spy, MethodCall methodCall, String returnMsg, boolean isDebugEnabled)
 	{
 		super(isDebugEnabled);
 		this.spy = spy;
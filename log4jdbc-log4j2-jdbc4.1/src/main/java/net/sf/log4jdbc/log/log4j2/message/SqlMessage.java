@@ -1,12 +1,10 @@
 package net.sf.log4jdbc.log.log4j2.message;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
-import java.util.StringTokenizer;
-import java.util.regex.Pattern;
 
 import net.sf.log4jdbc.Properties;
+import net.sf.log4jdbc.log.CallerLocation;
+import net.sf.log4jdbc.log.SqlFormatter;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
 
 /**
  * Parent class of all <code>Message</code>s associated with log4jdbc log events, 
@@ -28,6 +26,11 @@ public abstract class SqlMessage
 	 * System dependent line separator. 
 	 */
 	protected static String nl = System.getProperty("line.separator");
+	/**
+	 * The <code>SqlFormatter</code> used by <code>processSql</code>. 
+	 * Lines are only separated, the caller adds a final line separator if needed.
+	 */
+	private static final SqlFormatter sqlFormatter = SqlFormatter.getInstance(false);
 	/**
 	 * A <code>boolean</code> to define whether debugInfo should be displayed.
 	 * @see #getDebugInfo()
@@ -103,86 +106,25 @@ public abstract class SqlMessage
      */
     protected String processSql(String sql)
     {
-    	if (sql==null) {
-    		return null;
-    	}
-
-    	if (Properties.isSqlTrim()) {
-    		sql = sql.trim();
-    	}
-
-    	StringBuilder output = new StringBuilder();
+    	return sqlFormatter.format(sql);
+    }
 
-    	if (Properties.getDumpSqlMaxLineLength() <= 0) {
-    		output.append(sql);
+    /**
+     * Break an SQL statement up into multiple lines, and append it to <code>out</code>.
+     * If <code>sql</code> is a <code>DumpedSql</code>, the SQL template 
+     * of the <code>PreparedStatement</code> is formatted only once.
+     *
+     * @param sql SQL to break up, a <code>String</code> or a <code>DumpedSql</code>.
+     * @param out <code>StringBuilder</code> to append the SQL broken up into multiple lines to.
+     * @see SqlFormatter#formatTo(DumpedSql, StringBuilder)
+     */
+    protected void processSql(CharSequence sql, StringBuilder out)
+    {
+    	if (sql instanceof DumpedSql) {
+    		sqlFormatter.formatTo((DumpedSql) sql, out);
     	} else {
-    		// insert line breaks into sql to make it more readable
-    		StringTokenizer st = new StringTokenizer(sql);
-    		String token;
-    		int linelength = 0;
-
-    		while (st.hasMoreElements()) {
-    			token = (String) st.nextElement();
-
-    			output.append(token);
-    			linelength += token.length();
-    			output.append(" ");
-    			linelength++;
-    			if (linelength > Properties.getDumpSqlMaxLineLength()) {
-    				output.append(nl);
-    				linelength = 0;
-    			}
-    		}
-    	}
-
-    	if (Properties.isDumpSqlAddSemicolon()) {
-    		output.append(";");
+    		sqlFormatter.formatTo(sql == null ? null : sql.toString(), out);
     	}
-
-    	String stringOutput = output.toString();
-
-    	if (Properties.isTrimExtraBlankLinesInSql()) {
-    		LineNumberReader lineReader = new LineNumberReader(new StringReader(stringOutput));
-
-    		output = new StringBuilder();
-
-    		int contiguousBlankLines = 0;
-    		int lineCount = 0;
-    		try {
-    			while (true) {
-    				String line = lineReader.readLine();
-    				if (line==null) {
-    					break;
-    				}
-    				//add a line return only if several lines;
-    				//it is the responsibility of the caller to add a final line return if needed
-    				if (lineCount > 0) {
-        				output.append(nl);
-    				}
-
-    				// is this line blank?
-    				if (line.trim().length() == 0) {
-    					contiguousBlankLines ++;
-    					// skip contiguous blank lines
-    					if (contiguousBlankLines > 1) {
-    						continue;
-    					}
-    				} else {
-    					contiguousBlankLines = 0;
-    					output.append(line);
-    				}
-    				lineCount++;
-    			}
-    		}
-    		catch (IOException e)
-    		{
-    			// since we are reading from a buffer, this isn't likely to happen,
-    			// but if it does we just ignore it and treat it like its the end of the stream
-    		}
-    		stringOutput = output.toString();
-    	}
-
-    	return stringOutput;
     }
     
     /**
@@ -195,72 +137,12 @@ public abstract class SqlMessage
      * trace output, instead of the last direct caller into log4jdbc
      *
      * @return debugging info for whoever called into JDBC from within the application.
+     * @see CallerLocation#getDebugInfo()
      * @author Arthur Blake
      */
     protected static String getDebugInfo()
     {
-    	Throwable t = new Throwable();
-    	t.fillInStackTrace();
-
-    	StackTraceElement[] stackTrace = t.getStackTrace();
-
-    	if (stackTrace != null) {
-    		String className;
-    		StringBuilder dump = new StringBuilder();
-
-    		/**
-    		 * The DumpFullDebugStackTrace option is useful in some situations when
-    		 * we want to see the full stack trace in the debug info-  watch out
-    		 * though as this will make the logs HUGE!
-    		 */
-    		if (Properties.isDumpFullDebugStackTrace()) {
-    			boolean first=true;
-    			for (int i = 0; i < stackTrace.length; i++) {
-    				className = stackTrace[i].getClassName();
-    				if (!className.startsWith("net.sf.log4jdbc")) {
-    					if (first) {
-    						first = false;
-    					} else {
-    						dump.append("  ");
-    					}
-    					dump.append("at ");
-    					dump.append(stackTrace[i]);
-    					dump.append(nl);
-    				}
-    			}
-    		} else {
-    			dump.append(" ");
-    			int firstLog4jdbcCall = 0;
-    			int lastApplicationCall = 0;
-
-    			for (int i = 0; i < stackTrace.length; i++) {
-    				className = stackTrace[i].getClassName();
-    				if (className.startsWith("net.sf.log4jdbc")) {
-    					firstLog4jdbcCall = i;
-    					
-    				} else if (Properties.isTraceFromApplication() &&
-    						Pattern.matches(Properties.getDebugStackPrefix(), className)) {
-    					lastApplicationCall = i;
-    					break;
-    				}
-    			}
-    			int j = lastApplicationCall;
-
-    			if (j == 0) { // if app not found, then use whoever was the last guy that called a log4jdbc class.
-    				if (stackTrace.length > 1 + firstLog4jdbcCall) {
-    				    j = 1 + firstLog4jdbcCall;
-    				} else {
-    					j = firstLog4jdbcCall;
-    				}
-    			}
-
-    			dump.append(stackTrace[j].getClassName()).append(".").append(stackTrace[j].getMethodName()).append("(").
-    			append(stackTrace[j].getFileName()).append(":").append(stackTrace[j].getLineNumber()).append(")");
-    		}
-
-    		return dump.toString();
-    	}
-    	return null;
+    	return CallerLocation.getDebugInfo();
     }
 
 	/**
@@ -1,6 +1,8 @@
 package net.sf.log4jdbc.log.log4j2.message;
 
+import net.sf.log4jdbc.log.ExecutionTime;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
 
 import org.apache.logging.log4j.message.Message;
 
@@ -26,7 +28,7 @@ public class SqlTimingOccurredMessage extends SqlMessage implements Message
 	@SuppressWarnings("unused")
 	private String methodCall;
 	/**
-     * how long it took the sql to run, in ms. 
+     * how long it took the sql to run, in nanoseconds. 
      * Will be used to build the <code>message</code>, only when needed.
      * @see #message
      * @see #buildMessage()
@@ -40,25 +42,25 @@ public class SqlTimingOccurredMessage extends SqlMessage implements Message
      */
 	private Spy spy;
 	/**
-     * A <code>String</code> representing the sql that occurred. 
+     * A <code>String</code> or a <code>DumpedSql</code> representing the sql that occurred. 
      * Will be used to build the <code>message</code>, only when needed.
      * @see #message
      * @see #buildMessage()
      */
-	private String sql;
+	private CharSequence sql;
     
     /**
      * Default Constructor
      */
     public SqlTimingOccurredMessage()
     {
-    	this(null, -1, null, null, false);
+    	this(null, -1, null, (String) null, false);
     }
     
     /**
      * 
      * @param spy 			the <code>Spy</code> wrapping the class where the SQL occurred.
-     * @param execTime   	how long it took the sql to run, in ms.
+     * @param execTime   	how long it took the sql to run, in nanoseconds.
      * @param methodCall 	a <code>String</code> describing the name and call parameters 
      * 						of the method that generated the SQL.
      * @param sql       	A <code>String</code> representing the sql that occurred.
@@ -73,6 +75,27 @@ public class SqlTimingOccurredMessage extends SqlMessage implements Message
 		this.methodCall = methodCall;
 		this.sql = sql;
     }
+    
+    /**
+     * 
+     * @param spy 			the <code>Spy</code> wrapping the <code>PreparedStatement</code> 
+     * 						where the SQL occurred.
+     * @param execTime   	how long it took the sql to run, in nanoseconds.
+     * @param methodCall 	a <code>String</code> describing the name and call parameters 
+     * 						of the method that generated the SQL.
+     * @param sql       	A <code>DumpedSql</code> representing the sql that occurred, 
+     * 						with the values bound, rendered only when the message is built.
+     * @param isDebugEnabled A <code>boolean</code> to define whether debugInfo should be displayed.
+     */
+    public SqlTimingOccurredMessage(Spy spy, long execTime, String methodCall, DumpedSql sql, 
+    		boolean isDebugEnabled)
+    {
+    	super(isDebugEnabled);
+		this.spy = spy;
+		this.execTime = execTime;
+		this.methodCall = methodCall;
+		this.sql = sql;
+    }
 
 	@Override
 	protected void buildMessage() 
@@ -88,10 +111,10 @@ public class SqlTimingOccurredMessage extends SqlMessage implements Message
 	    out.append(this.spy.getConnectionNumber());
 	    out.append(". ");
 	      
-	    out.append(this.processSql(this.sql));
+	    this.processSql(this.sql, out);
 	    out.append(" {executed in ");
-	    out.append(this.execTime);
-	    out.append(" ms}");
+	    ExecutionTime.append(out, this.execTime);
+	    out.append("}");
 
 	    this.setMessage(out.toString());
 	}
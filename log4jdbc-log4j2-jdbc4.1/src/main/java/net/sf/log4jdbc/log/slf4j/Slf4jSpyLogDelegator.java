@@ -15,20 +15,18 @@
  */
 package net.sf.log4jdbc.log.slf4j;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
-import java.util.StringTokenizer;
-import java.util.regex.Pattern;
-
-
 import net.sf.log4jdbc.Properties;
 import net.sf.log4jdbc.log.AbstractSpyLogDelegator;
+import net.sf.log4jdbc.log.CallerLocation;
+import net.sf.log4jdbc.log.ExecutionTime;
+import net.sf.log4jdbc.log.SqlFormatter;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.SqlOperation;
 import net.sf.log4jdbc.sql.jdbcapi.ConnectionSpy;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
 import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
 import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
-import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollectorPrinter;
 
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
@@ -118,7 +116,37 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
 
 
     @Override
-    public void filteredExceptionOccured(Spy spy, String methodCall, Exception e, String sql, long execTime)
+    public boolean isAuditLoggingEnabled()
+    {
+        return jdbcLogger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isResultSetLoggingEnabled()
+    {
+        return resultSetLogger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isSqlOnlyLoggingEnabled()
+    {
+        return sqlOnlyLogger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isSqlTimingLoggingEnabled()
+    {
+        return sqlTimingLogger.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isConnectionLoggingEnabled()
+    {
+        return connectionLogger.isInfoEnabled();
+    }
+
+    @Override
+    public void filteredExceptionOccured(Spy spy, MethodCall methodCall, Exception e, String sql, long execTime)
     {
         String classType = spy.getClassType();
         Integer spyNo = spy.getConnectionNumber();
@@ -147,17 +175,19 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
             // if at debug level, display debug info to error log
             if (sqlTimingLogger.isDebugEnabled())
             {
-                sqlTimingLogger.error(getDebugInfo() + nl + spyNo + ". " + sql + " {FAILED after " + execTime + " msec}", e);
+                sqlTimingLogger.error(getDebugInfo() + nl + spyNo + ". " + sql + " {FAILED after " + ExecutionTime.toDisplayUnit(execTime) + " " + 
+                        ExecutionTime.getDisplayUnitSymbol() + "}", e);
             }
             else
             {
-                sqlTimingLogger.error(header + " FAILED! " + sql + " {FAILED after " + execTime + " msec}", e);
+                sqlTimingLogger.error(header + " FAILED! " + sql + " {FAILED after " + ExecutionTime.toDisplayUnit(execTime) + " " + 
+                        ExecutionTime.getDisplayUnitSymbol() + "}", e);
             }
         }
     }
 
     @Override
-    public void methodReturned(Spy spy, String methodCall, String returnMsg)
+    public void methodReturned(Spy spy, MethodCall methodCall, String returnMsg)
     {
         String classType = spy.getClassType();
         Logger logger=ResultSetSpy.classTypeDescription.equals(classType)?
@@ -185,38 +215,66 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
 
     private static String nl = System.getProperty("line.separator");
 
+    /**
+     * Formatter of the SQL, each line being followed by a line separator
+     * when blank lines are trimmed.
+     */
+    private static final SqlFormatter sqlFormatter = SqlFormatter.getInstance(true);
+
     /**
      * Determine if the given sql should be logged or not
      * based on the various DumpSqlXXXXXX flags.
      *
-     * @param sql SQL to test.
+     * @param spy the Spy that reported the SQL, caching its operation.
+     * @param sql SQL to test, a <code>String</code> or a <code>DumpedSql</code>.
      * @return true if the SQL should be logged, false if not.
      */
-    private boolean shouldSqlBeLogged(String sql)
+    private boolean shouldSqlBeLogged(Spy spy, CharSequence sql)
     {
-        if (sql == null)
+        String classified = sql instanceof DumpedSql ? 
+                ((DumpedSql) sql).getTemplate() : (String) sql;
+        switch (SqlOperation.of(spy, classified))
         {
-            return false;
+            case SELECT:
+                return Properties.isDumpSqlSelect();
+            case INSERT:
+                return Properties.isDumpSqlInsert();
+            case UPDATE:
+                return Properties.isDumpSqlUpdate();
+            case DELETE:
+                return Properties.isDumpSqlDelete();
+            case CREATE:
+                return Properties.isDumpSqlCreate();
+            case MERGE:
+                return Properties.isDumpSqlMerge();
+            case CALL:
+                return Properties.isDumpSqlCall();
+            default:
+                return false;
         }
-        sql = sql.trim();
-
-        if (sql.length()<6)
-        {
-            return false;
-        }
-        sql = sql.substring(0,6).toLowerCase();
-        return
-                (Properties.isDumpSqlSelect() && "select".equals(sql)) ||
-                (Properties.isDumpSqlInsert() && "insert".equals(sql)) ||
-                (Properties.isDumpSqlUpdate() && "update".equals(sql)) ||
-                (Properties.isDumpSqlDelete() && "delete".equals(sql)) ||
-                (Properties.isDumpSqlCreate() && "create".equals(sql));
     }
 
     @Override
     public void sqlOccurred(Spy spy, String methodCall, String sql)
     {
-        if (!Properties.isDumpSqlFilteringOn() || shouldSqlBeLogged(sql))
+        logSql(spy, sql);
+    }
+
+    @Override
+    public void sqlOccurred(Spy spy, String methodCall, DumpedSql sql)
+    {
+        logSql(spy, sql);
+    }
+
+    /**
+     * Log the SQL reported by <code>sqlOccurred</code>.
+     *
+     * @param spy the Spy wrapping the class where the SQL occurred.
+     * @param sql SQL that occurred, a <code>String</code> or a <code>DumpedSql</code>.
+     */
+    private void logSql(Spy spy, CharSequence sql)
+    {
+        if (!Properties.isDumpSqlFilteringOn() || shouldSqlBeLogged(spy, sql))
         {
             if (sqlOnlyLogger.isDebugEnabled())
             {
@@ -234,101 +292,18 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      * Break an SQL statement up into multiple lines in an attempt to make it
      * more readable
      *
-     * @param sql SQL to break up.
+     * @param sql SQL to break up, a <code>String</code> or a <code>DumpedSql</code>, 
+     *            whose SQL template is then formatted only once.
      * @return SQL broken up into multiple lines
+     * @see SqlFormatter#format(DumpedSql)
      */
-    private String processSql(String sql)
+    private String processSql(CharSequence sql)
     {
-        if (sql==null)
-        {
-            return null;
-        }
-
-        if (Properties.isSqlTrim())
-        {
-            sql = sql.trim();
-        }
-
-        StringBuilder output = new StringBuilder();
-
-        if (Properties.getDumpSqlMaxLineLength() <= 0)
+        if (sql instanceof DumpedSql)
         {
-            output.append(sql);
+            return sqlFormatter.format((DumpedSql) sql);
         }
-        else
-        {
-            // insert line breaks into sql to make it more readable
-            StringTokenizer st = new StringTokenizer(sql);
-            String token;
-            int linelength = 0;
-
-            while (st.hasMoreElements())
-            {
-                token = (String) st.nextElement();
-
-                output.append(token);
-                linelength += token.length();
-                output.append(" ");
-                linelength++;
-                if (linelength > Properties.getDumpSqlMaxLineLength())
-                {
-                    output.append(nl);
-                    linelength = 0;
-                }
-            }
-        }
-
-        if (Properties.isDumpSqlAddSemicolon())
-        {
-            output.append(";");
-        }
-
-        String stringOutput = output.toString();
-
-        if (Properties.isTrimExtraBlankLinesInSql())
-        {
-            LineNumberReader lineReader = new LineNumberReader(new StringReader(stringOutput));
-
-            output = new StringBuilder();
-
-            int contiguousBlankLines = 0;
-            try
-            {
-                while (true)
-                {
-                    String line = lineReader.readLine();
-                    if (line==null)
-                    {
-                        break;
-                    }
-
-                    // is this line blank?
-                    if (line.trim().length() == 0)
-                    {
-                        contiguousBlankLines ++;
-                        // skip contiguous blank lines
-                        if (contiguousBlankLines > 1)
-                        {
-                            continue;
-                        }
-                    }
-                    else
-                    {
-                        contiguousBlankLines = 0;
-                        output.append(line);
-                    }
-                    output.append(nl);
-                }
-            }
-            catch (IOException e)
-            {
-                // since we are reading from a buffer, this isn't likely to happen,
-                // but if it does we just ignore it and treat it like its the end of the stream
-            }
-            stringOutput = output.toString();
-        }
-
-        return stringOutput;
+        return sqlFormatter.format((String) sql);
     }
 
     /**
@@ -336,7 +311,7 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      *
      * @param spy        the Spy wrapping the class where the SQL occurred.
      *
-     * @param execTime   how long it took the SQL to run, in milliseconds.
+     * @param execTime   how long it took the SQL to run, in nanoseconds.
      *
      * @param methodCall a description of the name and call parameters of the
      *                   method that generated the SQL.
@@ -345,12 +320,32 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      */
     @Override
     public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, String sql)
+    {
+        logSqlTiming(spy, execTime, methodCall, sql);
+    }
+
+    @Override
+    public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, DumpedSql sql)
+    {
+        logSqlTiming(spy, execTime, methodCall, sql);
+    }
+
+    /**
+     * Log the SQL reported by <code>sqlTimingOccurred</code>.
+     *
+     * @param spy        the Spy wrapping the class where the SQL occurred.
+     * @param execTime   how long it took the SQL to run, in nanoseconds.
+     * @param methodCall a description of the name and call parameters of the
+     *                   method that generated the SQL.
+     * @param sql        SQL that occurred, a <code>String</code> or a <code>DumpedSql</code>.
+     */
+    private void logSqlTiming(Spy spy, long execTime, String methodCall, CharSequence sql)
     {
         if (sqlTimingLogger.isErrorEnabled() &&
-                (!Properties.isDumpSqlFilteringOn() || shouldSqlBeLogged(sql)))
+                (!Properties.isDumpSqlFilteringOn() || shouldSqlBeLogged(spy, sql)))
         {
             if (Properties.isSqlTimingErrorThresholdEnabled() &&
-                    execTime >= Properties.getSqlTimingErrorThresholdMsec())
+                    ExecutionTime.exceedsThreshold(execTime, Properties.getSqlTimingErrorThresholdMsec()))
             {
                 sqlTimingLogger.error(
                         buildSqlTimingDump(spy, execTime, methodCall, sql, sqlTimingLogger.isDebugEnabled()));
@@ -358,7 +353,7 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
             else if (sqlTimingLogger.isWarnEnabled())
             {
                 if (Properties.isSqlTimingWarnThresholdEnabled() &&
-                        execTime >= Properties.getSqlTimingWarnThresholdMsec())
+                        ExecutionTime.exceedsThreshold(execTime, Properties.getSqlTimingWarnThresholdMsec()))
                 {
                     sqlTimingLogger.warn(
                             buildSqlTimingDump(spy, execTime, methodCall, sql, sqlTimingLogger.isDebugEnabled()));
@@ -383,19 +378,19 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      *
      * @param spy        the Spy wrapping the class where the SQL occurred.
      *
-     * @param execTime   how long it took the SQL to run, in milliseconds.
+     * @param execTime   how long it took the SQL to run, in nanoseconds.
      *
      * @param methodCall a description of the name and call parameters of the
      *                   method that generated the SQL.
      *
-     * @param sql        SQL that occurred.
+     * @param sql        SQL that occurred, a <code>String</code> or a <code>DumpedSql</code>.
      *
      * @param debugInfo  if true, include debug info at the front of the output.
      *
      * @return a SQL timing dump String for logging.
      */
     private String buildSqlTimingDump(Spy spy, long execTime, String methodCall,
-            String sql, boolean debugInfo)
+            CharSequence sql, boolean debugInfo)
     {
         StringBuilder out = new StringBuilder();
 
@@ -412,9 +407,14 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
         // this is not very efficient but usually
         // only one or the other dump should be on and not both.
 
-        sql = processSql(sql);
-
-        out.append(sql);
+        if (sql instanceof DumpedSql)
+        {
+            sqlFormatter.formatTo((DumpedSql) sql, out);
+        }
+        else
+        {
+            sqlFormatter.formatTo((String) sql, out);
+        }
         appendExecutionTime( out, execTime );
 
         return out.toString();
@@ -426,8 +426,8 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      */
     protected void appendExecutionTime( StringBuilder out, long execTime ) {
       out.append(" {executed in ");
-      out.append(execTime);
-      out.append(" msec}");
+      ExecutionTime.append(out, execTime);
+      out.append("}");
     }
 
     /**
@@ -440,81 +440,11 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
      * trace output, instead of the last direct caller into log4jdbc
      *
      * @return debugging info for whoever called into JDBC from within the application.
+     * @see CallerLocation#getDebugInfo()
      */
     private static String getDebugInfo()
     {
-        Throwable t = new Throwable();
-        t.fillInStackTrace();
-
-        StackTraceElement[] stackTrace = t.getStackTrace();
-
-        if (stackTrace != null)
-        {
-            String className;
-
-            StringBuilder dump = new StringBuilder();
-
-            /**
-             * The DumpFullDebugStackTrace option is useful in some situations when
-             * we want to see the full stack trace in the debug info-  watch out
-             * though as this will make the logs HUGE!
-             */
-            if (Properties.isDumpFullDebugStackTrace())
-            {
-                boolean first=true;
-                for (int i = 0; i < stackTrace.length; i++)
-                {
-                    className = stackTrace[i].getClassName();
-                    if (!className.startsWith("net.sf.log4jdbc"))
-                    {
-                        if (first)
-                        {
-                            first = false;
-                        }
-                        else
-                        {
-                            dump.append("  ");
-                        }
-                        dump.append("at ");
-                        dump.append(stackTrace[i]);
-                        dump.append(nl);
-                    }
-                }
-            }
-            else
-            {
-                dump.append(" ");
-                int firstLog4jdbcCall = 0;
-                int lastApplicationCall = 0;
-
-                for (int i = 0; i < stackTrace.length; i++)
-                {
-                    className = stackTrace[i].getClassName();
-                    if (className.startsWith("net.sf.log4jdbc"))
-                    {
-                        firstLog4jdbcCall = i;
-                    }
-                    else if (Properties.isTraceFromApplication() &&
-                    		Pattern.matches(Properties.getDebugStackPrefix(), className))
-                    {
-                        lastApplicationCall = i;
-                        break;
-                    }
-                }
-                int j = lastApplicationCall;
-
-                if (j == 0)  // if app not found, then use whoever was the last guy that called a log4jdbc class.
-                {
-                    j = 1 + firstLog4jdbcCall;
-                }
-
-                dump.append(stackTrace[j].getClassName()).append(".").append(stackTrace[j].getMethodName()).append("(").
-                append(stackTrace[j].getFileName()).append(":").append(stackTrace[j].getLineNumber()).append(")");
-            }
-
-            return dump.toString();
-        }
-        return null;
+        return CallerLocation.getDebugInfo();
     }
 
     @Override
@@ -583,6 +513,24 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
         this.connectionAborted(spy);
     }
 
+    @Override
+    public void connectionLeaked(Spy spy, long openTime, String lastSql, String openingSite)
+    {
+        StringBuilder msg = new StringBuilder();
+        msg.append(spy.getConnectionNumber()).append(". Connection possibly leaked {open for ")
+            .append(ExecutionTime.toDisplayUnit(openTime))
+            .append(ExecutionTime.getDisplayUnitSymbol()).append("}");
+        if (lastSql != null)
+        {
+            msg.append(nl).append("last SQL: ").append(lastSql);
+        }
+        if (openingSite != null)
+        {
+            msg.append(nl).append("opened ").append(openingSite);
+        }
+        connectionLogger.warn(msg.toString());
+    }
+
     /**
      * Called whenever a connection spy is aborted.
      *
@@ -614,8 +562,10 @@ public class Slf4jSpyLogDelegator extends AbstractSpyLogDelegator
 
     @Override
     public void resultSetCollected(ResultSetCollector resultSetCollector) {
-        String resultsToPrint = new ResultSetCollectorPrinter().getResultSetToPrint(resultSetCollector);    
-        resultSetTableLogger.info(resultsToPrint);
+        String resultsToPrint = this.renderResultSet(resultSetCollector);    
+        if (!resultsToPrint.isEmpty()) {
+            resultSetTableLogger.info(resultsToPrint);
+        }
     }
 
 
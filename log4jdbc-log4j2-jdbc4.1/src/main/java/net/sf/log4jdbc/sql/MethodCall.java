@@ -0,0 +1,240 @@
+package net.sf.log4jdbc.sql;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Lazy description of a JDBC method call performed on a {@link Spy}: the name
+ * of the method, and the raw arguments it was called with.
+ * <p>
+ * Spies used to build a {@code String} such as {@code "setTime(" + parameterIndex
+ * + ", " + x + ")"} before each call to the real JDBC object, even when
+ * the resulting event was discarded by the logging system. A {@code MethodCall}
+ * only stores references to the arguments; the {@code String} representation
+ * is built, and then cached, the first time {@link #toString()} is called,
+ * that is, when a {@code SpyLogDelegator} actually emits a log event.
+ * <p>
+ * Calls to methods without arguments are expected to be described
+ * by {@code static} instances, so that no object is allocated at all
+ * for these calls.
+ * <p>
+ * A spy can also tag a {@code MethodCall} with an {@code int} identifier
+ * (see {@link #getId()}), so that the listeners of its events can recognize
+ * the methods they are interested in without comparing method names.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class MethodCall {
+    /**
+     * An empty {@code Object} array shared by all {@code MethodCall}s describing
+     * a method without arguments.
+     */
+    private static final Object[] NO_ARGS = new Object[0];
+    /**
+     * An {@code int} that is the value of {@link #getId()} when no identifier was provided.
+     */
+    public static final int NO_ID = 0;
+
+    /**
+     * A {@code String} that is the name of the method called.
+     */
+    private final String methodName;
+    /**
+     * An {@code int} identifying the method called, {@link #NO_ID} if none.
+     */
+    private final int id;
+    /**
+     * An {@code Object} array containing the raw arguments the method was called with.
+     * {@code null} if this {@code MethodCall} was built from a pre-rendered description,
+     * see {@link #fromDescription(String)}.
+     */
+    private final Object[] args;
+    /**
+     * A {@code String} that is the cached representation of this {@code MethodCall},
+     * built on the first call to {@link #toString()}.
+     */
+    private String description;
+
+    /**
+     * Constructor providing the name of the method called, and the raw arguments
+     * it was called with. Arguments are only referenced, they are not converted
+     * to {@code String} before {@link #toString()} is called.
+     *
+     * @param methodName    A {@code String} that is the name of the method called
+     *                      (for instance, "getString").
+     * @param args          The arguments the method was called with, in order.
+     */
+    public MethodCall(String methodName, Object... args) {
+        this(NO_ID, methodName, (args == null ? NO_ARGS : args), null);
+    }
+
+    /**
+     * Constructor providing an identifier of the method called, in addition to
+     * its name and the raw arguments it was called with.
+     *
+     * @param id            An {@code int} identifying the method called,
+     *                      defined by the spy, see {@link #getId()}.
+     * @param methodName    A {@code String} that is the name of the method called.
+     * @param args          The arguments the method was called with, in order.
+     */
+    public MethodCall(int id, String methodName, Object... args) {
+        this(id, methodName, (args == null ? NO_ARGS : args), null);
+    }
+
+    /**
+     * Private constructor used to set all attributes.
+     *
+     * @param id            See {@link #getId()}.
+     * @param methodName    See {@link #getMethodName()}.
+     * @param args          See {@link #getArguments()}.
+     * @param description   The pre-rendered description, or {@code null}
+     *                      if it must be built lazily.
+     */
+    private MethodCall(int id, String methodName, Object[] args, String description) {
+        this.id = id;
+        this.methodName = methodName;
+        this.args = args;
+        this.description = description;
+    }
+
+    /**
+     * Obtain a {@code MethodCall} from an already rendered description, such as
+     * "new Connection" or "test()". This allows to bridge the legacy
+     * {@code String}-based API of {@code SpyLogDelegator}.
+     *
+     * @param description   A {@code String} describing a method call.
+     * @return              A {@code MethodCall} whose {@link #toString()}
+     *                      returns {@code description}.
+     */
+    public static MethodCall fromDescription(String description) {
+        String name = description;
+        if (description != null) {
+            int parenthesis = description.indexOf('(');
+            if (parenthesis >= 0) {
+                name = description.substring(0, parenthesis);
+            }
+        }
+        return new MethodCall(NO_ID, name, null, description);
+    }
+
+    /**
+     * Obtain a {@code MethodCall} that can be rendered later, from another thread, 
+     * even if the application modifies the arguments of this one in the meantime: 
+     * the mutable arguments ({@code java.util.Date}s, including {@code java.sql.Timestamp}s, 
+     * and {@code Calendar}s) are copied, and arrays are rendered. 
+     * Other arguments are only referenced.
+     *
+     * @return  This {@code MethodCall} if it has no such arguments, or if it is 
+     *          already rendered, otherwise a new {@code MethodCall} with 
+     *          the same identifier and method name.
+     */
+    public MethodCall snapshot() {
+        if (this.args == null || this.description != null) {
+            return this;
+        }
+        Object[] copy = null;
+        for (int i = 0; i < this.args.length; i++) {
+            Object arg = this.args[i];
+            Object frozen = arg;
+            if (arg instanceof Date) {
+                frozen = ((Date) arg).clone();
+            } else if (arg instanceof Calendar) {
+                frozen = ((Calendar) arg).clone();
+            } else if (arg != null && arg.getClass().isArray()) {
+                frozen = String.valueOf(arg);
+            }
+            if (frozen != arg) {
+                if (copy == null) {
+                    copy = this.args.clone();
+                }
+                copy[i] = frozen;
+            }
+        }
+        if (copy == null) {
+            return this;
+        }
+        return new MethodCall(this.id, this.methodName, copy, null);
+    }
+
+    /**
+     * @return  A {@code String} that is the name of the method called.
+     */
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    /**
+     * @return  An {@code int} identifying the method called, as defined by the spy
+     *          that created this {@code MethodCall} (for instance,
+     *          {@code ResultSetSpy#GETTER_ID}); {@link #NO_ID} if none.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * @return  An {@code Object} array containing the raw arguments the method
+     *          was called with. Empty array if the method has no arguments,
+     *          or if this {@code MethodCall} was built from a pre-rendered description.
+     *          The returned array must not be modified.
+     */
+    public Object[] getArguments() {
+        if (this.args == null) {
+            return NO_ARGS;
+        }
+        return this.args;
+    }
+
+    /**
+     * @return  An {@code int} that is the number of arguments the method
+     *          was called with.
+     */
+    public int getArgumentCount() {
+        if (this.args == null) {
+            return 0;
+        }
+        return this.args.length;
+    }
+
+    /**
+     * Returns the description of this method call, in the format
+     * {@code methodName(arg1, arg2)}. This description is built only
+     * on the first call to this method, and then cached.
+     */
+    @Override
+    public String toString() {
+        //races are harmless here: the description would simply be built twice,
+        //and String is immutable.
+        String desc = this.description;
+        if (desc == null) {
+            desc = this.render();
+            this.description = desc;
+        }
+        return desc;
+    }
+
+    /**
+     * Build the description of this method call.
+     * @return  A {@code String} in the format {@code methodName(arg1, arg2)}.
+     */
+    private String render() {
+        if (this.args == null) {
+            return this.methodName;
+        }
+        StringBuilder sb = new StringBuilder(this.methodName.length() + 16 * this.args.length + 2);
+        sb.append(this.methodName).append('(');
+        for (int i = 0; i < this.args.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Object arg = this.args[i];
+            if (arg instanceof Class) {
+                sb.append(((Class<?>) arg).getName());
+            } else {
+                sb.append(arg);
+            }
+        }
+        return sb.append(')').toString();
+    }
+}
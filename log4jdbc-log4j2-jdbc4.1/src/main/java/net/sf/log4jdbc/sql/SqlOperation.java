@@ -0,0 +1,215 @@
+package net.sf.log4jdbc.sql;
+
+import net.sf.log4jdbc.sql.jdbcapi.StatementSpy;
+
+/**
+ * The operation performed by a SQL statement, used by {@code SpyLogDelegator}s
+ * to filter SQL statements (options <code>log4jdbc.dump.sql.select</code>, etc),
+ * or to select a log4j2 {@code Marker}.
+ * <p>
+ * The operation is determined by {@link #classify(String)}, scanning the SQL
+ * without allocating any object: leading whitespaces, comments, parentheses
+ * and JDBC escape braces are skipped; for a statement starting with a common table
+ * expression ({@code WITH}), the operation is given by the main statement following
+ * the CTE definitions. Spies cache the operation of the SQL they report,
+ * see {@link #of(Spy, String)}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public enum SqlOperation {
+    SELECT, INSERT, UPDATE, DELETE, CREATE,
+    /**
+     * {@code MERGE} or {@code UPSERT} statements.
+     */
+    MERGE,
+    /**
+     * Calls to stored procedures: {@code CALL}, {@code EXEC}, {@code EXECUTE},
+     * including the JDBC escape syntax <code>{? = call ...}</code>.
+     */
+    CALL,
+    /**
+     * Any other statement, or a {@code null} SQL.
+     */
+    OTHER;
+
+    /**
+     * Get the operation of {@code sql} reported by {@code spy}, using the operation
+     * cached by {@code spy} if it is a {@code StatementSpy}.
+     *
+     * @param spy   The {@code Spy} that reported {@code sql}.
+     * @param sql   A {@code String} that is the SQL reported.
+     * @return      The {@code SqlOperation} of {@code sql}.
+     * @see StatementSpy#getSqlOperation(String)
+     */
+    public static SqlOperation of(Spy spy, String sql) {
+        if (spy instanceof StatementSpy) {
+            return ((StatementSpy) spy).getSqlOperation(sql);
+        }
+        return classify(sql);
+    }
+
+    /**
+     * Determine the operation performed by {@code sql}.
+     *
+     * @param sql   A {@code String} that is the SQL to classify.
+     * @return      The {@code SqlOperation} of {@code sql}, {@code OTHER}
+     *              if {@code sql} is {@code null} or not recognized.
+     */
+    public static SqlOperation classify(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int length = sql.length();
+        int i = 0;
+        //skip whitespaces, comments, parentheses, and JDBC escape syntax
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c <= ' ' || c == '(' || c == '{') {
+                i++;
+            } else if (c == '?' || c == '=') {
+                //{? = call ...}
+                i++;
+            } else {
+                int end = skipComment(sql, i);
+                if (end == i) {
+                    break;
+                }
+                i = end;
+            }
+        }
+        if (i == length) {
+            return OTHER;
+        }
+        SqlOperation operation = keyword(sql, i);
+        if (operation != null) {
+            return operation;
+        }
+        if (isWord(sql, i, "CALL") || isWord(sql, i, "EXEC") || isWord(sql, i, "EXECUTE")) {
+            return CALL;
+        }
+        if (isWord(sql, i, "WITH")) {
+            return classifyAfterCommonTableExpressions(sql, i + 4);
+        }
+        return OTHER;
+    }
+
+    /**
+     * Find the operation of the main statement following the common table expressions
+     * starting at {@code start}: the first keyword outside of parentheses, quotes,
+     * and comments, defining an operation.
+     */
+    private static SqlOperation classifyAfterCommonTableExpressions(String sql, int start) {
+        int length = sql.length();
+        int depth = 0;
+        int i = start;
+        while (i < length) {
+            char c = sql.charAt(i);
+            int end = skipComment(sql, i);
+            if (end != i) {
+                i = end;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(sql, i);
+            } else if (c == '(') {
+                depth++;
+                i++;
+            } else if (c == ')') {
+                depth--;
+                i++;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                if (depth == 0) {
+                    SqlOperation operation = keyword(sql, i);
+                    if (operation != null && operation != CREATE) {
+                        return operation;
+                    }
+                }
+                i++;
+                while (i < length && Character.isJavaIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * @return  The {@code SqlOperation} defined by the keyword starting at {@code i},
+     *          {@code null} if none.
+     */
+    private static SqlOperation keyword(String sql, int i) {
+        switch (Character.toUpperCase(sql.charAt(i))) {
+            case 'S':
+                return isWord(sql, i, "SELECT") ? SELECT : null;
+            case 'I':
+                return isWord(sql, i, "INSERT") ? INSERT : null;
+            case 'U':
+                if (isWord(sql, i, "UPDATE")) {
+                    return UPDATE;
+                }
+                return isWord(sql, i, "UPSERT") ? MERGE : null;
+            case 'D':
+                return isWord(sql, i, "DELETE") ? DELETE : null;
+            case 'C':
+                return isWord(sql, i, "CREATE") ? CREATE : null;
+            case 'M':
+                return isWord(sql, i, "MERGE") ? MERGE : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return  {@code true} if the word starting at {@code i} in {@code sql}
+     *          is {@code word}, ignoring case.
+     */
+    private static boolean isWord(String sql, int i, String word) {
+        int end = i + word.length();
+        return sql.regionMatches(true, i, word, 0, word.length()) &&
+                (end == sql.length() || !Character.isJavaIdentifierPart(sql.charAt(end)));
+    }
+
+    /**
+     * @return  The index following the comment starting at {@code i},
+     *          {@code i} if there is no comment starting at {@code i}.
+     */
+    private static int skipComment(String sql, int i) {
+        int length = sql.length();
+        if (i + 1 >= length) {
+            return i;
+        }
+        char c = sql.charAt(i);
+        char next = sql.charAt(i + 1);
+        if (c == '-' && next == '-') {
+            int end = sql.indexOf('\n', i + 2);
+            return end == -1 ? length : end + 1;
+        }
+        if (c == '/' && next == '*') {
+            int end = sql.indexOf("*/", i + 2);
+            return end == -1 ? length : end + 2;
+        }
+        return i;
+    }
+
+    /**
+     * @return  The index following the quoted identifier or literal starting at {@code i};
+     *          doubled quotes are considered escaped quotes.
+     */
+    private static int skipQuoted(String sql, int i) {
+        int length = sql.length();
+        char quote = sql.charAt(i);
+        i++;
+        while (i < length) {
+            if (sql.charAt(i) == quote) {
+                if (i + 1 < length && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+}
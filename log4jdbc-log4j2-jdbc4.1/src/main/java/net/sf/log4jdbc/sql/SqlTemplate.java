@@ -0,0 +1,266 @@
+package net.sf.log4jdbc.sql;
+
+import java.util.Arrays;
+
+/**
+ * The SQL template of a {@code PreparedStatement}, parsed once into literal segments
+ * and placeholders, so that bound values can be substituted to the placeholders
+ * at each execution without scanning the SQL again.
+ * <p>
+ * Only the {@code ?} characters that are actual placeholders are recognized: the ones
+ * in string literals ({@code '...'}, PostgreSQL {@code $tag$...$tag$}), in quoted
+ * identifiers ({@code "..."}, {@code `...`}) and in comments ({@code --}, {@code /* *}{@code /})
+ * are ignored, as well as the PostgreSQL JSONB operators {@code ?|} and {@code ?&},
+ * and the escaped operator {@code ??}.
+ * <p>
+ * Instances are immutable.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class SqlTemplate {
+    /**
+     * A {@code String} that is the SQL template.
+     */
+    private final String sql;
+    /**
+     * The characters of {@link #sql}, appended by blocks to build the SQL.
+     */
+    private final char[] chars;
+    /**
+     * The positions of the placeholders in {@link #sql}, in ascending order.
+     */
+    private final int[] placeholders;
+
+    private SqlTemplate(String sql, int[] placeholders) {
+        this.sql = sql;
+        this.chars = sql.toCharArray();
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Parse {@code sql} to locate its placeholders. This method performs a single pass
+     * over {@code sql}.
+     *
+     * @param sql   A {@code String} that is a SQL template.
+     * @return      The {@code SqlTemplate} of {@code sql}.
+     */
+    public static SqlTemplate parse(String sql) {
+        final int length = sql.length();
+        int[] placeholders = new int[8];
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = (i + 1 < length ? sql.charAt(i + 1) : 0);
+            switch (c) {
+                case '\'':
+                case '"':
+                case '`':
+                    i = skipQuoted(sql, i, c);
+                    break;
+                case '-':
+                    if (next == '-') {
+                        int end = sql.indexOf('\n', i + 2);
+                        i = (end < 0 ? length : end + 1);
+                    } else {
+                        i++;
+                    }
+                    break;
+                case '/':
+                    if (next == '*') {
+                        i = skipBlockComment(sql, i);
+                    } else {
+                        i++;
+                    }
+                    break;
+                case '$':
+                    i = skipDollarQuoted(sql, i);
+                    break;
+                case '?':
+                    if (next == '?') {
+                        //escaped ? operator
+                        i += 2;
+                    } else if ((next == '|' || next == '&') &&
+                            (i + 2 >= length || sql.charAt(i + 2) != next)) {
+                        //JSONB operators ?| and ?&, but not a placeholder followed by || or &&
+                        i += 2;
+                    } else {
+                        if (count == placeholders.length) {
+                            placeholders = Arrays.copyOf(placeholders, count * 2);
+                        }
+                        placeholders[count++] = i;
+                        i++;
+                    }
+                    break;
+                default:
+                    i++;
+            }
+        }
+        return new SqlTemplate(sql, Arrays.copyOf(placeholders, count));
+    }
+
+    /**
+     * Build the {@code SqlTemplate} of {@code sql} with placeholders already located, 
+     * for instance when {@code sql} is a formatted SQL template, whose placeholders 
+     * were located in the raw template before formatting: comments might not be 
+     * delimited the same way in the formatted SQL.
+     *
+     * @param sql           A {@code String} that is a SQL template.
+     * @param placeholders  An array of {@code int}s that are the positions 
+     *                      of the placeholders in {@code sql}, in ascending order. 
+     *                      It is copied.
+     * @return              The {@code SqlTemplate} of {@code sql}.
+     * @throws IllegalArgumentException If a position is not the one of a {@code ?} 
+     *                                  in {@code sql}, or if positions are not 
+     *                                  in ascending order.
+     */
+    public static SqlTemplate of(String sql, int[] placeholders) {
+        int last = -1;
+        for (int pos : placeholders) {
+            if (pos <= last || pos >= sql.length() || sql.charAt(pos) != '?') {
+                throw new IllegalArgumentException("Invalid placeholder position: " + pos);
+            }
+            last = pos;
+        }
+        return new SqlTemplate(sql, placeholders.clone());
+    }
+
+    /**
+     * @return  The index following the literal or quoted identifier starting at {@code start},
+     *          a doubled quote being an escaped quote.
+     */
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return  The index following the block comment starting at {@code start},
+     *          comments being possibly nested (PostgreSQL).
+     */
+    private static int skipBlockComment(String sql, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < sql.length()) {
+            if (sql.startsWith("/*", i)) {
+                depth++;
+                i += 2;
+            } else if (sql.startsWith("*/", i)) {
+                depth--;
+                i += 2;
+                if (depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * @return  The index following the PostgreSQL dollar-quoted string starting
+     *          at {@code start}, or {@code start + 1} if {@code $} does not start one
+     *          (for instance, positional parameters {@code $1}, or identifiers).
+     */
+    private static int skipDollarQuoted(String sql, int start) {
+        if (start > 0 && isIdentifierPart(sql.charAt(start - 1))) {
+            return start + 1;
+        }
+        int i = start + 1;
+        if (i < sql.length() && Character.isDigit(sql.charAt(i))) {
+            return start + 1;
+        }
+        while (i < sql.length() && isIdentifierPart(sql.charAt(i))) {
+            i++;
+        }
+        if (i >= sql.length() || sql.charAt(i) != '$') {
+            return start + 1;
+        }
+        String tag = sql.substring(start, i + 1);
+        int end = sql.indexOf(tag, i + 1);
+        return (end < 0 ? sql.length() : end + tag.length());
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * @return  A {@code String} that is the SQL template.
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * @return  An {@code int} that is the number of placeholders in the SQL template.
+     */
+    public int getPlaceholderCount() {
+        return this.placeholders.length;
+    }
+
+    /**
+     * @param index An {@code int} that is the index of a placeholder, starting from 0.
+     * @return      An {@code int} that is the position of the placeholder 
+     *              in the SQL template.
+     */
+    public int getPlaceholderPosition(int index) {
+        return this.placeholders[index];
+    }
+
+    /**
+     * Substitute {@code values} to the placeholders, in order.
+     *
+     * @param values    The {@code String}s to substitute, a placeholder being kept
+     *                  if its value is {@code null} or missing.
+     * @return          A {@code String} that is the SQL with the values.
+     */
+    public String substitute(String[] values) {
+        int length = this.chars.length;
+        int count = Math.min(values.length, this.placeholders.length);
+        for (int i = 0; i < count; i++) {
+            if (values[i] != null) {
+                length += values[i].length() - 1;
+            }
+        }
+        StringBuilder out = new StringBuilder(length);
+        this.appendTo(out, values);
+        return out.toString();
+    }
+
+    /**
+     * Append the SQL template to {@code out}, substituting {@code values}
+     * to the placeholders, in order.
+     *
+     * @param out       The {@code StringBuilder} to append to.
+     * @param values    The {@code String}s to substitute, a placeholder being kept
+     *                  if its value is {@code null} or missing.
+     */
+    public void appendTo(StringBuilder out, String[] values) {
+        int lastPos = 0;
+        for (int i = 0; i < this.placeholders.length; i++) {
+            int pos = this.placeholders[i];
+            out.append(this.chars, lastPos, pos - lastPos);
+            String value = (i < values.length ? values[i] : null);
+            if (value == null) {
+                out.append('?');
+            } else {
+                out.append(value);
+            }
+            lastPos = pos + 1;
+        }
+        out.append(this.chars, lastPos, this.chars.length - lastPos);
+    }
+}
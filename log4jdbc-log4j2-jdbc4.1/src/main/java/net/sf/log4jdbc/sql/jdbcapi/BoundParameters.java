@@ -0,0 +1,249 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * The raw values bound to the parameters of a {@link PreparedStatementSpy},
+ * stored until the SQL is actually rendered for logging
+ * (see {@link DumpedSql}).
+ * <p>
+ * Values of primitive types are stored in a {@code long} slot, tagged with their type,
+ * so that binding them does not allocate; other values are stored as is, except 
+ * the mutable ones ({@code java.util.Date}s and their subclasses, {@code Calendar}s, 
+ * {@code byte[]}s), which are copied when bound: the SQL can be rendered after 
+ * the application modified and reused them. No value is formatted by this class: 
+ * the {@code RdbmsSpecifics} formatting is applied only when a message containing 
+ * the SQL is rendered.
+ * <p>
+ * This class is not thread-safe: it is owned by the thread using the statement,
+ * and a {@link #copy()} is taken to hand the values off for logging.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class BoundParameters {
+    /**
+     * Types of the values stored in {@link #kinds}.
+     */
+    private static final byte UNSET = 0;
+    private static final byte OBJECT = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The type of the value of each parameter, {@link #UNSET} if not bound.
+     */
+    private byte[] kinds;
+    /**
+     * The values of the parameters of primitive types, {@code float}s and {@code double}s
+     * being stored as their raw bits.
+     */
+    private long[] primitives;
+    /**
+     * The values of the parameters of other types.
+     */
+    private Object[] objects;
+    /**
+     * An {@code int} that is the highest index of the parameters bound, starting from 1.
+     */
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public BoundParameters() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    private BoundParameters(int capacity) {
+        this.kinds = new byte[capacity];
+        this.primitives = new long[capacity];
+        this.objects = new Object[capacity];
+    }
+
+    /**
+     * @param index A {@code int} that is the index of a parameter, starting from 1.
+     * @param value The value bound to the parameter, possibly {@code null}.
+     */
+    public void setObject(int index, Object value) {
+        int i = this.slot(index, OBJECT);
+        this.objects[i] = snapshot(value);
+    }
+
+    /**
+     * @param value The value bound to a parameter, possibly {@code null}.
+     * @return      A copy of {@code value} if it is mutable, {@code value} otherwise. 
+     *              {@code Timestamp}s keep their nanoseconds.
+     */
+    private static Object snapshot(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).clone();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        return value;
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setBoolean(int index, boolean value) {
+        this.setPrimitive(index, BOOLEAN, value ? 1L : 0L);
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setByte(int index, byte value) {
+        this.setPrimitive(index, BYTE, value);
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setShort(int index, short value) {
+        this.setPrimitive(index, SHORT, value);
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setInt(int index, int value) {
+        this.setPrimitive(index, INT, value);
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setLong(int index, long value) {
+        this.setPrimitive(index, LONG, value);
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setFloat(int index, float value) {
+        this.setPrimitive(index, FLOAT, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * @see #setObject(int, Object)
+     */
+    public void setDouble(int index, double value) {
+        this.setPrimitive(index, DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    private void setPrimitive(int index, byte kind, long value) {
+        int i = this.slot(index, kind);
+        this.primitives[i] = value;
+        //release any object previously bound
+        this.objects[i] = null;
+    }
+
+    /**
+     * Tag the slot of the parameter {@code index} with {@code kind}, growing the arrays
+     * if needed.
+     *
+     * @return  An {@code int} that is the position of the slot in the arrays.
+     */
+    private int slot(int index, byte kind) {
+        int i = index - 1;
+        if (i < 0) {
+            throw new IllegalArgumentException("Invalid parameter index: " + index);
+        }
+        if (i >= this.kinds.length) {
+            int capacity = Math.max(this.kinds.length * 2, i + 1);
+            this.kinds = Arrays.copyOf(this.kinds, capacity);
+            this.primitives = Arrays.copyOf(this.primitives, capacity);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+        }
+        this.kinds[i] = kind;
+        if (index > this.size) {
+            this.size = index;
+        }
+        return i;
+    }
+
+    /**
+     * Unbind all parameters.
+     */
+    public void clear() {
+        Arrays.fill(this.kinds, 0, this.size, UNSET);
+        Arrays.fill(this.objects, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * @return  An {@code int} that is the highest index of the parameters bound,
+     *          starting from 1, 0 if none.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param index A {@code int} that is the index of a parameter, starting from 1.
+     * @return      A {@code boolean} that is {@code true} if a value, possibly {@code null},
+     *              is bound to the parameter.
+     */
+    public boolean isSet(int index) {
+        return index >= 1 && index <= this.size && this.kinds[index - 1] != UNSET;
+    }
+
+    /**
+     * @param index A {@code int} that is the index of a parameter, starting from 1.
+     * @return      The value bound to the parameter, primitive values being boxed;
+     *              {@code null} if not bound (see {@link #isSet(int)}).
+     */
+    public Object get(int index) {
+        if (!this.isSet(index)) {
+            return null;
+        }
+        int i = index - 1;
+        long value = this.primitives[i];
+        switch (this.kinds[i]) {
+            case BOOLEAN:
+                return Boolean.valueOf(value != 0L);
+            case BYTE:
+                return Byte.valueOf((byte) value);
+            case SHORT:
+                return Short.valueOf((short) value);
+            case INT:
+                return Integer.valueOf((int) value);
+            case LONG:
+                return Long.valueOf(value);
+            case FLOAT:
+                return Float.valueOf(Float.intBitsToFloat((int) value));
+            case DOUBLE:
+                return Double.valueOf(Double.longBitsToDouble(value));
+            default:
+                return this.objects[i];
+        }
+    }
+
+    /**
+     * @return  A new {@code BoundParameters} holding the values currently bound,
+     *          not affected by later changes to this one.
+     */
+    public BoundParameters copy() {
+        BoundParameters copy = new BoundParameters(Math.max(this.size, 1));
+        System.arraycopy(this.kinds, 0, copy.kinds, 0, this.size);
+        System.arraycopy(this.primitives, 0, copy.primitives, 0, this.size);
+        System.arraycopy(this.objects, 0, copy.objects, 0, this.size);
+        copy.size = this.size;
+        return copy;
+    }
+}
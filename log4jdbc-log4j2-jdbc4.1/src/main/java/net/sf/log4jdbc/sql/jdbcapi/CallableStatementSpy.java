@@ -38,6 +38,7 @@ import java.util.Calendar;
 import java.util.Map;
 
 import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
 
 /**
@@ -48,7 +49,13 @@ import net.sf.log4jdbc.sql.Spy;
  */
 public class CallableStatementSpy extends PreparedStatementSpy implements CallableStatement
 {
-	protected void reportAllReturns(String methodCall, String msg)
+	/**
+	 * Descriptions of the JDBC methods without arguments (and of the creation
+	 * of this spy), shared to avoid any allocation on each call.
+	 */
+	private static final MethodCall WAS_NULL = new MethodCall("wasNull");
+
+	protected void reportAllReturns(MethodCall methodCall, String msg)
 	{
 		log.methodReturned(this, methodCall, msg);
 	}
@@ -94,7 +101,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Date getDate(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getDate(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDate(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getDate", parameterIndex);
 		try
 		{
 			return (Date) reportReturn(methodCall, realCallableStatement.getDate(parameterIndex));
@@ -109,7 +120,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Date getDate(int parameterIndex, Calendar cal) throws SQLException
 	{
-		String methodCall = "getDate(" + parameterIndex + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDate(parameterIndex, cal);
+		}
+		MethodCall methodCall = new MethodCall("getDate", parameterIndex, cal);
 		try
 		{
 			return (Date) reportReturn(methodCall, realCallableStatement.getDate(parameterIndex, cal));
@@ -124,7 +139,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Ref getRef(String parameterName) throws SQLException
 	{
-		String methodCall = "getRef(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getRef(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getRef", parameterName);
 		try
 		{
 			return (Ref) reportReturn(methodCall, realCallableStatement.getRef(parameterName));
@@ -139,7 +158,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Time getTime(String parameterName) throws SQLException
 	{
-		String methodCall = "getTime(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTime(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getTime", parameterName);
 		try
 		{
 			return (Time) reportReturn(methodCall, realCallableStatement.getTime(parameterName));
@@ -154,7 +177,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setTime(String parameterName, Time x) throws SQLException
 	{
-		String methodCall = "setTime(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setTime(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setTime", parameterName, x);
 		try
 		{
 			realCallableStatement.setTime(parameterName, x);
@@ -170,7 +198,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Blob getBlob(int i) throws SQLException
 	{
-		String methodCall = "getBlob(" + i + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBlob(i);
+		}
+		MethodCall methodCall = new MethodCall("getBlob", i);
 		try
 		{
 			return (Blob) reportReturn(methodCall, realCallableStatement.getBlob(i));
@@ -185,7 +217,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Clob getClob(int i) throws SQLException
 	{
-		String methodCall = "getClob(" + i + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getClob(i);
+		}
+		MethodCall methodCall = new MethodCall("getClob", i);
 		try
 		{
 			return (Clob) reportReturn(methodCall, realCallableStatement.getClob(i));
@@ -200,7 +236,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Array getArray(int i) throws SQLException
 	{
-		String methodCall = "getArray(" + i + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getArray(i);
+		}
+		MethodCall methodCall = new MethodCall("getArray", i);
 		try
 		{
 			return (Array) reportReturn(methodCall, realCallableStatement.getArray(i));
@@ -215,7 +255,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public byte[] getBytes(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getBytes(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBytes(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getBytes", parameterIndex);
 		try
 		{
 			return (byte[]) reportReturn(methodCall, realCallableStatement.getBytes(parameterIndex));
@@ -230,7 +274,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public double getDouble(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getDouble(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDouble(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getDouble", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getDouble(parameterIndex));
@@ -245,7 +293,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public int getInt(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getInt(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getInt(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getInt", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getInt(parameterIndex));
@@ -260,7 +312,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public boolean wasNull() throws SQLException
 	{
-		String methodCall = "wasNull()";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.wasNull();
+		}
+		MethodCall methodCall = WAS_NULL;
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.wasNull());
@@ -275,7 +331,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Time getTime(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getTime(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTime(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getTime", parameterIndex);
 		try
 		{
 			return (Time) reportReturn(methodCall, realCallableStatement.getTime(parameterIndex));
@@ -290,7 +350,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Time getTime(int parameterIndex, Calendar cal) throws SQLException
 	{
-		String methodCall = "getTime(" + parameterIndex + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTime(parameterIndex, cal);
+		}
+		MethodCall methodCall = new MethodCall("getTime", parameterIndex, cal);
 		try
 		{
 			return (Time) reportReturn(methodCall, realCallableStatement.getTime(parameterIndex, cal));
@@ -305,7 +369,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Timestamp getTimestamp(String parameterName) throws SQLException
 	{
-		String methodCall = "getTimestamp(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTimestamp(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getTimestamp", parameterName);
 		try
 		{
 			return (Timestamp) reportReturn(methodCall, realCallableStatement.getTimestamp(parameterName));
@@ -320,7 +388,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setTimestamp(String parameterName, Timestamp x) throws SQLException
 	{
-		String methodCall = "setTimestamp(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setTimestamp(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setTimestamp", parameterName, x);
 		try
 		{
 			realCallableStatement.setTimestamp(parameterName, x);
@@ -336,7 +409,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public String getString(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getString(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getString(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getString", parameterIndex);
 		try
 		{
 			return (String) reportReturn(methodCall, realCallableStatement.getString(parameterIndex));
@@ -351,7 +428,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + parameterIndex + ", " + sqlType + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(parameterIndex, sqlType);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", parameterIndex, sqlType);
 		argTraceSet(parameterIndex, null, "<OUT>");
 		try
 		{
@@ -368,7 +450,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + parameterIndex + ", " + sqlType + ", " + scale + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(parameterIndex, sqlType, scale);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", parameterIndex, sqlType, scale);
 		argTraceSet(parameterIndex, null, "<OUT>");
 		try
 		{
@@ -385,7 +472,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(int paramIndex, int sqlType, String typeName) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + paramIndex + ", " + sqlType + ", " + typeName + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(paramIndex, sqlType, typeName);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", paramIndex, sqlType, typeName);
 		argTraceSet(paramIndex, null, "<OUT>");
 		try
 		{
@@ -402,7 +494,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public byte getByte(String parameterName) throws SQLException
 	{
-		String methodCall = "getByte(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getByte(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getByte", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getByte(parameterName));
@@ -417,7 +513,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public double getDouble(String parameterName) throws SQLException
 	{
-		String methodCall = "getDouble(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDouble(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getDouble", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getDouble(parameterName));
@@ -432,7 +532,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public float getFloat(String parameterName) throws SQLException
 	{
-		String methodCall = "getFloat(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getFloat(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getFloat", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getFloat(parameterName));
@@ -447,7 +551,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public int getInt(String parameterName) throws SQLException
 	{
-		String methodCall = "getInt(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getInt(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getInt", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getInt(parameterName));
@@ -462,7 +570,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public long getLong(String parameterName) throws SQLException
 	{
-		String methodCall = "getLong(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getLong(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getLong", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getLong(parameterName));
@@ -477,7 +589,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public short getShort(String parameterName) throws SQLException
 	{
-		String methodCall = "getShort(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getShort(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getShort", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getShort(parameterName));
@@ -492,7 +608,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public boolean getBoolean(String parameterName) throws SQLException
 	{
-		String methodCall = "getBoolean(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBoolean(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getBoolean", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getBoolean(parameterName));
@@ -507,7 +627,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public byte[] getBytes(String parameterName) throws SQLException
 	{
-		String methodCall = "getBytes(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBytes(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getBytes", parameterName);
 		try
 		{
 			return (byte[]) reportReturn(methodCall, realCallableStatement.getBytes(parameterName));
@@ -522,7 +646,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setByte(String parameterName, byte x) throws SQLException
 	{
-		String methodCall = "setByte(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setByte(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setByte", parameterName, x);
 		try
 		{
 			realCallableStatement.setByte(parameterName, x);
@@ -538,7 +667,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setDouble(String parameterName, double x) throws SQLException
 	{
-		String methodCall = "setDouble(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setDouble(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setDouble", parameterName, x);
 		try
 		{
 			realCallableStatement.setDouble(parameterName, x);
@@ -554,7 +688,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setFloat(String parameterName, float x) throws SQLException
 	{
-		String methodCall = "setFloat(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setFloat(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setFloat", parameterName, x);
 		try
 		{
 			realCallableStatement.setFloat(parameterName, x);
@@ -570,7 +709,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(String parameterName, int sqlType) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + parameterName + ", " + sqlType + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(parameterName, sqlType);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", parameterName, sqlType);
 		try
 		{
 			realCallableStatement.registerOutParameter(parameterName, sqlType);
@@ -586,7 +730,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setInt(String parameterName, int x) throws SQLException
 	{
-		String methodCall = "setInt(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setInt(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setInt", parameterName, x);
 		try
 		{
 			realCallableStatement.setInt(parameterName, x);
@@ -602,7 +751,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setNull(String parameterName, int sqlType) throws SQLException
 	{
-		String methodCall = "setNull(" + parameterName + ", " + sqlType + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNull(parameterName, sqlType);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNull", parameterName, sqlType);
 		try
 		{
 			realCallableStatement.setNull(parameterName, sqlType);
@@ -618,7 +772,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + parameterName + ", " + sqlType + ", " + scale + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(parameterName, sqlType, scale);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", parameterName, sqlType, scale);
 		try
 		{
 			realCallableStatement.registerOutParameter(parameterName, sqlType, scale);
@@ -634,7 +793,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setLong(String parameterName, long x) throws SQLException
 	{
-		String methodCall = "setLong(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setLong(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setLong", parameterName, x);
 		try
 		{
 			realCallableStatement.setLong(parameterName, x);
@@ -650,7 +814,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setShort(String parameterName, short x) throws SQLException
 	{
-		String methodCall = "setShort(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setShort(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setShort", parameterName, x);
 		try
 		{
 			realCallableStatement.setShort(parameterName, x);
@@ -666,7 +835,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setBoolean(String parameterName, boolean x) throws SQLException
 	{
-		String methodCall = "setBoolean(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBoolean(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBoolean", parameterName, x);
 		try
 		{
 			realCallableStatement.setBoolean(parameterName, x);
@@ -682,7 +856,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setBytes(String parameterName, byte[] x) throws SQLException
 	{
-		String methodCall = "setBytes(" + parameterName + ", " + rdbmsSpecifics.formatParameterObject(x) + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBytes(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBytes", parameterName, formattedParameter(x));
 		try
 		{
 			realCallableStatement.setBytes(parameterName, x);
@@ -698,7 +877,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public boolean getBoolean(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getBoolean(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBoolean(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getBoolean", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getBoolean(parameterIndex));
@@ -713,7 +896,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Timestamp getTimestamp(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getTimestamp(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTimestamp(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getTimestamp", parameterIndex);
 		try
 		{
 			return (Timestamp) reportReturn(methodCall, realCallableStatement.getTimestamp(parameterIndex));
@@ -728,7 +915,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException
 	{
-		String methodCall = "setAsciiStream(" + parameterName + ", " + x + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setAsciiStream(parameterName, x, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setAsciiStream", parameterName, x, length);
 		try
 		{
 			realCallableStatement.setAsciiStream(parameterName, x, length);
@@ -744,7 +936,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException
 	{
-		String methodCall = "setBinaryStream(" + parameterName + ", " + x + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBinaryStream(parameterName, x, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBinaryStream", parameterName, x, length);
 		try
 		{
 			realCallableStatement.setBinaryStream(parameterName, x, length);
@@ -760,7 +957,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException
 	{
-		String methodCall = "setCharacterStream(" + parameterName + ", " + reader + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setCharacterStream(parameterName, reader, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setCharacterStream", parameterName, reader, length);
 		try
 		{
 			realCallableStatement.setCharacterStream(parameterName, reader, length);
@@ -776,7 +978,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Object getObject(String parameterName) throws SQLException
 	{
-		String methodCall = "getObject(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getObject", parameterName);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getObject(parameterName));
@@ -791,7 +997,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setObject(String parameterName, Object x) throws SQLException
 	{
-		String methodCall = "setObject(" + parameterName + ", " + rdbmsSpecifics.formatParameterObject(x) + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setObject(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setObject", parameterName, formattedParameter(x));
 		try
 		{
 			realCallableStatement.setObject(parameterName, x);
@@ -807,7 +1018,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException
 	{
-		String methodCall = "setObject(" + parameterName + ", " + rdbmsSpecifics.formatParameterObject(x) + ", " + targetSqlType + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setObject(parameterName, x, targetSqlType);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setObject", parameterName, formattedParameter(x), targetSqlType);
 		try
 		{
 			realCallableStatement.setObject(parameterName, x, targetSqlType);
@@ -823,7 +1039,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException
 	{
-		String methodCall = "setObject(" + parameterName + ", " + rdbmsSpecifics.formatParameterObject(x) + ", " + targetSqlType + ", " + scale + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setObject(parameterName, x, targetSqlType, scale);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setObject", parameterName, formattedParameter(x), targetSqlType, scale);
 		try
 		{
 			realCallableStatement.setObject(parameterName, x, targetSqlType, scale);
@@ -839,7 +1060,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException
 	{
-		String methodCall = "getTimestamp(" + parameterIndex + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTimestamp(parameterIndex, cal);
+		}
+		MethodCall methodCall = new MethodCall("getTimestamp", parameterIndex, cal);
 		try
 		{
 			return (Timestamp) reportReturn(methodCall, realCallableStatement.getTimestamp(parameterIndex, cal));
@@ -854,7 +1079,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Date getDate(String parameterName, Calendar cal) throws SQLException
 	{
-		String methodCall = "getDate(" + parameterName + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDate(parameterName, cal);
+		}
+		MethodCall methodCall = new MethodCall("getDate", parameterName, cal);
 		try
 		{
 			return (Date) reportReturn(methodCall, realCallableStatement.getDate(parameterName, cal));
@@ -869,7 +1098,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Time getTime(String parameterName, Calendar cal) throws SQLException
 	{
-		String methodCall = "getTime(" + parameterName + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTime(parameterName, cal);
+		}
+		MethodCall methodCall = new MethodCall("getTime", parameterName, cal);
 		try
 		{
 			return (Time) reportReturn(methodCall, realCallableStatement.getTime(parameterName, cal));
@@ -884,7 +1117,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException
 	{
-		String methodCall = "getTimestamp(" + parameterName + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getTimestamp(parameterName, cal);
+		}
+		MethodCall methodCall = new MethodCall("getTimestamp", parameterName, cal);
 		try
 		{
 			return (Timestamp) reportReturn(methodCall, realCallableStatement.getTimestamp(parameterName, cal));
@@ -899,7 +1136,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setDate(String parameterName, Date x, Calendar cal) throws SQLException
 	{
-		String methodCall = "setDate(" + parameterName + ", " + x + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setDate(parameterName, x, cal);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setDate", parameterName, x, cal);
 		try
 		{
 			realCallableStatement.setDate(parameterName, x, cal);
@@ -915,7 +1157,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setTime(String parameterName, Time x, Calendar cal) throws SQLException
 	{
-		String methodCall = "setTime(" + parameterName + ", " + x + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setTime(parameterName, x, cal);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setTime", parameterName, x, cal);
 		try
 		{
 			realCallableStatement.setTime(parameterName, x, cal);
@@ -931,7 +1178,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException
 	{
-		String methodCall = "setTimestamp(" + parameterName + ", " + x + ", " + cal + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setTimestamp(parameterName, x, cal);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setTimestamp", parameterName, x, cal);
 		try
 		{
 			realCallableStatement.setTimestamp(parameterName, x, cal);
@@ -947,7 +1199,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public short getShort(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getShort(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getShort(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getShort", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getShort(parameterIndex));
@@ -962,7 +1218,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public long getLong(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getLong(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getLong(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getLong", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getLong(parameterIndex));
@@ -977,7 +1237,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public float getFloat(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getFloat(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getFloat(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getFloat", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getFloat(parameterIndex));
@@ -992,7 +1256,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Ref getRef(int i) throws SQLException
 	{
-		String methodCall = "getRef(" + i + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getRef(i);
+		}
+		MethodCall methodCall = new MethodCall("getRef", i);
 		try
 		{
 			return (Ref) reportReturn(methodCall, realCallableStatement.getRef(i));
@@ -1010,7 +1278,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException
 	{
-		String methodCall = "getBigDecimal(" + parameterIndex + ", " + scale + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBigDecimal(parameterIndex, scale);
+		}
+		MethodCall methodCall = new MethodCall("getBigDecimal", parameterIndex, scale);
 		try
 		{
 			return (BigDecimal) reportReturn(methodCall, realCallableStatement.getBigDecimal(parameterIndex, scale));
@@ -1025,7 +1297,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public URL getURL(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getURL(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getURL(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getURL", parameterIndex);
 		try
 		{
 			return (URL) reportReturn(methodCall, realCallableStatement.getURL(parameterIndex));
@@ -1041,7 +1317,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public BigDecimal getBigDecimal(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getBigDecimal(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBigDecimal(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getBigDecimal", parameterIndex);
 		try
 		{
 			return (BigDecimal) reportReturn(methodCall, realCallableStatement.getBigDecimal(parameterIndex));
@@ -1056,7 +1336,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public byte getByte(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getByte(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getByte(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getByte", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getByte(parameterIndex));
@@ -1071,7 +1355,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Object getObject(int parameterIndex) throws SQLException
 	{
-		String methodCall = "getObject(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getObject", parameterIndex);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getObject(parameterIndex));
@@ -1086,7 +1374,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Object getObject(int i, Map<String,Class<?>> map) throws SQLException
 	{
-		String methodCall = "getObject(" + i + ", " + map + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(i, map);
+		}
+		MethodCall methodCall = new MethodCall("getObject", i, map);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getObject(i, map));
@@ -1101,7 +1393,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public String getString(String parameterName) throws SQLException
 	{
-		String methodCall = "getString(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getString(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getString", parameterName);
 		try
 		{
 			return (String) reportReturn(methodCall, realCallableStatement.getString(parameterName));
@@ -1116,7 +1412,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException
 	{
-		String methodCall = "registerOutParameter(" + parameterName + ", " + sqlType + ", " + typeName + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.registerOutParameter(parameterName, sqlType, typeName);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("registerOutParameter", parameterName, sqlType, typeName);
 		try
 		{
 			realCallableStatement.registerOutParameter(parameterName, sqlType, typeName);
@@ -1132,7 +1433,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setNull(String parameterName, int sqlType, String typeName) throws SQLException
 	{
-		String methodCall = "setNull(" + parameterName + ", " + sqlType + ", " + typeName + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNull(parameterName, sqlType, typeName);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNull", parameterName, sqlType, typeName);
 		try
 		{
 			realCallableStatement.setNull(parameterName, sqlType, typeName);
@@ -1148,7 +1454,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setString(String parameterName, String x) throws SQLException
 	{
-		String methodCall = "setString(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setString(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setString", parameterName, x);
 
 		try
 		{
@@ -1165,7 +1476,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public BigDecimal getBigDecimal(String parameterName) throws SQLException
 	{
-		String methodCall = "getBigDecimal(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBigDecimal(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getBigDecimal", parameterName);
 		try
 		{
 			return (BigDecimal) reportReturn(methodCall, realCallableStatement.getBigDecimal(parameterName));
@@ -1179,7 +1494,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
-		String methodCall = "getObject(" + parameterName + ", " + map + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(parameterName, map);
+		}
+		MethodCall methodCall = new MethodCall("getObject", parameterName, map);
 		try
 		{
 			return reportReturn(methodCall, realCallableStatement.getObject(parameterName, map));
@@ -1194,7 +1513,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException
 	{
-		String methodCall = "setBigDecimal(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBigDecimal(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBigDecimal", parameterName, x);
 		try
 		{
 			realCallableStatement.setBigDecimal(parameterName, x);
@@ -1210,7 +1534,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public URL getURL(String parameterName) throws SQLException
 	{
-		String methodCall = "getURL(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getURL(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getURL", parameterName);
 		try
 		{
 			return (URL) reportReturn(methodCall, realCallableStatement.getURL(parameterName));
@@ -1224,7 +1552,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public RowId getRowId(int parameterIndex) throws SQLException {
-		String methodCall = "getRowId(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getRowId(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getRowId", parameterIndex);
 		try
 		{
 			return (RowId) reportReturn(methodCall, realCallableStatement.getRowId(parameterIndex));
@@ -1238,7 +1570,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public RowId getRowId(String parameterName) throws SQLException {
-		String methodCall = "getRowId(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getRowId(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getRowId", parameterName);
 		try
 		{
 			return (RowId) reportReturn(methodCall, realCallableStatement.getRowId(parameterName));
@@ -1252,7 +1588,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setRowId(String parameterName, RowId x) throws SQLException {
-		String methodCall = "setRowId(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setRowId(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setRowId", parameterName, x);
 		try
 		{
 			realCallableStatement.setRowId(parameterName, x);
@@ -1267,7 +1608,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNString(String parameterName, String value) throws SQLException {
-		String methodCall = "setNString(" + parameterName + ", " + value + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNString(parameterName, value);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNString", parameterName, value);
 		try
 		{
 			realCallableStatement.setNString(parameterName, value);
@@ -1282,7 +1628,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
-		String methodCall = "setNCharacterStream(" + parameterName + ", " + reader + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNCharacterStream(parameterName, reader, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNCharacterStream", parameterName, reader, length);
 		try
 		{
 			realCallableStatement.setNCharacterStream(parameterName, reader, length);
@@ -1297,7 +1648,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNClob(String parameterName, NClob value) throws SQLException {
-		String methodCall = "setNClob(" + parameterName + ", " + value + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNClob(parameterName, value);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNClob", parameterName, value);
 		try
 		{
 			realCallableStatement.setNClob(parameterName, value);
@@ -1312,7 +1668,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setClob(String parameterName, Reader reader, long length) throws SQLException {
-		String methodCall = "setClob(" + parameterName + ", " + reader + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setClob(parameterName, reader, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setClob", parameterName, reader, length);
 		try
 		{
 			realCallableStatement.setClob(parameterName, reader, length);
@@ -1327,7 +1688,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
-		String methodCall = "setBlob(" + parameterName + ", " + inputStream + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBlob(parameterName, inputStream, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBlob", parameterName, inputStream, length);
 		try
 		{
 			realCallableStatement.setBlob(parameterName, inputStream, length);
@@ -1342,7 +1708,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
-		String methodCall = "setNClob(" + parameterName + ", " + reader + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNClob(parameterName, reader, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNClob", parameterName, reader, length);
 		try
 		{
 			realCallableStatement.setNClob(parameterName, reader, length);
@@ -1357,7 +1728,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public NClob getNClob(int parameterIndex) throws SQLException {
-		String methodCall = "getNClob(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNClob(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getNClob", parameterIndex);
 		try
 		{
 			return (NClob) reportReturn(methodCall, realCallableStatement.getNClob(parameterIndex));
@@ -1371,7 +1746,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public NClob getNClob(String parameterName) throws SQLException {
-		String methodCall = "getNClob(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNClob(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getNClob", parameterName);
 		try
 		{
 			return (NClob) reportReturn(methodCall, realCallableStatement.getNClob(parameterName));
@@ -1385,7 +1764,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
-		String methodCall = "setSQLXML(" + parameterName + ", " + xmlObject + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setSQLXML(parameterName, xmlObject);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setSQLXML", parameterName, xmlObject);
 		try
 		{
 			realCallableStatement.setSQLXML(parameterName, xmlObject);
@@ -1400,7 +1784,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public SQLXML getSQLXML(int parameterIndex) throws SQLException {
-		String methodCall = "getSQLXML(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getSQLXML(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getSQLXML", parameterIndex);
 		try
 		{
 			return (SQLXML) reportReturn(methodCall, realCallableStatement.getSQLXML(parameterIndex));
@@ -1414,7 +1802,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public SQLXML getSQLXML(String parameterName) throws SQLException {
-		String methodCall = "getSQLXML(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getSQLXML(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getSQLXML", parameterName);
 		try
 		{
 			return (SQLXML) reportReturn(methodCall, realCallableStatement.getSQLXML(parameterName));
@@ -1429,7 +1821,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public String getNString(int parameterIndex) throws SQLException {
-		String methodCall = "getNString(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNString(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getNString", parameterIndex);
 		try
 		{
 			return (String) reportReturn(methodCall, realCallableStatement.getNString(parameterIndex));
@@ -1443,7 +1839,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public String getNString(String parameterName) throws SQLException {
-		String methodCall = "getNString(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNString(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getNString", parameterName);
 		try
 		{
 			return (String) reportReturn(methodCall, realCallableStatement.getNString(parameterName));
@@ -1457,7 +1857,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public Reader getNCharacterStream(int parameterIndex) throws SQLException {
-		String methodCall = "getNCharacterStream(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNCharacterStream(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getNCharacterStream", parameterIndex);
 		try
 		{
 			return (Reader) reportReturn(methodCall, realCallableStatement.getNCharacterStream(parameterIndex));
@@ -1471,7 +1875,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public Reader getNCharacterStream(String parameterName) throws SQLException {
-		String methodCall = "getNCharacterStream(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getNCharacterStream(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getNCharacterStream", parameterName);
 		try
 		{
 			return (Reader) reportReturn(methodCall, realCallableStatement.getNCharacterStream(parameterName));
@@ -1485,7 +1893,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public Reader getCharacterStream(int parameterIndex) throws SQLException {
-		String methodCall = "getCharacterStream(" + parameterIndex + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getCharacterStream(parameterIndex);
+		}
+		MethodCall methodCall = new MethodCall("getCharacterStream", parameterIndex);
 		try
 		{
 			return (Reader) reportReturn(methodCall, realCallableStatement.getCharacterStream(parameterIndex));
@@ -1499,7 +1911,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public Reader getCharacterStream(String parameterName) throws SQLException {
-		String methodCall = "getCharacterStream(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getCharacterStream(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getCharacterStream", parameterName);
 		try
 		{
 			return (Reader) reportReturn(methodCall, realCallableStatement.getCharacterStream(parameterName));
@@ -1513,7 +1929,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setBlob(String parameterName, Blob x) throws SQLException {
-		String methodCall = "setBlob(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBlob(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBlob", parameterName, x);
 		try
 		{
 			realCallableStatement.setBlob(parameterName, x);
@@ -1528,7 +1949,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setClob(String parameterName, Clob x) throws SQLException {
-		String methodCall = "setClob(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setClob(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setClob", parameterName, x);
 		try
 		{
 			realCallableStatement.setClob(parameterName, x);
@@ -1543,7 +1969,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
-		String methodCall = "setAsciiStream(" + parameterName + ", " + x + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setAsciiStream(parameterName, x, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setAsciiStream", parameterName, x, length);
 		try
 		{
 			realCallableStatement.setAsciiStream(parameterName, x, length);
@@ -1558,7 +1989,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
-		String methodCall = "setBinaryStream(" + parameterName + ", " + x + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBinaryStream(parameterName, x, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBinaryStream", parameterName, x, length);
 		try
 		{
 			realCallableStatement.setBinaryStream(parameterName, x, length);
@@ -1573,7 +2009,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
-		String methodCall = "setCharacterStream(" + parameterName + ", " + reader + ", " + length + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setCharacterStream(parameterName, reader, length);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setCharacterStream", parameterName, reader, length);
 		try
 		{
 			realCallableStatement.setCharacterStream(parameterName, reader, length);
@@ -1588,7 +2029,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
-		String methodCall = "setAsciiStream(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setAsciiStream(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setAsciiStream", parameterName, x);
 		try
 		{
 			realCallableStatement.setAsciiStream(parameterName, x);
@@ -1603,7 +2049,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
-		String methodCall = "setBinaryStream(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBinaryStream(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBinaryStream", parameterName, x);
 		try
 		{
 			realCallableStatement.setBinaryStream(parameterName, x);
@@ -1618,7 +2069,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
-		String methodCall = "setCharacterStream(" + parameterName + ", " + reader + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setCharacterStream(parameterName, reader);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setCharacterStream", parameterName, reader);
 		try
 		{
 			realCallableStatement.setCharacterStream(parameterName, reader);
@@ -1633,7 +2089,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNCharacterStream(String parameterName, Reader reader) throws SQLException {
-		String methodCall = "setNCharacterStream(" + parameterName + ", " + reader + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNCharacterStream(parameterName, reader);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNCharacterStream", parameterName, reader);
 		try
 		{
 			realCallableStatement.setNCharacterStream(parameterName, reader);
@@ -1648,7 +2109,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setClob(String parameterName, Reader reader) throws SQLException {
-		String methodCall = "setClob(" + parameterName + ", " + reader + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setClob(parameterName, reader);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setClob", parameterName, reader);
 		try
 		{
 			realCallableStatement.setClob(parameterName, reader);
@@ -1663,7 +2129,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
-		String methodCall = "setBlob(" + parameterName + ", " + inputStream + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setBlob(parameterName, inputStream);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setBlob", parameterName, inputStream);
 		try
 		{
 			realCallableStatement.setBlob(parameterName, inputStream);
@@ -1678,7 +2149,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public void setNClob(String parameterName, Reader reader) throws SQLException {
-		String methodCall = "setNClob(" + parameterName + ", " + reader + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setNClob(parameterName, reader);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNClob", parameterName, reader);
 		try
 		{
 			realCallableStatement.setNClob(parameterName, reader);
@@ -1694,7 +2170,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setURL(String parameterName, URL val) throws SQLException
 	{
-		String methodCall = "setURL(" + parameterName + ", " + val + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setURL(parameterName, val);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setURL", parameterName, val);
 		try
 		{
 			realCallableStatement.setURL(parameterName, val);
@@ -1710,7 +2191,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Array getArray(String parameterName) throws SQLException
 	{
-		String methodCall = "getArray(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getArray(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getArray", parameterName);
 		try
 		{
 			return (Array) reportReturn(methodCall, realCallableStatement.getArray(parameterName));
@@ -1725,7 +2210,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Blob getBlob(String parameterName) throws SQLException
 	{
-		String methodCall = "getBlob(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getBlob(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getBlob", parameterName);
 		try
 		{
 			return (Blob) reportReturn(methodCall, realCallableStatement.getBlob(parameterName));
@@ -1740,7 +2229,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Clob getClob(String parameterName) throws SQLException
 	{
-		String methodCall = "getClob(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getClob(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getClob", parameterName);
 		try
 		{
 			return (Clob) reportReturn(methodCall, realCallableStatement.getClob(parameterName));
@@ -1755,7 +2248,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public Date getDate(String parameterName) throws SQLException
 	{
-		String methodCall = "getDate(" + parameterName + ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getDate(parameterName);
+		}
+		MethodCall methodCall = new MethodCall("getDate", parameterName);
 		try
 		{
 			return (Date) reportReturn(methodCall, realCallableStatement.getDate(parameterName));
@@ -1770,7 +2267,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public void setDate(String parameterName, Date x) throws SQLException
 	{
-		String methodCall = "setDate(" + parameterName + ", " + x + ")";
+		if (!isInstrumented())
+		{
+			realCallableStatement.setDate(parameterName, x);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setDate", parameterName, x);
 		try
 		{
 			realCallableStatement.setDate(parameterName, x);
@@ -1785,7 +2287,14 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 
 	@Override
 	public <T> T unwrap(Class<T> iface) throws SQLException {
-		String methodCall = "unwrap(" + (iface==null?"null":iface.getName()) + ")";
+		if (!isInstrumented())
+		{
+			return (iface != null && (iface == CallableStatement.class||iface==PreparedStatement.class||
+					iface==Statement.class||iface==Spy.class))?
+							iface.cast(this):
+								realCallableStatement.unwrap(iface);
+		}
+		MethodCall methodCall = new MethodCall("unwrap", iface);
 		try
 		{
 			//todo: double check this logic
@@ -1807,7 +2316,12 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public boolean isWrapperFor(Class<?> iface) throws SQLException
 	{
-		String methodCall = "isWrapperFor(" + (iface==null?"null":iface.getName()) + ")";
+		if (!isInstrumented())
+		{
+			return (iface != null && (iface == CallableStatement.class||iface==PreparedStatement.class||iface==Statement.class||iface==Spy.class)) ||
+					realCallableStatement.isWrapperFor(iface);
+		}
+		MethodCall methodCall = new MethodCall("isWrapperFor", iface);
 		try
 		{
 			//NOTE: could call super.isWrapperFor to simplify this logic, but it would result in extra log output
@@ -1827,7 +2341,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException
 	{
-		String methodCall = "getObject(" + parameterIndex + "," + type+ ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(parameterIndex,type);
+		}
+		MethodCall methodCall = new MethodCall("getObject", parameterIndex, type);
 		try
 		{
 			return (T) reportReturn(methodCall, realCallableStatement.getObject(parameterIndex,type));
@@ -1843,7 +2361,11 @@ public class CallableStatementSpy extends PreparedStatementSpy implements Callab
 	@Override
 	public <T> T getObject(String parameterName, Class<T> type) throws SQLException
 	{
-		String methodCall = "getObject(" + parameterName + "," + type+ ")";
+		if (!isInstrumented())
+		{
+			return realCallableStatement.getObject(parameterName,type);
+		}
+		MethodCall methodCall = new MethodCall("getObject", parameterName, type);
 		try
 		{
 			return (T) reportReturn(methodCall, realCallableStatement.getObject(parameterName,type));
@@ -0,0 +1,188 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.log4jdbc.Properties;
+import net.sf.log4jdbc.log.CallerLocation;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+
+/**
+ * Detect connections open for longer than a threshold, reported to
+ * {@link SpyLogDelegator#connectionLeaked(net.sf.log4jdbc.sql.Spy, long, String, String)}
+ * with the last SQL executed and, for sampled connections, the stack trace of the opening.
+ * <p>
+ * When leak detection is enabled (see {@link #getInstance()}), each {@link ConnectionSpy}
+ * gets an {@link OpenConnection} record at creation. The only costs on the hot path are
+ * then a call to {@code System.nanoTime()} at opening, capturing a stack trace
+ * for 1 connection out of {@code sampleRate}, and a volatile write of the SQL
+ * at each execution. Open connections are not stored here: a background thread
+ * periodically walks the open connections of the {@link ConnectionTracker},
+ * from the oldest to the youngest, and reports once each connection
+ * open for longer than the threshold.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class ConnectionLeakDetector {
+    /**
+     * The {@code ConnectionLeakDetector} configured from the log4jdbc properties,
+     * created at first use.
+     */
+    private static class InstanceHolder {
+        private static final ConnectionLeakDetector INSTANCE = new ConnectionLeakDetector(
+                TimeUnit.MILLISECONDS.toNanos(Properties.getLeakDetectionThresholdMsec()),
+                Properties.getLeakDetectionSampleRate());
+        static {
+            INSTANCE.start(Properties.getLeakDetectionIntervalMsec());
+        }
+    }
+
+    /**
+     * @return  The {@code ConnectionLeakDetector} configured from the properties
+     *          <code>log4jdbc.leak.detection.threshold</code>,
+     *          <code>log4jdbc.leak.detection.sample.rate</code>, and
+     *          <code>log4jdbc.leak.detection.interval</code>. Its background thread
+     *          is started at the first call to this method.
+     */
+    public static ConnectionLeakDetector getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Information about an open connection, recorded for leak detection.
+     */
+    static final class OpenConnection {
+        /**
+         * The {@code SpyLogDelegator} the leak should be reported to.
+         */
+        final SpyLogDelegator log;
+        /**
+         * A {@code long} that is the value of {@code System.nanoTime()} at opening.
+         */
+        final long openTime;
+        /**
+         * The stack trace of the opening, {@code null} if the connection was not sampled.
+         */
+        final StackTraceElement[] openingSite;
+        /**
+         * A {@code String} that is the last SQL executed, {@code null} if none.
+         */
+        volatile String lastSql;
+        /**
+         * A {@code boolean} that is {@code true} if the leak was already reported.
+         */
+        volatile boolean reported;
+
+        private OpenConnection(SpyLogDelegator log, long openTime, StackTraceElement[] openingSite) {
+            this.log = log;
+            this.openTime = openTime;
+            this.openingSite = openingSite;
+        }
+    }
+
+    /**
+     * A {@code long} that is the time in nanoseconds after which an open connection
+     * is reported.
+     */
+    private final long thresholdNanos;
+    /**
+     * An {@code int} defining the sampling of the stack traces of openings:
+     * 1 out of {@code sampleRate} is captured.
+     */
+    private final int sampleRate;
+    /**
+     * The {@code ScheduledExecutorService} running {@link #scan()}, {@code null} if not started.
+     */
+    private ScheduledExecutorService scanner;
+
+    /**
+     * Constructor providing the threshold and sampling. Scans are not started,
+     * see {@link #start(long)}.
+     *
+     * @param thresholdNanos    A {@code long} that is the time in nanoseconds after which
+     *                          an open connection is reported.
+     * @param sampleRate        An {@code int} defining the sampling of the stack traces
+     *                          of openings: 1 out of {@code sampleRate} is captured,
+     *                          0 or less to capture none.
+     */
+    ConnectionLeakDetector(long thresholdNanos, int sampleRate) {
+        this.thresholdNanos = thresholdNanos;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Start scanning open connections in a daemon thread.
+     *
+     * @param intervalMsec  A {@code long} that is the interval between scans in milliseconds.
+     */
+    synchronized void start(long intervalMsec) {
+        if (this.scanner != null) {
+            return;
+        }
+        this.scanner = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "log4jdbc-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long interval = Math.max(intervalMsec, 1L);
+        this.scanner.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scan();
+                } catch (RuntimeException e) {
+                    //never stop scanning because of a faulty SpyLogDelegator
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Record the opening of a connection, called by the {@code ConnectionSpy} constructor.
+     *
+     * @param log   The {@code SpyLogDelegator} used by the {@code ConnectionSpy}.
+     * @return      The {@code OpenConnection} to be stored by the {@code ConnectionSpy}.
+     */
+    OpenConnection opened(SpyLogDelegator log) {
+        StackTraceElement[] openingSite = null;
+        if (this.sampleRate > 0 &&
+                (this.sampleRate == 1 || ThreadLocalRandom.current().nextInt(this.sampleRate) == 0)) {
+            openingSite = new Throwable().getStackTrace();
+        }
+        return new OpenConnection(log, System.nanoTime(), openingSite);
+    }
+
+    /**
+     * Report the open connections of the {@code ConnectionTracker} open for longer
+     * than the threshold, and not yet reported.
+     */
+    void scan() {
+        long now = System.nanoTime();
+        for (ConnectionSpy connectionSpy : ConnectionTracker.getOpenConnections()) {
+            OpenConnection openConnection = connectionSpy.getOpenConnection();
+            if (openConnection == null) {
+                //connection not monitored by this detector
+                continue;
+            }
+            long openTime = now - openConnection.openTime;
+            if (openTime < this.thresholdNanos) {
+                //connections are iterated by connection number, in opening order,
+                //following connections are younger
+                break;
+            }
+            if (!openConnection.reported) {
+                openConnection.reported = true;
+                openConnection.log.connectionLeaked(connectionSpy, openTime,
+                        openConnection.lastSql, openConnection.openingSite == null ? null :
+                            CallerLocation.dumpStackTrace(openConnection.openingSite));
+            }
+        }
+    }
+}
@@ -31,14 +31,12 @@ import java.sql.Struct;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLXML;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
 import java.util.concurrent.Executor;
 
 import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
 import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
 
@@ -66,6 +64,34 @@ import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
  */
 public class ConnectionSpy implements Connection, Spy
 {
+  /**
+   * Descriptions of the JDBC methods without arguments (and of the creation
+   * of this spy), shared to avoid any allocation on each call.
+   */
+  private static final MethodCall CLEAR_WARNINGS = new MethodCall("clearWarnings");
+  private static final MethodCall CLOSE = new MethodCall("close");
+  private static final MethodCall COMMIT = new MethodCall("commit");
+  private static final MethodCall CREATE_BLOB = new MethodCall("createBlob");
+  private static final MethodCall CREATE_CLOB = new MethodCall("createClob");
+  private static final MethodCall CREATE_NCLOB = new MethodCall("createNClob");
+  private static final MethodCall CREATE_SQLXML = new MethodCall("createSQLXML");
+  private static final MethodCall CREATE_STATEMENT = new MethodCall("createStatement");
+  private static final MethodCall GET_AUTO_COMMIT = new MethodCall("getAutoCommit");
+  private static final MethodCall GET_CATALOG = new MethodCall("getCatalog");
+  private static final MethodCall GET_CLIENT_INFO = new MethodCall("getClientInfo");
+  private static final MethodCall GET_HOLDABILITY = new MethodCall("getHoldability");
+  private static final MethodCall GET_META_DATA = new MethodCall("getMetaData");
+  private static final MethodCall GET_NETWORK_TIMEOUT = new MethodCall("getNetworkTimeout");
+  private static final MethodCall GET_SCHEMA = new MethodCall("getSchema");
+  private static final MethodCall GET_TRANSACTION_ISOLATION = new MethodCall("getTransactionIsolation");
+  private static final MethodCall GET_TYPE_MAP = new MethodCall("getTypeMap");
+  private static final MethodCall GET_WARNINGS = new MethodCall("getWarnings");
+  private static final MethodCall IS_CLOSED = new MethodCall("isClosed");
+  private static final MethodCall IS_READ_ONLY = new MethodCall("isReadOnly");
+  private static final MethodCall NEW_CONNECTION = MethodCall.fromDescription("new Connection");
+  private static final MethodCall ROLLBACK = new MethodCall("rollback");
+  private static final MethodCall SET_SAVEPOINT = new MethodCall("setSavepoint");
+
   private Connection realConnection;
 
   /**
@@ -80,51 +106,42 @@ public class ConnectionSpy implements Connection, Spy
 
   private SpyLogDelegator log;
 
+  /**
+   * Whether returns of methods of this <code>Connection</code> are logged, 
+   * obtained from {@link SpyLogDelegator#isAuditLoggingEnabled()} at creation 
+   * and when the mode of the <code>Instrumentation</code> changes.
+   */
+  private boolean auditLoggingEnabled;
+
+  /**
+   * The mode of the <code>Instrumentation</code> when the logging flags were last read.
+   */
+  private int instrumentationMode;
+
   private final Integer connectionNumber;
-  private static int lastConnectionNumber = 0;
 
   /**
-   * Contains a Mapping of connectionNumber to currently open ConnectionSpy
-   * objects.
+   * Time in nanoseconds taken by the <code>DriverSpy</code> to find the driver 
+   * of the real connection, -1 if unknown.
+   */
+  private final long driverResolutionTime;
+
+  /**
+   * Information recorded by the {@link ConnectionLeakDetector}, 
+   * <code>null</code> if leak detection is disabled.
    */
-  private static final Map<Integer, ConnectionSpy> connectionTracker = 
-		  new HashMap<Integer, ConnectionSpy>();
+  private final ConnectionLeakDetector.OpenConnection openConnection;
 
   /**
    * Get a dump of how many connections are open, and which connection numbers
    * are open.
    *
    * @return an open connection dump.
+   * @see ConnectionTracker#getOpenConnectionsDump()
    */
   public static String getOpenConnectionsDump()
   {
-    StringBuilder dump = new StringBuilder();
-    int size;
-    Integer[] keysArr;
-    synchronized (connectionTracker)
-    {
-      size = connectionTracker.size();
-      if (size==0)
-      {
-        return "open connections:  none";
-      }
-      Set<Integer> keys = connectionTracker.keySet();
-      keysArr = keys.toArray(new Integer[keys.size()]);
-    }
-
-    Arrays.sort(keysArr);
-
-    dump.append("open connections:  ");
-    for (int i=0; i < keysArr.length; i++)
-    {
-      dump.append(keysArr[i]);
-      dump.append(" ");
-    }
-
-    dump.append("(");
-    dump.append(size);
-    dump.append(")");
-    return dump.toString();
+    return ConnectionTracker.getOpenConnectionsDump();
   }
 
   /**
@@ -144,7 +161,7 @@ public class ConnectionSpy implements Connection, Spy
    * Create a new ConnectionSpy that wraps a given Connection.
    *
    * @param realConnection &quot;real&quot; Connection that this ConnectionSpy wraps.
-   * @param execTime 	a <code>long</code> defining the time in ms 
+   * @param execTime 	a <code>long</code> defining the time in nanoseconds 
    * 					taken to open the connection to <code>realConnection</code>. 
    * @param logDelegator 	The <code>SpyLogDelegator</code> used by 
    * 						this <code>ConnectionSpy</code> and all resources obtained from it 
@@ -175,7 +192,7 @@ public class ConnectionSpy implements Connection, Spy
    *
    * @param realConnection &quot;real&quot; Connection that this ConnectionSpy wraps.
    * @param rdbmsSpecifics the RdbmsSpecifics object for formatting logging appropriate for the Rdbms used.
-   * @param execTime 	a <code>long</code> defining the time in ms 
+   * @param execTime 	a <code>long</code> defining the time in nanoseconds 
    * 					taken to open the connection to <code>realConnection</code>. 
    * 					Should be equals to -1 if not used. 
    * @param logDelegator 	The <code>SpyLogDelegator</code> used by 
@@ -185,6 +202,28 @@ public class ConnectionSpy implements Connection, Spy
   public ConnectionSpy(Connection realConnection, RdbmsSpecifics rdbmsSpecifics, 
 		  long execTime, SpyLogDelegator logDelegator)
   {
+    this(realConnection, rdbmsSpecifics, -1L, execTime, logDelegator);
+  }
+
+  /**
+   * Create a new ConnectionSpy that wraps a given Connection.
+   *
+   * @param realConnection &quot;real&quot; Connection that this ConnectionSpy wraps.
+   * @param rdbmsSpecifics the RdbmsSpecifics object for formatting logging appropriate for the Rdbms used.
+   * @param driverResolutionTime 	a <code>long</code> defining the time in nanoseconds 
+   * 					taken to find the driver accepting the URL of <code>realConnection</code>, 
+   * 					not included in <code>execTime</code>. Should be equals to -1 if not used. 
+   * @param execTime 	a <code>long</code> defining the time in nanoseconds 
+   * 					taken to open the connection to <code>realConnection</code>. 
+   * 					Should be equals to -1 if not used. 
+   * @param logDelegator 	The <code>SpyLogDelegator</code> used by 
+   * 						this <code>ConnectionSpy</code> and all resources obtained from it 
+   * 						(<code>StatementSpy</code>s, ...)
+   */
+  ConnectionSpy(Connection realConnection, RdbmsSpecifics rdbmsSpecifics, 
+		  long driverResolutionTime, long execTime, SpyLogDelegator logDelegator)
+  {
+    this.driverResolutionTime = driverResolutionTime;
     if (rdbmsSpecifics == null)
     {
       rdbmsSpecifics = DriverSpy.defaultRdbmsSpecifics;
@@ -196,14 +235,40 @@ public class ConnectionSpy implements Connection, Spy
     }
     this.realConnection = realConnection;
     log = logDelegator;
+    auditLoggingEnabled = log.isAuditLoggingEnabled();
+    ConnectionLeakDetector leakDetector = log.getConnectionLeakDetector();
+    openConnection = (leakDetector == null ? null : leakDetector.opened(log));
 
-    synchronized (connectionTracker)
+    connectionNumber = ConnectionTracker.register(this);
+    instrumentationMode = Instrumentation.getMode();
+    if (Instrumentation.isEnabled(instrumentationMode))
     {
-      connectionNumber = new Integer(++lastConnectionNumber);
-      connectionTracker.put(connectionNumber, this);
+      log.connectionOpened(this, execTime);
+      reportReturn(NEW_CONNECTION);
     }
-    log.connectionOpened(this, execTime);
-    reportReturn("new Connection");
+  }
+
+  /**
+   * Check whether calls made on this spy are reported, reading the mode 
+   * of the <code>Instrumentation</code> once. If it was turned on again since the last 
+   * call, the logging flags are read again from the <code>SpyLogDelegator</code>.
+   *
+   * @return <code>true</code> if the call must be reported, <code>false</code> if it must be 
+   *         forwarded straight to the real connection.
+   */
+  private boolean isInstrumented()
+  {
+    int mode = Instrumentation.getMode();
+    if (!Instrumentation.isEnabled(mode))
+    {
+      return false;
+    }
+    if (mode != instrumentationMode)
+    {
+      instrumentationMode = mode;
+      auditLoggingEnabled = log.isAuditLoggingEnabled();
+    }
+    return true;
   }
 
   private RdbmsSpecifics rdbmsSpecifics;
@@ -228,57 +293,102 @@ public class ConnectionSpy implements Connection, Spy
     return rdbmsSpecifics;
   }
 
+  /**
+   * @return the information recorded by the {@link ConnectionLeakDetector}, 
+   *         <code>null</code> if leak detection is disabled.
+   */
+  ConnectionLeakDetector.OpenConnection getOpenConnection()
+  {
+    return openConnection;
+  }
+
+  /**
+   * Record the last SQL executed on this connection, for leak detection.
+   *
+   * @param sql the SQL executed.
+   */
+  void setLastSql(String sql)
+  {
+    if (openConnection != null)
+    {
+      openConnection.lastSql = sql;
+    }
+  }
+
   public Integer getConnectionNumber()
   {
     return connectionNumber;
   }
 
+  /**
+   * @return the time in nanoseconds taken by the <code>DriverSpy</code> to find 
+   *         the driver accepting the URL of the real connection, not included in 
+   *         the time to open the connection, -1 if unknown (for instance, if the 
+   *         connection was not obtained from the <code>DriverSpy</code>).
+   */
+  public long getDriverResolutionTime()
+  {
+    return driverResolutionTime;
+  }
+
   public String getClassType()
   {
     return "Connection";
   }
 
-  protected void reportException(String methodCall, SQLException exception, String sql)
+  protected void reportException(MethodCall methodCall, SQLException exception, String sql)
   {
     log.exceptionOccured(this, methodCall, exception, sql, -1L);
   }
 
-  protected void reportException(String methodCall, SQLException exception)
+  protected void reportException(MethodCall methodCall, SQLException exception)
   {
-    log.exceptionOccured(this, methodCall, exception, null, -1L);
+    log.exceptionOccured(this, methodCall, exception, (String) null, -1L);
   }
 
-  protected void reportException(String methodCall, SQLException exception, long execTime)
+  protected void reportException(MethodCall methodCall, SQLException exception, long execTime)
   {
-    log.exceptionOccured(this, methodCall, exception, null, execTime);
+    log.exceptionOccured(this, methodCall, exception, (String) null, execTime);
   }
 
-  protected void reportAllReturns(String methodCall, String returnValue)
+  protected void reportAllReturns(MethodCall methodCall, String returnValue)
   {
     log.methodReturned(this, methodCall, returnValue);
   }
 
-  private boolean reportReturn(String methodCall, boolean value)
+  private boolean reportReturn(MethodCall methodCall, boolean value)
   {
-    reportAllReturns(methodCall, "" + value);
+    if (auditLoggingEnabled)
+    {
+      reportAllReturns(methodCall, "" + value);
+    }
     return value;
   }
 
-  private int reportReturn(String methodCall, int value)
+  private int reportReturn(MethodCall methodCall, int value)
   {
-    reportAllReturns(methodCall, "" + value);
+    if (auditLoggingEnabled)
+    {
+      reportAllReturns(methodCall, "" + value);
+    }
     return value;
   }
 
-  private <T> T reportReturn(String methodCall, T value)
+  private <T> T reportReturn(MethodCall methodCall, T value)
   {
-    reportAllReturns(methodCall, "" + value);
+    if (auditLoggingEnabled)
+    {
+      reportAllReturns(methodCall, "" + value);
+    }
     return value;
   }
 
-  private void reportReturn(String methodCall)
+  private void reportReturn(MethodCall methodCall)
   {
-    reportAllReturns(methodCall, "");
+    if (auditLoggingEnabled)
+    {
+      reportAllReturns(methodCall, "");
+    }
   }
   
   private void reportClosed(long execTime)
@@ -296,7 +406,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public boolean isClosed() throws SQLException
   {
-    String methodCall = "isClosed()";
+    if (!isInstrumented())
+    {
+      return realConnection.isClosed();
+    }
+    MethodCall methodCall = IS_CLOSED;
     try
     {
       return reportReturn(methodCall, (realConnection.isClosed()));
@@ -311,7 +425,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public SQLWarning getWarnings() throws SQLException
   {
-    String methodCall = "getWarnings()";
+    if (!isInstrumented())
+    {
+      return realConnection.getWarnings();
+    }
+    MethodCall methodCall = GET_WARNINGS;
     try
     {
       return reportReturn(methodCall, realConnection.getWarnings());
@@ -326,7 +444,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Savepoint setSavepoint() throws SQLException
   {
-    String methodCall = "setSavepoint()";
+    if (!isInstrumented())
+    {
+      return realConnection.setSavepoint();
+    }
+    MethodCall methodCall = SET_SAVEPOINT;
     try
     {
       return reportReturn(methodCall, realConnection.setSavepoint());
@@ -341,7 +463,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void releaseSavepoint(Savepoint savepoint) throws SQLException
   {
-    String methodCall = "releaseSavepoint(" + savepoint + ")";
+    if (!isInstrumented())
+    {
+      realConnection.releaseSavepoint(savepoint);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("releaseSavepoint", savepoint);
     try
     {
       realConnection.releaseSavepoint(savepoint);
@@ -357,7 +484,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void rollback(Savepoint savepoint) throws SQLException
   {
-    String methodCall = "rollback(" + savepoint + ")";
+    if (!isInstrumented())
+    {
+      realConnection.rollback(savepoint);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("rollback", savepoint);
     try
     {
       realConnection.rollback(savepoint);
@@ -373,7 +505,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public DatabaseMetaData getMetaData() throws SQLException
   {
-    String methodCall = "getMetaData()";
+    if (!isInstrumented())
+    {
+      return realConnection.getMetaData();
+    }
+    MethodCall methodCall = GET_META_DATA;
     try
     {
       return reportReturn(methodCall, realConnection.getMetaData());
@@ -388,7 +524,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void clearWarnings() throws SQLException
   {
-    String methodCall = "clearWarnings()";
+    if (!isInstrumented())
+    {
+      realConnection.clearWarnings();
+      return;
+    }
+    MethodCall methodCall = CLEAR_WARNINGS;
     try
     {
       realConnection.clearWarnings();
@@ -404,7 +545,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Statement createStatement() throws SQLException
   {
-    String methodCall = "createStatement()";
+    if (!isInstrumented())
+    {
+      return realConnection.createStatement();
+    }
+    MethodCall methodCall = CREATE_STATEMENT;
     try
     {
       Statement statement = realConnection.createStatement();
@@ -420,7 +565,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException
   {
-    String methodCall = "createStatement(" + resultSetType + ", " + resultSetConcurrency + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.createStatement(resultSetType, resultSetConcurrency);
+    }
+    MethodCall methodCall = new MethodCall("createStatement", resultSetType, resultSetConcurrency);
     try
     {
       Statement statement = realConnection.createStatement(resultSetType, resultSetConcurrency);
@@ -436,7 +585,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException
   {
-    String methodCall = "createStatement(" + resultSetType + ", " + resultSetConcurrency + ", " + resultSetHoldability + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.createStatement(resultSetType, resultSetConcurrency,
+        resultSetHoldability);
+    }
+    MethodCall methodCall = new MethodCall("createStatement", resultSetType, resultSetConcurrency, resultSetHoldability);
     try
     {
       Statement statement = realConnection.createStatement(resultSetType, resultSetConcurrency,
@@ -453,7 +607,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setReadOnly(boolean readOnly) throws SQLException
   {
-    String methodCall = "setReadOnly(" + readOnly + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setReadOnly(readOnly);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setReadOnly", readOnly);
     try
     {
       realConnection.setReadOnly(readOnly);
@@ -469,7 +628,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public PreparedStatement prepareStatement(String sql) throws SQLException
   {
-    String methodCall = "prepareStatement(" + sql + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql);
+    }
+    MethodCall methodCall = new MethodCall("prepareStatement", sql);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql);
@@ -485,7 +648,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException
   {
-    String methodCall = "prepareStatement(" + sql + ", " + autoGeneratedKeys + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql, autoGeneratedKeys);
+    }
+    MethodCall methodCall = new MethodCall("prepareStatement", sql, autoGeneratedKeys);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql, autoGeneratedKeys);
@@ -501,7 +668,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException
   {
-    String methodCall = "prepareStatement(" + sql + ", " + resultSetType + ", " + resultSetConcurrency + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+    }
+    MethodCall methodCall = new MethodCall("prepareStatement", sql, resultSetType, resultSetConcurrency);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql, resultSetType, resultSetConcurrency);
@@ -518,7 +689,12 @@ public class ConnectionSpy implements Connection, Spy
   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
                                             int resultSetHoldability) throws SQLException
   {
-    String methodCall = "prepareStatement(" + sql + ", " + resultSetType + ", " + resultSetConcurrency + ", " + resultSetHoldability + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql, resultSetType, resultSetConcurrency,
+        resultSetHoldability);
+    }
+    MethodCall methodCall = new MethodCall("prepareStatement", sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql, resultSetType, resultSetConcurrency,
@@ -535,8 +711,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public PreparedStatement prepareStatement(String sql, int columnIndexes[]) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql, columnIndexes);
+    }
     //todo: dump the array here?
-    String methodCall = "prepareStatement(" + sql + ", " + columnIndexes + ")";
+    MethodCall methodCall = new MethodCall("prepareStatement", sql, columnIndexes);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql, columnIndexes);
@@ -552,7 +732,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Savepoint setSavepoint(String name) throws SQLException
   {
-    String methodCall = "setSavepoint(" + name + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.setSavepoint(name);
+    }
+    MethodCall methodCall = new MethodCall("setSavepoint", name);
     try
     {
       return reportReturn(methodCall, realConnection.setSavepoint(name));
@@ -567,8 +751,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public PreparedStatement prepareStatement(String sql, String columnNames[]) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      return realConnection.prepareStatement(sql, columnNames);
+    }
     //todo: dump the array here?
-    String methodCall = "prepareStatement(" + sql + ", " + columnNames + ")";
+    MethodCall methodCall = new MethodCall("prepareStatement", sql, columnNames);
     try
     {
       PreparedStatement statement = realConnection.prepareStatement(sql, columnNames);
@@ -583,7 +771,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public Clob createClob() throws SQLException {
-    String methodCall = "createClob()";
+    if (!isInstrumented())
+    {
+      return realConnection.createClob();
+    }
+    MethodCall methodCall = CREATE_CLOB;
     try
     {
       return reportReturn(methodCall, realConnection.createClob());
@@ -597,7 +789,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public Blob createBlob() throws SQLException {
-    String methodCall = "createBlob()";
+    if (!isInstrumented())
+    {
+      return realConnection.createBlob();
+    }
+    MethodCall methodCall = CREATE_BLOB;
     try
     {
       return reportReturn(methodCall, realConnection.createBlob());
@@ -611,7 +807,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public NClob createNClob() throws SQLException {
-    String methodCall = "createNClob()";
+    if (!isInstrumented())
+    {
+      return realConnection.createNClob();
+    }
+    MethodCall methodCall = CREATE_NCLOB;
     try
     {
       return reportReturn(methodCall, realConnection.createNClob());
@@ -625,7 +825,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public SQLXML createSQLXML() throws SQLException {
-    String methodCall = "createSQLXML()";
+    if (!isInstrumented())
+    {
+      return realConnection.createSQLXML();
+    }
+    MethodCall methodCall = CREATE_SQLXML;
     try
     {
       return reportReturn(methodCall, realConnection.createSQLXML());
@@ -639,7 +843,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public boolean isValid(int timeout) throws SQLException {
-    String methodCall = "isValid(" + timeout + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.isValid(timeout);
+    }
+    MethodCall methodCall = new MethodCall("isValid", timeout);
     try
     {
       return reportReturn(methodCall,realConnection.isValid(timeout));
@@ -653,7 +861,12 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public void setClientInfo(String name, String value) throws SQLClientInfoException {
-    String methodCall = "setClientInfo(" + name + ", " + value + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setClientInfo(name,value);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setClientInfo", name, value);
     try
     {
       realConnection.setClientInfo(name,value);
@@ -668,8 +881,13 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public void setClientInfo(Properties properties) throws SQLClientInfoException {
+    if (!isInstrumented())
+    {
+      realConnection.setClientInfo(properties);
+      return;
+    }
     // todo: dump properties?
-    String methodCall = "setClientInfo(" + properties + ")";
+    MethodCall methodCall = new MethodCall("setClientInfo", properties);
     try
     {
       realConnection.setClientInfo(properties);
@@ -684,7 +902,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public String getClientInfo(String name) throws SQLException {
-    String methodCall = "getClientInfo(" + name + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.getClientInfo(name);
+    }
+    MethodCall methodCall = new MethodCall("getClientInfo", name);
     try
     {
       return reportReturn(methodCall,realConnection.getClientInfo(name));
@@ -698,7 +920,11 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public Properties getClientInfo() throws SQLException {
-    String methodCall = "getClientInfo()";
+    if (!isInstrumented())
+    {
+      return realConnection.getClientInfo();
+    }
+    MethodCall methodCall = GET_CLIENT_INFO;
     try
     {
       return reportReturn(methodCall,realConnection.getClientInfo());
@@ -712,8 +938,12 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+    if (!isInstrumented())
+    {
+      return realConnection.createArrayOf(typeName,elements);
+    }
     //todo: dump elements?
-    String methodCall = "createArrayOf(" + typeName + ", " + elements +")";
+    MethodCall methodCall = new MethodCall("createArrayOf", typeName, elements);
     try
     {
       return reportReturn(methodCall,realConnection.createArrayOf(typeName,elements));
@@ -727,8 +957,12 @@ public class ConnectionSpy implements Connection, Spy
 
   @Override
   public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+    if (!isInstrumented())
+    {
+      return realConnection.createStruct(typeName, attributes);
+    }
     //todo: dump attributes?
-    String methodCall = "createStruct(" + typeName + ", " + attributes +")";
+    MethodCall methodCall = new MethodCall("createStruct", typeName, attributes);
     try
     {
       return reportReturn(methodCall,realConnection.createStruct(typeName, attributes));
@@ -743,7 +977,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public boolean isReadOnly() throws SQLException
   {
-    String methodCall = "isReadOnly()";
+    if (!isInstrumented())
+    {
+      return realConnection.isReadOnly();
+    }
+    MethodCall methodCall = IS_READ_ONLY;
     try
     {
       return reportReturn(methodCall,realConnection.isReadOnly());
@@ -758,7 +996,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setHoldability(int holdability) throws SQLException
   {
-    String methodCall = "setHoldability(" + holdability + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setHoldability(holdability);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setHoldability", holdability);
     try
     {
       realConnection.setHoldability(holdability);
@@ -774,7 +1017,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public CallableStatement prepareCall(String sql) throws SQLException
   {
-    String methodCall = "prepareCall(" + sql + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareCall(sql);
+    }
+    MethodCall methodCall = new MethodCall("prepareCall", sql);
     try
     {
       CallableStatement statement = realConnection.prepareCall(sql);
@@ -790,7 +1037,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException
   {
-    String methodCall = "prepareCall(" + sql + ", " + resultSetType + ", " + resultSetConcurrency + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+    MethodCall methodCall = new MethodCall("prepareCall", sql, resultSetType, resultSetConcurrency);
     try
     {
       CallableStatement statement = realConnection.prepareCall(sql, resultSetType, resultSetConcurrency);
@@ -807,7 +1058,12 @@ public class ConnectionSpy implements Connection, Spy
   public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
                                        int resultSetHoldability) throws SQLException
   {
-    String methodCall = "prepareCall(" + sql + ", " + resultSetType + ", " + resultSetConcurrency + ", " + resultSetHoldability + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.prepareCall(sql, resultSetType, resultSetConcurrency,
+        resultSetHoldability);
+    }
+    MethodCall methodCall = new MethodCall("prepareCall", sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     try
     {
       CallableStatement statement = realConnection.prepareCall(sql, resultSetType, resultSetConcurrency,
@@ -824,7 +1080,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setCatalog(String catalog) throws SQLException
   {
-    String methodCall = "setCatalog(" + catalog + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setCatalog(catalog);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setCatalog", catalog);
     try
     {
       realConnection.setCatalog(catalog);
@@ -840,7 +1101,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public String nativeSQL(String sql) throws SQLException
   {
-    String methodCall = "nativeSQL(" + sql + ")";
+    if (!isInstrumented())
+    {
+      return realConnection.nativeSQL(sql);
+    }
+    MethodCall methodCall = new MethodCall("nativeSQL", sql);
     try
     {
       return reportReturn(methodCall, realConnection.nativeSQL(sql));
@@ -855,7 +1120,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public Map<String,Class<?>> getTypeMap() throws SQLException
   {
-    String methodCall = "getTypeMap()";
+    if (!isInstrumented())
+    {
+      return realConnection.getTypeMap();
+    }
+    MethodCall methodCall = GET_TYPE_MAP;
     try
     {
       return reportReturn(methodCall, realConnection.getTypeMap());
@@ -870,7 +1139,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setAutoCommit(boolean autoCommit) throws SQLException
   {
-    String methodCall = "setAutoCommit(" + autoCommit + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setAutoCommit(autoCommit);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setAutoCommit", autoCommit);
     try
     {
       realConnection.setAutoCommit(autoCommit);
@@ -886,7 +1160,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public String getCatalog() throws SQLException
   {
-    String methodCall = "getCatalog()";
+    if (!isInstrumented())
+    {
+      return realConnection.getCatalog();
+    }
+    MethodCall methodCall = GET_CATALOG;
     try
     {
       return reportReturn(methodCall, realConnection.getCatalog());
@@ -901,8 +1179,13 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setTypeMap(java.util.Map<String,Class<?>> map) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      realConnection.setTypeMap(map);
+      return;
+    }
     //todo: dump map??
-    String methodCall = "setTypeMap(" + map + ")";
+    MethodCall methodCall = new MethodCall("setTypeMap", map);
     try
     {
       realConnection.setTypeMap(map);
@@ -918,7 +1201,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void setTransactionIsolation(int level) throws SQLException
   {
-    String methodCall = "setTransactionIsolation(" + level + ")";
+    if (!isInstrumented())
+    {
+      realConnection.setTransactionIsolation(level);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setTransactionIsolation", level);
     try
     {
       realConnection.setTransactionIsolation(level);
@@ -934,7 +1222,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public boolean getAutoCommit() throws SQLException
   {
-    String methodCall = "getAutoCommit()";
+    if (!isInstrumented())
+    {
+      return realConnection.getAutoCommit();
+    }
+    MethodCall methodCall = GET_AUTO_COMMIT;
     try
     {
       return reportReturn(methodCall, realConnection.getAutoCommit());
@@ -949,7 +1241,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public int getHoldability() throws SQLException
   {
-    String methodCall = "getHoldability()";
+    if (!isInstrumented())
+    {
+      return realConnection.getHoldability();
+    }
+    MethodCall methodCall = GET_HOLDABILITY;
     try
     {
       return reportReturn(methodCall, realConnection.getHoldability());
@@ -964,7 +1260,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public int getTransactionIsolation() throws SQLException
   {
-    String methodCall = "getTransactionIsolation()";
+    if (!isInstrumented())
+    {
+      return realConnection.getTransactionIsolation();
+    }
+    MethodCall methodCall = GET_TRANSACTION_ISOLATION;
     try
     {
       return reportReturn(methodCall, realConnection.getTransactionIsolation());
@@ -979,7 +1279,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void commit() throws SQLException
   {
-    String methodCall = "commit()";
+    if (!isInstrumented())
+    {
+      realConnection.commit();
+      return;
+    }
+    MethodCall methodCall = COMMIT;
     try
     {
       realConnection.commit();
@@ -995,7 +1300,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void rollback() throws SQLException
   {
-    String methodCall = "rollback()";
+    if (!isInstrumented())
+    {
+      realConnection.rollback();
+      return;
+    }
+    MethodCall methodCall = ROLLBACK;
     try
     {
       realConnection.rollback();
@@ -1011,31 +1321,44 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public void close() throws SQLException
   {
-    String methodCall = "close()";
-    long tstart = System.currentTimeMillis();
+    if (!isInstrumented())
+    {
+      try
+      {
+        realConnection.close();
+      }
+      finally
+      {
+        ConnectionTracker.unregister(connectionNumber);
+      }
+      return;
+    }
+    MethodCall methodCall = CLOSE;
+    long tstart = System.nanoTime();
     try
     {
       realConnection.close();
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s, System.currentTimeMillis() - tstart);
+      reportException(methodCall, s, System.nanoTime() - tstart);
       throw s;
     }
     finally
     {
-      synchronized (connectionTracker)
-      {
-        connectionTracker.remove(connectionNumber);
-      }
-      reportClosed(System.currentTimeMillis() - tstart);
+      ConnectionTracker.unregister(connectionNumber);
+      reportClosed(System.nanoTime() - tstart);
     }
     reportReturn(methodCall);
   }
 
   @Override
   public <T> T unwrap(Class<T> iface) throws SQLException {
-    String methodCall = "unwrap(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface == Connection.class || iface == Spy.class))?iface.cast(this):realConnection.unwrap(iface);
+    }
+    MethodCall methodCall = new MethodCall("unwrap", iface);
     try
     {
       //todo: double check this logic
@@ -1051,7 +1374,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
   public boolean isWrapperFor(Class<?> iface) throws SQLException
   {
-    String methodCall = "isWrapperFor(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface == Connection.class || iface == Spy.class)) ||
+          realConnection.isWrapperFor(iface);
+    }
+    MethodCall methodCall = new MethodCall("isWrapperFor", iface);
     try
     {
       return reportReturn(methodCall, (iface != null && (iface == Connection.class || iface == Spy.class)) ||
@@ -1067,7 +1395,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override
 	public void setSchema(String schema) throws SQLException
 	{
-		String methodCall = "setSchema(" + schema + ")";
+		if (!isInstrumented())
+		{
+			realConnection.setSchema(schema);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setSchema", schema);
 		try
 		{
 			realConnection.setSchema(schema);	
@@ -1082,7 +1415,11 @@ public class ConnectionSpy implements Connection, Spy
   @Override	
 	public String getSchema() throws SQLException
 	{
-		String methodCall = "getSchema()";
+		if (!isInstrumented())
+		{
+			return realConnection.getSchema();
+		}
+		MethodCall methodCall = GET_SCHEMA;
 		try
 		{
 			return reportReturn(methodCall,realConnection.getSchema());	
@@ -1097,16 +1434,23 @@ public class ConnectionSpy implements Connection, Spy
   @Override	
 	public void abort(Executor executor) throws SQLException
 	{
-		String methodCall = "abort(" + executor + ")";
-		long tstart = System.currentTimeMillis();
+		if (!isInstrumented())
+		{
+			realConnection.abort(executor);
+			ConnectionTracker.unregister(connectionNumber);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("abort", executor);
+		long tstart = System.nanoTime();
 		try
 		{
 			realConnection.abort(executor);	
-			reportAborted(System.currentTimeMillis() - tstart);
+			ConnectionTracker.unregister(connectionNumber);
+			reportAborted(System.nanoTime() - tstart);
 		}
 		catch (SQLException s)
 		{
-		    reportException(methodCall, s, System.currentTimeMillis() - tstart);
+		    reportException(methodCall, s, System.nanoTime() - tstart);
 			throw s;			
 		}
 	}
@@ -1114,7 +1458,12 @@ public class ConnectionSpy implements Connection, Spy
   @Override	
 	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException
 	{
-		String methodCall = "setNetworkTimeout(" + executor + ", " + milliseconds + ";";
+		if (!isInstrumented())
+		{
+			realConnection.setNetworkTimeout(executor,milliseconds);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setNetworkTimeout", executor, milliseconds);
 		try
 		{
 			realConnection.setNetworkTimeout(executor,milliseconds);	
@@ -1128,7 +1477,11 @@ public class ConnectionSpy implements Connection, Spy
 
 	@Override
 	public int getNetworkTimeout() throws SQLException {
-		String methodCall = "getNetworkTimeout()";
+		if (!isInstrumented())
+		{
+			return realConnection.getNetworkTimeout();
+		}
+		MethodCall methodCall = GET_NETWORK_TIMEOUT;
 		try
 		{
 			return reportReturn(methodCall, realConnection.getNetworkTimeout());	
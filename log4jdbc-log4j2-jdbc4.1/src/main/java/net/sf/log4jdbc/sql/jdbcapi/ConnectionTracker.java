@@ -0,0 +1,119 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the open {@link ConnectionSpy}s, assigning their connection numbers.
+ * <p>
+ * It used to be a {@code HashMap} guarded by a global lock, taken at each opening
+ * and closing of a connection; the dump of the open connections then copied and sorted
+ * all the connection numbers. This registry is lock-free: connection numbers
+ * are generated by an {@code AtomicInteger}, and open connections are stored
+ * in a {@code ConcurrentSkipListMap}, keeping them sorted by connection number
+ * as they are added and removed. {@link #getOpenConnectionsDump()} then only reads
+ * the first {@link #MAX_DUMPED_CONNECTIONS} connection numbers, in order.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class ConnectionTracker {
+    /**
+     * An {@code int} that is the maximum number of connection numbers listed
+     * by {@link #getOpenConnectionsDump()}, the oldest ones being listed first.
+     */
+    static final int MAX_DUMPED_CONNECTIONS = 100;
+    /**
+     * An {@code AtomicInteger} generating the connection numbers.
+     */
+    private static final AtomicInteger lastConnectionNumber = new AtomicInteger();
+    /**
+     * The open {@code ConnectionSpy}s, sorted by connection number.
+     */
+    private static final ConcurrentSkipListMap<Integer, ConnectionSpy> openConnections =
+            new ConcurrentSkipListMap<Integer, ConnectionSpy>();
+    /**
+     * An {@code AtomicInteger} that is the number of open connections
+     * (computing the size of a {@code ConcurrentSkipListMap} requires to traverse it).
+     */
+    private static final AtomicInteger openConnectionCount = new AtomicInteger();
+
+    private ConnectionTracker() {
+        //static methods only
+    }
+
+    /**
+     * Register a newly opened {@code ConnectionSpy}.
+     *
+     * @param connectionSpy The {@code ConnectionSpy} opened.
+     * @return              An {@code Integer} that is the connection number
+     *                      assigned to {@code connectionSpy}.
+     */
+    static Integer register(ConnectionSpy connectionSpy) {
+        Integer connectionNumber = Integer.valueOf(lastConnectionNumber.incrementAndGet());
+        openConnections.put(connectionNumber, connectionSpy);
+        openConnectionCount.incrementAndGet();
+        return connectionNumber;
+    }
+
+    /**
+     * Unregister a closed {@code ConnectionSpy}. Unregistering several times
+     * the same connection has no effect.
+     *
+     * @param connectionNumber  An {@code Integer} that is the connection number
+     *                          of the {@code ConnectionSpy} closed.
+     */
+    static void unregister(Integer connectionNumber) {
+        if (openConnections.remove(connectionNumber) != null) {
+            openConnectionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return  An unmodifiable view of the open {@code ConnectionSpy}s,
+     *          sorted by connection number, hence from the oldest to the youngest.
+     */
+    static Collection<ConnectionSpy> getOpenConnections() {
+        return Collections.unmodifiableCollection(openConnections.values());
+    }
+
+    /**
+     * @return  An {@code int} that is the number of open connections.
+     */
+    public static int getOpenConnectionCount() {
+        return openConnectionCount.get();
+    }
+
+    /**
+     * Get a dump of how many connections are open, and which connection numbers
+     * are open (at most {@link #MAX_DUMPED_CONNECTIONS}, the oldest ones).
+     *
+     * @return an open connection dump.
+     */
+    public static String getOpenConnectionsDump() {
+        Iterator<Integer> connectionNumbers = openConnections.keySet().iterator();
+        if (!connectionNumbers.hasNext()) {
+            return "open connections:  none";
+        }
+        StringBuilder dump = new StringBuilder("open connections:  ");
+        int dumped = 0;
+        while (connectionNumbers.hasNext()) {
+            if (dumped == MAX_DUMPED_CONNECTIONS) {
+                dump.append("... ");
+                break;
+            }
+            dump.append(connectionNumbers.next());
+            dump.append(" ");
+            dumped++;
+        }
+        dump.append("(");
+        //can be slightly inconsistent with the connection numbers listed,
+        //if connections are opened or closed concurrently
+        dump.append(Math.max(dumped, openConnectionCount.get()));
+        dump.append(")");
+        return dump.toString();
+    }
+}
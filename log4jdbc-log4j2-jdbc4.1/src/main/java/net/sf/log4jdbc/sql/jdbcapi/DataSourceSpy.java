@@ -24,6 +24,7 @@ import java.util.logging.Logger;
 
 import javax.sql.DataSource;
 
+import net.sf.log4jdbc.Properties;
 import net.sf.log4jdbc.log.SpyLogDelegator;
 import net.sf.log4jdbc.log.SpyLogFactory;
 import net.sf.log4jdbc.sql.Spy;
@@ -109,6 +110,12 @@ public class DataSourceSpy implements DataSource, Spy {
      * their own custom formatting details.
      */
     private RdbmsSpecifics rdbmsSpecifics;
+    /**
+     * The {@code RdbmsSpecifics} resolved from the metadata of the first 
+     * {@code Connection} obtained, if no custom {@code RdbmsSpecifics} was provided, 
+     * so that the resolution is made only once per {@code DataSource}.
+     */
+    private volatile RdbmsSpecifics resolvedRdbmsSpecifics;
     
     /**
      * Constructor.
@@ -216,15 +223,25 @@ public class DataSourceSpy implements DataSource, Spy {
 	@Override
 	public Connection getConnection() throws SQLException
 	{      
+		if (!Instrumentation.isEnabled())
+		{
+			final Connection connection = realDataSource.getConnection();
+			if (Properties.isSpyAlwaysWrap()) {
+				return new ConnectionSpy(connection, this.getRdbmsSpecifics(connection), 
+						-1L, this.spyLogDelegator);
+			}
+			return connection;
+		}
 		String methodCall = "getConnection()";
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			final Connection connection = realDataSource.getConnection();
-			if (spyLogDelegator.isJdbcLoggingEnabled()) {
+			if (Properties.isSpyAlwaysWrap() || spyLogDelegator.isJdbcLoggingEnabled() || 
+					spyLogDelegator.getSqlStatistics() != null) {
 			    return (Connection) reportReturn(methodCall, 
 					new ConnectionSpy(connection, this.getRdbmsSpecifics(connection), 
-							          System.currentTimeMillis() - tstart, this.spyLogDelegator));  
+							          System.nanoTime() - tstart, this.spyLogDelegator));  
 			}
 			//if logging is not enable, return the real connection, 
 			//so that there is no useless costs 
@@ -240,16 +257,26 @@ public class DataSourceSpy implements DataSource, Spy {
 	@Override
 	public Connection getConnection(String username, String password) throws SQLException
 	{
+		if (!Instrumentation.isEnabled())
+		{
+			final Connection connection = realDataSource.getConnection(username, password);
+			if (Properties.isSpyAlwaysWrap()) {
+				return new ConnectionSpy(connection, this.getRdbmsSpecifics(connection), 
+						-1L, this.spyLogDelegator);
+			}
+			return connection;
+		}
 
 		String methodCall = "getConnection("+ username +", password***)";
-		long tstart = System.currentTimeMillis();      
+		long tstart = System.nanoTime();      
 		try
 		{
 			final Connection connection = realDataSource.getConnection(username, password);
-			if (spyLogDelegator.isJdbcLoggingEnabled()) {
+			if (Properties.isSpyAlwaysWrap() || spyLogDelegator.isJdbcLoggingEnabled() || 
+					spyLogDelegator.getSqlStatistics() != null) {
 			    return (Connection) reportReturn(methodCall, 
 					new ConnectionSpy(connection, this.getRdbmsSpecifics(connection), 
-							          System.currentTimeMillis() - tstart, this.spyLogDelegator));  
+							          System.nanoTime() - tstart, this.spyLogDelegator));  
 			}
 			//if logging is not enable, return the real connection, 
 			//so that there is no useless costs 
@@ -265,6 +292,10 @@ public class DataSourceSpy implements DataSource, Spy {
 
 	@Override
 	public int getLoginTimeout() throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			return realDataSource.getLoginTimeout();
+		}
 		String methodCall = "getLoginTimeout()";
 		try
 		{
@@ -279,6 +310,10 @@ public class DataSourceSpy implements DataSource, Spy {
 
 	@Override
 	public PrintWriter getLogWriter() throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			return realDataSource.getLogWriter();
+		}
 		String methodCall = "getLogWriter()";
 		try
 		{
@@ -293,6 +328,10 @@ public class DataSourceSpy implements DataSource, Spy {
 
 	@Override
 	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			return realDataSource.isWrapperFor(iface);
+		}
 		String methodCall = "isWrapperFor("+ iface +")";
 		try
 		{
@@ -307,6 +346,11 @@ public class DataSourceSpy implements DataSource, Spy {
 
 	@Override
 	public void setLoginTimeout(int seconds) throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			realDataSource.setLoginTimeout(seconds);
+			return;
+		}
 		String methodCall = "setLoginTimeout("+ seconds +")";
 		try
 		{
@@ -321,6 +365,11 @@ public class DataSourceSpy implements DataSource, Spy {
 
 	@Override
 	public void setLogWriter(PrintWriter out) throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			realDataSource.setLogWriter(out);
+			return;
+		}
 		String methodCall = "setLogWriter("+ out +")";
 		try
 		{
@@ -336,6 +385,10 @@ public class DataSourceSpy implements DataSource, Spy {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (!Instrumentation.isEnabled())
+		{
+			return realDataSource.unwrap(iface);
+		}
 		String methodCall = "unwrap("+ iface +")";
 		try
 		{
@@ -352,6 +405,10 @@ public class DataSourceSpy implements DataSource, Spy {
 	@Override
 	public Logger getParentLogger() throws SQLFeatureNotSupportedException
 	{
+		if (!Instrumentation.isEnabled())
+		{
+			return realDataSource.getParentLogger();
+		}
 		String methodCall = "getParentLogger()";
 		try
 		{
@@ -380,7 +437,9 @@ public class DataSourceSpy implements DataSource, Spy {
 	/**
 	 * Returns either the custom SQL formatting provided by the user at instantiation, 
 	 * or the default {@code RdbmsSpecifics} for the current {@code Connection}, 
-	 * if no custom {@code RdbmsSpecifics} was provided. 
+	 * if no custom {@code RdbmsSpecifics} was provided. The default {@code RdbmsSpecifics} 
+	 * is resolved from the first {@code Connection} only, all the {@code Connection}s 
+	 * of a {@code DataSource} being to the same database.
 	 * 
 	 * @param connection   The {@code Connection} allowing to acquire its default 
 	 *                     {@code RdbmsSpecifics}.
@@ -388,7 +447,15 @@ public class DataSourceSpy implements DataSource, Spy {
 	 *                     from this {@code DataSourceSpy}.
 	 */
 	private RdbmsSpecifics getRdbmsSpecifics(Connection connection) {
-	    return this.rdbmsSpecifics == null ? 
-	            DriverSpy.getRdbmsSpecifics(connection) : this.rdbmsSpecifics;
+	    if (this.rdbmsSpecifics != null) {
+	        return this.rdbmsSpecifics;
+	    }
+	    RdbmsSpecifics resolved = this.resolvedRdbmsSpecifics;
+	    if (resolved == null) {
+	        //several threads might resolve it concurrently, to the same value
+	        resolved = DriverSpy.getRdbmsSpecifics(connection);
+	        this.resolvedRdbmsSpecifics = resolved;
+	    }
+	    return resolved;
 	}
 }
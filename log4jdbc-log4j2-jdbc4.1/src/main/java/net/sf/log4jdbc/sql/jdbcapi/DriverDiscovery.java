@@ -0,0 +1,50 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+/**
+ * Defines how the {@link DriverSpy} makes the underlying JDBC drivers available, 
+ * that is, the popular drivers (if the property {@code log4jdbc.auto.load.popular.drivers} 
+ * is {@code true}) and the drivers listed by the property {@code log4jdbc.drivers}. 
+ * Corresponds to the property {@code log4jdbc.drivers.discovery}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public enum DriverDiscovery {
+    /**
+     * All drivers are loaded with {@code Class.forName} when the {@code DriverSpy} 
+     * class is initialized, each missing driver throwing a {@code ClassNotFoundException}.
+     */
+    EAGER,
+    /**
+     * The drivers declared through the {@code java.util.ServiceLoader} mechanism 
+     * ({@code META-INF/services/java.sql.Driver}) are loaded when the {@code DriverSpy} 
+     * class is initialized; the popular drivers are then loaded only if their class file 
+     * is found, so that missing drivers do not throw any exception.
+     */
+    SERVICE_LOADER,
+    /**
+     * No driver is loaded when the {@code DriverSpy} class is initialized: 
+     * they are loaded the first time no registered driver accepts a URL.
+     */
+    LAZY;
+
+    /**
+     * Obtain the {@code DriverDiscovery} corresponding to {@code name}.
+     *
+     * @param name  A {@code String} that is the name of a {@code DriverDiscovery},
+     *              case insensitive.
+     * @return      The corresponding {@code DriverDiscovery}, {@code null}
+     *              if {@code name} is {@code null} or not recognized.
+     */
+    public static DriverDiscovery fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (DriverDiscovery discovery: DriverDiscovery.values()) {
+            if (discovery.name().equalsIgnoreCase(name.trim())) {
+                return discovery;
+            }
+        }
+        return null;
+    }
+}
@@ -16,29 +16,27 @@
 package net.sf.log4jdbc.sql.jdbcapi;
 
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 import net.sf.log4jdbc.Properties;
 import net.sf.log4jdbc.log.SpyLogDelegator;
 import net.sf.log4jdbc.log.SpyLogFactory;
 import net.sf.log4jdbc.sql.Spy;
-import net.sf.log4jdbc.sql.rdbmsspecifics.Db2RdbmsSpecifics;
-import net.sf.log4jdbc.sql.rdbmsspecifics.MySqlRdbmsSpecifics;
-import net.sf.log4jdbc.sql.rdbmsspecifics.OracleRdbmsSpecifics;
 import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
-import net.sf.log4jdbc.sql.rdbmsspecifics.SqlServerRdbmsSpecifics;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecificsResolver;
 
 
 /**
@@ -84,19 +82,32 @@ import net.sf.log4jdbc.sql.rdbmsspecifics.SqlServerRdbmsSpecifics;
  * If any of the above driver classes cannot be loaded, the driver continues on
  * without failing.
  * <p/>
- * Note that the <code>getMajorVersion</code>, <code>getMinorVersion</code> and
- * <code>jdbcCompliant</code> method calls attempt to delegate to the last
- * underlying driver requested through any other call that accepts a JDBC URL.
+ * How these drivers are loaded is defined by the property 
+ * <b>log4jdbc.drivers.discovery</b>: at class load time with <code>Class.forName</code> 
+ * (<code>eager</code>, the default), at class load time through the 
+ * <code>ServiceLoader</code> mechanism, only trying the popular drivers 
+ * present in the classpath (<code>service_loader</code>), or the first time 
+ * no registered driver accepts a URL (<code>lazy</code>). See {@link DriverDiscovery}.
  * <p/>
- * This can cause unexpected behavior in certain circumstances.  For example,
- * if one of these 3 methods is called before any underlying driver has been
- * established, then they will return default values that might not be correct
- * in all situations.  Similarly, if this spy driver is used to spy on more than
- * one underlying driver concurrently, the values returned by these 3 method
- * calls may change depending on what the last underlying driver used was at the
- * time.  This will not usually be a problem, since the driver is retrieved by
- * it's URL from the DriverManager in the first place (thus establishing an
- * underlying real driver), and in most applications their is only one database.
+ * Note that the <code>getMajorVersion</code>, <code>getMinorVersion</code>, 
+ * <code>jdbcCompliant</code> and <code>getParentLogger</code> method calls, 
+ * not accepting a JDBC URL, describe this spy driver itself, rather than 
+ * any underlying driver: this spy driver can be used to spy on several 
+ * underlying drivers concurrently, so that no underlying driver is shared 
+ * by all connections. The version of the underlying driver of a connection 
+ * is available from the <code>DatabaseMetaData</code> of the connection.
+ * <p>
+ * The underlying driver accepting a URL is cached by sub-protocol (for instance, 
+ * <code>jdbc:mysql:</code>), so that the drivers registered to the <code>DriverManager</code> 
+ * are scanned only once per sub-protocol, rather than on each connection. 
+ * Each cached entry is an immutable {@link UnderlyingDriver}, binding the driver 
+ * to the <code>RdbmsSpecifics</code> of its database, so that connections 
+ * to different databases opened concurrently never share mutable state. 
+ * A cache hit only costs a map lookup and a call to <code>acceptsURL</code>: 
+ * a cached driver is evicted when it does not accept the URL anymore, or when 
+ * it fails to open a connection. As the <code>DriverManager</code> does not notify 
+ * of drivers being registered or deregistered, applications doing so at runtime 
+ * should call {@link #clearUnderlyingDriverCache()}.
  * 
  * <h3>Modifications for log4j2: </h3>
  * <ul>
@@ -114,15 +125,46 @@ import net.sf.log4jdbc.sql.rdbmsspecifics.SqlServerRdbmsSpecifics;
 public class DriverSpy implements Driver
 {
 	/**
-	 * The last actual, underlying driver that was requested via a URL.
+	 * The major version of this spy driver, returned by {@link #getMajorVersion()}.
 	 */
-	private Driver lastUnderlyingDriverRequested;
+	static final int MAJOR_VERSION = 1;
+	/**
+	 * The minor version of this spy driver, returned by {@link #getMinorVersion()}.
+	 */
+	static final int MINOR_VERSION = 0;
 
 	/**
-	 * Maps driver class names to RdbmsSpecifics objects for each kind of
-	 * database.
+	 * Immutable association of an underlying driver with the <code>RdbmsSpecifics</code> 
+	 * used to format the SQL of its connections, cached by sub-protocol 
+	 * (see {@link DriverSpy#findUnderlyingDriver(String)}).
 	 */
-	private final static Map<String, RdbmsSpecifics> rdbmsSpecifics;
+	static final class UnderlyingDriver
+	{
+		/**
+		 * The real driver accepting the URLs of a sub-protocol.
+		 */
+		final Driver driver;
+		/**
+		 * The <code>RdbmsSpecifics</code> of the database of {@link #driver}.
+		 */
+		final RdbmsSpecifics rdbmsSpecifics;
+
+		/**
+		 * @param driver	the real driver accepting <code>realUrl</code>.
+		 * @param realUrl	the URL accepted by <code>driver</code>, used to resolve 
+		 * 					the <code>RdbmsSpecifics</code> from its sub-protocol, 
+		 * 					then from the class name of <code>driver</code>.
+		 */
+		UnderlyingDriver(Driver driver, String realUrl)
+		{
+			this.driver = driver;
+			RdbmsSpecifics r = RdbmsSpecificsResolver.fromUrl(realUrl);
+			if (r == null) {
+				r = RdbmsSpecificsResolver.fromDriverClassName(driver.getClass().getName());
+			}
+			this.rdbmsSpecifics = (r == null ? defaultRdbmsSpecifics : r);
+		}
+	}
 
 	/**
 	 * Default <code>RdbmsSpecifics</code>.
@@ -141,6 +183,20 @@ public class DriverSpy implements Driver
 	 */
 	static final private String log4jdbcUrlPrefix = "jdbc:log4";
 
+	/**
+	 * Caches the underlying drivers that accepted a real URL, associated to 
+	 * the sub-protocol of that URL (see {@link #getSubProtocol(String)}).
+	 */
+	private static final ConcurrentMap<String, UnderlyingDriver> underlyingDrivers = 
+			new ConcurrentHashMap<String, UnderlyingDriver>();
+
+	/**
+	 * Whether the popular and additional drivers were loaded, <code>false</code> 
+	 * until a URL is requested if their discovery was deferred 
+	 * (see {@link DriverDiscovery#LAZY}).
+	 */
+	private static volatile boolean driversDiscovered;
+
 	/**
 	 * Default constructor.
 	 */
@@ -155,10 +211,35 @@ public class DriverSpy implements Driver
 	static
 	{
 		log.debug("DriverSpy intialization...");
-		
-		// The Set of drivers that the log4jdbc driver will preload at instantiation
-		// time.  The driver can spy on any driver type, it's just a little bit
-		// easier to configure log4jdbc if it's one of these types!
+
+		try {
+			DriverManager.registerDriver(new DriverSpy());
+		} catch (SQLException s) {
+			// this exception should never be thrown, JDBC just defines it
+			// for completeness
+			throw (RuntimeException) new RuntimeException
+			("could not register log4jdbc driver!").initCause(s);
+		}
+
+		DriverDiscovery discovery = Properties.getDriversDiscovery();
+		if (discovery != DriverDiscovery.LAZY) {
+			discoverDrivers(discovery);
+			driversDiscovered = true;
+		}
+
+		log.debug("DriverSpy intialization done.");
+	}
+
+	/**
+	 * The Set of drivers that the log4jdbc driver will preload at instantiation
+	 * time.  The driver can spy on any driver type, it's just a little bit
+	 * easier to configure log4jdbc if it's one of these types!
+	 *
+	 * @return a modifiable <code>Set</code> of the names of the popular driver classes, 
+	 *         empty if the property <b>log4jdbc.auto.load.popular.drivers</b> is false.
+	 */
+	private static Set<String> getPopularDrivers()
+	{
 		Set<String> subDrivers = new TreeSet<String>();
 
 		if (Properties.isAutoLoadPopularDrivers()) {
@@ -182,19 +263,46 @@ public class DriverSpy implements Driver
 			subDrivers.add("org.hsqldb.jdbcDriver");
 			subDrivers.add("org.h2.Driver");
 		}
+		return subDrivers;
+	}
+
+	/**
+	 * Load the popular drivers and the drivers listed by the property 
+	 * <b>log4jdbc.drivers</b>, as defined by <code>discovery</code> 
+	 * (see {@link DriverDiscovery}), and log how long it took.
+	 *
+	 * @param discovery the <code>DriverDiscovery</code> defining how drivers are loaded.
+	 */
+	private static void discoverDrivers(DriverDiscovery discovery)
+	{
+		long start = System.nanoTime();
+		Set<String> subDrivers = getPopularDrivers();
+
+		if (discovery == DriverDiscovery.SERVICE_LOADER) {
+			// instantiating the service providers registers them to the DriverManager
+			Iterator<Driver> providers = ServiceLoader.load(Driver.class, 
+					DriverSpy.class.getClassLoader()).iterator();
+			while (true) {
+				try {
+					if (!providers.hasNext()) {
+						break;
+					}
+					log.debug("  FOUND DRIVER " + providers.next().getClass().getName());
+				} catch (ServiceConfigurationError e) {
+					log.debug("  could not load a driver service provider: " + e.getMessage());
+				}
+			}
+			// only try to load the popular drivers present in the classpath
+			for (Iterator<String> i = subDrivers.iterator(); i.hasNext();) {
+				if (!isClassPresent(i.next())) {
+					i.remove();
+				}
+			}
+		}
 
 		// look for additional driver specified in properties
 		subDrivers.addAll(Properties.getAdditionalDrivers());
 
-		try {
-			DriverManager.registerDriver(new DriverSpy());
-		} catch (SQLException s) {
-			// this exception should never be thrown, JDBC just defines it
-			// for completeness
-			throw (RuntimeException) new RuntimeException
-			("could not register log4jdbc driver!").initCause(s);
-		}
-
 		// instantiate all the supported drivers and remove
 		// those not found
 		String driverClass;
@@ -208,103 +316,107 @@ public class DriverSpy implements Driver
 			}
 		}
 
-		if (subDrivers.size() == 0) {
+		if (subDrivers.size() == 0 && discovery != DriverDiscovery.SERVICE_LOADER) {
 			log.debug("WARNING!  " +
 					"log4jdbc couldn't find any underlying jdbc drivers.");
 		}
+		log.debug("drivers discovery (" + discovery + ") done in " + 
+				(System.nanoTime() - start) / 1000000L + " ms");
+	}
 
-		SqlServerRdbmsSpecifics sqlServer = new SqlServerRdbmsSpecifics();
-		OracleRdbmsSpecifics oracle = new OracleRdbmsSpecifics();
-		MySqlRdbmsSpecifics mySql = new MySqlRdbmsSpecifics();
-		Db2RdbmsSpecifics db2 = new Db2RdbmsSpecifics();
-
-		/** create lookup Map for specific rdbms formatters */
-		rdbmsSpecifics = new HashMap<String, RdbmsSpecifics>();
-		rdbmsSpecifics.put("oracle.jdbc.driver.OracleDriver", oracle);
-		rdbmsSpecifics.put("oracle.jdbc.OracleDriver", oracle);
-		rdbmsSpecifics.put("net.sourceforge.jtds.jdbc.Driver", sqlServer);
-		rdbmsSpecifics.put("com.microsoft.jdbc.sqlserver.SQLServerDriver",
-				sqlServer);
-		rdbmsSpecifics.put("weblogic.jdbc.sqlserver.SQLServerDriver", sqlServer);
-		rdbmsSpecifics.put("com.mysql.jdbc.Driver", mySql);
-        rdbmsSpecifics.put("com.ibm.db2.jcc.DB2Driver", db2);
-        rdbmsSpecifics.put("COM.ibm.db2.jdbc.app.DB2Driver", db2);
-        rdbmsSpecifics.put("COM.ibm.db2.jdbc.net.DB2Driver", db2);
+	/**
+	 * Whether the class <code>className</code> can be found by the class loader 
+	 * of this class, checked from its class file, without loading it nor throwing 
+	 * an exception if it is missing.
+	 *
+	 * @param className the name of the class to look for.
+	 * @return <code>true</code> if the class file of <code>className</code> was found.
+	 */
+	static boolean isClassPresent(String className)
+	{
+		String resource = className.replace('.', '/') + ".class";
+		ClassLoader loader = DriverSpy.class.getClassLoader();
+		return (loader == null ? ClassLoader.getSystemResource(resource) : 
+			loader.getResource(resource)) != null;
+	}
 
-		log.debug("DriverSpy intialization done.");
+	/**
+	 * Load the drivers with the <code>DriverDiscovery.EAGER</code> policy 
+	 * the first time this method is called, if drivers discovery was deferred 
+	 * (see {@link DriverDiscovery#LAZY}).
+	 *
+	 * @return <code>true</code> if drivers were loaded by this call, so that 
+	 *         the registered drivers should be scanned again.
+	 */
+	private static boolean discoverDeferredDrivers()
+	{
+		if (driversDiscovered) {
+			return false;
+		}
+		synchronized (DriverSpy.class) {
+			if (driversDiscovered) {
+				return false;
+			}
+			discoverDrivers(DriverDiscovery.EAGER);
+			driversDiscovered = true;
+			return true;
+		}
 	}
 
 	/**
-	 * Get the RdbmsSpecifics object for a given Connection.
+	 * Get the RdbmsSpecifics object for a given Connection, from the URL 
+	 * or the database product name provided by its metadata 
+	 * (see {@link RdbmsSpecificsResolver#fromMetaData(Connection)}).
 	 *
 	 * @param conn JDBC connection to get RdbmsSpecifics for.
 	 * @return RdbmsSpecifics for the given connection.
 	 */
 	static RdbmsSpecifics getRdbmsSpecifics(Connection conn)
 	{
-		String driverName = "";
-		try {
-			DatabaseMetaData dbm = conn.getMetaData();
-			driverName = dbm.getDriverName();
-		} catch (SQLException s) {
-			// silently fail
-		}
-
-		log.debug("driver name is " + driverName);
-
-		RdbmsSpecifics r = rdbmsSpecifics.get(driverName);
+		RdbmsSpecifics r = RdbmsSpecificsResolver.fromMetaData(conn);
 
 		if (r == null) {
 			return defaultRdbmsSpecifics;
 		} 
+		log.debug("RdbmsSpecifics resolved: " + r.getClass().getName());
 		return r;
 	}
 
 	/**
-	 * Get the major version of the driver.  This call will be delegated to the
-	 * underlying driver that is being spied upon (if there is no underlying
-	 * driver found, then 1 will be returned.)
+	 * Get the major version of this spy driver, whatever the underlying 
+	 * drivers spied upon are.
 	 *
-	 * @return the major version of the JDBC driver.
+	 * @return {@link #MAJOR_VERSION}.
 	 */
 	@Override
 	public int getMajorVersion()
 	{
-		if (lastUnderlyingDriverRequested == null) {
-			return 1;
-		} 
-		return lastUnderlyingDriverRequested.getMajorVersion();
+		return MAJOR_VERSION;
 	}
 
 	/**
-	 * Get the minor version of the driver.  This call will be delegated to the
-	 * underlying driver that is being spied upon (if there is no underlying
-	 * driver found, then 0 will be returned.)
+	 * Get the minor version of this spy driver, whatever the underlying 
+	 * drivers spied upon are.
 	 *
-	 * @return the minor version of the JDBC driver.
+	 * @return {@link #MINOR_VERSION}.
 	 */
 	@Override
 	public int getMinorVersion()
 	{
-		if (lastUnderlyingDriverRequested == null) {
-			return 0;
-		}
-		return lastUnderlyingDriverRequested.getMinorVersion();
+		return MINOR_VERSION;
 	}
 
 	/**
-	 * Report whether the underlying driver is JDBC compliant.  If there is no
-	 * underlying driver, false will be returned, because the driver cannot
-	 * actually do any work without an underlying driver.
+	 * Report whether this spy driver is JDBC compliant: it cannot be, 
+	 * as it does not do any work without an underlying driver, and it might 
+	 * spy on several underlying drivers.
 	 *
-	 * @return <code>true</code> if the underlying driver is JDBC Compliant;
-	 *         <code>false</code> otherwise.
+	 * @return <code>false</code>
 	 */
 	@Override
 	public boolean jdbcCompliant()
 	{
-		return lastUnderlyingDriverRequested != null &&
-			   lastUnderlyingDriverRequested.jdbcCompliant();
+		return false;
 	}
 
 	/**
@@ -320,12 +432,7 @@ public class DriverSpy implements Driver
 	@Override
 	public boolean acceptsURL(String url) throws SQLException
 	{
-		Driver d = getUnderlyingDriver(url);
-		if (d != null) {
-			lastUnderlyingDriverRequested = d;
-			return true;
-		}
-		return false;
+		return getUnderlyingDriver(url) != null;
 	}
 
 	/**
@@ -334,30 +441,98 @@ public class DriverSpy implements Driver
 	 *
 	 * @param url JDBC connection URL.
 	 *
-	 * @return Underlying driver for the given URL. Null is returned if the URL is
-	 *         not a <code>jdbc:log4</code> type URL or there is no underlying
-	 *         driver that accepts the URL.
+	 * @return Underlying driver for the given URL, with its <code>RdbmsSpecifics</code>. 
+	 *         Null is returned if the URL is not a <code>jdbc:log4</code> type URL 
+	 *         or there is no underlying driver that accepts the URL.
 	 *
 	 * @throws SQLException if a database access error occurs.
 	 */
-	private Driver getUnderlyingDriver(String url) throws SQLException
+	private UnderlyingDriver getUnderlyingDriver(String url) throws SQLException
 	{
 		if (url.startsWith(log4jdbcUrlPrefix)) {
-			url = this.getRealUrl(url);
+			return findUnderlyingDriver(this.getRealUrl(url));
+		}
+		return null;
+	}
 
-			Enumeration<Driver> e = DriverManager.getDrivers();
+	/**
+	 * Find the underlying real driver that accepts <code>realUrl</code>, 
+	 * first from the drivers cached by sub-protocol, then by scanning 
+	 * the drivers registered to the <code>DriverManager</code>. A cached driver 
+	 * not accepting <code>realUrl</code> anymore is evicted.
+	 *
+	 * @param realUrl JDBC connection URL, with <code>#log4jdbcUrlPrefix</code> stripped off.
+	 *
+	 * @return Underlying driver for the given URL, with its <code>RdbmsSpecifics</code>, 
+	 *         <code>null</code> if there is no underlying driver that accepts the URL.
+	 *
+	 * @throws SQLException if a database access error occurs.
+	 */
+	private static UnderlyingDriver findUnderlyingDriver(String realUrl) throws SQLException
+	{
+		String subProtocol = getSubProtocol(realUrl);
+		UnderlyingDriver cached = underlyingDrivers.get(subProtocol);
+		if (cached != null) {
+			if (cached.driver.acceptsURL(realUrl)) {
+				return cached;
+			}
+			underlyingDrivers.remove(subProtocol, cached);
+		}
 
-			Driver d;
-			while (e.hasMoreElements()) {
-				d = e.nextElement();
+		Enumeration<Driver> e = DriverManager.getDrivers();
+		Driver d;
+		while (e.hasMoreElements()) {
+			d = e.nextElement();
 
-				if (d.acceptsURL(url)) {
-					return d;
-				}
+			if (d.acceptsURL(realUrl)) {
+				UnderlyingDriver found = new UnderlyingDriver(d, realUrl);
+				underlyingDrivers.put(subProtocol, found);
+				return found;
 			}
 		}
+		if (discoverDeferredDrivers()) {
+			return findUnderlyingDriver(realUrl);
+		}
 		return null;
 	}
+
+	/**
+	 * Get the driver cached for <code>subProtocol</code>, for testing purposes.
+	 *
+	 * @param subProtocol the sub-protocol of a JDBC URL (see {@link #getSubProtocol(String)}).
+	 * @return the underlying driver cached, <code>null</code> if none.
+	 */
+	static Driver getCachedDriver(String subProtocol)
+	{
+		UnderlyingDriver cached = underlyingDrivers.get(subProtocol);
+		return cached == null ? null : cached.driver;
+	}
+
+	/**
+	 * Get the sub-protocol of a JDBC URL, used as key of the cache of underlying drivers: 
+	 * the URL up to and including its second colon (for instance, <code>jdbc:mysql:</code>), 
+	 * or the whole URL if it has less than two colons.
+	 *
+	 * @param realUrl JDBC connection URL, with <code>#log4jdbcUrlPrefix</code> stripped off.
+	 * @return the sub-protocol of <code>realUrl</code>.
+	 */
+	static String getSubProtocol(String realUrl)
+	{
+		int firstColon = realUrl.indexOf(':');
+		int secondColon = firstColon < 0 ? -1 : realUrl.indexOf(':', firstColon + 1);
+		return secondColon < 0 ? realUrl : realUrl.substring(0, secondColon + 1);
+	}
+
+	/**
+	 * Clear the cache of the underlying drivers accepting each sub-protocol. 
+	 * This method should be called after drivers are registered to 
+	 * or deregistered from the <code>DriverManager</code> at runtime, 
+	 * as the <code>DriverManager</code> does not notify of such changes.
+	 */
+	public static void clearUnderlyingDriverCache()
+	{
+		underlyingDrivers.clear();
+	}
 	
 	/**
 	 * Get the actual URL that the real driver expects 
@@ -392,7 +567,8 @@ public class DriverSpy implements Driver
 	@Override
 	public Connection connect(String url, java.util.Properties info) throws SQLException
 	{
-		Driver d = getUnderlyingDriver(url);
+		long resolutionStart = System.nanoTime();
+		UnderlyingDriver d = getUnderlyingDriver(url);
 		if (d == null) {
 			return null;
 		}
@@ -401,28 +577,18 @@ public class DriverSpy implements Driver
 		// (strip off <code>#log4jdbcUrlPrefix</code> from url)
 		url = this.getRealUrl(url);
 
-		lastUnderlyingDriverRequested = d;
-		long tstart = System.currentTimeMillis();
-		Connection c = d.connect(url, info);
+		long tstart = System.nanoTime();
+		long driverResolutionTime = tstart - resolutionStart;
+		Connection c = d.driver.connect(url, info);
 
 		if (c == null) {
+			underlyingDrivers.remove(getSubProtocol(url), d);
 			throw new SQLException("invalid or unknown driver url: " + url);
 		}
-		if (log.isJdbcLoggingEnabled()) {
-			ConnectionSpy cspy = new ConnectionSpy(c, System.currentTimeMillis() - tstart, log);
-			RdbmsSpecifics r = null;
-			String dclass = d.getClass().getName();
-			if (dclass != null && dclass.length() > 0)
-			{
-				r = rdbmsSpecifics.get(dclass);
-			}
-
-			if (r == null)
-			{
-				r = defaultRdbmsSpecifics;
-			}
-			cspy.setRdbmsSpecifics(r);
-			return cspy;
+		if (Properties.isSpyAlwaysWrap() || (Instrumentation.isEnabled() && 
+				(log.isJdbcLoggingEnabled() || log.getSqlStatistics() != null))) {
+			long execTime = System.nanoTime() - tstart;
+			return new ConnectionSpy(c, d.rdbmsSpecifics, driverResolutionTime, execTime, log);
 		}
 		return c;
 	}
@@ -444,14 +610,13 @@ public class DriverSpy implements Driver
 	public DriverPropertyInfo[] getPropertyInfo(String url, java.util.Properties info)
 			throws SQLException
 	{
-		Driver d = getUnderlyingDriver(url);
+		UnderlyingDriver d = getUnderlyingDriver(url);
 		if (d == null)
 		{
 			return new DriverPropertyInfo[0];
 		}
 
-		lastUnderlyingDriverRequested = d;
-		return d.getPropertyInfo(url, info);
+		return d.driver.getPropertyInfo(url, info);
 	}
 
 	protected void reportException(String methodCall, SQLException exception)
@@ -459,18 +624,16 @@ public class DriverSpy implements Driver
 		log.exceptionOccured((Spy) this, methodCall, exception, null, -1L);
 	}  
 
+	/**
+	 * This spy driver does not use <code>java.util.logging</code>, the logging 
+	 * library used is defined by the property <b>log4jdbc.spylogdelegator.name</b>.
+	 *
+	 * @throws SQLFeatureNotSupportedException always.
+	 */
 	@Override
 	public Logger getParentLogger() throws SQLFeatureNotSupportedException
 	{
-		String methodCall = "getParentLogger()";
-		try
-		{
-			return lastUnderlyingDriverRequested.getParentLogger();  
-		}
-		catch (SQLFeatureNotSupportedException s)
-		{
-			reportException(methodCall,s);
-			throw s;      
-		}
+		throw new SQLFeatureNotSupportedException(
+				"log4jdbc does not use java.util.logging");
 	}
 }
@@ -0,0 +1,97 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+/**
+ * The SQL executed by a {@link PreparedStatementSpy}, with a snapshot of the values
+ * bound at the time of the execution. It is reported to the {@code SpyLogDelegator}
+ * as is (see {@code SpyLogDelegator#sqlOccurred(Spy, String, DumpedSql)}): the values
+ * are formatted by the {@code RdbmsSpecifics} of the statement, and substituted
+ * to the placeholders of its SQL template, only when the SQL is rendered for logging,
+ * possibly in another thread and after the next execution of the statement.
+ * <p>
+ * This class is thread-safe: the values held are never modified, and the rendering
+ * is computed at first use, possibly several times if several threads race for it.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class DumpedSql implements CharSequence {
+    /**
+     * The {@code PreparedStatementSpy} that executed the SQL.
+     */
+    private final PreparedStatementSpy spy;
+    /**
+     * The raw values bound when the SQL was executed.
+     */
+    private final BoundParameters parameters;
+    /**
+     * The values formatted, {@code null} until first requested.
+     */
+    private volatile String[] boundValues;
+    /**
+     * The SQL with the values bound, {@code null} until first requested.
+     */
+    private volatile String dumped;
+
+    /**
+     * @param spy           The {@code PreparedStatementSpy} that executed the SQL.
+     * @param parameters    A {@code BoundParameters} that is a copy of the values bound
+     *                      when the SQL was executed, not modified afterwards.
+     */
+    DumpedSql(PreparedStatementSpy spy, BoundParameters parameters) {
+        this.spy = spy;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return  A {@code String} that is the SQL template of the statement, with placeholders
+     *          for the values bound, so that it can be formatted only once whatever
+     *          the values bound.
+     */
+    public String getTemplate() {
+        return this.spy.getSqlTemplate();
+    }
+
+    /**
+     * @return  An array of {@code String}s that are the values bound, formatted
+     *          by the {@code RdbmsSpecifics} of the statement at first call, in the order
+     *          of the placeholders of the template, a value being {@code null} if not bound.
+     *          The array returned must not be modified.
+     */
+    public String[] getBoundValues() {
+        String[] values = this.boundValues;
+        if (values == null) {
+            values = this.spy.formatArgs(this.parameters);
+            this.boundValues = values;
+        }
+        return values;
+    }
+
+    /**
+     * @return  A {@code String} that is the SQL with the values bound substituted
+     *          to the placeholders of the template, placeholders without value being kept.
+     */
+    @Override
+    public String toString() {
+        String s = this.dumped;
+        if (s == null) {
+            s = this.spy.dumpSql(this.getBoundValues());
+            this.dumped = s;
+        }
+        return s;
+    }
+
+    @Override
+    public int length() {
+        return this.toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return this.toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return this.toString().subSequence(start, end);
+    }
+}
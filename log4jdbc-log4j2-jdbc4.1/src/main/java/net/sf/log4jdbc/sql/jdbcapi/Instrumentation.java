@@ -0,0 +1,92 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import net.sf.log4jdbc.Properties;
+
+/**
+ * Switch allowing to turn on and off at runtime the instrumentation of the JDBC objects 
+ * already wrapped by log4jdbc. When it is off, each method of the spies forwards the call 
+ * straight to the real object, before describing it or recording anything: no SQL 
+ * is formatted nor logged, no timing nor statistics are recorded, the values bound 
+ * to <code>PreparedStatement</code>s are not traced, and the <code>Statement</code>s 
+ * and <code>ResultSet</code>s returned are not wrapped. Only the closing of connections 
+ * is still tracked.
+ * <p>
+ * The state is a single volatile mode word, read once per call by the spies, so that 
+ * its cost is negligible when the instrumentation is off. The mode changes each time 
+ * the instrumentation is turned on or off: when they observe a new mode, the spies read 
+ * again the logging flags of their <code>SpyLogDelegator</code>, and drop the state 
+ * recorded under the previous mode (values bound to <code>PreparedStatement</code>s); 
+ * a batch is reported only if the mode did not change while it was built.
+ * <p>
+ * Connections obtained while logging is disabled, or while the instrumentation is off, 
+ * are not wrapped at all, unless 
+ * the property <code>log4jdbc.spy.always.wrap</code> is <code>true</code>; 
+ * this allows to observe them once logging is enabled and the instrumentation is on.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class Instrumentation {
+    /**
+     * The bit of the mode word set when the spies report the calls made on them.
+     */
+    private static final int ENABLED = 1;
+    /**
+     * The increment of the mode word at each change, above the {@link #ENABLED} bit.
+     */
+    private static final int GENERATION = 2;
+
+    /**
+     * The mode word: the {@link #ENABLED} bit, and the number of changes in the upper bits. 
+     * The {@link #ENABLED} bit is initialized from the property 
+     * <code>log4jdbc.instrumentation.enabled</code>.
+     */
+    private static volatile int mode = Properties.isInstrumentationEnabled() ? ENABLED : 0;
+
+    /**
+     * Private constructor, this class only provides static methods.
+     */
+    private Instrumentation() {
+    }
+
+    /**
+     * @return  <code>true</code> if the spies report the calls made on them, 
+     *          <code>false</code> if they forward them straight to the real objects.
+     */
+    public static boolean isEnabled() {
+        return isEnabled(mode);
+    }
+
+    /**
+     * @return  An <code>int</code> that is the current mode word, different each time 
+     *          the instrumentation is turned on or off, to be tested with 
+     *          {@link #isEnabled(int)}.
+     */
+    public static int getMode() {
+        return mode;
+    }
+
+    /**
+     * @param mode  An <code>int</code> that is a mode word returned by {@link #getMode()}.
+     * @return      <code>true</code> if the spies report the calls made on them 
+     *              in <code>mode</code>.
+     */
+    public static boolean isEnabled(int mode) {
+        return (mode & ENABLED) != 0;
+    }
+
+    /**
+     * Turn on or off the instrumentation of all the JDBC objects wrapped by log4jdbc, 
+     * including the ones already handed out.
+     *
+     * @param enabled   <code>true</code> to have the spies report the calls made on them, 
+     *                  <code>false</code> to have them forward the calls straight 
+     *                  to the real objects.
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        int current = mode;
+        if (isEnabled(current) != enabled) {
+            mode = ((current + GENERATION) & ~ENABLED) | (enabled ? ENABLED : 0);
+        }
+    }
+}
@@ -35,12 +35,13 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.List;
 
 import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.SqlOperation;
+import net.sf.log4jdbc.sql.SqlTemplate;
 import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
 
 /**
@@ -50,35 +51,135 @@ import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
  * This class now overrides <code>Statement.getGeneratedKeys()</code> 
  * in order to use the convenient method <code>Statement.getGeneratedKeys(String)</code>, 
  * by providing the String returned by <code>dumpedSql()</code>.
+ * <p>
+ * The values bound are stored raw (see {@link BoundParameters}), and the SQL executed 
+ * is reported as a snapshot of these values (see {@link DumpedSql}): 
+ * they are formatted by the <code>RdbmsSpecifics</code> only if a message 
+ * containing the SQL is actually rendered.
  *
  * @author Arthur Blake
  */
 public class PreparedStatementSpy extends StatementSpy implements PreparedStatement
 {
+  /**
+   * Descriptions of the JDBC methods without arguments (and of the creation
+   * of this spy), shared to avoid any allocation on each call.
+   */
+  private static final MethodCall ADD_BATCH = new MethodCall("addBatch");
+  private static final MethodCall CLEAR_PARAMETERS = new MethodCall("clearParameters");
+  private static final MethodCall EXECUTE = new MethodCall("execute");
+  private static final MethodCall EXECUTE_QUERY = new MethodCall("executeQuery");
+  private static final MethodCall EXECUTE_UPDATE = new MethodCall("executeUpdate");
+  private static final MethodCall GET_META_DATA = new MethodCall("getMetaData");
+  private static final MethodCall GET_PARAMETER_META_DATA = new MethodCall("getParameterMetaData");
+
 
   /**
-   * holds list of bind variables for tracing
+   * holds the raw values of the bind variables for tracing, formatted 
+   * only when the SQL is rendered for logging. 
+   * <p>
+   * Not synchronized: as the <code>PreparedStatement</code> it wraps, this spy is used 
+   * by one thread at a time, which owns this buffer. Other threads never read it: 
+   * they only see the copies taken by <code>reportedSql()</code>, held 
+   * by the <code>DumpedSql</code> reported.
    */
-  protected final List<String> argTrace = new ArrayList<String>();
+  protected final BoundParameters argTrace = new BoundParameters();
 
-  // a way to turn on and off type help...
-  // todo:  make this a configurable parameter
   // todo, debug arrays and streams in a more useful manner.... if possible
-  private static final boolean showTypeHelp = false;
 
   /**
-   * Store an argument (bind variable) into the argTrace list (above) for later dumping.
+   * Store an argument (bind variable) into the argTrace (above) for later dumping. 
+   * The argument is not formatted at this point.
    *
    * @param i          index of argument being set.
-   * @param typeHelper optional additional info about the type that is being set in the arg
+   * @param typeHelper optional additional info about the type that is being set in the arg 
+   *                   (not used).
    * @param arg        argument being bound.
    */
   protected void argTraceSet(int i, String typeHelper, Object arg)
   {
-    String tracedArg;
+    argTrace.setObject(i, arg);
+  }
+
+  /**
+   * Store an <code>int</code> argument into the argTrace without boxing it.
+   * @see #argTraceSet(int, String, Object)
+   */
+  protected void argTraceSet(int i, int arg)
+  {
+    argTrace.setInt(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, long arg)
+  {
+    argTrace.setLong(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, short arg)
+  {
+    argTrace.setShort(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, byte arg)
+  {
+    argTrace.setByte(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, boolean arg)
+  {
+    argTrace.setBoolean(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, float arg)
+  {
+    argTrace.setFloat(i, arg);
+  }
+
+  /**
+   * @see #argTraceSet(int, int)
+   */
+  protected void argTraceSet(int i, double arg)
+  {
+    argTrace.setDouble(i, arg);
+  }
+
+  /**
+   * The values bound while the instrumentation was off were not traced: 
+   * they are dropped, so that they are never reported with stale values.
+   */
+  @Override
+  protected void instrumentationModeChanged()
+  {
+    super.instrumentationModeChanged();
+    argTrace.clear();
+  }
+
+  /**
+   * Format a bound argument with the <code>RdbmsSpecifics</code> of this spy.
+   *
+   * @param arg argument bound.
+   * @return the argument formatted.
+   */
+  private String formatArg(Object arg)
+  {
     try
     {
-      tracedArg = rdbmsSpecifics.formatParameterObject(arg);
+      return rdbmsSpecifics.formatParameterObject(arg);
     }
     catch (Throwable t)
     {
@@ -89,72 +190,133 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
         t.getMessage() + ")");
 
       // backup - so that at least we won't harm the application using us
-      tracedArg = arg==null?"null":arg.toString();
+      return arg==null?"null":arg.toString();
     }
+  }
 
-    i--;  // make the index 0 based
-    synchronized (argTrace)
+  /**
+   * Format the values of <code>parameters</code>.
+   *
+   * @param parameters the raw values bound.
+   * @return the values formatted, in the order of the parameters, a value being 
+   *         <code>null</code> if not bound.
+   */
+  String[] formatArgs(BoundParameters parameters)
+  {
+    String[] boundValues = new String[parameters.size()];
+    for (int i = 1; i <= boundValues.length; i++)
     {
-      // if an object is being inserted out of sequence, fill up missing values with null...
-      while (i >= argTrace.size())
-      {
-        argTrace.add(argTrace.size(), null);
-      }
-      if (!showTypeHelp)
-      {
-        argTrace.set(i, tracedArg);
-      }
-      else
+      if (parameters.isSet(i))
       {
-        argTrace.set(i, typeHelper + tracedArg);
+        boundValues[i - 1] = formatArg(parameters.get(i));
       }
     }
+    return boundValues;
   }
 
-
-  protected String dumpedSql()
+  /**
+   * Wraps a parameter bound to this <code>PreparedStatement</code>, so that it is formatted 
+   * by the <code>RdbmsSpecifics</code> only if the <code>MethodCall</code> it is used in 
+   * is actually rendered for logging.
+   *
+   * @param x the parameter to format lazily.
+   * @return an <code>Object</code> whose <code>toString</code> method returns 
+   *         the parameter formatted by the <code>RdbmsSpecifics</code> of this spy.
+   */
+  protected Object formattedParameter(final Object x)
   {
-    StringBuilder dumpSql = new StringBuilder();
-    int lastPos = 0;
-    int Qpos = sql.indexOf('?', lastPos);  // find position of first question mark
-    int argIdx = 0;
-    String arg;
-
-    while (Qpos != -1)
+    return new Object()
     {
-      // get stored argument
-      synchronized (argTrace)
-      {
-        try
-        {
-          arg = argTrace.get(argIdx);
-        }
-        catch (IndexOutOfBoundsException e)
-        {
-          arg = "?";
-        }
-      }
-      if (arg == null)
+      @Override
+      public String toString()
       {
-        arg = "?";
+        return rdbmsSpecifics.formatParameterObject(x);
       }
+    };
+  }
 
-      argIdx++;
+  /**
+   * Get the SQL of this <code>PreparedStatement</code> with the values currently bound 
+   * substituted to its placeholders. The values are formatted immediately, this method 
+   * is used when the SQL needs to be stored (batches); SQL executed is reported 
+   * using {@link #reportedSql()}.
+   *
+   * @return the SQL with the bound values.
+   */
+  protected String dumpedSql()
+  {
+    BoundParameters parameters = argTrace.copy();
+    return dumpSql(formatArgs(parameters));
+  }
 
-      dumpSql.append(sql.substring(lastPos, Qpos));  // dump segment of sql up to question mark.
-      lastPos = Qpos + 1;
-      Qpos = sql.indexOf('?', lastPos);
-      dumpSql.append(arg);
-    }
-    if (lastPos < sql.length())
+  /**
+   * Take a snapshot of the values currently bound, to report the SQL executed 
+   * without formatting them: the SQL with the bound values is produced only 
+   * when the <code>DumpedSql</code> returned is rendered for logging.
+   *
+   * @return a <code>DumpedSql</code> that is the SQL to report.
+   */
+  protected DumpedSql reportedSql()
+  {
+    //the copy is never modified, and is published to other threads 
+    //along with the event reporting this SQL
+    return new DumpedSql(this, argTrace.copy());
+  }
+
+  /**
+   * Substitute <code>boundValues</code> to the placeholders of the SQL template.
+   *
+   * @param boundValues the formatted values, in the order of the placeholders, 
+   *                    placeholders without value being kept.
+   * @return the SQL with the bound values.
+   */
+  String dumpSql(String[] boundValues)
+  {
+    SqlTemplate template = parsedSql;
+    if (template == null)
     {
-      dumpSql.append(sql.substring(lastPos, sql.length()));  // dump last segment
+      // parsed at first use only, possibly by several threads: 
+      // SqlTemplate is immutable, so the race is harmless
+      template = SqlTemplate.parse(sql);
+      parsedSql = template;
     }
+    return template.substitute(boundValues);
+  }
+
+  /**
+   * The SQL template parsed into literal segments and placeholders, 
+   * <code>null</code> until the SQL is first dumped.
+   */
+  private SqlTemplate parsedSql;
 
-    return dumpSql.toString();
+  /**
+   * The operation performed by the SQL template, computed at creation.
+   */
+  private final SqlOperation sqlOperation;
+
+  /**
+   * Get the operation performed by the SQL template of this <code>PreparedStatement</code>, 
+   * which is the operation of any SQL reported by this spy (bound values and batches 
+   * do not change it).
+   *
+   * @param sql the SQL reported by this spy.
+   * @return the <code>SqlOperation</code> of the SQL template of this spy.
+   */
+  @Override
+  public SqlOperation getSqlOperation(String sql)
+  {
+    return sqlOperation;
   }
 
-  protected void reportAllReturns(String methodCall, String msg)
+  /**
+   * @return the SQL template of this <code>PreparedStatement</code>, with placeholders.
+   */
+  public String getSqlTemplate()
+  {
+    return sql;
+  }
+
+  protected void reportAllReturns(MethodCall methodCall, String msg)
   {
     log.methodReturned(this, methodCall, msg);
   }
@@ -194,6 +356,7 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   {
     super(connectionSpy, realPreparedStatement, logDelegator);  // does null check for us
     this.sql = sql;
+    this.sqlOperation = SqlOperation.classify(sql);
     this.realPreparedStatement = realPreparedStatement;
     rdbmsSpecifics = connectionSpy.getRdbmsSpecifics();
   }
@@ -208,7 +371,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setTime(int parameterIndex, Time x) throws SQLException
   {
-    String methodCall = "setTime(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setTime(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setTime", parameterIndex, x);
     argTraceSet(parameterIndex, "(Time)", x);
     try
     {
@@ -225,7 +393,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException
   {
-    String methodCall = "setTime(" + parameterIndex + ", " + x + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setTime(parameterIndex, x, cal);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setTime", parameterIndex, x, cal);
     argTraceSet(parameterIndex, "(Time)", x);
     try
     {
@@ -242,7 +415,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException
   {
-    String methodCall = "setCharacterStream(" + parameterIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setCharacterStream(parameterIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setCharacterStream", parameterIndex, reader, length);
     argTraceSet(parameterIndex, "(Reader)", "<Reader of length " + length + ">");
     try
     {
@@ -259,7 +437,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setNull(int parameterIndex, int sqlType) throws SQLException
   {
-    String methodCall = "setNull(" + parameterIndex + ", " + sqlType + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNull(parameterIndex, sqlType);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNull", parameterIndex, sqlType);
     argTraceSet(parameterIndex, null, null);
     try
     {
@@ -276,7 +459,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setNull(int paramIndex, int sqlType, String typeName) throws SQLException
   {
-    String methodCall = "setNull(" + paramIndex + ", " + sqlType + ", " + typeName + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNull(paramIndex, sqlType, typeName);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNull", paramIndex, sqlType, typeName);
     argTraceSet(paramIndex, null, null);
     try
     {
@@ -293,7 +481,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setRef(int i, Ref x) throws SQLException
   {
-    String methodCall = "setRef(" + i + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setRef(i, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setRef", i, x);
     argTraceSet(i, "(Ref)", x);
     try
     {
@@ -310,8 +503,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException
   {
-    String methodCall = "setBoolean(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(boolean)", x?Boolean.TRUE:Boolean.FALSE);
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBoolean(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBoolean", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setBoolean(parameterIndex, x);
@@ -327,7 +525,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setBlob(int i, Blob x) throws SQLException
   {
-    String methodCall = "setBlob(" + i + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBlob(i, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBlob", i, x);
     argTraceSet(i, "(Blob)", 
       x==null?null:("<Blob of size " + x.length() + ">"));
     try
@@ -345,7 +548,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setClob(int i, Clob x) throws SQLException
   {
-    String methodCall = "setClob(" + i + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setClob(i, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setClob", i, x);
     argTraceSet(i, "(Clob)",
       x==null?null:("<Clob of size " + x.length() + ">"));
     try
@@ -363,7 +571,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setArray(int i, Array x) throws SQLException
   {
-    String methodCall = "setArray(" + i + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setArray(i, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setArray", i, x);
     argTraceSet(i, "(Array)", "<Array>");
     try
     {
@@ -380,8 +593,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException
   {
-    String methodCall = "setByte(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(byte)", new Byte(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setByte(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setByte", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setByte(parameterIndex, x);
@@ -400,7 +618,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException
   {
-    String methodCall = "setUnicodeStream(" + parameterIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setUnicodeStream(parameterIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setUnicodeStream", parameterIndex, x, length);
     argTraceSet(parameterIndex, "(Unicode InputStream)", "<Unicode InputStream of length " + length + ">");
     try
     {
@@ -417,8 +640,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException
   {
-    String methodCall = "setShort(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(short)", new Short(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setShort(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setShort", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setShort(parameterIndex, x);
@@ -434,19 +662,23 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public boolean execute() throws SQLException
   {
-    String methodCall = "execute()";
-    String dumpedSql = dumpedSql();
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.execute();
+    }
+    MethodCall methodCall = EXECUTE;
+    DumpedSql dumpedSql = reportedSql();
     reportSql(dumpedSql, methodCall);
-    long tstart = System.currentTimeMillis();
+    long tstart = System.nanoTime();
     try
     {
       boolean result = realPreparedStatement.execute();
-      reportSqlTiming(System.currentTimeMillis() - tstart, dumpedSql, methodCall);
+      reportSqlTiming(System.nanoTime() - tstart, dumpedSql, methodCall);
       return reportReturn(methodCall, result);
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s, dumpedSql, System.currentTimeMillis() - tstart);
+      reportException(methodCall, s, dumpedSql, System.nanoTime() - tstart);
       throw s;
     }
   }
@@ -454,8 +686,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException
   {
-    String methodCall = "setInt(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(int)", new Integer(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setInt(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setInt", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setInt(parameterIndex, x);
@@ -471,8 +708,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException
   {
-    String methodCall = "setLong(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(long)", new Long(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setLong(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setLong", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setLong(parameterIndex, x);
@@ -488,8 +730,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException
   {
-    String methodCall = "setFloat(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(float)", new Float(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setFloat(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setFloat", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setFloat(parameterIndex, x);
@@ -505,8 +752,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException
   {
-    String methodCall = "setDouble(" + parameterIndex + ", " + x + ")";
-    argTraceSet(parameterIndex, "(double)", new Double(x));
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setDouble(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setDouble", parameterIndex, x);
+    argTraceSet(parameterIndex, x);
     try
     {
       realPreparedStatement.setDouble(parameterIndex, x);
@@ -522,7 +774,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException
   {
-    String methodCall = "setBigDecimal(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBigDecimal(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBigDecimal", parameterIndex, x);
     argTraceSet(parameterIndex, "(BigDecimal)", x);
     try
     {
@@ -539,7 +796,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setURL(int parameterIndex, URL x) throws SQLException
   {
-    String methodCall = "setURL(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setURL(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setURL", parameterIndex, x);
     argTraceSet(parameterIndex, "(URL)", x);
 
     try
@@ -557,7 +819,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setString(int parameterIndex, String x) throws SQLException
   {
-    String methodCall = "setString(" + parameterIndex + ", \"" + x + "\")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setString(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setString", parameterIndex, x);
     argTraceSet(parameterIndex, "(String)", x);
 
     try
@@ -575,8 +842,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setBytes(int parameterIndex, byte[] x) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBytes(parameterIndex, x);
+      return;
+    }
     //todo: dump array?
-    String methodCall = "setBytes(" + parameterIndex + ", " + rdbmsSpecifics.formatParameterObject(x) + ")";
+    MethodCall methodCall = new MethodCall("setBytes", parameterIndex, formattedParameter(x));
     argTraceSet(parameterIndex, "(byte[])", x);
     try
     {
@@ -593,7 +865,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setDate(int parameterIndex, Date x) throws SQLException
   {
-    String methodCall = "setDate(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setDate(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setDate", parameterIndex, x);
     argTraceSet(parameterIndex, "(Date)", x);
     try
     {
@@ -610,7 +887,11 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public ParameterMetaData getParameterMetaData() throws SQLException
   {
-    String methodCall = "getParameterMetaData()";
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.getParameterMetaData();
+    }
+    MethodCall methodCall = GET_PARAMETER_META_DATA;
     try
     {
       return (ParameterMetaData) reportReturn(methodCall, realPreparedStatement.getParameterMetaData());
@@ -624,7 +905,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setRowId(int parameterIndex, RowId x) throws SQLException {
-    String methodCall = "setRowId(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setRowId(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setRowId", parameterIndex, x);
     argTraceSet(parameterIndex, "(RowId)", x);
     try
     {
@@ -640,7 +926,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNString(int parameterIndex, String value) throws SQLException {
-    String methodCall = "setNString(" + parameterIndex + ", " + value + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNString(parameterIndex, value);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNString", parameterIndex, value);
     argTraceSet(parameterIndex, "(String)", value);
     try
     {
@@ -656,7 +947,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
-    String methodCall = "setNCharacterStream(" + parameterIndex + ", " + value + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNCharacterStream(parameterIndex, value, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNCharacterStream", parameterIndex, value, length);
     argTraceSet(parameterIndex, "(Reader)", "<Reader of length " + length + ">");
     try
     {
@@ -672,7 +968,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNClob(int parameterIndex, NClob value) throws SQLException {
-    String methodCall = "setNClob(" + parameterIndex + ", " + value + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNClob(parameterIndex, value);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNClob", parameterIndex, value);
     argTraceSet(parameterIndex, "(NClob)", "<NClob>");
     try
     {
@@ -688,7 +989,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
-    String methodCall = "setClob(" + parameterIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setClob(parameterIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setClob", parameterIndex, reader, length);
     argTraceSet(parameterIndex, "(Reader)", "<Reader of length " + length + ">");
     try
     {
@@ -704,7 +1010,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
-    String methodCall = "setBlob(" + parameterIndex + ", " + inputStream + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBlob(parameterIndex, inputStream, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBlob", parameterIndex, inputStream, length);
     argTraceSet(parameterIndex, "(InputStream)", "<InputStream of length " + length + ">");
     try
     {
@@ -720,7 +1031,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
-    String methodCall = "setNClob(" + parameterIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNClob(parameterIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNClob", parameterIndex, reader, length);
     argTraceSet(parameterIndex, "(Reader)", "<Reader of length " + length + ">");
     try
     {
@@ -736,7 +1052,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
-    String methodCall = "setSQLXML(" + parameterIndex + ", " + xmlObject + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setSQLXML(parameterIndex, xmlObject);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setSQLXML", parameterIndex, xmlObject);
     argTraceSet(parameterIndex, "(SQLXML)", xmlObject);
     try
     {
@@ -753,7 +1074,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException
   {
-    String methodCall = "setDate(" + parameterIndex + ", " + x + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setDate(parameterIndex, x, cal);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setDate", parameterIndex, x, cal);
     argTraceSet(parameterIndex, "(Date)", x);
 
     try
@@ -771,20 +1097,24 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public ResultSet executeQuery() throws SQLException
   {
-    String methodCall = "executeQuery()";
-    String dumpedSql = dumpedSql();
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.executeQuery();
+    }
+    MethodCall methodCall = EXECUTE_QUERY;
+    DumpedSql dumpedSql = reportedSql();
     reportSql(dumpedSql, methodCall);
-    long tstart = System.currentTimeMillis();
+    long tstart = System.nanoTime();
     try
     {
       ResultSet r = realPreparedStatement.executeQuery();
-      reportSqlTiming(System.currentTimeMillis() - tstart, dumpedSql, methodCall);
+      reportSqlTiming(System.nanoTime() - tstart, dumpedSql, methodCall);
       ResultSetSpy rsp = new ResultSetSpy(this, r, this.log);
       return (ResultSet) reportReturn(methodCall, rsp);
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s, dumpedSql, System.currentTimeMillis() - tstart);
+      reportException(methodCall, s, dumpedSql, System.nanoTime() - tstart);
       throw s;
     }
   }
@@ -801,7 +1131,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType, int scale) throws SQLException
   {
-    String methodCall = "setObject(" + parameterIndex + ", " + rdbmsSpecifics.formatParameterObject(x) + ", " + targetSqlType + ", " + scale + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setObject(parameterIndex, x, targetSqlType, scale);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setObject", parameterIndex, formattedParameter(x), targetSqlType, scale);
     argTraceSet(parameterIndex, getTypeHelp(x), x);
 
     try
@@ -839,7 +1174,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
    */
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
-    String methodCall = "setAsciiStream(" + parameterIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setAsciiStream(parameterIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setAsciiStream", parameterIndex, x, length);
     argTraceSet(parameterIndex, "(Ascii InputStream)", "<Ascii InputStream of length " + length + ">");
     try
     {
@@ -855,7 +1195,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
-    String methodCall = "setBinaryStream(" + parameterIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBinaryStream(parameterIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBinaryStream", parameterIndex, x, length);
     argTraceSet(parameterIndex, "(Binary InputStream)", "<Binary InputStream of length " + length + ">");
     try
     {
@@ -871,7 +1216,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
-    String methodCall = "setCharacterStream(" + parameterIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setCharacterStream(parameterIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setCharacterStream", parameterIndex, reader, length);
     argTraceSet(parameterIndex, "(Reader)", "<Reader of length " + length + ">");
     try
     {
@@ -888,7 +1238,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
-    String methodCall = "setAsciiStream(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setAsciiStream(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setAsciiStream", parameterIndex, x);
     argTraceSet(parameterIndex, "(Ascii InputStream)", "<Ascii InputStream>");
     try
     {
@@ -904,7 +1259,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
-    String methodCall = "setBinaryStream(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBinaryStream(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBinaryStream", parameterIndex, x);
     argTraceSet(parameterIndex, "(Binary InputStream)", "<Binary InputStream>");
     try
     {
@@ -921,7 +1281,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
-    String methodCall = "setCharacterStream(" + parameterIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setCharacterStream(parameterIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setCharacterStream", parameterIndex, reader);
     argTraceSet(parameterIndex, "(Reader)", "<Reader>");
     try
     {
@@ -937,7 +1302,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNCharacterStream(int parameterIndex, Reader reader) throws SQLException {
-    String methodCall = "setNCharacterStream(" + parameterIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNCharacterStream(parameterIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNCharacterStream", parameterIndex, reader);
     argTraceSet(parameterIndex, "(Reader)", "<Reader>");
     try
     {
@@ -953,7 +1323,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setClob(int parameterIndex, Reader reader) throws SQLException {
-    String methodCall = "setClob(" + parameterIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setClob(parameterIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setClob", parameterIndex, reader);
     argTraceSet(parameterIndex, "(Reader)", "<Reader>");
     try
     {
@@ -969,7 +1344,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
-    String methodCall = "setBlob(" + parameterIndex + ", " + inputStream + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBlob(parameterIndex, inputStream);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBlob", parameterIndex, inputStream);
     argTraceSet(parameterIndex, "(InputStream)", "<InputStream>");
     try
     {
@@ -985,7 +1365,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public void setNClob(int parameterIndex, Reader reader) throws SQLException {
-    String methodCall = "setNClob(" + parameterIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setNClob(parameterIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setNClob", parameterIndex, reader);
     argTraceSet(parameterIndex, "(Reader)", "<Reader>");
     try
     {
@@ -1003,7 +1388,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException
   {
-    String methodCall = "setObject(" + parameterIndex + ", " + rdbmsSpecifics.formatParameterObject(x) + ", " + targetSqlType + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setObject(parameterIndex, x, targetSqlType);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setObject", parameterIndex, formattedParameter(x), targetSqlType);
     argTraceSet(parameterIndex, getTypeHelp(x), x);
     try
     {
@@ -1020,7 +1410,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setObject(int parameterIndex, Object x) throws SQLException
   {
-    String methodCall = "setObject(" + parameterIndex + ", " + rdbmsSpecifics.formatParameterObject(x) + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setObject(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setObject", parameterIndex, formattedParameter(x));
     argTraceSet(parameterIndex, getTypeHelp(x), x);
     try
     {
@@ -1037,7 +1432,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException
   {
-    String methodCall = "setTimestamp(" + parameterIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setTimestamp(parameterIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setTimestamp", parameterIndex, x);
     argTraceSet(parameterIndex, "(Date)", x);
     try
     {
@@ -1054,7 +1454,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException
   {
-    String methodCall = "setTimestamp(" + parameterIndex + ", " + x + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setTimestamp(parameterIndex, x, cal);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setTimestamp", parameterIndex, x, cal);
     argTraceSet(parameterIndex, "(Timestamp)", x);
     try
     {
@@ -1071,19 +1476,23 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public int executeUpdate() throws SQLException
   {
-    String methodCall = "executeUpdate()";
-    String dumpedSql = dumpedSql();
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.executeUpdate();
+    }
+    MethodCall methodCall = EXECUTE_UPDATE;
+    DumpedSql dumpedSql = reportedSql();
     reportSql(dumpedSql, methodCall);
-    long tstart = System.currentTimeMillis();
+    long tstart = System.nanoTime();
     try
     {
       int result = realPreparedStatement.executeUpdate();
-      reportSqlTiming(System.currentTimeMillis() - tstart, dumpedSql, methodCall);
+      reportSqlTiming(System.nanoTime() - tstart, dumpedSql, methodCall, result);
       return reportReturn(methodCall, result);
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s, dumpedSql, System.currentTimeMillis() - tstart);
+      reportException(methodCall, s, dumpedSql, System.nanoTime() - tstart);
       throw s;
     }
   }
@@ -1091,13 +1500,22 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public ResultSet getGeneratedKeys() throws SQLException
   {
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.getGeneratedKeys();
+    }
 	  return this.getGeneratedKeys(dumpedSql());
   }
 
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException
   {
-    String methodCall = "setAsciiStream(" + parameterIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setAsciiStream(parameterIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setAsciiStream", parameterIndex, x, length);
     argTraceSet(parameterIndex, "(Ascii InputStream)", "<Ascii InputStream of length " + length + ">");
     try
     {
@@ -1114,7 +1532,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException
   {
-    String methodCall = "setBinaryStream(" + parameterIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realPreparedStatement.setBinaryStream(parameterIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setBinaryStream", parameterIndex, x, length);
     argTraceSet(parameterIndex, "(Binary InputStream)", "<Binary InputStream of length " + length + ">");
     try
     {
@@ -1131,12 +1554,14 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void clearParameters() throws SQLException
   {
-    String methodCall = "clearParameters()";
-
-    synchronized (argTrace)
+    if (!isInstrumented())
     {
-      argTrace.clear();
+      realPreparedStatement.clearParameters();
+      return;
     }
+    MethodCall methodCall = CLEAR_PARAMETERS;
+
+    argTrace.clear();
 
     try
     {
@@ -1153,7 +1578,11 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public ResultSetMetaData getMetaData() throws SQLException
   {
-    String methodCall = "getMetaData()";
+    if (!isInstrumented())
+    {
+      return realPreparedStatement.getMetaData();
+    }
+    MethodCall methodCall = GET_META_DATA;
     try
     {
       return (ResultSetMetaData) reportReturn(methodCall, realPreparedStatement.getMetaData());
@@ -1168,7 +1597,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public void addBatch() throws SQLException
   {
-    String methodCall = "addBatch()";
+    if (!isBatchInstrumented())
+    {
+      realPreparedStatement.addBatch();
+      return;
+    }
+    MethodCall methodCall = ADD_BATCH;
     currentBatch.add(dumpedSql());
     try
     {
@@ -1184,7 +1618,13 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
 
   @Override
   public <T> T unwrap(Class<T> iface) throws SQLException {
-    String methodCall = "unwrap(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface==PreparedStatement.class||iface==Statement.class||iface==Spy.class))?
+        iface.cast(this):
+        realPreparedStatement.unwrap(iface);
+    }
+    MethodCall methodCall = new MethodCall("unwrap", iface);
     try
     {
       //todo: double check this logic
@@ -1205,7 +1645,12 @@ public class PreparedStatementSpy extends StatementSpy implements PreparedStatem
   @Override
   public boolean isWrapperFor(Class<?> iface) throws SQLException
   {
-    String methodCall = "isWrapperFor(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface==PreparedStatement.class||iface==Statement.class||iface==Spy.class)) ||
+        realPreparedStatement.isWrapperFor(iface);
+    }
+    MethodCall methodCall = new MethodCall("isWrapperFor", iface);
     try
     {
       //NOTE: could call super.isWrapperFor to simplify this logic, but it would result in extra log output
@@ -37,7 +37,9 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
 
+import net.sf.log4jdbc.Properties;
 import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
 import net.sf.log4jdbc.sql.resultsetcollector.DefaultResultSetCollector;
 import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
@@ -52,22 +54,126 @@ import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
  */
 public class ResultSetSpy implements ResultSet, Spy
 {
+  /**
+   * Identifiers of the methods relevant to <code>ResultSetCollector</code>s, 
+   * see {@link MethodCall#getId()}.
+   */
+  public static final int NEXT_ID = 1;
+  public static final int FIRST_ID = 2;
+  public static final int CLOSE_ID = 3;
+  public static final int WAS_NULL_ID = 4;
+  public static final int GET_META_DATA_ID = 5;
+  /**
+   * Identifier shared by the getters of column values collected 
+   * by <code>ResultSetCollector</code>s, taking only the column index or label 
+   * as argument (<code>getString</code>, <code>getInt</code>, <code>getObject</code>, ...).
+   */
+  public static final int GETTER_ID = 6;
+  /**
+   * Identifier shared by the methods moving the cursor other than forward 
+   * (<code>previous</code>, <code>absolute</code>, <code>relative</code>, 
+   * <code>last</code>, <code>beforeFirst</code>, <code>afterLast</code>), 
+   * not supported by <code>ResultSetCollector</code>s.
+   */
+  public static final int REPOSITION_ID = 7;
+
+  /**
+   * Descriptions of the JDBC methods without arguments (and of the creation
+   * of this spy), shared to avoid any allocation on each call.
+   */
+  private static final MethodCall AFTER_LAST = new MethodCall(REPOSITION_ID, "afterLast");
+  private static final MethodCall BEFORE_FIRST = new MethodCall(REPOSITION_ID, "beforeFirst");
+  private static final MethodCall CANCEL_ROW_UPDATES = new MethodCall("cancelRowUpdates");
+  private static final MethodCall CLEAR_WARNINGS = new MethodCall("clearWarnings");
+  private static final MethodCall CLOSE = new MethodCall(CLOSE_ID, "close");
+  private static final MethodCall DELETE_ROW = new MethodCall("deleteRow");
+  private static final MethodCall FIRST = new MethodCall(FIRST_ID, "first");
+  private static final MethodCall GET_CONCURRENCY = new MethodCall("getConcurrency");
+  private static final MethodCall GET_CURSOR_NAME = new MethodCall("getCursorName");
+  private static final MethodCall GET_FETCH_DIRECTION = new MethodCall("getFetchDirection");
+  private static final MethodCall GET_FETCH_SIZE = new MethodCall("getFetchSize");
+  private static final MethodCall GET_HOLDABILITY = new MethodCall("getHoldability");
+  private static final MethodCall GET_META_DATA = new MethodCall(GET_META_DATA_ID, "getMetaData");
+  private static final MethodCall GET_ROW = new MethodCall("getRow");
+  private static final MethodCall GET_STATEMENT = new MethodCall("getStatement");
+  private static final MethodCall GET_TYPE = new MethodCall("getType");
+  private static final MethodCall GET_WARNINGS = new MethodCall("getWarnings");
+  private static final MethodCall INSERT_ROW = new MethodCall("insertRow");
+  private static final MethodCall IS_AFTER_LAST = new MethodCall("isAfterLast");
+  private static final MethodCall IS_BEFORE_FIRST = new MethodCall("isBeforeFirst");
+  private static final MethodCall IS_CLOSED = new MethodCall("isClosed");
+  private static final MethodCall IS_FIRST = new MethodCall("isFirst");
+  private static final MethodCall IS_LAST = new MethodCall("isLast");
+  private static final MethodCall LAST = new MethodCall(REPOSITION_ID, "last");
+  private static final MethodCall MOVE_TO_CURRENT_ROW = new MethodCall("moveToCurrentRow");
+  private static final MethodCall MOVE_TO_INSERT_ROW = new MethodCall("moveToInsertRow");
+  private static final MethodCall NEW_RESULT_SET = MethodCall.fromDescription("new ResultSet");
+  private static final MethodCall NEXT = new MethodCall(NEXT_ID, "next");
+  private static final MethodCall PREVIOUS = new MethodCall(REPOSITION_ID, "previous");
+  private static final MethodCall REFRESH_ROW = new MethodCall("refreshRow");
+  private static final MethodCall ROW_DELETED = new MethodCall("rowDeleted");
+  private static final MethodCall ROW_INSERTED = new MethodCall("rowInserted");
+  private static final MethodCall ROW_UPDATED = new MethodCall("rowUpdated");
+  private static final MethodCall UPDATE_ROW = new MethodCall("updateRow");
+  private static final MethodCall WAS_NULL = new MethodCall(WAS_NULL_ID, "wasNull");
+
   private final SpyLogDelegator log;
+
+  /**
+   * Whether returns of methods of this <code>ResultSet</code> are logged, 
+   * obtained from {@link SpyLogDelegator#isResultSetLoggingEnabled()} at creation 
+   * and when the mode of the <code>Instrumentation</code> changes, 
+   * to avoid converting return values to <code>String</code> for nothing.
+   */
+  private boolean resultSetLoggingEnabled;
  
   /**
    * Collects results from the result set spy method
    */
   private ResultSetCollector resultSetCollector = null;
 
+  /**
+   * The mode of the <code>Instrumentation</code> when the logging flags were last read.
+   */
+  private int instrumentationMode;
+
+  /**
+   * Check whether calls made on this spy are reported, reading the mode 
+   * of the <code>Instrumentation</code> once. If it was turned on again since the last 
+   * call, the logging flag is read again, and the rows collected so far are dropped, 
+   * as the rows read in the meantime were not collected.
+   *
+   * @return <code>true</code> if the call must be reported, <code>false</code> if it must be 
+   *         forwarded straight to the real result set.
+   */
+  private boolean isInstrumented()
+  {
+    int mode = Instrumentation.getMode();
+    if (!Instrumentation.isEnabled(mode))
+    {
+      return false;
+    }
+    if (mode != instrumentationMode)
+    {
+      instrumentationMode = mode;
+      resultSetLoggingEnabled = log.isResultSetLoggingEnabled();
+      if (resultSetCollector != null)
+      {
+        resultSetCollector.reset();
+      }
+    }
+    return true;
+  }
+
   /**
    * Report an exception to be logged.
    *
    * @param methodCall description of method call and arguments passed to it that generated the exception.
    * @param exception exception that was generated
    */
-  protected void reportException(String methodCall, SQLException exception)
+  protected void reportException(MethodCall methodCall, SQLException exception)
   {
-    log.exceptionOccured(this, methodCall, exception, null, -1L);
+    log.exceptionOccured(this, methodCall, exception, (String) null, -1L);
   }
   
   /**
@@ -88,30 +194,289 @@ public class ResultSetSpy implements ResultSet, Spy
    * this method.
    *
    * @param methodCall description of method call and arguments passed to it that returned.
-   * @param msg description of what the return value that was returned.  may be an empty String for void return types.
+   * @param returnValue the value that was returned, <code>null</code> for void return types.
    */
-  protected void reportAllReturns(String methodCall, Object returnValue, Object... methodParams)
+  protected void reportAllReturns(MethodCall methodCall, Object returnValue)
   {
                 
     if (resultSetCollector != null)
     {
      
       // Give the result set collector a chance to do its work
-      boolean finished = resultSetCollector.methodReturned(this, methodCall, returnValue, realResultSet, methodParams);
+      boolean finished = resultSetCollector.methodReturned(this, methodCall, returnValue, realResultSet);
       if (finished)
       {
-                
-        log.resultSetCollected(resultSetCollector);
-        resultSetCollector.reset();
+        reportResultSetCollected();
       }
     }
     
+    logReturn(methodCall, returnValue);
+  }  
+
+  /**
+   * Log that a method returned, without notifying the <code>resultSetCollector</code>.
+   *
+   * @param methodCall description of method call and arguments passed to it that returned.
+   * @param returnValue the value that was returned, <code>null</code> for void return types.
+   */
+  private void logReturn(MethodCall methodCall, Object returnValue)
+  {
+    if (!resultSetLoggingEnabled) {
+    	return;
+    }
     String toString = "void";
     if (returnValue != null) {
     	toString = returnValue.toString();
     }
     log.methodReturned(this, methodCall, toString);
-  }  
+  }
+
+  /**
+   * Report the result set collected by the <code>resultSetCollector</code>, 
+   * and reset it.
+   */
+  private void reportResultSetCollected()
+  {
+    log.resultSetCollected(resultSetCollector);
+    resultSetCollector.reset();
+  }
+
+  /**
+   * Report that <code>next</code> or <code>first</code> returned, through the typed 
+   * callbacks of the <code>resultSetCollector</code>.
+   *
+   * @param methodCall description of the method call that returned.
+   * @param hasRow the value returned.
+   * @return <code>hasRow</code>.
+   */
+  private boolean reportNextReturn(MethodCall methodCall, boolean hasRow)
+  {
+    if (resultSetCollector != null && resultSetCollector.nextReturned(this, hasRow))
+    {
+      reportResultSetCollected();
+    }
+    logReturn(methodCall, hasRow);
+    return hasRow;
+  }
+
+  /**
+   * Report that a getter of a column value returned, through the typed callbacks 
+   * of the <code>resultSetCollector</code>: neither the description of the call, 
+   * nor the value as a <code>String</code>, are built if the return is not logged. 
+   * The overloads accepting a primitive value do not box it.
+   *
+   * @param methodName the name of the getter.
+   * @param columnIndex (or columnLabel) the column the value was read from.
+   * @param value the value returned.
+   * @return <code>value</code>.
+   */
+  private <T> T reportGetterReturn(String methodName, int columnIndex, T value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), value);
+    }
+    return value;
+  }
+
+  private <T> T reportGetterReturn(String methodName, String columnLabel, T value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), value);
+    }
+    return value;
+  }
+
+  private int reportGetterReturn(String methodName, int columnIndex, int value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private int reportGetterReturn(String methodName, String columnLabel, int value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private long reportGetterReturn(String methodName, int columnIndex, long value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private long reportGetterReturn(String methodName, String columnLabel, long value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private float reportGetterReturn(String methodName, int columnIndex, float value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private float reportGetterReturn(String methodName, String columnLabel, float value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private double reportGetterReturn(String methodName, int columnIndex, double value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private double reportGetterReturn(String methodName, String columnLabel, double value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private boolean reportGetterReturn(String methodName, int columnIndex, boolean value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private boolean reportGetterReturn(String methodName, String columnLabel, boolean value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private byte reportGetterReturn(String methodName, int columnIndex, byte value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private byte reportGetterReturn(String methodName, String columnLabel, byte value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private short reportGetterReturn(String methodName, int columnIndex, short value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, columnIndex, value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnIndex), String.valueOf(value));
+    }
+    return value;
+  }
+
+  private short reportGetterReturn(String methodName, String columnLabel, short value)
+  {
+    if (resultSetCollector != null)
+    {
+      resultSetCollector.getterReturned(this, resultSetCollector.getColumnIndex(columnLabel), value);
+    }
+    if (resultSetLoggingEnabled)
+    {
+      logReturn(new MethodCall(GETTER_ID, methodName, columnLabel), String.valueOf(value));
+    }
+    return value;
+  }
 
   private ResultSet realResultSet;
 
@@ -158,11 +523,20 @@ public class ResultSetSpy implements ResultSet, Spy
     this.realResultSet = realResultSet;
     this.parent = parent;
     this.log = logDelegator;
+    this.resultSetLoggingEnabled = log.isResultSetLoggingEnabled();
     if (log.isResultSetCollectionEnabled())
     {
-      resultSetCollector = new DefaultResultSetCollector(log.isResultSetCollectionEnabledWithUnreadValueFillIn());
+      resultSetCollector = new DefaultResultSetCollector(
+          log.isResultSetCollectionEnabledWithUnreadValueFillIn(), 
+          Properties.getResultSetTableChunkRows(), 
+          Properties.getResultSetTableFirstRows(), 
+          Properties.getResultSetTableLastRows());
+    }
+    this.instrumentationMode = Instrumentation.getMode();
+    if (Instrumentation.isEnabled(instrumentationMode))
+    {
+      reportReturn(NEW_RESULT_SET, "");
     }
-    reportReturn("new ResultSet", "", realResultSet);
   }
 
   /**
@@ -187,18 +561,33 @@ public class ResultSetSpy implements ResultSet, Spy
    * @param value return T.
    * @return the return Object as passed in.
    */  
-  protected <T> T reportReturn(String methodCall, T returnValue, Object... args)
+  protected <T> T reportReturn(MethodCall methodCall, T returnValue)
   {
-    reportAllReturns(methodCall, returnValue, args);
+    reportAllReturns(methodCall, returnValue);
     return returnValue;
   }  
 
+  /**
+   * Conveniance method to report (for logging) that a method with a void return type returned.
+   *
+   * @param methodCall description of method call and arguments passed to it that returned.
+   */  
+  protected void reportReturn(MethodCall methodCall)
+  {
+    reportAllReturns(methodCall, null);
+  }  
+
   // forwarding methods
 
   @Override
   public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException
   {
-    String methodCall = "updateAsciiStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnIndex, x, length);
     try
     {
       realResultSet.updateAsciiStream(columnIndex, x, length);
@@ -208,13 +597,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateAsciiStream(String columnName, InputStream x, int length) throws SQLException
   {
-    String methodCall = "updateAsciiStream(" + columnName + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnName, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnName, x, length);
     try
     {
       realResultSet.updateAsciiStream(columnName, x, length);
@@ -224,16 +618,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public int getRow() throws SQLException
   {
-    String methodCall = "getRow()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getRow();
+    }
+    MethodCall methodCall = GET_ROW;
     try
     {
-      return reportReturn(methodCall, realResultSet.getRow(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getRow());
     }
     catch (SQLException s)
     {
@@ -245,7 +643,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void cancelRowUpdates() throws SQLException
   {
-    String methodCall = "cancelRowUpdates()";
+    if (!isInstrumented())
+    {
+      realResultSet.cancelRowUpdates();
+      return;
+    }
+    MethodCall methodCall = CANCEL_ROW_UPDATES;
     try
     {
       realResultSet.cancelRowUpdates();
@@ -255,20 +658,23 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Time getTime(int columnIndex) throws SQLException
   {
-    String methodCall = "getTime(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTime(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getTime(columnIndex), columnIndex);
+      return reportGetterReturn("getTime", columnIndex, realResultSet.getTime(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getTime", columnIndex), s);
       throw s;
     }
   }
@@ -276,14 +682,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Time getTime(String columnName) throws SQLException
   {
-    String methodCall = "getTime(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTime(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getTime(columnName), columnName);
+      return reportGetterReturn("getTime", columnName, realResultSet.getTime(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getTime", columnName), s);
       throw s;
     }
   }
@@ -291,10 +700,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Time getTime(int columnIndex, Calendar cal) throws SQLException
   {
-    String methodCall = "getTime(" + columnIndex + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTime(columnIndex, cal);
+    }
+    MethodCall methodCall = new MethodCall("getTime", columnIndex, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getTime(columnIndex, cal), columnIndex, cal);
+      return reportReturn(methodCall, realResultSet.getTime(columnIndex, cal));
     }
     catch (SQLException s)
     {
@@ -306,10 +719,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Time getTime(String columnName, Calendar cal) throws SQLException
   {
-    String methodCall = "getTime(" + columnName + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTime(columnName, cal);
+    }
+    MethodCall methodCall = new MethodCall("getTime", columnName, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getTime(columnName, cal), columnName, cal);
+      return reportReturn(methodCall, realResultSet.getTime(columnName, cal));
     }
     catch (SQLException s)
     {
@@ -321,10 +738,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean absolute(int row) throws SQLException
   {
-    String methodCall = "absolute(" + row + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.absolute(row);
+    }
+    MethodCall methodCall = new MethodCall(REPOSITION_ID, "absolute", row);
     try
     {
-      return reportReturn(methodCall, realResultSet.absolute(row), row);
+      return reportReturn(methodCall, realResultSet.absolute(row));
     }
     catch (SQLException s)
     {
@@ -336,14 +757,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Timestamp getTimestamp(int columnIndex) throws SQLException
   {
-    String methodCall = "getTimestamp(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTimestamp(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getTimestamp(columnIndex), columnIndex);
+      return reportGetterReturn("getTimestamp", columnIndex, realResultSet.getTimestamp(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getTimestamp", columnIndex), s);
       throw s;
     }
   }
@@ -351,14 +775,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Timestamp getTimestamp(String columnName) throws SQLException
   {
-    String methodCall = "getTimestamp(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTimestamp(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getTimestamp(columnName), columnName);
+      return reportGetterReturn("getTimestamp", columnName, realResultSet.getTimestamp(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getTimestamp", columnName), s);
       throw s;
     }
 
@@ -367,11 +794,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException
   {
-    String methodCall = "getTimestamp(" + columnIndex + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTimestamp(columnIndex, cal);
+    }
+    MethodCall methodCall = new MethodCall("getTimestamp", columnIndex, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getTimestamp(columnIndex, cal), 
-    		  columnIndex, cal);
+      return reportReturn(methodCall, realResultSet.getTimestamp(columnIndex, cal));
     }
     catch (SQLException s)
     {
@@ -384,11 +814,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Timestamp getTimestamp(String columnName, Calendar cal) throws SQLException
   {
-    String methodCall = "getTimestamp(" + columnName + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getTimestamp(columnName, cal);
+    }
+    MethodCall methodCall = new MethodCall("getTimestamp", columnName, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getTimestamp(columnName, cal), 
-    		  columnName, cal);
+      return reportReturn(methodCall, realResultSet.getTimestamp(columnName, cal));
     }
     catch (SQLException s)
     {
@@ -400,7 +833,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void moveToInsertRow() throws SQLException
   {
-    String methodCall = "moveToInsertRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.moveToInsertRow();
+      return;
+    }
+    MethodCall methodCall = MOVE_TO_INSERT_ROW;
     try
     {
       realResultSet.moveToInsertRow();
@@ -410,16 +848,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public boolean relative(int rows) throws SQLException
   {
-    String methodCall = "relative(" + rows + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.relative(rows);
+    }
+    MethodCall methodCall = new MethodCall(REPOSITION_ID, "relative", rows);
     try
     {
-      return reportReturn(methodCall, realResultSet.relative(rows), rows);
+      return reportReturn(methodCall, realResultSet.relative(rows));
     }
     catch (SQLException s)
     {
@@ -431,10 +873,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean previous() throws SQLException
   {
-    String methodCall = "previous()";
+    if (!isInstrumented())
+    {
+      return realResultSet.previous();
+    }
+    MethodCall methodCall = PREVIOUS;
     try
     {
-      return reportReturn(methodCall, realResultSet.previous(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.previous());
     }
     catch (SQLException s)
     {
@@ -446,7 +892,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void moveToCurrentRow() throws SQLException
   {
-    String methodCall = "moveToCurrentRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.moveToCurrentRow();
+      return;
+    }
+    MethodCall methodCall = MOVE_TO_CURRENT_ROW;
     try
     {
       realResultSet.moveToCurrentRow();
@@ -456,16 +907,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Ref getRef(int i) throws SQLException
   {
-    String methodCall = "getRef(" + i + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getRef(i);
+    }
+    MethodCall methodCall = new MethodCall("getRef", i);
     try
     {
-      return reportReturn(methodCall, realResultSet.getRef(i), i);
+      return reportReturn(methodCall, realResultSet.getRef(i));
     }
     catch (SQLException s)
     {
@@ -477,7 +932,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateRef(int columnIndex, Ref x) throws SQLException
   {
-    String methodCall = "updateRef(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateRef(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateRef", columnIndex, x);
     try
     {
       realResultSet.updateRef(columnIndex, x);
@@ -487,16 +947,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Ref getRef(String colName) throws SQLException
   {
-    String methodCall = "getRef(" + colName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getRef(colName);
+    }
+    MethodCall methodCall = new MethodCall("getRef", colName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getRef(colName), colName);
+      return reportReturn(methodCall, realResultSet.getRef(colName));
     }
     catch (SQLException s)
     {
@@ -508,7 +972,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateRef(String columnName, Ref x) throws SQLException
   {
-    String methodCall = "updateRef(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateRef(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateRef", columnName, x);
     try
     {
       realResultSet.updateRef(columnName, x);
@@ -518,16 +987,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Blob getBlob(int i) throws SQLException
   {
-    String methodCall = "getBlob(" + i + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBlob(i);
+    }
+    MethodCall methodCall = new MethodCall("getBlob", i);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBlob(i), i);
+      return reportReturn(methodCall, realResultSet.getBlob(i));
     }
     catch (SQLException s)
     {
@@ -539,7 +1012,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBlob(int columnIndex, Blob x) throws SQLException
   {
-    String methodCall = "updateBlob(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnIndex, x);
     try
     {
       realResultSet.updateBlob(columnIndex, x);
@@ -549,16 +1027,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Blob getBlob(String colName) throws SQLException
   {
-    String methodCall = "getBlob(" + colName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBlob(colName);
+    }
+    MethodCall methodCall = new MethodCall("getBlob", colName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBlob(colName), colName);
+      return reportReturn(methodCall, realResultSet.getBlob(colName));
     }
     catch (SQLException s)
     {
@@ -570,7 +1052,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBlob(String columnName, Blob x) throws SQLException
   {
-    String methodCall = "updateBlob(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnName, x);
     try
     {
       realResultSet.updateBlob(columnName, x);
@@ -580,16 +1067,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Clob getClob(int i) throws SQLException
   {
-    String methodCall = "getClob(" + i + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getClob(i);
+    }
+    MethodCall methodCall = new MethodCall("getClob", i);
     try
     {
-      return reportReturn(methodCall, realResultSet.getClob(i), i);
+      return reportReturn(methodCall, realResultSet.getClob(i));
     }
     catch (SQLException s)
     {
@@ -601,7 +1092,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateClob(int columnIndex, Clob x) throws SQLException
   {
-    String methodCall = "updateClob(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnIndex, x);
     try
     {
       realResultSet.updateClob(columnIndex, x);
@@ -611,16 +1107,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Clob getClob(String colName) throws SQLException
   {
-    String methodCall = "getClob(" + colName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getClob(colName);
+    }
+    MethodCall methodCall = new MethodCall("getClob", colName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getClob(colName), colName);
+      return reportReturn(methodCall, realResultSet.getClob(colName));
     }
     catch (SQLException s)
     {
@@ -632,7 +1132,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateClob(String columnName, Clob x) throws SQLException
   {
-    String methodCall = "updateClob(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnName, x);
     try
     {
       realResultSet.updateClob(columnName, x);
@@ -642,20 +1147,23 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException
   {
-    String methodCall = "getBoolean(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBoolean(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getBoolean(columnIndex), columnIndex);
+      return reportGetterReturn("getBoolean", columnIndex, realResultSet.getBoolean(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getBoolean", columnIndex), s);
       throw s;
     }
   }
@@ -663,14 +1171,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean getBoolean(String columnName) throws SQLException
   {
-    String methodCall = "getBoolean(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBoolean(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getBoolean(columnName), columnName);
+      return reportGetterReturn("getBoolean", columnName, realResultSet.getBoolean(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getBoolean", columnName), s);
       throw s;
     }
   }
@@ -678,10 +1189,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Array getArray(int i) throws SQLException
   {
-    String methodCall = "getArray(" + i + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getArray(i);
+    }
+    MethodCall methodCall = new MethodCall("getArray", i);
     try
     {
-      return reportReturn(methodCall, realResultSet.getArray(i), i);
+      return reportReturn(methodCall, realResultSet.getArray(i));
     }
     catch (SQLException s)
     {
@@ -693,7 +1208,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateArray(int columnIndex, Array x) throws SQLException
   {
-    String methodCall = "updateArray(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateArray(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateArray", columnIndex, x);
     try
     {
       realResultSet.updateArray(columnIndex, x);
@@ -703,16 +1223,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Array getArray(String colName) throws SQLException
   {
-    String methodCall = "getArray(" + colName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getArray(colName);
+    }
+    MethodCall methodCall = new MethodCall("getArray", colName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getArray(colName), colName);
+      return reportReturn(methodCall, realResultSet.getArray(colName));
     }
     catch (SQLException s)
     {
@@ -724,7 +1248,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateArray(String columnName, Array x) throws SQLException
   {
-    String methodCall = "updateArray(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateArray(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateArray", columnName, x);
     try
     {
       realResultSet.updateArray(columnName, x);
@@ -734,15 +1263,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public RowId getRowId(int columnIndex) throws SQLException {
-    String methodCall = "getRowId(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getRowId(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getRowId", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getRowId(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getRowId(columnIndex));
     }
     catch (SQLException s)
     {
@@ -753,10 +1286,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public RowId getRowId(String columnLabel) throws SQLException {
-    String methodCall = "getRowId(" + columnLabel + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getRowId(columnLabel);
+    }
+    MethodCall methodCall = new MethodCall("getRowId", columnLabel);
     try
     {
-      return reportReturn(methodCall, realResultSet.getRowId(columnLabel), columnLabel);
+      return reportReturn(methodCall, realResultSet.getRowId(columnLabel));
     }
     catch (SQLException s)
     {
@@ -767,7 +1304,12 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public void updateRowId(int columnIndex, RowId x) throws SQLException {
-    String methodCall = "updateRowId(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateRowId(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateRowId", columnIndex, x);
     try
     {
       realResultSet.updateRowId(columnIndex, x);
@@ -777,12 +1319,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateRowId(String columnLabel, RowId x) throws SQLException {
-    String methodCall = "updateRowId(" + columnLabel + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateRowId(columnLabel, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateRowId", columnLabel, x);
     try
     {
       realResultSet.updateRowId(columnLabel, x);
@@ -792,15 +1339,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public int getHoldability() throws SQLException {
-    String methodCall = "getHoldability()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getHoldability();
+    }
+    MethodCall methodCall = GET_HOLDABILITY;
     try
     {
-      return reportReturn(methodCall, realResultSet.getHoldability(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getHoldability());
     }
     catch (SQLException s)
     {
@@ -811,10 +1362,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public boolean isClosed() throws SQLException {
-    String methodCall = "isClosed()";
+    if (!isInstrumented())
+    {
+      return realResultSet.isClosed();
+    }
+    MethodCall methodCall = IS_CLOSED;
     try
     {
-      return reportReturn(methodCall, realResultSet.isClosed(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.isClosed());
     }
     catch (SQLException s)
     {
@@ -825,7 +1380,12 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public void updateNString(int columnIndex, String nString) throws SQLException {
-    String methodCall = "updateNString(" + columnIndex + ", " + nString + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNString(columnIndex, nString);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNString", columnIndex, nString);
     try
     {
       realResultSet.updateNString(columnIndex, nString);
@@ -835,12 +1395,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNString(String columnLabel, String nString) throws SQLException {
-    String methodCall = "updateNString(" + columnLabel + ", " + nString + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNString(columnLabel, nString);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNString", columnLabel, nString);
     try
     {
       realResultSet.updateNString(columnLabel, nString);
@@ -850,12 +1415,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
-    String methodCall = "updateNClob(" + columnIndex + ", " + nClob + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnIndex, nClob);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnIndex, nClob);
     try
     {
       realResultSet.updateNClob(columnIndex, nClob);
@@ -865,12 +1435,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
-    String methodCall = "updateNClob(" + columnLabel + ", " + nClob + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnLabel, nClob);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnLabel, nClob);
     try
     {
       realResultSet.updateNClob(columnLabel, nClob);
@@ -880,15 +1455,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public NClob getNClob(int columnIndex) throws SQLException {
-    String methodCall = "getNClob(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNClob(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getNClob", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNClob(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getNClob(columnIndex));
     }
     catch (SQLException s)
     {
@@ -899,10 +1478,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public NClob getNClob(String columnLabel) throws SQLException {
-    String methodCall = "getNClob(" + columnLabel + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNClob(columnLabel);
+    }
+    MethodCall methodCall = new MethodCall("getNClob", columnLabel);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNClob(columnLabel), columnLabel);
+      return reportReturn(methodCall, realResultSet.getNClob(columnLabel));
     }
     catch (SQLException s)
     {
@@ -913,10 +1496,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public SQLXML getSQLXML(int columnIndex) throws SQLException {
-    String methodCall = "getSQLXML(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getSQLXML(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getSQLXML", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getSQLXML(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getSQLXML(columnIndex));
     }
     catch (SQLException s)
     {
@@ -927,10 +1514,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public SQLXML getSQLXML(String columnLabel) throws SQLException {
-    String methodCall = "getSQLXML(" + columnLabel + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getSQLXML(columnLabel);
+    }
+    MethodCall methodCall = new MethodCall("getSQLXML", columnLabel);
     try
     {
-      return reportReturn(methodCall, realResultSet.getSQLXML(columnLabel), columnLabel);
+      return reportReturn(methodCall, realResultSet.getSQLXML(columnLabel));
     }
     catch (SQLException s)
     {
@@ -941,7 +1532,12 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
-    String methodCall = "updateSQLXML(" + columnIndex + ", " + xmlObject + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateSQLXML(columnIndex, xmlObject);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateSQLXML", columnIndex, xmlObject);
     try
     {
       realResultSet.updateSQLXML(columnIndex, xmlObject);
@@ -951,12 +1547,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
-    String methodCall = "updateSQLXML(" + columnLabel + ", " + xmlObject + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateSQLXML(columnLabel, xmlObject);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateSQLXML", columnLabel, xmlObject);
     try
     {
       realResultSet.updateSQLXML(columnLabel, xmlObject);
@@ -966,15 +1567,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public String getNString(int columnIndex) throws SQLException {
-    String methodCall = "getNString(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNString(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getNString", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNString(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getNString(columnIndex));
     }
     catch (SQLException s)
     {
@@ -985,10 +1590,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public String getNString(String columnLabel) throws SQLException {
-    String methodCall = "getNString(" + columnLabel + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNString(columnLabel);
+    }
+    MethodCall methodCall = new MethodCall("getNString", columnLabel);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNString(columnLabel), columnLabel);
+      return reportReturn(methodCall, realResultSet.getNString(columnLabel));
     }
     catch (SQLException s)
     {
@@ -999,10 +1608,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public Reader getNCharacterStream(int columnIndex) throws SQLException {
-    String methodCall = "getNCharacterStream(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNCharacterStream(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getNCharacterStream", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNCharacterStream(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getNCharacterStream(columnIndex));
     }
     catch (SQLException s)
     {
@@ -1013,10 +1626,14 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public Reader getNCharacterStream(String columnLabel) throws SQLException {
-    String methodCall = "getNCharacterStream(" + columnLabel + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getNCharacterStream(columnLabel);
+    }
+    MethodCall methodCall = new MethodCall("getNCharacterStream", columnLabel);
     try
     {
-      return reportReturn(methodCall, realResultSet.getNCharacterStream(columnLabel), columnLabel);
+      return reportReturn(methodCall, realResultSet.getNCharacterStream(columnLabel));
     }
     catch (SQLException s)
     {
@@ -1027,7 +1644,12 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
-    String methodCall = "updateNCharacterStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNCharacterStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNCharacterStream", columnIndex, x, length);
     try
     {
       realResultSet.updateNCharacterStream(columnIndex, x, length);
@@ -1037,12 +1659,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
-    String methodCall = "updateNCharacterStream(" + columnLabel + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNCharacterStream(columnLabel, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNCharacterStream", columnLabel, reader, length);
     try
     {
       realResultSet.updateNCharacterStream(columnLabel, reader, length);
@@ -1052,12 +1679,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
-    String methodCall = "updateAsciiStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnIndex, x, length);
     try
     {
       realResultSet.updateAsciiStream(columnIndex, x, length);
@@ -1067,12 +1699,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
-    String methodCall = "updateBinaryStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnIndex, x, length);
     try
     {
       realResultSet.updateBinaryStream(columnIndex, x, length);
@@ -1082,12 +1719,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
-    String methodCall = "updateCharacterStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnIndex, x, length);
     try
     {
       realResultSet.updateCharacterStream(columnIndex, x, length);
@@ -1097,12 +1739,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
-    String methodCall = "updateAsciiStream(" + columnLabel + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnLabel, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnLabel, x, length);
     try
     {
       realResultSet.updateAsciiStream(columnLabel, x, length);
@@ -1112,12 +1759,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
-    String methodCall = "updateBinaryStream(" + columnLabel + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnLabel, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnLabel, x, length);
     try
     {
       realResultSet.updateBinaryStream(columnLabel, x, length);
@@ -1127,12 +1779,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
-    String methodCall = "updateCharacterStream(" + columnLabel + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnLabel, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnLabel, reader, length);
     try
     {
       realResultSet.updateCharacterStream(columnLabel, reader, length);
@@ -1142,12 +1799,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
-    String methodCall = "updateBlob(" + columnIndex + ", " + inputStream + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnIndex, inputStream, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnIndex, inputStream, length);
     try
     {
       realResultSet.updateBlob(columnIndex, inputStream, length);
@@ -1157,12 +1819,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
-    String methodCall = "updateBlob(" + columnLabel + ", " + inputStream + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnLabel, inputStream, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnLabel, inputStream, length);
     try
     {
       realResultSet.updateBlob(columnLabel, inputStream, length);
@@ -1172,12 +1839,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
-    String methodCall = "updateClob(" + columnIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnIndex, reader, length);
     try
     {
       realResultSet.updateClob(columnIndex, reader, length);
@@ -1187,12 +1859,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
-    String methodCall = "updateClob(" + columnLabel + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnLabel, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnLabel, reader, length);
     try
     {
       realResultSet.updateClob(columnLabel, reader, length);
@@ -1202,12 +1879,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
-    String methodCall = "updateNClob(" + columnIndex + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnIndex, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnIndex, reader, length);
     try
     {
       realResultSet.updateNClob(columnIndex, reader, length);
@@ -1217,12 +1899,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
-    String methodCall = "updateNClob(" + columnLabel + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnLabel, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnLabel, reader, length);
     try
     {
       realResultSet.updateNClob(columnLabel, reader, length);
@@ -1232,12 +1919,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNCharacterStream(int columnIndex, Reader reader) throws SQLException {
-    String methodCall = "updateNCharacterStream(" + columnIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNCharacterStream(columnIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNCharacterStream", columnIndex, reader);
     try
     {
       realResultSet.updateNCharacterStream(columnIndex, reader);
@@ -1247,12 +1939,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
-    String methodCall = "updateNCharacterStream(" + columnLabel + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNCharacterStream(columnLabel, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNCharacterStream", columnLabel, reader);
     try
     {
       realResultSet.updateNCharacterStream(columnLabel, reader);
@@ -1262,12 +1959,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
-    String methodCall = "updateAsciiStream(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnIndex, x);
     try
     {
       realResultSet.updateAsciiStream(columnIndex, x);
@@ -1277,12 +1979,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
-    String methodCall = "updateBinaryStream(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnIndex, x);
     try
     {
       realResultSet.updateBinaryStream(columnIndex, x);
@@ -1292,12 +1999,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
-    String methodCall = "updateCharacterStream(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnIndex, x);
     try
     {
       realResultSet.updateCharacterStream(columnIndex, x);
@@ -1307,12 +2019,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
-    String methodCall = "updateAsciiStream(" + columnLabel + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateAsciiStream(columnLabel, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateAsciiStream", columnLabel, x);
     try
     {
       realResultSet.updateAsciiStream(columnLabel, x);
@@ -1322,12 +2039,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
-    String methodCall = "updateBinaryStream(" + columnLabel + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnLabel, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnLabel, x);
     try
     {
       realResultSet.updateBinaryStream(columnLabel, x);
@@ -1337,12 +2059,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
-    String methodCall = "updateCharacterStream(" + columnLabel + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnLabel, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnLabel, reader);
     try
     {
       realResultSet.updateCharacterStream(columnLabel, reader);
@@ -1352,12 +2079,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
-    String methodCall = "updateBlob(" + columnIndex + ", " + inputStream + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnIndex, inputStream);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnIndex, inputStream);
     try
     {
       realResultSet.updateBlob(columnIndex, inputStream);
@@ -1367,12 +2099,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
-    String methodCall = "updateBlob(" + columnLabel + ", " + inputStream + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBlob(columnLabel, inputStream);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBlob", columnLabel, inputStream);
     try
     {
       realResultSet.updateBlob(columnLabel, inputStream);
@@ -1382,12 +2119,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateClob(int columnIndex, Reader reader) throws SQLException {
-    String methodCall = "updateClob(" + columnIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnIndex, reader);
     try
     {
       realResultSet.updateClob(columnIndex, reader);
@@ -1397,12 +2139,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateClob(String columnLabel, Reader reader) throws SQLException {
-    String methodCall = "updateClob(" + columnLabel + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateClob(columnLabel, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateClob", columnLabel, reader);
     try
     {
       realResultSet.updateClob(columnLabel, reader);
@@ -1412,12 +2159,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(int columnIndex, Reader reader) throws SQLException {
-    String methodCall = "updateNClob(" + columnIndex + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnIndex, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnIndex, reader);
     try
     {
       realResultSet.updateNClob(columnIndex, reader);
@@ -1427,12 +2179,17 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNClob(String columnLabel, Reader reader) throws SQLException {
-    String methodCall = "updateNClob(" + columnLabel + ", " + reader + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNClob(columnLabel, reader);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNClob", columnLabel, reader);
     try
     {
       realResultSet.updateNClob(columnLabel, reader);
@@ -1442,16 +2199,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public boolean isBeforeFirst() throws SQLException
   {
-    String methodCall = "isBeforeFirst()";
+    if (!isInstrumented())
+    {
+      return realResultSet.isBeforeFirst();
+    }
+    MethodCall methodCall = IS_BEFORE_FIRST;
     try
     {
-      return reportReturn(methodCall, realResultSet.isBeforeFirst(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.isBeforeFirst());
     }
     catch (SQLException s)
     {
@@ -1463,14 +2224,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public short getShort(int columnIndex) throws SQLException
   {
-    String methodCall = "getShort(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getShort(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getShort(columnIndex), columnIndex);
+      return reportGetterReturn("getShort", columnIndex, realResultSet.getShort(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getShort", columnIndex), s);
       throw s;
     }
   }
@@ -1478,14 +2242,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public short getShort(String columnName) throws SQLException
   {
-    String methodCall = "getShort(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getShort(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getShort(columnName), columnName);
+      return reportGetterReturn("getShort", columnName, realResultSet.getShort(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getShort", columnName), s);
       throw s;
     }
   }
@@ -1493,14 +2260,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public int getInt(int columnIndex) throws SQLException
   {
-    String methodCall = "getInt(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getInt(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getInt(columnIndex), columnIndex);
+      return reportGetterReturn("getInt", columnIndex, realResultSet.getInt(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getInt", columnIndex), s);
       throw s;
     }
   }
@@ -1508,14 +2278,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public int getInt(String columnName) throws SQLException
   {
-    String methodCall = "getInt(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getInt(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getInt(columnName), columnName);
+      return reportGetterReturn("getInt", columnName, realResultSet.getInt(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getInt", columnName), s);
       throw s;
     }
   }
@@ -1523,7 +2296,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void close() throws SQLException
   {
-    String methodCall = "close()";
+    if (!isInstrumented())
+    {
+      realResultSet.close();
+      return;
+    }
+    MethodCall methodCall = CLOSE;
     try
     {
     	//this line fixes the issue 4 
@@ -1537,7 +2315,7 @@ public class ResultSetSpy implements ResultSet, Spy
     	if (resultSetCollector != null)
         {
           // Give the result set collector a chance to fill in unread values from the result set row if that option has been selected
-          resultSetCollector.preMethod(this, methodCall, (Object[]) null);
+          resultSetCollector.preMethod(this, methodCall);
         }
     	
         realResultSet.close();
@@ -1547,16 +2325,24 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    if (resultSetCollector != null && resultSetCollector.closeReturned(this))
+    {
+      reportResultSetCollected();
+    }
+    logReturn(methodCall, null);
   }
 
   @Override
   public ResultSetMetaData getMetaData() throws SQLException
   {
-    String methodCall = "getMetaData()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getMetaData();
+    }
+    MethodCall methodCall = GET_META_DATA;
     try
     {
-      return reportReturn(methodCall, realResultSet.getMetaData(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getMetaData());
     }
     catch (SQLException s)
     {
@@ -1568,10 +2354,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public int getType() throws SQLException
   {
-    String methodCall = "getType()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getType();
+    }
+    MethodCall methodCall = GET_TYPE;
     try
     {
-      return reportReturn(methodCall, realResultSet.getType(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getType());
     }
     catch (SQLException s)
     {
@@ -1583,14 +2373,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public double getDouble(int columnIndex) throws SQLException
   {
-    String methodCall = "getDouble(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDouble(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getDouble(columnIndex), columnIndex);
+      return reportGetterReturn("getDouble", columnIndex, realResultSet.getDouble(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getDouble", columnIndex), s);
       throw s;
     }
   }
@@ -1598,14 +2391,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public double getDouble(String columnName) throws SQLException
   {
-    String methodCall = "getDouble(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDouble(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getDouble(columnName), columnName);
+      return reportGetterReturn("getDouble", columnName, realResultSet.getDouble(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getDouble", columnName), s);
       throw s;
     }
   }
@@ -1613,7 +2409,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void deleteRow() throws SQLException
   {
-    String methodCall = "deleteRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.deleteRow();
+      return;
+    }
+    MethodCall methodCall = DELETE_ROW;
     try
     {
       realResultSet.deleteRow();
@@ -1623,16 +2424,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public int getConcurrency() throws SQLException
   {
-    String methodCall = "getConcurrency()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getConcurrency();
+    }
+    MethodCall methodCall = GET_CONCURRENCY;
     try
     {
-      return reportReturn(methodCall, realResultSet.getConcurrency(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getConcurrency());
     }
     catch (SQLException s)
     {
@@ -1644,10 +2449,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean rowUpdated() throws SQLException
   {
-    String methodCall = "rowUpdated()";
+    if (!isInstrumented())
+    {
+      return realResultSet.rowUpdated();
+    }
+    MethodCall methodCall = ROW_UPDATED;
     try
     {
-      return reportReturn(methodCall, realResultSet.rowUpdated(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.rowUpdated());
     }
     catch (SQLException s)
     {
@@ -1659,14 +2468,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Date getDate(int columnIndex) throws SQLException
   {
-    String methodCall = "getDate(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDate(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getDate(columnIndex), columnIndex);
+      return reportGetterReturn("getDate", columnIndex, realResultSet.getDate(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getDate", columnIndex), s);
       throw s;
     }
   }
@@ -1674,14 +2486,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Date getDate(String columnName) throws SQLException
   {
-    String methodCall = "getDate(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDate(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getDate(columnName), columnName);
+      return reportGetterReturn("getDate", columnName, realResultSet.getDate(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getDate", columnName), s);
       throw s;
     }
   }
@@ -1689,10 +2504,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException
   {
-    String methodCall = "getDate(" + columnIndex + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDate(columnIndex, cal);
+    }
+    MethodCall methodCall = new MethodCall("getDate", columnIndex, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getDate(columnIndex, cal), columnIndex, cal);
+      return reportReturn(methodCall, realResultSet.getDate(columnIndex, cal));
     }
     catch (SQLException s)
     {
@@ -1705,10 +2524,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Date getDate(String columnName, Calendar cal) throws SQLException
   {
-    String methodCall = "getDate(" + columnName + ", " + cal + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getDate(columnName, cal);
+    }
+    MethodCall methodCall = new MethodCall("getDate", columnName, cal);
     try
     {
-      return reportReturn(methodCall, realResultSet.getDate(columnName, cal), columnName, cal);
+      return reportReturn(methodCall, realResultSet.getDate(columnName, cal));
     }
     catch (SQLException s)
     {
@@ -1720,10 +2543,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean last() throws SQLException
   {
-    String methodCall = "last()";
+    if (!isInstrumented())
+    {
+      return realResultSet.last();
+    }
+    MethodCall methodCall = LAST;
     try
     {
-      return reportReturn(methodCall, realResultSet.last(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.last());
     }
     catch (SQLException s)
     {
@@ -1735,10 +2562,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean rowInserted() throws SQLException
   {
-    String methodCall = "rowInserted()";
+    if (!isInstrumented())
+    {
+      return realResultSet.rowInserted();
+    }
+    MethodCall methodCall = ROW_INSERTED;
     try
     {
-      return reportReturn(methodCall, realResultSet.rowInserted(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.rowInserted());
     }
     catch (SQLException s)
     {
@@ -1750,10 +2581,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean rowDeleted() throws SQLException
   {
-    String methodCall = "rowDeleted()";
+    if (!isInstrumented())
+    {
+      return realResultSet.rowDeleted();
+    }
+    MethodCall methodCall = ROW_DELETED;
     try
     {
-      return reportReturn(methodCall, realResultSet.rowDeleted(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.rowDeleted());
     }
     catch (SQLException s)
     {
@@ -1765,7 +2600,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateNull(int columnIndex) throws SQLException
   {
-    String methodCall = "updateNull(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNull(columnIndex);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNull", columnIndex);
     try
     {
       realResultSet.updateNull(columnIndex);
@@ -1775,13 +2615,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateNull(String columnName) throws SQLException
   {
-    String methodCall = "updateNull(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateNull(columnName);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateNull", columnName);
     try
     {
       realResultSet.updateNull(columnName);
@@ -1791,13 +2636,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateShort(int columnIndex, short x) throws SQLException
   {
-    String methodCall = "updateShort(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateShort(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateShort", columnIndex, x);
     try
     {
       realResultSet.updateShort(columnIndex, x);
@@ -1807,13 +2657,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateShort(String columnName, short x) throws SQLException
   {
-    String methodCall = "updateShort(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateShort(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateShort", columnName, x);
     try
     {
       realResultSet.updateShort(columnName, x);
@@ -1823,13 +2678,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBoolean(int columnIndex, boolean x) throws SQLException
   {
-    String methodCall = "updateBoolean(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBoolean(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBoolean", columnIndex, x);
     try
     {
       realResultSet.updateBoolean(columnIndex, x);
@@ -1839,13 +2699,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBoolean(String columnName, boolean x) throws SQLException
   {
-    String methodCall = "updateBoolean(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBoolean(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBoolean", columnName, x);
     try
     {
       realResultSet.updateBoolean(columnName, x);
@@ -1855,13 +2720,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateByte(int columnIndex, byte x) throws SQLException
   {
-    String methodCall = "updateByte(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateByte(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateByte", columnIndex, x);
     try
     {
       realResultSet.updateByte(columnIndex, x);
@@ -1871,13 +2741,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateByte(String columnName, byte x) throws SQLException
   {
-    String methodCall = "updateByte(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateByte(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateByte", columnName, x);
     try
     {
       realResultSet.updateByte(columnName, x);
@@ -1887,13 +2762,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateInt(int columnIndex, int x) throws SQLException
   {
-    String methodCall = "updateInt(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateInt(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateInt", columnIndex, x);
     try
     {
       realResultSet.updateInt(columnIndex, x);
@@ -1903,13 +2783,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateInt(String columnName, int x) throws SQLException
   {
-    String methodCall = "updateInt(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateInt(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateInt", columnName, x);
     try
     {
       realResultSet.updateInt(columnName, x);
@@ -1919,21 +2804,23 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Object getObject(int columnIndex) throws SQLException
   {
-    String methodCall = "getObject(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getObject(columnIndex), new Object[]
-      { columnIndex });
+      return reportGetterReturn("getObject", columnIndex, realResultSet.getObject(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getObject", columnIndex), s);
       throw s;
     }
   }
@@ -1941,15 +2828,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Object getObject(String columnName) throws SQLException
   {
-    String methodCall = "getObject(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getObject(columnName), new Object[]
-      { columnName });
+      return reportGetterReturn("getObject", columnName, realResultSet.getObject(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getObject", columnName), s);
       throw s;
     }
   }
@@ -1957,11 +2846,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Object getObject(String colName, Map<String, Class<?>> map) throws SQLException
   {
-    String methodCall = "getObject(" + colName + ", " + map + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(colName, map);
+    }
+    MethodCall methodCall = new MethodCall("getObject", colName, map);
     try
     {
-      return reportReturn(methodCall, realResultSet.getObject(colName, map), new Object[]
-      { colName, map });
+      return reportReturn(methodCall, realResultSet.getObject(colName, map));
     }
     catch (SQLException s)
     {
@@ -1973,15 +2865,19 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean next() throws SQLException
   {
-    String methodCall = "next()";
+    if (!isInstrumented())
+    {
+      return realResultSet.next();
+    }
+    MethodCall methodCall = NEXT;
     try
     {
       if (resultSetCollector != null)
       {
         // Give the result set collector a chance to fill in unread values from the result set row if that option has been selected
-        resultSetCollector.preMethod(this, methodCall, (Object[]) null);
+        resultSetCollector.preMethod(this, methodCall);
       }
-      return reportReturn(methodCall, realResultSet.next(), (Object[]) null);
+      return reportNextReturn(methodCall, realResultSet.next());
     }
     catch (SQLException s)
     {
@@ -1993,7 +2889,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateLong(int columnIndex, long x) throws SQLException
   {
-    String methodCall = "updateLong(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateLong(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateLong", columnIndex, x);
     try
     {
       realResultSet.updateLong(columnIndex, x);
@@ -2003,13 +2904,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateLong(String columnName, long x) throws SQLException
   {
-    String methodCall = "updateLong(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateLong(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateLong", columnName, x);
     try
     {
       realResultSet.updateLong(columnName, x);
@@ -2019,13 +2925,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateFloat(int columnIndex, float x) throws SQLException
   {
-    String methodCall = "updateFloat(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateFloat(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateFloat", columnIndex, x);
     try
     {
       realResultSet.updateFloat(columnIndex, x);
@@ -2035,14 +2946,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
 
   }
 
   @Override
   public void updateFloat(String columnName, float x) throws SQLException
   {
-    String methodCall = "updateFloat(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateFloat(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateFloat", columnName, x);
     try
     {
       realResultSet.updateFloat(columnName, x);
@@ -2052,13 +2968,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateDouble(int columnIndex, double x) throws SQLException
   {
-    String methodCall = "updateDouble(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateDouble(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateDouble", columnIndex, x);
     try
     {
       realResultSet.updateDouble(columnIndex, x);
@@ -2068,13 +2989,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateDouble(String columnName, double x) throws SQLException
   {
-    String methodCall = "updateDouble(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateDouble(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateDouble", columnName, x);
     try
     {
       realResultSet.updateDouble(columnName, x);
@@ -2084,24 +3010,31 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public Statement getStatement() throws SQLException
   {
-    String methodCall = "getStatement()";
+    if (!isInstrumented())
+    {
+      return parent;
+    }
+    MethodCall methodCall = GET_STATEMENT;
     return (Statement) reportReturn(methodCall, parent);
   }
 
   @Override
   public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException
   {
-    String methodCall = "getObject(" + columnIndex + ", " + map + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(columnIndex, map);
+    }
+    MethodCall methodCall = new MethodCall("getObject", columnIndex, map);
     try
     {
-      return reportReturn(methodCall, realResultSet.getObject(columnIndex, map), new Object[]
-      { columnIndex, map });
+      return reportReturn(methodCall, realResultSet.getObject(columnIndex, map));
     }
     catch (SQLException s)
     {
@@ -2113,7 +3046,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateString(int columnIndex, String x) throws SQLException
   {
-    String methodCall = "updateString(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateString(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateString", columnIndex, x);
     try
     {
       realResultSet.updateString(columnIndex, x);
@@ -2123,13 +3061,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateString(String columnName, String x) throws SQLException
   {
-    String methodCall = "updateString(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateString(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateString", columnName, x);
     try
     {
       realResultSet.updateString(columnName, x);
@@ -2139,16 +3082,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public InputStream getAsciiStream(int columnIndex) throws SQLException
   {
-    String methodCall = "getAsciiStream(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getAsciiStream(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getAsciiStream", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getAsciiStream(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getAsciiStream(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2160,10 +3107,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public InputStream getAsciiStream(String columnName) throws SQLException
   {
-    String methodCall = "getAsciiStream(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getAsciiStream(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getAsciiStream", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getAsciiStream(columnName), columnName);
+      return reportReturn(methodCall, realResultSet.getAsciiStream(columnName));
     }
     catch (SQLException s)
     {
@@ -2175,7 +3126,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException
   {
-    String methodCall = "updateBigDecimal(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBigDecimal(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBigDecimal", columnIndex, x);
     try
     {
       realResultSet.updateBigDecimal(columnIndex, x);
@@ -2185,16 +3141,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public URL getURL(int columnIndex) throws SQLException
   {
-    String methodCall = "getURL(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getURL(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getURL", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getURL(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getURL(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2206,7 +3166,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBigDecimal(String columnName, BigDecimal x) throws SQLException
   {
-    String methodCall = "updateBigDecimal(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBigDecimal(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBigDecimal", columnName, x);
     try
     {
       realResultSet.updateBigDecimal(columnName, x);
@@ -2216,16 +3181,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public URL getURL(String columnName) throws SQLException
   {
-    String methodCall = "getURL(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getURL(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getURL", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getURL(columnName), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getURL(columnName));
     }
     catch (SQLException s)
     {
@@ -2237,8 +3206,13 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBytes(int columnIndex, byte[] x) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      realResultSet.updateBytes(columnIndex, x);
+      return;
+    }
     // todo: dump array?
-    String methodCall = "updateBytes(" + columnIndex + ", " + x + ")";
+    MethodCall methodCall = new MethodCall("updateBytes", columnIndex, x);
     try
     {
       realResultSet.updateBytes(columnIndex, x);
@@ -2248,14 +3222,19 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBytes(String columnName, byte[] x) throws SQLException
   {
+    if (!isInstrumented())
+    {
+      realResultSet.updateBytes(columnName, x);
+      return;
+    }
     // todo: dump array?
-    String methodCall = "updateBytes(" + columnName + ", " + x + ")";
+    MethodCall methodCall = new MethodCall("updateBytes", columnName, x);
     try
     {
       realResultSet.updateBytes(columnName, x);
@@ -2265,7 +3244,7 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   /**
@@ -2274,10 +3253,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public InputStream getUnicodeStream(int columnIndex) throws SQLException
   {
-    String methodCall = "getUnicodeStream(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getUnicodeStream(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getUnicodeStream", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getUnicodeStream(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getUnicodeStream(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2292,10 +3275,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public InputStream getUnicodeStream(String columnName) throws SQLException
   {
-    String methodCall = "getUnicodeStream(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getUnicodeStream(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getUnicodeStream", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getUnicodeStream(columnName), columnName);
+      return reportReturn(methodCall, realResultSet.getUnicodeStream(columnName));
     }
     catch (SQLException s)
     {
@@ -2307,7 +3294,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateDate(int columnIndex, Date x) throws SQLException
   {
-    String methodCall = "updateDate(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateDate(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateDate", columnIndex, x);
     try
     {
       realResultSet.updateDate(columnIndex, x);
@@ -2322,7 +3314,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateDate(String columnName, Date x) throws SQLException
   {
-    String methodCall = "updateDate(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateDate(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateDate", columnName, x);
     try
     {
       realResultSet.updateDate(columnName, x);
@@ -2332,16 +3329,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public int getFetchSize() throws SQLException
   {
-    String methodCall = "getFetchSize()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getFetchSize();
+    }
+    MethodCall methodCall = GET_FETCH_SIZE;
     try
     {
-      return reportReturn(methodCall, realResultSet.getFetchSize(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getFetchSize());
     }
     catch (SQLException s)
     {
@@ -2353,10 +3354,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public SQLWarning getWarnings() throws SQLException
   {
-    String methodCall = "getWarnings()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getWarnings();
+    }
+    MethodCall methodCall = GET_WARNINGS;
     try
     {
-      return reportReturn(methodCall, realResultSet.getWarnings(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getWarnings());
     }
     catch (SQLException s)
     {
@@ -2368,10 +3373,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public InputStream getBinaryStream(int columnIndex) throws SQLException
   {
-    String methodCall = "getBinaryStream(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBinaryStream(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getBinaryStream", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBinaryStream(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getBinaryStream(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2383,10 +3392,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public InputStream getBinaryStream(String columnName) throws SQLException
   {
-    String methodCall = "getBinaryStream(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBinaryStream(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getBinaryStream", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBinaryStream(columnName), columnName);
+      return reportReturn(methodCall, realResultSet.getBinaryStream(columnName));
     }
     catch (SQLException s)
     {
@@ -2398,7 +3411,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void clearWarnings() throws SQLException
   {
-    String methodCall = "clearWarnings()";
+    if (!isInstrumented())
+    {
+      realResultSet.clearWarnings();
+      return;
+    }
+    MethodCall methodCall = CLEAR_WARNINGS;
     try
     {
       realResultSet.clearWarnings();
@@ -2408,13 +3426,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException
   {
-    String methodCall = "updateTimestamp(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateTimestamp(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateTimestamp", columnIndex, x);
     try
     {
       realResultSet.updateTimestamp(columnIndex, x);
@@ -2424,13 +3447,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateTimestamp(String columnName, Timestamp x) throws SQLException
   {
-    String methodCall = "updateTimestamp(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateTimestamp(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateTimestamp", columnName, x);
     try
     {
       realResultSet.updateTimestamp(columnName, x);
@@ -2440,16 +3468,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public boolean first() throws SQLException
   {
-    String methodCall = "first()";
+    if (!isInstrumented())
+    {
+      return realResultSet.first();
+    }
+    MethodCall methodCall = FIRST;
     try
     {
-      return reportReturn(methodCall, realResultSet.first(), (Object[]) null);
+      return reportNextReturn(methodCall, realResultSet.first());
     }
     catch (SQLException s)
     {
@@ -2461,10 +3493,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public String getCursorName() throws SQLException
   {
-    String methodCall = "getCursorName()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getCursorName();
+    }
+    MethodCall methodCall = GET_CURSOR_NAME;
     try
     {
-      return reportReturn(methodCall, realResultSet.getCursorName(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getCursorName());
     }
     catch (SQLException s)
     {
@@ -2476,10 +3512,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public int findColumn(String columnName) throws SQLException
   {
-    String methodCall = "findColumn(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.findColumn(columnName);
+    }
+    MethodCall methodCall = new MethodCall("findColumn", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.findColumn(columnName), columnName);
+      return reportReturn(methodCall, realResultSet.findColumn(columnName));
     }
     catch (SQLException s)
     {
@@ -2491,10 +3531,20 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean wasNull() throws SQLException
   {
-    String methodCall = "wasNull()";
+    if (!isInstrumented())
+    {
+      return realResultSet.wasNull();
+    }
+    MethodCall methodCall = WAS_NULL;
     try
     {
-      return reportReturn(methodCall, realResultSet.wasNull(), (Object[]) null);
+      boolean wasNull = realResultSet.wasNull();
+      if (resultSetCollector != null)
+      {
+        resultSetCollector.wasNullReturned(this, wasNull);
+      }
+      logReturn(methodCall, wasNull);
+      return wasNull;
     }
     catch (SQLException s)
     {
@@ -2506,7 +3556,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException
   {
-    String methodCall = "updateBinaryStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnIndex, x, length);
     try
     {
       realResultSet.updateBinaryStream(columnIndex, x, length);
@@ -2516,13 +3571,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateBinaryStream(String columnName, InputStream x, int length) throws SQLException
   {
-    String methodCall = "updateBinaryStream(" + columnName + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateBinaryStream(columnName, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateBinaryStream", columnName, x, length);
     try
     {
       realResultSet.updateBinaryStream(columnName, x, length);
@@ -2532,20 +3592,23 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public String getString(int columnIndex) throws SQLException
   {
-    String methodCall = "getString(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getString(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getString(columnIndex), columnIndex);
+      return reportGetterReturn("getString", columnIndex, realResultSet.getString(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getString", columnIndex), s);
       throw s;
     }
   }
@@ -2553,14 +3616,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public String getString(String columnName) throws SQLException
   {
-    String methodCall = "getString(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getString(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getString(columnName), columnName);
+      return reportGetterReturn("getString", columnName, realResultSet.getString(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getString", columnName), s);
       throw s;
     }
   }
@@ -2568,10 +3634,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Reader getCharacterStream(int columnIndex) throws SQLException
   {
-    String methodCall = "getCharacterStream(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getCharacterStream(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getCharacterStream", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getCharacterStream(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getCharacterStream(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2583,10 +3653,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public Reader getCharacterStream(String columnName) throws SQLException
   {
-    String methodCall = "getCharacterStream(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getCharacterStream(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getCharacterStream", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getCharacterStream(columnName), columnName);
+      return reportReturn(methodCall, realResultSet.getCharacterStream(columnName));
     }
     catch (SQLException s)
     {
@@ -2598,7 +3672,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void setFetchDirection(int direction) throws SQLException
   {
-    String methodCall = "setFetchDirection(" + direction + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.setFetchDirection(direction);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setFetchDirection", direction);
     try
     {
       realResultSet.setFetchDirection(direction);
@@ -2608,13 +3687,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException
   {
-    String methodCall = "updateCharacterStream(" + columnIndex + ", " + x + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnIndex, x, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnIndex, x, length);
     try
     {
       realResultSet.updateCharacterStream(columnIndex, x, length);
@@ -2624,13 +3708,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateCharacterStream(String columnName, Reader reader, int length) throws SQLException
   {
-    String methodCall = "updateCharacterStream(" + columnName + ", " + reader + ", " + length + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateCharacterStream(columnName, reader, length);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateCharacterStream", columnName, reader, length);
     try
     {
       realResultSet.updateCharacterStream(columnName, reader, length);
@@ -2640,20 +3729,23 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException
   {
-    String methodCall = "getByte(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getByte(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getByte(columnIndex), columnIndex);
+      return reportGetterReturn("getByte", columnIndex, realResultSet.getByte(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getByte", columnIndex), s);
       throw s;
     }
   }
@@ -2661,14 +3753,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public byte getByte(String columnName) throws SQLException
   {
-    String methodCall = "getByte(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getByte(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getByte(columnName), columnName);
+      return reportGetterReturn("getByte", columnName, realResultSet.getByte(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getByte", columnName), s);
       throw s;
     }
   }
@@ -2676,7 +3771,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateTime(int columnIndex, Time x) throws SQLException
   {
-    String methodCall = "updateTime(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateTime(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateTime", columnIndex, x);
     try
     {
       realResultSet.updateTime(columnIndex, x);
@@ -2686,13 +3786,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateTime(String columnName, Time x) throws SQLException
   {
-    String methodCall = "updateTime(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateTime(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateTime", columnName, x);
     try
     {
       realResultSet.updateTime(columnName, x);
@@ -2702,16 +3807,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public byte[] getBytes(int columnIndex) throws SQLException
   {
-    String methodCall = "getBytes(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBytes(columnIndex);
+    }
+    MethodCall methodCall = new MethodCall("getBytes", columnIndex);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBytes(columnIndex), columnIndex);
+      return reportReturn(methodCall, realResultSet.getBytes(columnIndex));
     }
     catch (SQLException s)
     {
@@ -2723,10 +3832,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public byte[] getBytes(String columnName) throws SQLException
   {
-    String methodCall = "getBytes(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBytes(columnName);
+    }
+    MethodCall methodCall = new MethodCall("getBytes", columnName);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBytes(columnName), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getBytes(columnName));
     }
     catch (SQLException s)
     {
@@ -2738,10 +3851,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean isAfterLast() throws SQLException
   {
-    String methodCall = "isAfterLast()";
+    if (!isInstrumented())
+    {
+      return realResultSet.isAfterLast();
+    }
+    MethodCall methodCall = IS_AFTER_LAST;
     try
     {
-      return reportReturn(methodCall, realResultSet.isAfterLast(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.isAfterLast());
     }
     catch (SQLException s)
     {
@@ -2753,7 +3870,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void updateObject(int columnIndex, Object x, int scale) throws SQLException
   {
-    String methodCall = "updateObject(" + columnIndex + ", " + x + ", " + scale + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateObject(columnIndex, x, scale);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateObject", columnIndex, x, scale);
     try
     {
       realResultSet.updateObject(columnIndex, x, scale);
@@ -2763,13 +3885,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateObject(int columnIndex, Object x) throws SQLException
   {
-    String methodCall = "updateObject(" + columnIndex + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateObject(columnIndex, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateObject", columnIndex, x);
     try
     {
       realResultSet.updateObject(columnIndex, x);
@@ -2779,13 +3906,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateObject(String columnName, Object x, int scale) throws SQLException
   {
-    String methodCall = "updateObject(" + columnName + ", " + x + ", " + scale + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateObject(columnName, x, scale);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateObject", columnName, x, scale);
     try
     {
       realResultSet.updateObject(columnName, x, scale);
@@ -2795,13 +3927,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateObject(String columnName, Object x) throws SQLException
   {
-    String methodCall = "updateObject(" + columnName + ", " + x + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.updateObject(columnName, x);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("updateObject", columnName, x);
     try
     {
       realResultSet.updateObject(columnName, x);
@@ -2811,16 +3948,20 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public int getFetchDirection() throws SQLException
   {
-    String methodCall = "getFetchDirection()";
+    if (!isInstrumented())
+    {
+      return realResultSet.getFetchDirection();
+    }
+    MethodCall methodCall = GET_FETCH_DIRECTION;
     try
     {
-      return reportReturn(methodCall, realResultSet.getFetchDirection(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.getFetchDirection());
     }
     catch (SQLException s)
     {
@@ -2832,14 +3973,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public long getLong(int columnIndex) throws SQLException
   {
-    String methodCall = "getLong(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getLong(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getLong(columnIndex), columnIndex);
+      return reportGetterReturn("getLong", columnIndex, realResultSet.getLong(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getLong", columnIndex), s);
       throw s;
     }
   }
@@ -2847,14 +3991,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public long getLong(String columnName) throws SQLException
   {
-    String methodCall = "getLong(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getLong(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getLong(columnName), columnName);
+      return reportGetterReturn("getLong", columnName, realResultSet.getLong(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getLong", columnName), s);
       throw s;
     }
   }
@@ -2862,10 +4009,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean isFirst() throws SQLException
   {
-    String methodCall = "isFirst()";
+    if (!isInstrumented())
+    {
+      return realResultSet.isFirst();
+    }
+    MethodCall methodCall = IS_FIRST;
     try
     {
-      return reportReturn(methodCall, realResultSet.isFirst(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.isFirst());
     }
     catch (SQLException s)
     {
@@ -2877,7 +4028,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void insertRow() throws SQLException
   {
-    String methodCall = "insertRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.insertRow();
+      return;
+    }
+    MethodCall methodCall = INSERT_ROW;
     try
     {
       realResultSet.insertRow();
@@ -2892,14 +4048,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public float getFloat(int columnIndex) throws SQLException
   {
-    String methodCall = "getFloat(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getFloat(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getFloat(columnIndex), columnIndex);
+      return reportGetterReturn("getFloat", columnIndex, realResultSet.getFloat(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getFloat", columnIndex), s);
       throw s;
     }
   }
@@ -2907,14 +4066,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public float getFloat(String columnName) throws SQLException
   {
-    String methodCall = "getFloat(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getFloat(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getFloat(columnName), columnName);
+      return reportGetterReturn("getFloat", columnName, realResultSet.getFloat(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getFloat", columnName), s);
       throw s;
     }
   }
@@ -2922,10 +4084,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean isLast() throws SQLException
   {
-    String methodCall = "isLast()";
+    if (!isInstrumented())
+    {
+      return realResultSet.isLast();
+    }
+    MethodCall methodCall = IS_LAST;
     try
     {
-      return reportReturn(methodCall, realResultSet.isLast(), (Object[]) null);
+      return reportReturn(methodCall, realResultSet.isLast());
     }
     catch (SQLException s)
     {
@@ -2937,7 +4103,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void setFetchSize(int rows) throws SQLException
   {
-    String methodCall = "setFetchSize(" + rows + ")";
+    if (!isInstrumented())
+    {
+      realResultSet.setFetchSize(rows);
+      return;
+    }
+    MethodCall methodCall = new MethodCall("setFetchSize", rows);
     try
     {
       realResultSet.setFetchSize(rows);
@@ -2947,13 +4118,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void updateRow() throws SQLException
   {
-    String methodCall = "updateRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.updateRow();
+      return;
+    }
+    MethodCall methodCall = UPDATE_ROW;
     try
     {
       realResultSet.updateRow();
@@ -2963,13 +4139,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void beforeFirst() throws SQLException
   {
-    String methodCall = "beforeFirst()";
+    if (!isInstrumented())
+    {
+      realResultSet.beforeFirst();
+      return;
+    }
+    MethodCall methodCall = BEFORE_FIRST;
     try
     {
       realResultSet.beforeFirst();
@@ -2979,7 +4160,7 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   /**
@@ -2988,10 +4169,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException
   {
-    String methodCall = "getBigDecimal(" + columnIndex + ", " + scale + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBigDecimal(columnIndex, scale);
+    }
+    MethodCall methodCall = new MethodCall("getBigDecimal", columnIndex, scale);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBigDecimal(columnIndex, scale), columnIndex, scale);
+      return reportReturn(methodCall, realResultSet.getBigDecimal(columnIndex, scale));
     }
     catch (SQLException s)
     {
@@ -3006,10 +4191,14 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public BigDecimal getBigDecimal(String columnName, int scale) throws SQLException
   {
-    String methodCall = "getBigDecimal(" + columnName + ", " + scale + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBigDecimal(columnName, scale);
+    }
+    MethodCall methodCall = new MethodCall("getBigDecimal", columnName, scale);
     try
     {
-      return reportReturn(methodCall, realResultSet.getBigDecimal(columnName, scale), columnName, scale);
+      return reportReturn(methodCall, realResultSet.getBigDecimal(columnName, scale));
     }
     catch (SQLException s)
     {
@@ -3021,14 +4210,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public BigDecimal getBigDecimal(int columnIndex) throws SQLException
   {
-    String methodCall = "getBigDecimal(" + columnIndex + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBigDecimal(columnIndex);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getBigDecimal(columnIndex), columnIndex);
+      return reportGetterReturn("getBigDecimal", columnIndex, realResultSet.getBigDecimal(columnIndex));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getBigDecimal", columnIndex), s);
       throw s;
     }
   }
@@ -3036,14 +4228,17 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public BigDecimal getBigDecimal(String columnName) throws SQLException
   {
-    String methodCall = "getBigDecimal(" + columnName + ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getBigDecimal(columnName);
+    }
     try
     {
-      return reportReturn(methodCall, realResultSet.getBigDecimal(columnName), columnName);
+      return reportGetterReturn("getBigDecimal", columnName, realResultSet.getBigDecimal(columnName));
     }
     catch (SQLException s)
     {
-      reportException(methodCall, s);
+      reportException(new MethodCall(GETTER_ID, "getBigDecimal", columnName), s);
       throw s;
     }
   }
@@ -3051,7 +4246,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public void afterLast() throws SQLException
   {
-    String methodCall = "afterLast()";
+    if (!isInstrumented())
+    {
+      realResultSet.afterLast();
+      return;
+    }
+    MethodCall methodCall = AFTER_LAST;
     try
     {
       realResultSet.afterLast();
@@ -3061,13 +4261,18 @@ public class ResultSetSpy implements ResultSet, Spy
       reportException(methodCall, s);
       throw s;
     }
-    reportReturn(methodCall, (Object[]) null);
+    reportReturn(methodCall);
   }
 
   @Override
   public void refreshRow() throws SQLException
   {
-    String methodCall = "refreshRow()";
+    if (!isInstrumented())
+    {
+      realResultSet.refreshRow();
+      return;
+    }
+    MethodCall methodCall = REFRESH_ROW;
     try
     {
       realResultSet.refreshRow();
@@ -3081,7 +4286,11 @@ public class ResultSetSpy implements ResultSet, Spy
 
   @Override
   public <T> T unwrap(Class<T> iface) throws SQLException {
-    String methodCall = "unwrap(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface == ResultSet.class || iface == Spy.class))?iface.cast(this):realResultSet.unwrap(iface);
+    }
+    MethodCall methodCall = new MethodCall("unwrap", iface);
     try
     {
       //todo: double check this logic
@@ -3097,7 +4306,12 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public boolean isWrapperFor(Class<?> iface) throws SQLException
   {
-    String methodCall = "isWrapperFor(" + (iface==null?"null":iface.getName()) + ")";
+    if (!isInstrumented())
+    {
+      return (iface != null && (iface == ResultSet.class || iface == Spy.class)) ||
+          realResultSet.isWrapperFor(iface);
+    }
+    MethodCall methodCall = new MethodCall("isWrapperFor", iface);
     try
     {
       return reportReturn(methodCall, (iface != null && (iface == ResultSet.class || iface == Spy.class)) ||
@@ -3113,7 +4327,11 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public <T> T getObject(int columnIndex, Class<T> type) throws SQLException
   {
-    String methodCall = "getObject(" + columnIndex + "," + type+ ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(columnIndex,type);
+    }
+    MethodCall methodCall = new MethodCall("getObject", columnIndex, type);
     try
     {
       return reportReturn(methodCall, realResultSet.getObject(columnIndex,type));
@@ -3128,7 +4346,11 @@ public class ResultSetSpy implements ResultSet, Spy
   @Override
   public <T> T getObject(String columnLabel, Class<T> type) throws SQLException
   {
-    String methodCall = "getObject(" + columnLabel + "," + type+ ")";
+    if (!isInstrumented())
+    {
+      return realResultSet.getObject(columnLabel,type);
+    }
+    MethodCall methodCall = new MethodCall("getObject", columnLabel, type);
     try
     {
       return reportReturn(methodCall, realResultSet.getObject(columnLabel,type));
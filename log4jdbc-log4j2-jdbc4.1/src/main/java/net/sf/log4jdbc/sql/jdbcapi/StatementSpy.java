@@ -26,8 +26,11 @@ import java.util.List;
 import java.util.ArrayList;
 
 import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.SqlOperation;
 import net.sf.log4jdbc.sql.Utilities;
+import net.sf.log4jdbc.sql.statistics.SqlStatistics;
 
 
 /**
@@ -43,7 +46,7 @@ import net.sf.log4jdbc.sql.Utilities;
  * interleaved queries using different connections.
  * <li>All the <code>execute...</code> methods now set this <code>sql</code> attribute.
  * <li>A new convenient method has been added, <code>getGeneratedKeys(String)</code>, 
- * which allows to launch a <code>reportSqlTiming(long, String, String)</code>. 
+ * which allows to launch a <code>reportSqlTiming(long, String, MethodCall)</code>. 
  * <li><code>getGeneratedKeys()</code> now delegates to this method <code>getGeneratedKeys(String)</code>, 
  * by providing the <code>sql</code> attribute.
  * <li>Removal of the option {@code log4jdbc.statement.warn}. The aim was to remove 
@@ -61,6 +64,37 @@ import net.sf.log4jdbc.sql.Utilities;
  */
 public class StatementSpy implements Statement, Spy
 {
+	/**
+	 * Descriptions of the JDBC methods without arguments (and of the creation
+	 * of this spy), shared to avoid any allocation on each call.
+	 */
+	private static final MethodCall CANCEL = new MethodCall("cancel");
+	private static final MethodCall CLEAR_BATCH = new MethodCall("clearBatch");
+	private static final MethodCall CLEAR_WARNINGS = new MethodCall("clearWarnings");
+	private static final MethodCall CLOSE = new MethodCall("close");
+	private static final MethodCall CLOSE_ON_COMPLETION = new MethodCall("closeOnCompletion");
+	private static final MethodCall EXECUTE_BATCH = new MethodCall("executeBatch");
+	private static final MethodCall GET_CONNECTION = new MethodCall("getConnection");
+	private static final MethodCall GET_FETCH_DIRECTION = new MethodCall("getFetchDirection");
+	private static final MethodCall GET_FETCH_SIZE = new MethodCall("getFetchSize");
+	private static final MethodCall GET_GENERATED_KEYS = MethodCall.fromDescription(SpyLogDelegator.GET_GENERATED_KEYS_METHOD_CALL);
+	private static final MethodCall GET_MAX_FIELD_SIZE = new MethodCall("getMaxFieldSize");
+	private static final MethodCall GET_MAX_ROWS = new MethodCall("getMaxRows");
+	private static final MethodCall GET_MORE_RESULTS = new MethodCall("getMoreResults");
+	private static final MethodCall GET_QUERY_TIMEOUT = new MethodCall("getQueryTimeout");
+	private static final MethodCall GET_RESULT_SET = new MethodCall("getResultSet");
+	private static final MethodCall GET_RESULT_SET_CONCURRENCY = new MethodCall("getResultSetConcurrency");
+	private static final MethodCall GET_RESULT_SET_HOLDABILITY = new MethodCall("getResultSetHoldability");
+	private static final MethodCall GET_RESULT_SET_TYPE = new MethodCall("getResultSetType");
+	private static final MethodCall GET_UPDATE_COUNT = new MethodCall("getUpdateCount");
+	private static final MethodCall GET_WARNINGS = new MethodCall("getWarnings");
+	private static final MethodCall IS_CLOSED = new MethodCall("isClosed");
+	private static final MethodCall IS_CLOSE_ON_COMPLETION = new MethodCall("isCloseOnCompletion");
+	private static final MethodCall IS_POOLABLE = new MethodCall("isPoolable");
+	private static final MethodCall NEW_CALLABLE_STATEMENT = MethodCall.fromDescription("new CallableStatement");
+	private static final MethodCall NEW_PREPARED_STATEMENT = MethodCall.fromDescription("new PreparedStatement");
+	private static final MethodCall NEW_STATEMENT = MethodCall.fromDescription("new Statement");
+
 	protected final SpyLogDelegator log;
 
 	/**
@@ -78,6 +112,200 @@ public class StatementSpy implements Statement, Spy
 	 */
 	protected String sql;
 
+	/**
+	 * Whether returns of methods of this <code>Statement</code> are logged, 
+	 * obtained from {@link SpyLogDelegator#isAuditLoggingEnabled()} at creation 
+	 * and when the mode of the <code>Instrumentation</code> changes, 
+	 * to avoid converting return values to <code>String</code> for nothing.
+	 */
+	protected boolean auditLoggingEnabled;
+
+	/**
+	 * Whether the SQL reported before its execution is logged, obtained from 
+	 * {@link SpyLogDelegator#isSqlOnlyLoggingEnabled()} at creation 
+	 * and when the mode of the <code>Instrumentation</code> changes, 
+	 * to avoid describing the method call for nothing.
+	 */
+	protected boolean sqlOnlyLoggingEnabled;
+
+	/**
+	 * Whether SQL timing events are logged, obtained from 
+	 * {@link SpyLogDelegator#isSqlTimingLoggingEnabled()} at creation 
+	 * and when the mode of the <code>Instrumentation</code> changes.
+	 */
+	protected boolean sqlTimingLoggingEnabled;
+
+	/**
+	 * The <code>SqlStatistics</code> collecting latencies of the SQL executed, 
+	 * obtained from {@link SpyLogDelegator#getSqlStatistics()} at creation 
+	 * and when the mode of the <code>Instrumentation</code> changes 
+	 * (<code>null</code> if statistics are not collected).
+	 */
+	protected SqlStatistics sqlStatistics;
+
+	/**
+	 * The mode of the <code>Instrumentation</code> when the logging flags were last read.
+	 */
+	private int instrumentationMode;
+
+	/**
+	 * Whether a batch is being built, since the first <code>addBatch</code> following 
+	 * its last execution or clearing.
+	 */
+	private boolean batchStarted;
+
+	/**
+	 * The mode of the <code>Instrumentation</code> when the batch being built was started.
+	 */
+	private int batchMode;
+
+	/**
+	 * Check whether calls made on this spy are reported, reading the mode 
+	 * of the <code>Instrumentation</code> once. If it was turned on again since the last 
+	 * call, {@link #instrumentationModeChanged()} is called first.
+	 *
+	 * @return <code>true</code> if the call must be reported, <code>false</code> if it must be 
+	 *         forwarded straight to the real statement.
+	 */
+	protected final boolean isInstrumented()
+	{
+		return isInstrumented(Instrumentation.getMode());
+	}
+
+	private boolean isInstrumented(int mode)
+	{
+		if (!Instrumentation.isEnabled(mode))
+		{
+			return false;
+		}
+		if (mode != instrumentationMode)
+		{
+			instrumentationMode = mode;
+			instrumentationModeChanged();
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the batch being built is reported, including the current call: 
+	 * the mode of the <code>Instrumentation</code> is recorded at the first 
+	 * <code>addBatch</code>, and the batch is reported only if the mode did not change 
+	 * until it is executed, so that it is never reported with missing statements.
+	 *
+	 * @return <code>true</code> if the call must be reported, <code>false</code> if it must be 
+	 *         forwarded straight to the real statement.
+	 */
+	protected final boolean isBatchInstrumented()
+	{
+		int mode = Instrumentation.getMode();
+		if (!batchStarted)
+		{
+			batchStarted = true;
+			batchMode = mode;
+		}
+		return mode == batchMode && isInstrumented(mode);
+	}
+
+	/**
+	 * Called when the instrumentation was turned off then on again since the last call 
+	 * reported by this spy: the logging flags are read again from the 
+	 * <code>SpyLogDelegator</code>, as they may have changed in the meantime. 
+	 * Subclasses should also drop the state that was not maintained while 
+	 * the instrumentation was off.
+	 */
+	protected void instrumentationModeChanged()
+	{
+		readLoggingFlags();
+	}
+
+	private void readLoggingFlags()
+	{
+		auditLoggingEnabled = log.isAuditLoggingEnabled();
+		sqlOnlyLoggingEnabled = log.isSqlOnlyLoggingEnabled();
+		sqlTimingLoggingEnabled = log.isSqlTimingLoggingEnabled();
+		sqlStatistics = log.getSqlStatistics();
+	}
+
+	/**
+	 * The last SQL classified by {@link #getSqlOperation(String)}, with its operation.
+	 */
+	private volatile ClassifiedSql classifiedSql;
+
+	/**
+	 * A SQL statement with the operation it performs.
+	 */
+	private static final class ClassifiedSql
+	{
+		private final String sql;
+		private final SqlOperation operation;
+
+		private ClassifiedSql(String sql, SqlOperation operation)
+		{
+			this.sql = sql;
+			this.operation = operation;
+		}
+	}
+
+	/**
+	 * Get the operation performed by <code>sql</code>, reported by this spy. 
+	 * The operation is computed once for each new SQL executed, so that 
+	 * all log events related to an execution share the same classification.
+	 *
+	 * @param sql the SQL reported by this spy.
+	 * @return the <code>SqlOperation</code> of <code>sql</code>.
+	 */
+	public SqlOperation getSqlOperation(String sql)
+	{
+		ClassifiedSql classified = classifiedSql;
+		if (classified != null && classified.sql == sql)
+		{
+			return classified.operation;
+		}
+		SqlOperation operation = SqlOperation.classify(sql);
+		classifiedSql = new ClassifiedSql(sql, operation);
+		return operation;
+	}
+
+	/**
+	 * The last SQL normalized by {@link #getSqlShape(String)}, with its shape.
+	 */
+	private volatile ShapedSql shapedSql;
+
+	/**
+	 * A SQL statement with its shape for the <code>SqlStatistics</code>.
+	 */
+	private static final class ShapedSql
+	{
+		private final String sql;
+		private final SqlStatistics.Shape shape;
+
+		private ShapedSql(String sql, SqlStatistics.Shape shape)
+		{
+			this.sql = sql;
+			this.shape = shape;
+		}
+	}
+
+	/**
+	 * Get the shape of <code>sql</code> for the <code>SqlStatistics</code>. 
+	 * The shape is computed once for each new SQL executed, so that repeated 
+	 * executions of a <code>PreparedStatement</code> template do not normalize it again.
+	 *
+	 * @param sql the SQL reported by this spy.
+	 * @return the <code>SqlStatistics.Shape</code> of <code>sql</code>.
+	 */
+	private SqlStatistics.Shape getSqlShape(String sql)
+	{
+		ShapedSql shaped = shapedSql;
+		if (shaped != null && shaped.sql == sql)
+		{
+			return shaped.shape;
+		}
+		SqlStatistics.Shape shape = sqlStatistics.getShape(sql);
+		shapedSql = new ShapedSql(sql, shape);
+		return shape;
+	}
+
 	/**
 	 * Get the real Statement that this StatementSpy wraps.
 	 *
@@ -113,18 +341,24 @@ public class StatementSpy implements Statement, Spy
 		this.connectionSpy = connectionSpy;
 
 		log = logDelegator;
+		instrumentationMode = Instrumentation.getMode();
+		readLoggingFlags();
 
+		if (!Instrumentation.isEnabled(instrumentationMode))
+		{
+			return;
+		}
 		if (realStatement instanceof CallableStatement)
 		{
-			reportReturn("new CallableStatement");
+			reportReturn(NEW_CALLABLE_STATEMENT);
 		}
 		else if (realStatement instanceof PreparedStatement)
 		{
-			reportReturn("new PreparedStatement");
+			reportReturn(NEW_PREPARED_STATEMENT);
 		}
 		else
 		{
-			reportReturn("new Statement");
+			reportReturn(NEW_STATEMENT);
 		}
 	}
 
@@ -147,8 +381,29 @@ public class StatementSpy implements Statement, Spy
 	 * @param sql SQL associated with the call.
 	 * @param execTime amount of time that the jdbc driver was chugging on the SQL before it threw an exception.
 	 */
-	protected void reportException(String methodCall, SQLException exception, String sql, long execTime)
+	protected void reportException(MethodCall methodCall, SQLException exception, String sql, long execTime)
+	{
+		if (sqlStatistics != null && sql != null)
+		{
+			sqlStatistics.recordFailure(getSqlShape(sql));
+		}
+		log.exceptionOccured(this, methodCall, exception, sql, execTime);
+	}
+
+	/**
+	 * Report an exception to be logged which includes timing data on a failure 
+	 * of a SQL executed by a <code>PreparedStatement</code>.
+	 * @param methodCall description of method call and arguments passed to it that generated the exception.
+	 * @param exception exception that was generated
+	 * @param sql SQL associated with the call, with the values bound.
+	 * @param execTime amount of time that the jdbc driver was chugging on the SQL before it threw an exception.
+	 */
+	protected void reportException(MethodCall methodCall, SQLException exception, DumpedSql sql, long execTime)
 	{
+		if (sqlStatistics != null)
+		{
+			sqlStatistics.recordFailure(getSqlShape(sql.getTemplate()));
+		}
 		log.exceptionOccured(this, methodCall, exception, sql, execTime);
 	}
 
@@ -158,7 +413,7 @@ public class StatementSpy implements Statement, Spy
 	 * @param exception exception that was generated
 	 * @param sql SQL associated with the call.
 	 */
-	protected void reportException(String methodCall, SQLException exception, String sql)
+	protected void reportException(MethodCall methodCall, SQLException exception, String sql)
 	{
 		log.exceptionOccured(this, methodCall, exception, sql, -1L);
 	}
@@ -169,9 +424,9 @@ public class StatementSpy implements Statement, Spy
 	 * @param methodCall description of method call and arguments passed to it that generated the exception.
 	 * @param exception exception that was generated
 	 */
-	protected void reportException(String methodCall, SQLException exception)
+	protected void reportException(MethodCall methodCall, SQLException exception)
 	{
-		log.exceptionOccured(this, methodCall, exception, null, -1L);
+		log.exceptionOccured(this, methodCall, exception, (String) null, -1L);
 	}
 
 	/**
@@ -180,7 +435,7 @@ public class StatementSpy implements Statement, Spy
 	 * @param methodCall description of method call and arguments passed to it that returned.
 	 * @param msg description of what the return value that was returned.  may be an empty String for void return types.
 	 */
-	protected void reportAllReturns(String methodCall, String msg)
+	protected void reportAllReturns(MethodCall methodCall, String msg)
 	{
 		log.methodReturned(this, methodCall, msg);
 	}
@@ -192,9 +447,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value boolean return value.
 	 * @return the boolean return value as passed in.
 	 */
-	protected boolean reportReturn(String methodCall, boolean value)
+	protected boolean reportReturn(MethodCall methodCall, boolean value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -205,9 +463,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value byte return value.
 	 * @return the byte return value as passed in.
 	 */
-	protected byte reportReturn(String methodCall, byte value)
+	protected byte reportReturn(MethodCall methodCall, byte value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -218,9 +479,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value int return value.
 	 * @return the int return value as passed in.
 	 */
-	protected int reportReturn(String methodCall, int value)
+	protected int reportReturn(MethodCall methodCall, int value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -231,9 +495,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value double return value.
 	 * @return the double return value as passed in.
 	 */
-	protected double reportReturn(String methodCall, double value)
+	protected double reportReturn(MethodCall methodCall, double value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -244,9 +511,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value short return value.
 	 * @return the short return value as passed in.
 	 */
-	protected short reportReturn(String methodCall, short value)
+	protected short reportReturn(MethodCall methodCall, short value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -257,9 +527,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value long return value.
 	 * @return the long return value as passed in.
 	 */
-	protected long reportReturn(String methodCall, long value)
+	protected long reportReturn(MethodCall methodCall, long value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -270,9 +543,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value float return value.
 	 * @return the float return value as passed in.
 	 */
-	protected float reportReturn(String methodCall, float value)
+	protected float reportReturn(MethodCall methodCall, float value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -283,9 +559,12 @@ public class StatementSpy implements Statement, Spy
 	 * @param value return Object.
 	 * @return the return Object as passed in.
 	 */
-	protected Object reportReturn(String methodCall, Object value)
+	protected Object reportReturn(MethodCall methodCall, Object value)
 	{
-		reportAllReturns(methodCall, "" + value);
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "" + value);
+		}
 		return value;
 	}
 
@@ -294,9 +573,12 @@ public class StatementSpy implements Statement, Spy
 	 *
 	 * @param methodCall description of method call and arguments passed to it that returned.
 	 */
-	protected void reportReturn(String methodCall)
+	protected void reportReturn(MethodCall methodCall)
 	{
-		reportAllReturns(methodCall, "");
+		if (auditLoggingEnabled)
+		{
+			reportAllReturns(methodCall, "");
+		}
 	}
 
 	/**
@@ -305,7 +587,7 @@ public class StatementSpy implements Statement, Spy
 	 * @param sql        the SQL being run
 	 * @param methodCall the name of the method that was running the SQL
 	 */
-	protected void reportStatementSql(String sql, String methodCall)
+	protected void reportStatementSql(String sql, MethodCall methodCall)
 	{
 		// redirect to one more method call ONLY so that stack trace search is consistent
 		// with the reportReturn calls
@@ -315,29 +597,93 @@ public class StatementSpy implements Statement, Spy
 	/**
 	 * Report SQL for logging with a warning that it was generated from a statement.
 	 *
-	 * @param execTime   execution time in msec.
+	 * @param execTime   execution time in nanoseconds.
 	 * @param sql        the SQL being run
 	 * @param methodCall the name of the method that was running the SQL
 	 */
-	protected void reportStatementSqlTiming(long execTime, String sql, String methodCall)
+	protected void reportStatementSqlTiming(long execTime, String sql, MethodCall methodCall)
 	{
 		// redirect to one more method call ONLY so that stack trace search is consistent
 		// with the reportReturn calls
-		_reportSqlTiming(execTime, sql, methodCall);
+		_reportSqlTiming(execTime, sql, methodCall, -1L);
+	}
+
+	/**
+	 * Report SQL for logging with a warning that it was generated from a statement, 
+	 * along with the number of rows it affected.
+	 *
+	 * @param execTime     execution time in nanoseconds.
+	 * @param sql          the SQL being run
+	 * @param methodCall   the name of the method that was running the SQL
+	 * @param rowsAffected the number of rows affected by the SQL
+	 */
+	protected void reportStatementSqlTiming(long execTime, String sql, MethodCall methodCall, 
+			long rowsAffected)
+	{
+		// redirect to one more method call ONLY so that stack trace search is consistent
+		// with the reportReturn calls
+		_reportSqlTiming(execTime, sql, methodCall, rowsAffected);
 	}
 
 	/**
 	 * Report SQL for logging.
 	 *
-	 * @param execTime   execution time in msec.
+	 * @param execTime   execution time in nanoseconds.
 	 * @param sql        the SQL being run
 	 * @param methodCall the name of the method that was running the SQL
 	 */
-	protected void reportSqlTiming(long execTime, String sql, String methodCall)
+	protected void reportSqlTiming(long execTime, String sql, MethodCall methodCall)
 	{
 		// redirect to one more method call ONLY so that stack trace search is consistent
 		// with the reportReturn calls
-		_reportSqlTiming(execTime, sql, methodCall);
+		_reportSqlTiming(execTime, sql, methodCall, -1L);
+	}
+
+	/**
+	 * Report SQL for logging, along with the number of rows it affected.
+	 *
+	 * @param execTime     execution time in nanoseconds.
+	 * @param sql          the SQL being run
+	 * @param methodCall   the name of the method that was running the SQL
+	 * @param rowsAffected the number of rows affected by the SQL
+	 */
+	protected void reportSqlTiming(long execTime, String sql, MethodCall methodCall, 
+			long rowsAffected)
+	{
+		// redirect to one more method call ONLY so that stack trace search is consistent
+		// with the reportReturn calls
+		_reportSqlTiming(execTime, sql, methodCall, rowsAffected);
+	}
+
+	/**
+	 * Report SQL executed by a <code>PreparedStatement</code> for logging.
+	 *
+	 * @param execTime   execution time in nanoseconds.
+	 * @param sql        the SQL being run, with the values bound
+	 * @param methodCall the name of the method that was running the SQL
+	 */
+	protected void reportSqlTiming(long execTime, DumpedSql sql, MethodCall methodCall)
+	{
+		// redirect to one more method call ONLY so that stack trace search is consistent
+		// with the reportReturn calls
+		_reportSqlTiming(execTime, sql, methodCall, -1L);
+	}
+
+	/**
+	 * Report SQL executed by a <code>PreparedStatement</code> for logging, 
+	 * along with the number of rows it affected.
+	 *
+	 * @param execTime     execution time in nanoseconds.
+	 * @param sql          the SQL being run, with the values bound
+	 * @param methodCall   the name of the method that was running the SQL
+	 * @param rowsAffected the number of rows affected by the SQL
+	 */
+	protected void reportSqlTiming(long execTime, DumpedSql sql, MethodCall methodCall, 
+			long rowsAffected)
+	{
+		// redirect to one more method call ONLY so that stack trace search is consistent
+		// with the reportReturn calls
+		_reportSqlTiming(execTime, sql, methodCall, rowsAffected);
 	}
 
   /**
@@ -354,28 +700,79 @@ public class StatementSpy implements Statement, Spy
 	 * @param sql        the SQL being run
 	 * @param methodCall the name of the method that was running the SQL
 	 */
-	protected void reportSql(String sql, String methodCall)
+	protected void reportSql(String sql, MethodCall methodCall)
 	{
 		// redirect to one more method call ONLY so that stack trace search is consistent
 		// with the reportReturn calls
 		_reportSql(sql, methodCall);
 	}
 
-	private void _reportSql(String sql, String methodCall)
+	/**
+	 * Report SQL executed by a <code>PreparedStatement</code> for logging.
+	 *
+	 * @param sql        the SQL being run, with the values bound
+	 * @param methodCall the name of the method that was running the SQL
+	 */
+	protected void reportSql(DumpedSql sql, MethodCall methodCall)
+	{
+		// redirect to one more method call ONLY so that stack trace search is consistent
+		// with the reportReturn calls
+		_reportSql(sql, methodCall);
+	}
+
+	private void _reportSql(String sql, MethodCall methodCall)
+	{
+		connectionSpy.setLastSql(sql);
+		if (sqlOnlyLoggingEnabled)
+		{
+			log.sqlOccurred(this, methodCall.toString(), sql);
+		}
+	}
+
+	private void _reportSql(DumpedSql sql, MethodCall methodCall)
 	{
-		log.sqlOccurred(this, methodCall, sql);
+		connectionSpy.setLastSql(sql.getTemplate());
+		if (sqlOnlyLoggingEnabled)
+		{
+			log.sqlOccurred(this, methodCall.toString(), sql);
+		}
 	}
 
-	private void _reportSqlTiming(long execTime, String sql, String methodCall)
+	private void _reportSqlTiming(long execTime, String sql, MethodCall methodCall, 
+			long rowsAffected)
 	{
-		log.sqlTimingOccurred(this, execTime, methodCall, sql);
+		if (sqlStatistics != null)
+		{
+			sqlStatistics.recordExecution(getSqlShape(sql), execTime, rowsAffected);
+		}
+		if (sqlTimingLoggingEnabled)
+		{
+			log.sqlTimingOccurred(this, execTime, methodCall.toString(), sql);
+		}
+	}
+
+	private void _reportSqlTiming(long execTime, DumpedSql sql, MethodCall methodCall, 
+			long rowsAffected)
+	{
+		if (sqlStatistics != null)
+		{
+			sqlStatistics.recordExecution(getSqlShape(sql.getTemplate()), execTime, rowsAffected);
+		}
+		if (sqlTimingLoggingEnabled)
+		{
+			log.sqlTimingOccurred(this, execTime, methodCall.toString(), sql);
+		}
 	}
 
 	// implementation of interface methods
 	@Override
 	public SQLWarning getWarnings() throws SQLException
 	{
-		String methodCall = "getWarnings()";
+		if (!isInstrumented())
+		{
+			return realStatement.getWarnings();
+		}
+		MethodCall methodCall = GET_WARNINGS;
 		try
 		{
 			return (SQLWarning) reportReturn(methodCall, realStatement.getWarnings());
@@ -390,19 +787,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int executeUpdate(String sql, String[] columnNames) throws SQLException
 	{
-		String methodCall = "executeUpdate(" + sql + ", " + columnNames + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.executeUpdate(sql, columnNames);
+		}
+		MethodCall methodCall = new MethodCall("executeUpdate", sql, columnNames);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			int result = realStatement.executeUpdate(sql, columnNames);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall, result);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -410,19 +811,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean execute(String sql, String[] columnNames) throws SQLException
 	{
-		String methodCall = "execute(" + sql + ", " + columnNames + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.execute(sql, columnNames);
+		}
+		MethodCall methodCall = new MethodCall("execute", sql, columnNames);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			boolean result = realStatement.execute(sql, columnNames);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -430,7 +835,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void setMaxRows(int max) throws SQLException
 	{
-		String methodCall = "setMaxRows(" + max + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setMaxRows(max);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setMaxRows", max);
 		try
 		{
 			realStatement.setMaxRows(max);
@@ -446,7 +856,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean getMoreResults() throws SQLException
 	{
-		String methodCall = "getMoreResults()";
+		if (!isInstrumented())
+		{
+			return realStatement.getMoreResults();
+		}
+		MethodCall methodCall = GET_MORE_RESULTS;
 
 		try
 		{
@@ -462,7 +876,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void clearWarnings() throws SQLException
 	{
-		String methodCall = "clearWarnings()";
+		if (!isInstrumented())
+		{
+			realStatement.clearWarnings();
+			return;
+		}
+		MethodCall methodCall = CLEAR_WARNINGS;
 		try
 		{
 			realStatement.clearWarnings();
@@ -484,7 +903,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void addBatch(String sql) throws SQLException
 	{
-		String methodCall = "addBatch(" + sql + ")";
+		if (!isBatchInstrumented())
+		{
+			realStatement.addBatch(sql);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("addBatch", sql);
 
 		currentBatch.add(sql);
 		try
@@ -502,7 +926,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getResultSetType() throws SQLException
 	{
-		String methodCall = "getResultSetType()";
+		if (!isInstrumented())
+		{
+			return realStatement.getResultSetType();
+		}
+		MethodCall methodCall = GET_RESULT_SET_TYPE;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getResultSetType());
@@ -517,7 +945,14 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void clearBatch() throws SQLException
 	{
-		String methodCall = "clearBatch()";
+		currentBatch.clear();
+		batchStarted = false;
+		if (!isInstrumented())
+		{
+			realStatement.clearBatch();
+			return;
+		}
+		MethodCall methodCall = CLEAR_BATCH;
 		try
 		{
 			realStatement.clearBatch();
@@ -527,14 +962,18 @@ public class StatementSpy implements Statement, Spy
 			reportException(methodCall, s);
 			throw s;
 		}
-		currentBatch.clear();
 		reportReturn(methodCall);
 	}
 
 	@Override
 	public void setFetchDirection(int direction) throws SQLException
 	{
-		String methodCall = "setFetchDirection(" + direction + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setFetchDirection(direction);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setFetchDirection", direction);
 		try
 		{
 			realStatement.setFetchDirection(direction);
@@ -550,7 +989,14 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int[] executeBatch() throws SQLException
 	{
-		String methodCall = "executeBatch()";
+		boolean instrumented = batchStarted ? isBatchInstrumented() : isInstrumented();
+		batchStarted = false;
+		if (!instrumented)
+		{
+			currentBatch.clear();
+			return realStatement.executeBatch();
+		}
+		MethodCall methodCall = EXECUTE_BATCH;
 
 		int j=currentBatch.size();
 
@@ -580,29 +1026,59 @@ public class StatementSpy implements Statement, Spy
 
 		String sql = batchReport.toString();
 		reportSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 
 		int[] updateResults;
 		try
 		{
 			updateResults = realStatement.executeBatch();
-			reportSqlTiming(System.currentTimeMillis()-tstart, sql, methodCall);
+			reportSqlTiming(System.nanoTime()-tstart, sql, methodCall, 
+					sumUpdateCounts(updateResults));
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis()-tstart);
+			reportException(methodCall, s, sql, System.nanoTime()-tstart);
 			throw s;
 		} finally {
 	    reportBatchSize( j );
+			currentBatch.clear();
 		}
-		currentBatch.clear();
 		return (int[])reportReturn(methodCall,updateResults);
 	}
 
+	/**
+	 * Sum the update counts returned by <code>executeBatch</code>, ignoring 
+	 * <code>SUCCESS_NO_INFO</code> and <code>EXECUTE_FAILED</code>.
+	 *
+	 * @param updateCounts the update counts returned by <code>executeBatch</code>
+	 * @return the number of rows affected by the batch, -1 if unknown.
+	 */
+	private static long sumUpdateCounts(int[] updateCounts)
+	{
+		if (updateCounts == null)
+		{
+			return -1L;
+		}
+		long rowsAffected = 0;
+		for (int i = 0; i < updateCounts.length; i++)
+		{
+			if (updateCounts[i] > 0)
+			{
+				rowsAffected += updateCounts[i];
+			}
+		}
+		return rowsAffected;
+	}
+
 	@Override
 	public void setFetchSize(int rows) throws SQLException
 	{
-		String methodCall = "setFetchSize(" + rows + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setFetchSize(rows);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setFetchSize", rows);
 		try
 		{
 			realStatement.setFetchSize(rows);
@@ -618,7 +1094,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getQueryTimeout() throws SQLException
 	{
-		String methodCall = "getQueryTimeout()";
+		if (!isInstrumented())
+		{
+			return realStatement.getQueryTimeout();
+		}
+		MethodCall methodCall = GET_QUERY_TIMEOUT;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getQueryTimeout());
@@ -633,7 +1113,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public Connection getConnection() throws SQLException
 	{
-		String methodCall = "getConnection()";
+		if (!isInstrumented())
+		{
+			return connectionSpy;
+		}
+		MethodCall methodCall = GET_CONNECTION;
 		return (Connection) reportReturn(methodCall, connectionSpy);
 	}
 
@@ -652,16 +1136,20 @@ public class StatementSpy implements Statement, Spy
 	 */
 	protected ResultSet getGeneratedKeys(String sql) throws SQLException
 	{
+		if (!isInstrumented())
+		{
+			return realStatement.getGeneratedKeys();
+		}
         //use SpyLogDelegator.GET_GENERATED_KEYS_METHOD_CALL to make sure 
         //SpyLogDelegator implementations recognize the method call to getGeneratedKeys, 
         //in order to satisfy the property log4jdbc.suppress.generated.keys.exception
-        String methodCall = SpyLogDelegator.GET_GENERATED_KEYS_METHOD_CALL;
+        MethodCall methodCall = GET_GENERATED_KEYS;
 		String generatedSql = "getGeneratedKeys on query: " + sql;
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			ResultSet r = realStatement.getGeneratedKeys();
-			reportSqlTiming(System.currentTimeMillis() - tstart, generatedSql, methodCall);
+			reportSqlTiming(System.nanoTime() - tstart, generatedSql, methodCall);
 			if (r == null)
 			{
 				return (ResultSet) reportReturn(methodCall, r);
@@ -676,7 +1164,7 @@ public class StatementSpy implements Statement, Spy
             //the condition isSuppressGetGeneratedKeysException.
 //          if (!Properties.isSuppressGetGeneratedKeysException())
 //          {
-				reportException(methodCall, s, generatedSql, System.currentTimeMillis() - tstart);
+				reportException(methodCall, s, generatedSql, System.nanoTime() - tstart);
 //			}
 			throw s;
 		}
@@ -685,7 +1173,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void setEscapeProcessing(boolean enable) throws SQLException
 	{
-		String methodCall = "setEscapeProcessing(" + enable + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setEscapeProcessing(enable);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setEscapeProcessing", enable);
 		try
 		{
 			realStatement.setEscapeProcessing(enable);
@@ -701,7 +1194,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getFetchDirection() throws SQLException
 	{
-		String methodCall = "getFetchDirection()";
+		if (!isInstrumented())
+		{
+			return realStatement.getFetchDirection();
+		}
+		MethodCall methodCall = GET_FETCH_DIRECTION;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getFetchDirection());
@@ -716,7 +1213,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void setQueryTimeout(int seconds) throws SQLException
 	{
-		String methodCall = "setQueryTimeout(" + seconds + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setQueryTimeout(seconds);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setQueryTimeout", seconds);
 		try
 		{
 			realStatement.setQueryTimeout(seconds);
@@ -732,7 +1234,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean getMoreResults(int current) throws SQLException
 	{
-		String methodCall = "getMoreResults(" + current + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.getMoreResults(current);
+		}
+		MethodCall methodCall = new MethodCall("getMoreResults", current);
 
 		try
 		{
@@ -748,20 +1254,24 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public ResultSet executeQuery(String sql) throws SQLException
 	{
-		String methodCall = "executeQuery(" + sql + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.executeQuery(sql);
+		}
+		MethodCall methodCall = new MethodCall("executeQuery", sql);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			ResultSet result = realStatement.executeQuery(sql);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall);
 			ResultSetSpy r = new ResultSetSpy(this, result, this.log);
 			return (ResultSet) reportReturn(methodCall, r);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -769,7 +1279,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getMaxFieldSize() throws SQLException
 	{
-		String methodCall = "getMaxFieldSize()";
+		if (!isInstrumented())
+		{
+			return realStatement.getMaxFieldSize();
+		}
+		MethodCall methodCall = GET_MAX_FIELD_SIZE;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getMaxFieldSize());
@@ -784,19 +1298,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int executeUpdate(String sql) throws SQLException
 	{
-		String methodCall = "executeUpdate(" + sql + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.executeUpdate(sql);
+		}
+		MethodCall methodCall = new MethodCall("executeUpdate", sql);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			int result = realStatement.executeUpdate(sql);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall, result);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -804,7 +1322,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void cancel() throws SQLException
 	{
-		String methodCall = "cancel()";
+		if (!isInstrumented())
+		{
+			realStatement.cancel();
+			return;
+		}
+		MethodCall methodCall = CANCEL;
 		try
 		{
 			realStatement.cancel();
@@ -820,7 +1343,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void setCursorName(String name) throws SQLException
 	{
-		String methodCall = "setCursorName(" + name + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setCursorName(name);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setCursorName", name);
 		try
 		{
 			realStatement.setCursorName(name);
@@ -836,7 +1364,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getFetchSize() throws SQLException
 	{
-		String methodCall = "getFetchSize()";
+		if (!isInstrumented())
+		{
+			return realStatement.getFetchSize();
+		}
+		MethodCall methodCall = GET_FETCH_SIZE;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getFetchSize());
@@ -851,7 +1383,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getResultSetConcurrency() throws SQLException
 	{
-		String methodCall = "getResultSetConcurrency()";
+		if (!isInstrumented())
+		{
+			return realStatement.getResultSetConcurrency();
+		}
+		MethodCall methodCall = GET_RESULT_SET_CONCURRENCY;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getResultSetConcurrency());
@@ -866,7 +1402,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getResultSetHoldability() throws SQLException
 	{
-		String methodCall = "getResultSetHoldability()";
+		if (!isInstrumented())
+		{
+			return realStatement.getResultSetHoldability();
+		}
+		MethodCall methodCall = GET_RESULT_SET_HOLDABILITY;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getResultSetHoldability());
@@ -880,7 +1420,11 @@ public class StatementSpy implements Statement, Spy
 
 	@Override
 	public boolean isClosed() throws SQLException {
-		String methodCall = "isClosed()";
+		if (!isInstrumented())
+		{
+			return realStatement.isClosed();
+		}
+		MethodCall methodCall = IS_CLOSED;
 		try
 		{
 			return reportReturn(methodCall, realStatement.isClosed());
@@ -894,7 +1438,12 @@ public class StatementSpy implements Statement, Spy
 
 	@Override
 	public void setPoolable(boolean poolable) throws SQLException {
-		String methodCall = "setPoolable(" + poolable + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setPoolable(poolable);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setPoolable", poolable);
 		try
 		{
 			realStatement.setPoolable(poolable);
@@ -909,7 +1458,11 @@ public class StatementSpy implements Statement, Spy
 
 	@Override
 	public boolean isPoolable() throws SQLException {
-		String methodCall = "isPoolable()";
+		if (!isInstrumented())
+		{
+			return realStatement.isPoolable();
+		}
+		MethodCall methodCall = IS_POOLABLE;
 		try
 		{
 			return reportReturn(methodCall, realStatement.isPoolable());
@@ -924,7 +1477,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void setMaxFieldSize(int max) throws SQLException
 	{
-		String methodCall = "setMaxFieldSize(" + max + ")";
+		if (!isInstrumented())
+		{
+			realStatement.setMaxFieldSize(max);
+			return;
+		}
+		MethodCall methodCall = new MethodCall("setMaxFieldSize", max);
 		try
 		{
 			realStatement.setMaxFieldSize(max);
@@ -940,19 +1498,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean execute(String sql) throws SQLException
 	{
-		String methodCall = "execute(" + sql + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.execute(sql);
+		}
+		MethodCall methodCall = new MethodCall("execute", sql);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			boolean result = realStatement.execute(sql);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -960,19 +1522,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException
 	{
-		String methodCall = "executeUpdate(" + sql + ", " + autoGeneratedKeys + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.executeUpdate(sql, autoGeneratedKeys);
+		}
+		MethodCall methodCall = new MethodCall("executeUpdate", sql, autoGeneratedKeys);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			int result = realStatement.executeUpdate(sql, autoGeneratedKeys);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall, result);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -980,19 +1546,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException
 	{
-		String methodCall = "execute(" + sql + ", " + autoGeneratedKeys + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.execute(sql, autoGeneratedKeys);
+		}
+		MethodCall methodCall = new MethodCall("execute", sql, autoGeneratedKeys);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			boolean result = realStatement.execute(sql, autoGeneratedKeys);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -1000,19 +1570,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException
 	{
-		String methodCall = "executeUpdate(" + sql + ", " + columnIndexes + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.executeUpdate(sql, columnIndexes);
+		}
+		MethodCall methodCall = new MethodCall("executeUpdate", sql, columnIndexes);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			int result = realStatement.executeUpdate(sql, columnIndexes);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall, result);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -1020,19 +1594,23 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean execute(String sql, int[] columnIndexes) throws SQLException
 	{
-		String methodCall = "execute(" + sql + ", " + columnIndexes + ")";
+		if (!isInstrumented())
+		{
+			return realStatement.execute(sql, columnIndexes);
+		}
+		MethodCall methodCall = new MethodCall("execute", sql, columnIndexes);
 		this.sql = sql;
 		reportStatementSql(sql, methodCall);
-		long tstart = System.currentTimeMillis();
+		long tstart = System.nanoTime();
 		try
 		{
 			boolean result = realStatement.execute(sql, columnIndexes);
-			reportStatementSqlTiming(System.currentTimeMillis() - tstart, sql, methodCall);
+			reportStatementSqlTiming(System.nanoTime() - tstart, sql, methodCall);
 			return reportReturn(methodCall, result);
 		}
 		catch (SQLException s)
 		{
-			reportException(methodCall, s, sql, System.currentTimeMillis() - tstart);
+			reportException(methodCall, s, sql, System.nanoTime() - tstart);
 			throw s;
 		}
 	}
@@ -1040,7 +1618,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public ResultSet getResultSet() throws SQLException
 	{
-		String methodCall = "getResultSet()";
+		if (!isInstrumented())
+		{
+			return realStatement.getResultSet();
+		}
+		MethodCall methodCall = GET_RESULT_SET;
 		try
 		{
 			ResultSet r = realStatement.getResultSet();
@@ -1060,7 +1642,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getMaxRows() throws SQLException
 	{
-		String methodCall = "getMaxRows()";
+		if (!isInstrumented())
+		{
+			return realStatement.getMaxRows();
+		}
+		MethodCall methodCall = GET_MAX_ROWS;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getMaxRows());
@@ -1075,7 +1661,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void close() throws SQLException
 	{
-		String methodCall = "close()";
+		if (!isInstrumented())
+		{
+			realStatement.close();
+			return;
+		}
+		MethodCall methodCall = CLOSE;
 		try
 		{
 			realStatement.close();
@@ -1091,7 +1682,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public int getUpdateCount() throws SQLException
 	{
-		String methodCall = "getUpdateCount()";
+		if (!isInstrumented())
+		{
+			return realStatement.getUpdateCount();
+		}
+		MethodCall methodCall = GET_UPDATE_COUNT;
 		try
 		{
 			return reportReturn(methodCall, realStatement.getUpdateCount());
@@ -1105,11 +1700,15 @@ public class StatementSpy implements Statement, Spy
 
 	@Override
 	public <T> T unwrap(Class<T> iface) throws SQLException {
-		String methodCall = "unwrap(" + (iface==null?"null":iface.getName()) + ")";
+		if (!isInstrumented())
+		{
+			return (iface != null && (iface == Statement.class || iface == Spy.class))?iface.cast(this):realStatement.unwrap(iface);
+		}
+		MethodCall methodCall = new MethodCall("unwrap", iface);
 		try
 		{
 			//todo: double check this logic
-			return (T)reportReturn(methodCall, (iface != null && (iface == Connection.class || iface == Spy.class))?(T)this:realStatement.unwrap(iface));
+			return (T)reportReturn(methodCall, (iface != null && (iface == Statement.class || iface == Spy.class))?(T)this:realStatement.unwrap(iface));
 		}
 		catch (SQLException s)
 		{
@@ -1121,7 +1720,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean isWrapperFor(Class<?> iface) throws SQLException
 	{
-		String methodCall = "isWrapperFor(" + (iface==null?"null":iface.getName()) + ")";
+		if (!isInstrumented())
+		{
+			return (iface != null && (iface == Statement.class || iface == Spy.class)) ||
+					realStatement.isWrapperFor(iface);
+		}
+		MethodCall methodCall = new MethodCall("isWrapperFor", iface);
 		try
 		{
 			return reportReturn(methodCall, (iface != null && (iface == Statement.class || iface == Spy.class)) ||
@@ -1137,7 +1741,12 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public void closeOnCompletion() throws SQLException
 	{
-		String methodCall = "closeOnCompletion()";
+		if (!isInstrumented())
+		{
+			realStatement.closeOnCompletion();
+			return;
+		}
+		MethodCall methodCall = CLOSE_ON_COMPLETION;
 		try
 		{
 			realStatement.closeOnCompletion();  
@@ -1152,7 +1761,11 @@ public class StatementSpy implements Statement, Spy
 	@Override
 	public boolean isCloseOnCompletion() throws SQLException
 	{
-		String methodCall = "isCloseOnCompletion()";  
+		if (!isInstrumented())
+		{
+			return realStatement.isCloseOnCompletion();
+		}
+		MethodCall methodCall = IS_CLOSE_ON_COMPLETION;
 		try
 		{
 			return reportReturn(methodCall,realStatement.isCloseOnCompletion());  
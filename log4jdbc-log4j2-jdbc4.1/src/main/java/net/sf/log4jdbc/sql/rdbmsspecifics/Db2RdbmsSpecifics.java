@@ -25,7 +25,7 @@ import java.util.Date;
  */
 public class Db2RdbmsSpecifics extends RdbmsSpecifics {
 
-	private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat(
+	private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = newDateFormat(
 			"'TIMESTAMP('''yyyy-MM-dd HH:mm:ss.SSS''')'");
 
 	public Db2RdbmsSpecifics() {
@@ -35,7 +35,7 @@ public class Db2RdbmsSpecifics extends RdbmsSpecifics {
 	@Override
 	public String formatParameterObject(Object object) {
 		if (object instanceof Date) {
-			return DATE_FORMAT.format((Date) object);
+			return DATE_FORMAT.get().format((Date) object);
 		} 
 		return super.formatParameterObject(object);
 	}
@@ -0,0 +1,49 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import java.text.SimpleDateFormat;
+
+/**
+ * RDBMS specifics for Apache Derby, which does not support SQL standard 
+ * date/time literals: date/time values are formatted with the <code>DATE</code>, 
+ * <code>TIME</code> and <code>TIMESTAMP</code> functions, and booleans 
+ * as <code>TRUE</code>/<code>FALSE</code>.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class DerbyRdbmsSpecifics extends RdbmsSpecifics
+{
+  private static final ThreadLocal<SimpleDateFormat> TIMESTAMP_FORMAT = 
+      newDateFormat("'TIMESTAMP('''yyyy-MM-dd HH:mm:ss.SSS''')'");
+  private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = 
+      newDateFormat("'DATE('''yyyy-MM-dd''')'");
+  private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = 
+      newDateFormat("'TIME('''HH:mm:ss''')'");
+
+  public DerbyRdbmsSpecifics()
+  {
+    super();
+  }
+
+  @Override
+  public String formatParameterObject(Object object)
+  {
+    if (object instanceof Boolean)
+    {
+      return ((Boolean) object).booleanValue() ? "TRUE" : "FALSE";
+    }
+    else if (object instanceof java.sql.Date)
+    {
+      return DATE_FORMAT.get().format((java.util.Date) object);
+    }
+    else if (object instanceof java.sql.Time)
+    {
+      return TIME_FORMAT.get().format((java.util.Date) object);
+    }
+    else if (object instanceof java.util.Date)  // (includes java.sql.Timestamp)
+    {
+      return TIMESTAMP_FORMAT.get().format((java.util.Date) object);
+    }
+    return super.formatParameterObject(object);
+  }
+}
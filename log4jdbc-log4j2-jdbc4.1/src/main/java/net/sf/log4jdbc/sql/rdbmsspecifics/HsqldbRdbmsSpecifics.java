@@ -0,0 +1,31 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+/**
+ * RDBMS specifics for HSQLDB: date/time values as SQL standard literals, 
+ * and booleans as <code>TRUE</code>/<code>FALSE</code>.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class HsqldbRdbmsSpecifics extends RdbmsSpecifics
+{
+  public HsqldbRdbmsSpecifics()
+  {
+    super();
+  }
+
+  @Override
+  public String formatParameterObject(Object object)
+  {
+    if (object instanceof Boolean)
+    {
+      return ((Boolean) object).booleanValue() ? "TRUE" : "FALSE";
+    }
+    String dateTime = formatAnsiDateTime(object);
+    if (dateTime != null)
+    {
+      return dateTime;
+    }
+    return super.formatParameterObject(object);
+  }
+}
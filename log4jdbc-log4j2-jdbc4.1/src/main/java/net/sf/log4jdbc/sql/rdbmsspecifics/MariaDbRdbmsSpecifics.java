@@ -0,0 +1,16 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+/**
+ * RDBMS specifics for MariaDB, formatting values as MySQL does.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ * @see MySqlRdbmsSpecifics
+ */
+public class MariaDbRdbmsSpecifics extends MySqlRdbmsSpecifics
+{
+  public MariaDbRdbmsSpecifics()
+  {
+    super();
+  }
+}
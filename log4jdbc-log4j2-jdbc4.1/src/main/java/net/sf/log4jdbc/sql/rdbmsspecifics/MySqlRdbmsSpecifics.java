@@ -24,6 +24,11 @@ import java.text.SimpleDateFormat;
  */
 public class MySqlRdbmsSpecifics extends RdbmsSpecifics
 {
+  private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = newDateFormat("HH:mm:ss");
+  private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = newDateFormat("yyyy-MM-dd");
+  private static final ThreadLocal<SimpleDateFormat> DATETIME_FORMAT = 
+      newDateFormat("yyyy-MM-dd HH:mm:ss");
+
   public MySqlRdbmsSpecifics()
   {
     super();
@@ -34,15 +39,15 @@ public class MySqlRdbmsSpecifics extends RdbmsSpecifics
   {
     if (object instanceof java.sql.Time)
     {
-      return "'" + new SimpleDateFormat("HH:mm:ss").format(object) + "'";
+      return "'" + TIME_FORMAT.get().format((java.util.Date) object) + "'";
     }
     else if (object instanceof java.sql.Date)
     {
-      return "'" + new SimpleDateFormat("yyyy-MM-dd").format(object) + "'";
+      return "'" + DATE_FORMAT.get().format((java.util.Date) object) + "'";
     }
     else if (object instanceof java.util.Date)  // (includes java.sql.Timestamp)
     {
-      return "'" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(object) + "'";
+      return "'" + DATETIME_FORMAT.get().format((java.util.Date) object) + "'";
     }
     else
     {
@@ -26,6 +26,11 @@ import java.util.Date;
  */
 public class OracleRdbmsSpecifics extends RdbmsSpecifics
 {
+  private static final ThreadLocal<SimpleDateFormat> TIMESTAMP_FORMAT = 
+      newDateFormat("MM/dd/yyyy HH:mm:ss.SSS");
+  private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = 
+      newDateFormat("MM/dd/yyyy HH:mm:ss");
+
   public OracleRdbmsSpecifics()
   {
     super();
@@ -36,13 +41,13 @@ public class OracleRdbmsSpecifics extends RdbmsSpecifics
   {
     if (object instanceof Timestamp)
     {
-      return "to_timestamp('" + new SimpleDateFormat("MM/dd/yyyy HH:mm:ss.SSS").
-        format(object) + "', 'mm/dd/yyyy hh24:mi:ss.ff3')";
+      return "to_timestamp('" + TIMESTAMP_FORMAT.get().format((Date) object) + 
+        "', 'mm/dd/yyyy hh24:mi:ss.ff3')";
     }
     else if (object instanceof Date)
     {
-      return "to_date('" + new SimpleDateFormat("MM/dd/yyyy HH:mm:ss").
-        format(object) + "', 'mm/dd/yyyy hh24:mi:ss')";
+      return "to_date('" + DATE_FORMAT.get().format((Date) object) + 
+        "', 'mm/dd/yyyy hh24:mi:ss')";
     }
     else
     {
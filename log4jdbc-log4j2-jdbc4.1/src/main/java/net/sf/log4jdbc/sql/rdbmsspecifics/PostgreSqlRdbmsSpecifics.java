@@ -0,0 +1,38 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * RDBMS specifics for PostgreSQL: date/time values as SQL standard literals, 
+ * booleans as <code>TRUE</code>/<code>FALSE</code>, and binary values 
+ * as <code>bytea</code> hex literals.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class PostgreSqlRdbmsSpecifics extends RdbmsSpecifics
+{
+  public PostgreSqlRdbmsSpecifics()
+  {
+    super();
+  }
+
+  @Override
+  public String formatParameterObject(Object object)
+  {
+    if (object instanceof Boolean)
+    {
+      return ((Boolean) object).booleanValue() ? "TRUE" : "FALSE";
+    }
+    else if (object instanceof byte[])
+    {
+      return "'\\x" + Hex.encodeHexString((byte[]) object) + "'::bytea";
+    }
+    String dateTime = formatAnsiDateTime(object);
+    if (dateTime != null)
+    {
+      return dateTime;
+    }
+    return super.formatParameterObject(object);
+  }
+}
@@ -15,7 +15,10 @@
  */
 package net.sf.log4jdbc.sql.rdbmsspecifics;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import java.text.SimpleDateFormat;
 
 import net.sf.log4jdbc.Properties;
@@ -46,6 +49,123 @@ public class RdbmsSpecifics
 
 	protected static final String dateFormat = "MM/dd/yyyy HH:mm:ss.SSS";
 
+	/**
+	 * Per-thread formatter for {@link #dateFormat}, a {@code SimpleDateFormat} 
+	 * is costly to build and is not thread-safe.
+	 */
+	private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = newDateFormat(dateFormat);
+
+	/**
+	 * Per-thread formatters used by {@link #formatAnsiDateTime(Object)}.
+	 */
+	private static final ThreadLocal<SimpleDateFormat> ANSI_TIMESTAMP_FORMAT = 
+			newDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+	private static final ThreadLocal<SimpleDateFormat> ANSI_DATE_FORMAT = 
+			newDateFormat("yyyy-MM-dd");
+	private static final ThreadLocal<SimpleDateFormat> ANSI_TIME_FORMAT = 
+			newDateFormat("HH:mm:ss");
+
+	/**
+	 * Names of the {@code java.time} classes whose ISO-8601 {@code toString()} 
+	 * is logged as a SQL literal. They are matched by name so that this class 
+	 * still runs on a JRE 1.7.
+	 */
+	private static final Set<String> TEMPORAL_CLASS_NAMES = new HashSet<String>(Arrays.asList(
+			"java.time.LocalDate", "java.time.LocalTime", "java.time.LocalDateTime",
+			"java.time.OffsetTime", "java.time.OffsetDateTime", "java.time.ZonedDateTime",
+			"java.time.Instant"));
+
+	/**
+	 * Build a {@code ThreadLocal} providing to each thread its own {@code SimpleDateFormat} 
+	 * using {@code pattern}, to be stored in a static field by extensions of this class, 
+	 * rather than building a new {@code SimpleDateFormat} for each parameter formatted.
+	 *
+	 * @param pattern the pattern of the {@code SimpleDateFormat}s to provide.
+	 * @return a {@code ThreadLocal} lazily building one {@code SimpleDateFormat} per thread.
+	 */
+	protected static ThreadLocal<SimpleDateFormat> newDateFormat(final String pattern)
+	{
+		return new ThreadLocal<SimpleDateFormat>() {
+			@Override
+			protected SimpleDateFormat initialValue()
+			{
+				return new SimpleDateFormat(pattern);
+			}
+		};
+	}
+
+	/**
+	 * Format a {@code java.time} date/time object (such as {@code LocalDate}, 
+	 * {@code LocalDateTime} or {@code OffsetDateTime}) from its ISO-8601 representation, 
+	 * with a space rather than a 'T' between the date and the time, and without 
+	 * the region ID of a {@code ZonedDateTime}.
+	 *
+	 * @param object the object to format.
+	 * @return the formatted object, or {@code null} if {@code object} is not 
+	 *         a supported {@code java.time} object.
+	 */
+	protected static String formatTemporal(Object object)
+	{
+		if (object == null || !TEMPORAL_CLASS_NAMES.contains(object.getClass().getName()))
+		{
+			return null;
+		}
+		String iso = object.toString();
+		int regionStart = iso.indexOf('[');
+		int end = regionStart >= 0 ? regionStart : iso.length();
+		if (end > 10 && iso.charAt(10) == 'T')
+		{
+			return new StringBuilder(end).append(iso, 0, 10).append(' ').append(iso, 11, end).toString();
+		}
+		return iso.substring(0, end);
+	}
+
+	/**
+	 * Format a date/time object as a SQL standard literal, for instance 
+	 * <code>DATE '2024-01-02'</code>, <code>TIME '10:15:30'</code> or 
+	 * <code>TIMESTAMP '2024-01-02 10:15:30.123'</code>, for the extensions of this class 
+	 * whose RDBMS supports them. <code>java.time</code> objects with an offset 
+	 * are formatted as strings (see {@link #formatTemporal(Object)}).
+	 *
+	 * @param object the object to format.
+	 * @return the formatted object, or <code>null</code> if <code>object</code> 
+	 *         is not a date/time object.
+	 */
+	protected static String formatAnsiDateTime(Object object)
+	{
+		if (object instanceof java.sql.Date)
+		{
+			return "DATE '" + ANSI_DATE_FORMAT.get().format((Date) object) + "'";
+		}
+		else if (object instanceof java.sql.Time)
+		{
+			return "TIME '" + ANSI_TIME_FORMAT.get().format((Date) object) + "'";
+		}
+		else if (object instanceof Date)
+		{
+			return "TIMESTAMP '" + ANSI_TIMESTAMP_FORMAT.get().format((Date) object) + "'";
+		}
+		String temporal = formatTemporal(object);
+		if (temporal == null)
+		{
+			return null;
+		}
+		String className = object.getClass().getName();
+		if ("java.time.LocalDate".equals(className))
+		{
+			return "DATE '" + temporal + "'";
+		}
+		else if ("java.time.LocalTime".equals(className))
+		{
+			return "TIME '" + temporal + "'";
+		}
+		else if ("java.time.LocalDateTime".equals(className))
+		{
+			return "TIMESTAMP '" + temporal + "'";
+		}
+		return "'" + temporal + "'";
+	}
+
 	/**
 	 * Format an Object that is being bound to a PreparedStatement parameter, for display. The goal is to reformat the
 	 * object in a format that can be re-run against the native SQL client of the particular Rdbms being used.  This
@@ -72,7 +192,7 @@ public class RdbmsSpecifics
 		}
 		else if (object instanceof Date)
 		{
-			return "'" + new SimpleDateFormat(dateFormat).format(object) + "'";
+			return "'" + DATE_FORMAT.get().format((Date) object) + "'";
 		}
 		else if (object instanceof Boolean)
 		{
@@ -95,6 +215,11 @@ public class RdbmsSpecifics
 		}
 		else
 		{
+			String temporal = formatTemporal(object);
+			if (temporal != null)
+			{
+				return "'" + temporal + "'";
+			}
 			return object.toString();
 		}
 	}
@@ -108,7 +233,11 @@ public class RdbmsSpecifics
 	 */
 	String escapeString(String in)
 	{
-		StringBuilder out = new StringBuilder();
+		if (in.indexOf('\'') < 0)
+		{
+			return in;
+		}
+		StringBuilder out = new StringBuilder(in.length() + 8);
 		for (int i=0, j=in.length(); i < j; i++)
 		{
 			char c = in.charAt(i); 
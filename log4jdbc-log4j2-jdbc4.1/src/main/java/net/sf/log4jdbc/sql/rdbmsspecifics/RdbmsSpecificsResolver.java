@@ -0,0 +1,188 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves the {@link RdbmsSpecifics} to use for a database, from the sub-protocol 
+ * of its JDBC URL (for instance, <code>postgresql</code> in 
+ * <code>jdbc:postgresql://host/db</code>), from the class name of its driver, 
+ * or from the metadata of one of its connections. The {@code RdbmsSpecifics} 
+ * returned are shared instances.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class RdbmsSpecificsResolver
+{
+    /**
+     * Maps JDBC URL sub-protocols to {@code RdbmsSpecifics}.
+     */
+    private static final Map<String, RdbmsSpecifics> bySubProtocol;
+    /**
+     * Maps driver class names to {@code RdbmsSpecifics}.
+     */
+    private static final Map<String, RdbmsSpecifics> byDriverClassName;
+
+    static
+    {
+        RdbmsSpecifics oracle = new OracleRdbmsSpecifics();
+        RdbmsSpecifics mySql = new MySqlRdbmsSpecifics();
+        RdbmsSpecifics mariaDb = new MariaDbRdbmsSpecifics();
+        RdbmsSpecifics sqlServer = new SqlServerRdbmsSpecifics();
+        RdbmsSpecifics db2 = new Db2RdbmsSpecifics();
+        RdbmsSpecifics postgreSql = new PostgreSqlRdbmsSpecifics();
+        RdbmsSpecifics h2 = new H2RdbmsSpecifics();
+        RdbmsSpecifics hsqldb = new HsqldbRdbmsSpecifics();
+        RdbmsSpecifics derby = new DerbyRdbmsSpecifics();
+        RdbmsSpecifics sqlite = new SqliteRdbmsSpecifics();
+
+        Map<String, RdbmsSpecifics> subProtocols = new HashMap<String, RdbmsSpecifics>();
+        subProtocols.put("oracle", oracle);
+        subProtocols.put("mysql", mySql);
+        subProtocols.put("mariadb", mariaDb);
+        subProtocols.put("sqlserver", sqlServer);
+        subProtocols.put("jtds", sqlServer);
+        subProtocols.put("microsoft", sqlServer);
+        subProtocols.put("db2", db2);
+        subProtocols.put("postgresql", postgreSql);
+        subProtocols.put("pgsql", postgreSql);
+        subProtocols.put("h2", h2);
+        subProtocols.put("hsqldb", hsqldb);
+        subProtocols.put("derby", derby);
+        subProtocols.put("sqlite", sqlite);
+        bySubProtocol = Collections.unmodifiableMap(subProtocols);
+
+        Map<String, RdbmsSpecifics> driverClassNames = new HashMap<String, RdbmsSpecifics>();
+        driverClassNames.put("oracle.jdbc.driver.OracleDriver", oracle);
+        driverClassNames.put("oracle.jdbc.OracleDriver", oracle);
+        driverClassNames.put("net.sourceforge.jtds.jdbc.Driver", sqlServer);
+        driverClassNames.put("com.microsoft.jdbc.sqlserver.SQLServerDriver", sqlServer);
+        driverClassNames.put("com.microsoft.sqlserver.jdbc.SQLServerDriver", sqlServer);
+        driverClassNames.put("weblogic.jdbc.sqlserver.SQLServerDriver", sqlServer);
+        driverClassNames.put("com.mysql.jdbc.Driver", mySql);
+        driverClassNames.put("com.mysql.cj.jdbc.Driver", mySql);
+        driverClassNames.put("org.mariadb.jdbc.Driver", mariaDb);
+        driverClassNames.put("com.ibm.db2.jcc.DB2Driver", db2);
+        driverClassNames.put("COM.ibm.db2.jdbc.app.DB2Driver", db2);
+        driverClassNames.put("COM.ibm.db2.jdbc.net.DB2Driver", db2);
+        driverClassNames.put("org.postgresql.Driver", postgreSql);
+        driverClassNames.put("org.h2.Driver", h2);
+        driverClassNames.put("org.hsqldb.jdbcDriver", hsqldb);
+        driverClassNames.put("org.hsqldb.jdbc.JDBCDriver", hsqldb);
+        driverClassNames.put("org.apache.derby.jdbc.ClientDriver", derby);
+        driverClassNames.put("org.apache.derby.jdbc.EmbeddedDriver", derby);
+        driverClassNames.put("org.sqlite.JDBC", sqlite);
+        byDriverClassName = Collections.unmodifiableMap(driverClassNames);
+    }
+
+    /**
+     * Private constructor, this class only provides static methods.
+     */
+    private RdbmsSpecificsResolver()
+    {
+    }
+
+    /**
+     * Get the {@code RdbmsSpecifics} corresponding to the sub-protocol of {@code url}.
+     *
+     * @param url   A {@code String} that is a JDBC URL, with or without 
+     *              the {@code jdbc:log4} prefix of log4jdbc.
+     * @return      The {@code RdbmsSpecifics} of the database, {@code null} 
+     *              if {@code url} is {@code null} or its sub-protocol is not known.
+     */
+    public static RdbmsSpecifics fromUrl(String url)
+    {
+        if (url == null) {
+            return null;
+        }
+        int start = 0;
+        if (url.regionMatches(true, start, "jdbc:log4", 0, 9)) {
+            start += 9;
+        }
+        if (!url.regionMatches(true, start, "jdbc:", 0, 5)) {
+            return null;
+        }
+        start += 5;
+        int end = start;
+        while (end < url.length() && url.charAt(end) != ':' && url.charAt(end) != '/' 
+                && url.charAt(end) != ';') {
+            end++;
+        }
+        return bySubProtocol.get(url.substring(start, end).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Get the {@code RdbmsSpecifics} corresponding to the driver named {@code driverClassName}.
+     *
+     * @param driverClassName   A {@code String} that is the class name of a JDBC driver.
+     * @return                  The {@code RdbmsSpecifics} of the database, {@code null} 
+     *                          if the driver is not known.
+     */
+    public static RdbmsSpecifics fromDriverClassName(String driverClassName)
+    {
+        if (driverClassName == null) {
+            return null;
+        }
+        return byDriverClassName.get(driverClassName);
+    }
+
+    /**
+     * Get the {@code RdbmsSpecifics} corresponding to the product name of a database, 
+     * as returned by {@code DatabaseMetaData.getDatabaseProductName()}.
+     *
+     * @param productName   A {@code String} that is the product name of a database.
+     * @return              The {@code RdbmsSpecifics} of the database, {@code null} 
+     *                      if the product is not known.
+     */
+    public static RdbmsSpecifics fromProductName(String productName)
+    {
+        if (productName == null) {
+            return null;
+        }
+        String name = productName.trim().toLowerCase(Locale.ROOT);
+        if (name.startsWith("microsoft sql server")) {
+            return bySubProtocol.get("sqlserver");
+        } else if (name.startsWith("hsql")) {
+            return bySubProtocol.get("hsqldb");
+        } else if (name.startsWith("apache derby")) {
+            return bySubProtocol.get("derby");
+        } else if (name.startsWith("db2")) {
+            return bySubProtocol.get("db2");
+        }
+        return bySubProtocol.get(name);
+    }
+
+    /**
+     * Get the {@code RdbmsSpecifics} of the database of {@code connection}, 
+     * from the URL, then from the product name, provided by its metadata. 
+     * Calls to this method should be limited (for instance, once per pool), 
+     * as obtaining the metadata might require a round trip to the database 
+     * with some drivers.
+     *
+     * @param connection    The {@code Connection} to the database.
+     * @return              The {@code RdbmsSpecifics} of the database, {@code null} 
+     *                      if it could not be resolved.
+     */
+    public static RdbmsSpecifics fromMetaData(Connection connection)
+    {
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (metaData == null) {
+                return null;
+            }
+            RdbmsSpecifics r = fromUrl(metaData.getURL());
+            if (r == null) {
+                r = fromProductName(metaData.getDatabaseProductName());
+            }
+            return r;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
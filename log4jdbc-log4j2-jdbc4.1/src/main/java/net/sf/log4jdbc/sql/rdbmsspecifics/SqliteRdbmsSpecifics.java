@@ -0,0 +1,41 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import java.text.SimpleDateFormat;
+
+/**
+ * RDBMS specifics for SQLite, which has no date/time type: date/time values 
+ * are formatted as ISO-8601 strings, as expected by its date and time functions.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class SqliteRdbmsSpecifics extends RdbmsSpecifics
+{
+  private static final ThreadLocal<SimpleDateFormat> TIMESTAMP_FORMAT = 
+      newDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+  private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = newDateFormat("yyyy-MM-dd");
+  private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = newDateFormat("HH:mm:ss");
+
+  public SqliteRdbmsSpecifics()
+  {
+    super();
+  }
+
+  @Override
+  public String formatParameterObject(Object object)
+  {
+    if (object instanceof java.sql.Date)
+    {
+      return "'" + DATE_FORMAT.get().format((java.util.Date) object) + "'";
+    }
+    else if (object instanceof java.sql.Time)
+    {
+      return "'" + TIME_FORMAT.get().format((java.util.Date) object) + "'";
+    }
+    else if (object instanceof java.util.Date)  // (includes java.sql.Timestamp)
+    {
+      return "'" + TIMESTAMP_FORMAT.get().format((java.util.Date) object) + "'";
+    }
+    return super.formatParameterObject(object);
+  }
+}
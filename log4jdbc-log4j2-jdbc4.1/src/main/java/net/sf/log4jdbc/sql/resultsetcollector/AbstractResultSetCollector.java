@@ -0,0 +1,172 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
+
+/**
+ * Base class for custom {@code ResultSetCollector}s written against the original
+ * contract of the interface, where all events were notified to
+ * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+ * <p>
+ * The typed callbacks called by the {@code ResultSetSpy} are implemented on top
+ * of {@code methodReturned}, with {@code MethodCall}s carrying the identifiers
+ * of {@code ResultSetSpy} (see {@link ResultSetSpy#GETTER_ID}): {@code next}
+ * and {@code first} are both notified as {@code next}, and getters as
+ * {@code getObject}, as their name is not provided to the typed callbacks.
+ * Primitive values are boxed. The other methods added to the interface describe
+ * a result set collected in memory, without rows omitted or streaming.
+ * <p>
+ * Subclasses then only need to implement {@code methodReturned}, {@code preMethod},
+ * and the methods describing the rows and columns collected. Implementations
+ * can still override the typed callbacks to avoid building the {@code MethodCall}s.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public abstract class AbstractResultSetCollector implements ResultSetCollector {
+    /**
+     * Descriptions of the calls notified without arguments.
+     */
+    private static final MethodCall NEXT = new MethodCall(ResultSetSpy.NEXT_ID, "next");
+    private static final MethodCall WAS_NULL = new MethodCall(ResultSetSpy.WAS_NULL_ID, "wasNull");
+    private static final MethodCall CLOSE = new MethodCall(ResultSetSpy.CLOSE_ID, "close");
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation notifies a call to {@code next} to
+     * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+     */
+    @Override
+    public boolean nextReturned(ResultSetSpy resultSetSpy, boolean hasRow) {
+        return this.methodReturned(resultSetSpy, NEXT, Boolean.valueOf(hasRow),
+                resultSetSpy.getRealResultSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation notifies a call to {@code getObject(columnIndex)} to
+     * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+     */
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, Object value) {
+        this.methodReturned(resultSetSpy,
+                new MethodCall(ResultSetSpy.GETTER_ID, "getObject", columnIndex), value,
+                resultSetSpy.getRealResultSet());
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, boolean value) {
+        this.getterReturned(resultSetSpy, columnIndex, Boolean.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, byte value) {
+        this.getterReturned(resultSetSpy, columnIndex, Byte.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, short value) {
+        this.getterReturned(resultSetSpy, columnIndex, Short.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, int value) {
+        this.getterReturned(resultSetSpy, columnIndex, Integer.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, long value) {
+        this.getterReturned(resultSetSpy, columnIndex, Long.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, float value) {
+        this.getterReturned(resultSetSpy, columnIndex, Float.valueOf(value));
+    }
+
+    @Override
+    public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, double value) {
+        this.getterReturned(resultSetSpy, columnIndex, Double.valueOf(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation notifies a call to {@code wasNull} to
+     * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+     */
+    @Override
+    public void wasNullReturned(ResultSetSpy resultSetSpy, boolean wasNull) {
+        this.methodReturned(resultSetSpy, WAS_NULL, Boolean.valueOf(wasNull),
+                resultSetSpy.getRealResultSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation notifies a call to {@code close} to
+     * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+     */
+    @Override
+    public boolean closeReturned(ResultSetSpy resultSetSpy) {
+        return this.methodReturned(resultSetSpy, CLOSE, null, resultSetSpy.getRealResultSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation compares {@code columnLabel}, ignoring case, to the names
+     * returned by {@link #getColumnName(int)}.
+     */
+    @Override
+    public int getColumnIndex(String columnLabel) {
+        for (int column = 1; column <= this.getColumnCount(); column++) {
+            if (columnLabel != null && columnLabel.equalsIgnoreCase(this.getColumnName(column))) {
+                return column;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the size of {@link #getRows()}.
+     */
+    @Override
+    public long getRowCount() {
+        return this.getRows().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns 0, all rows are kept.
+     */
+    @Override
+    public long getOmittedRowCount() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns 0, all rows are kept.
+     */
+    @Override
+    public int getOmittedRowsIndex() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns 0, the result set is not streamed in chunks.
+     */
+    @Override
+    public long getFirstRowNumber() {
+        return 0;
+    }
+}
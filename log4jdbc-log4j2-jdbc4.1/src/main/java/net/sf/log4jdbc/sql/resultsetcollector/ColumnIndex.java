@@ -0,0 +1,113 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+/**
+ * Case-insensitive map from column names to column indexes, used by
+ * {@link DefaultResultSetCollector} to resolve calls such as {@code getString("myColumn")}.
+ * <p>
+ * It is built once per result set, and looked up for each value read by name:
+ * this is an open-addressing hash table whose hash and comparison of keys
+ * ignore case character by character, so that, unlike a {@code HashMap}
+ * keyed by lower-cased names, a lookup does not allocate any object.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+final class ColumnIndex {
+    /**
+     * The names stored, {@code null} for empty slots.
+     */
+    private String[] names;
+    /**
+     * The column indexes associated to the names at the same position in {@link #names}.
+     */
+    private int[] columns;
+    /**
+     * An {@code int} that is the number of names stored.
+     */
+    private int size;
+
+    /**
+     * @param expectedSize  An {@code int} that is the expected number of names stored.
+     */
+    ColumnIndex(int expectedSize) {
+        int capacity = 8;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.names = new String[capacity];
+        this.columns = new int[capacity];
+    }
+
+    /**
+     * Associate {@code column} to {@code name}, replacing any column previously
+     * associated to a name equal to {@code name} ignoring case.
+     *
+     * @param name      A {@code String} that is the name of the column. {@code null}
+     *                  names are ignored.
+     * @param column    An {@code int} that is the index of the column, starting from 1.
+     */
+    void put(String name, int column) {
+        if (name == null) {
+            return;
+        }
+        if ((this.size + 1) * 2 > this.names.length) {
+            this.resize();
+        }
+        int mask = this.names.length - 1;
+        int slot = hash(name) & mask;
+        while (this.names[slot] != null) {
+            if (this.names[slot].equalsIgnoreCase(name)) {
+                this.columns[slot] = column;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.names[slot] = name;
+        this.columns[slot] = column;
+        this.size++;
+    }
+
+    /**
+     * @param name  A {@code String} that is the name of a column.
+     * @return      An {@code int} that is the index of the column associated to
+     *              {@code name} ignoring case, 0 if none.
+     */
+    int get(String name) {
+        if (name == null) {
+            return 0;
+        }
+        int mask = this.names.length - 1;
+        int slot = hash(name) & mask;
+        while (this.names[slot] != null) {
+            if (this.names[slot].equalsIgnoreCase(name)) {
+                return this.columns[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private void resize() {
+        String[] oldNames = this.names;
+        int[] oldColumns = this.columns;
+        this.names = new String[oldNames.length * 2];
+        this.columns = new int[oldNames.length * 2];
+        this.size = 0;
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] != null) {
+                this.put(oldNames[i], oldColumns[i]);
+            }
+        }
+    }
+
+    /**
+     * Hash code of {@code name} consistent with {@code String#equalsIgnoreCase(String)}.
+     */
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,76 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Render result sets as comma-separated values (RFC 4180). The header line
+ * is written only before the first chunk of a result set streamed in chunks,
+ * so that the chunks logged can be concatenated into a single CSV document.
+ * SQL {@code NULL}s are written as empty values, and rows omitted
+ * to bound the memory used are not reported.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class CsvResultSetRenderer extends StreamingResultSetRenderer {
+
+    @Override
+    protected void appendHeader(String[] columnNames, boolean firstChunk, Appendable out)
+            throws IOException {
+        if (!firstChunk) {
+            return;
+        }
+        for (int column = 0; column < columnNames.length; column++) {
+            if (column > 0) {
+                out.append(',');
+            }
+            appendValue(columnNames[column], out);
+        }
+        out.append(nl);
+    }
+
+    @Override
+    protected void appendRow(String[] columnNames, List<Object> row, Appendable out)
+            throws IOException {
+        int column = 0;
+        for (Object value : row) {
+            if (column == columnNames.length) {
+                break;
+            }
+            if (column > 0) {
+                out.append(',');
+            }
+            if (!isNull(value)) {
+                appendValue(value.toString(), out);
+            }
+            column++;
+        }
+        out.append(nl);
+    }
+
+    /**
+     * Write a value, enclosed in double quotes only if it contains a comma,
+     * a double quote or a line break.
+     */
+    private static void appendValue(String value, Appendable out) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.append(value, start, i + 1).append('"');
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length()).append('"');
+    }
+}
@@ -18,23 +18,89 @@ package net.sf.log4jdbc.sql.resultsetcollector;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import net.sf.log4jdbc.log.SpyLogFactory;
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
 
 
+/**
+ * Default <code>ResultSetCollector</code>, keeping the rows read in memory 
+ * until the end of the result set. 
+ * <p>
+ * To bound the memory used with large result sets, it can also: 
+ * <ul>
+ * <li>stream the result set in chunks of <code>chunkRows</code> rows: 
+ * {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)} returns 
+ * <code>true</code> each time a chunk is complete, and the following call to 
+ * {@link #reset()} only discards the rows of the chunk, keeping the metadata.
+ * <li>keep only the <code>firstRows</code> first rows and the <code>lastRows</code> 
+ * last rows of each result set or chunk, counting the rows omitted in between.
+ * </ul>
+ * The memory used is then independent of the size of the result set.
+ * <p>
+ * The column names and labels are stored in arrays, and the rows read in 
+ * <code>Object</code> arrays. Names used to read values (for instance, 
+ * <code>getString("myColumn")</code>) are resolved by a {@link ColumnIndex} 
+ * built once per result set, without allocating. The methods of interest are recognized 
+ * by the identifiers provided by the <code>ResultSetSpy</code> (see 
+ * {@link ResultSetSpy#GETTER_ID}), rather than by comparing method names.
+ */
 public class DefaultResultSetCollector implements ResultSetCollector {
 
-  private static final String NULL_RESULT_SET_VAL = "[null]";
+  static final String NULL_RESULT_SET_VAL = "[null]";
   private static final String UNREAD = "[unread]";
   private static final String UNREAD_ERROR = "[unread!]";
   private boolean fillInUnreadValues = false;
 
+  /**
+   * An <code>int</code> that is the number of rows of the chunks in which 
+   * the result set is streamed, 0 to collect the whole result set at once.
+   */
+  private final int chunkRows;
+  /**
+   * An <code>int</code> that is the number of first rows kept of each result set 
+   * or chunk, when {@link #isBounded()}.
+   */
+  private final int firstRows;
+  /**
+   * An <code>int</code> that is the number of last rows kept of each result set 
+   * or chunk, when {@link #isBounded()}.
+   */
+  private final int lastRows;
+  /**
+   * A <code>boolean</code> defining whether it was already reported that the cursor 
+   * was moved other than forward, which the rows collected do not follow.
+   */
+  private boolean repositionReported = false;
+
   public DefaultResultSetCollector(boolean fillInUnreadValues) {
+      this(fillInUnreadValues, 0, 0, 0);
+  }
+
+  /**
+   * Constructor bounding the number of rows kept in memory.
+   * 
+   * @param fillInUnreadValues  A <code>boolean</code> defining whether values 
+   *                            not read by the application should be read.
+   * @param chunkRows           An <code>int</code> that is the number of rows of the chunks 
+   *                            in which the result set is streamed, 0 to collect 
+   *                            the whole result set at once.
+   * @param firstRows           An <code>int</code> that is the number of first rows kept 
+   *                            of each result set or chunk.
+   * @param lastRows            An <code>int</code> that is the number of last rows kept 
+   *                            of each result set or chunk. If both <code>firstRows</code> 
+   *                            and <code>lastRows</code> are 0, all rows are kept.
+   */
+  public DefaultResultSetCollector(boolean fillInUnreadValues, int chunkRows, 
+		  int firstRows, int lastRows) {
+      this.chunkRows = Math.max(chunkRows, 0);
+      this.firstRows = Math.max(firstRows, 0);
+      this.lastRows = Math.max(lastRows, 0);
 	  this.reset();
       this.fillInUnreadValues = fillInUnreadValues;
       this.lastValueReturnedByNext = true;
@@ -54,23 +120,21 @@ public class DefaultResultSetCollector implements ResultSetCollector {
    */
   private int columnCount;
   /**
-   * A <code>Map</code> where the key is an <code>Integer</code> representing 
-   * the index of a column, and the corresponding value is a <code>String</code> 
-   * being the label of the column. 
-   * This <code>Map</code> is populated by calling <code>getColumnLabel</code> 
+   * An array of <code>String</code>s being the labels of the columns, 
+   * the label of the column at index <code>i</code> being stored at index <code>i - 1</code>. 
+   * This array is populated by calling <code>getColumnLabel</code> 
    * on the <code>ResultSetMetaData</code> object of the real <code>ResultSet</code> object, 
    * for each column (see {@link #columnCount}).
    */
-  private Map<Integer, String> columnLabels;
+  private String[] columnLabels;
   /**
-   * A <code>Map</code> where the key is an <code>Integer</code> representing 
-   * the index of a column, and the corresponding value is a <code>String</code> 
-   * being the name of the column. 
-   * This <code>Map</code> is populated by calling <code>getColumnLabel</code> 
+   * An array of <code>String</code>s being the names of the columns, 
+   * the name of the column at index <code>i</code> being stored at index <code>i - 1</code>. 
+   * This array is populated by calling <code>getColumnName</code> 
    * on the <code>ResultSetMetaData</code> object of the real <code>ResultSet</code> object, 
    * for each column (see {@link #columnCount}).
    */
-  private Map<Integer, String> columnNames;
+  private String[] columnNames;
   /**
    * A <code>boolean</code> that is the last value returned by a call 
    * to <code>next</code> (or <code>first</code>) on the related <code>ResultSet</code>. 
@@ -89,12 +153,45 @@ public class DefaultResultSetCollector implements ResultSetCollector {
    * not printed).
    */
   private boolean lastValueReturnedByNext;
-  private List<Object> row;
+  /**
+   * The values of the current row, <code>null</code> if no value was read yet.
+   */
+  private Object[] row;
   private List<List<Object>> rows;
-  private Map<String, Integer> colNameToColIndex;
+  /**
+   * The last rows kept when {@link #isBounded()}, moved to {@link #rows} 
+   * when the result set or chunk is complete.
+   */
+  private ArrayDeque<List<Object>> lastRowsKept;
+  /**
+   * A <code>long</code> that is the number of rows read in the current result set 
+   * or chunk, including the rows omitted.
+   */
+  private long rowCount;
+  /**
+   * A <code>long</code> that is the number of rows omitted in the current result set 
+   * or chunk, when {@link #isBounded()}.
+   */
+  private long omittedRowCount;
+  /**
+   * An <code>int</code> that is the index in {@link #rows} of the first row 
+   * following the rows omitted.
+   */
+  private int omittedRowsIndex;
+  /**
+   * A <code>long</code> that is the number in the result set of the first row 
+   * of the current chunk, starting from 1, 0 if the result set is not streamed.
+   */
+  private long firstRowNumber;
+  /**
+   * A <code>boolean</code> that is <code>true</code> when a chunk is complete, 
+   * until a new row is read or the end of the result set is reached: 
+   * {@link #reset()} then only starts a new chunk. 
+   */
+  private boolean chunkComplete;
+  private ColumnIndex colNameToColIndex;
   private int colIndex; 
-  private static final List<String> GETTERS = Arrays.asList(new String[] { "getString", "getLong", "getInt", "getDate", "getTimestamp", "getTime",
-      "getBigDecimal", "getFloat", "getDouble", "getByte", "getShort", "getObject", "getBoolean", });
+  private static final String[] NO_COLUMNS = new String[0];
 
   public List<List<Object>> getRows() {
     return rows;
@@ -104,15 +201,103 @@ public class DefaultResultSetCollector implements ResultSetCollector {
     return columnCount;
   }
 
+  @Override
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public long getOmittedRowCount() {
+    return omittedRowCount;
+  }
+
+  @Override
+  public int getOmittedRowsIndex() {
+    return omittedRowsIndex;
+  }
+
+  @Override
+  public long getFirstRowNumber() {
+    return firstRowNumber;
+  }
+
+  /**
+   * @return  <code>true</code> if only the first and last rows of each result set 
+   *          or chunk are kept.
+   */
+  private boolean isBounded() {
+    return firstRows > 0 || lastRows > 0;
+  }
+
+  /**
+   * Discard the rows collected. If a chunk is complete, only a new chunk is started, 
+   * the metadata are kept; calling this method several times is then harmless, 
+   * as the <code>ResultSetCollectorPrinter</code> and the <code>ResultSetSpy</code> 
+   * both reset this <code>ResultSetCollector</code>.
+   */
   public void reset() {
+    if (chunkComplete) {
+      firstRowNumber += rowCount;
+      resetRows();
+      return;
+    }
+    firstRowNumber = (chunkRows > 0 ? 1 : 0);
+    resetRows();
     loaded = false;
-    rows = null;
     row = null;
     colNameToColIndex = null;
     colIndex = -1;// Useful for wasNull calls
     columnCount = 0;
-    columnLabels = new HashMap<Integer, String>();
-    columnNames = new HashMap<Integer, String>();
+    columnLabels = NO_COLUMNS;
+    columnNames = NO_COLUMNS;
+  }
+
+  private void resetRows() {
+    rows = null;
+    lastRowsKept = null;
+    rowCount = 0;
+    omittedRowCount = 0;
+    omittedRowsIndex = 0;
+  }
+
+  /**
+   * Add a row read, keeping only the first and last rows if {@link #isBounded()}.
+   */
+  private void addRow(List<Object> readRow) {
+    chunkComplete = false;
+    rowCount++;
+    if (rows == null) {
+      rows = new ArrayList<List<Object>>();
+    }
+    if (!isBounded() || rows.size() < firstRows) {
+      rows.add(readRow);
+      return;
+    }
+    if (lastRows == 0) {
+      omittedRowCount++;
+      return;
+    }
+    if (lastRowsKept == null) {
+      lastRowsKept = new ArrayDeque<List<Object>>(lastRows);
+    }
+    if (lastRowsKept.size() == lastRows) {
+      lastRowsKept.removeFirst();
+      omittedRowCount++;
+    }
+    lastRowsKept.addLast(readRow);
+  }
+
+  /**
+   * Make the rows of a complete result set or chunk available from {@link #getRows()}.
+   */
+  private void completeRows() {
+    if (rows != null) {
+      omittedRowsIndex = rows.size();
+      if (lastRowsKept != null) {
+        rows.addAll(lastRowsKept);
+        lastRowsKept = null;
+      }
+    }
   }
 
   @Override
@@ -155,12 +340,14 @@ public class DefaultResultSetCollector implements ResultSetCollector {
           } else {
     	      this.columnCount = metaData.getColumnCount();
           }
-    	  this.colNameToColIndex = new HashMap<String, Integer>(this.columnCount);
+    	  this.colNameToColIndex = new ColumnIndex(4 * this.columnCount);
+    	  this.columnLabels = new String[this.columnCount];
+    	  this.columnNames = new String[this.columnCount];
     	  for (int column = 1; column <= this.columnCount; column++) {
     		  String label = metaData.getColumnLabel(column).toLowerCase();
     		  String name  = metaData.getColumnName(column).toLowerCase();
-    		  this.columnLabels.put(column, label);
-    		  this.columnNames.put(column, name);
+    		  this.columnLabels[column - 1] = label;
+    		  this.columnNames[column - 1] = name;
     		  colNameToColIndex.put(label, column);
     		  colNameToColIndex.put(name, column);
     		  //get also the table name to resolve calls such as: 
@@ -181,109 +368,183 @@ public class DefaultResultSetCollector implements ResultSetCollector {
   }
 
   public String getColumnName(int column) {
-      return this.columnNames.get(column);
+      return this.columnNames[column - 1];
   }
   
   public String getColumnLabel(int column) {
-	  return this.columnLabels.get(column);
+	  return this.columnLabels[column - 1];
   }
 
   /*
    * (non-Javadoc)
    * 
    * @see net.sf.log4jdbc.ResultSetCollector#methodReturned(net.sf.log4jdbc.
-   * ResultSetSpy, java.lang.String, java.lang.Object, java.lang.Object,
-   * java.lang.Object)
+   * ResultSetSpy, net.sf.log4jdbc.sql.MethodCall, java.lang.Object, java.lang.Object)
    */
   @Override
-  public boolean methodReturned(ResultSetSpy resultSetSpy, String methodCall, Object returnValue, 
-		  Object targetObject, Object... methodParams) 
+  public boolean methodReturned(ResultSetSpy resultSetSpy, MethodCall methodCall, Object returnValue, 
+		  Object targetObject) 
   {
-         
-    if (methodCall.startsWith("get") && methodParams != null && methodParams.length == 1) {
-            
-      String methodName = methodCall.substring(0, methodCall.indexOf('('));
-      if (GETTERS.contains(methodName) && getColumnCount() != 0) {
-        setColIndexFromGetXXXMethodParams(methodParams);
-        makeRowIfNeeded();
-        row.set(colIndex - 1, returnValue);
-      }
+    //only the identifier of the method is used, the description of the call 
+    //is never rendered here. The ResultSetSpy uses the typed callbacks 
+    //for all these methods but getMetaData.
+    switch (methodCall.getId()) {
+      case ResultSetSpy.GETTER_ID:
+        Object column = methodCall.getArguments()[0];
+        if (column instanceof String) {
+          getterReturned(resultSetSpy, getColumnIndex((String) column), returnValue);
+        } else if (column instanceof Integer) {
+          getterReturned(resultSetSpy, ((Integer) column).intValue(), returnValue);
+        } else {
+          throw new AssertionError("ResultSet.getXXX called with: " + column);
+        }
+        return false;
+      case ResultSetSpy.WAS_NULL_ID:
+        wasNullReturned(resultSetSpy, Boolean.TRUE.equals(returnValue));
+        return false;
+      case ResultSetSpy.NEXT_ID:
+      case ResultSetSpy.FIRST_ID:
+        return nextReturned(resultSetSpy, Boolean.TRUE.equals(returnValue));
+      case ResultSetSpy.CLOSE_ID:
+        return closeReturned(resultSetSpy);
+      case ResultSetSpy.GET_META_DATA_ID:
+        // If the client code calls getMetaData then we don't have to
+        //here we assume that the real ResultSet is not yet closed. 
+        this.loadMetaDataIfNeeded((ResultSetMetaData) returnValue);
+        return false;
+      case ResultSetSpy.REPOSITION_ID:
+        if (!repositionReported) {
+          repositionReported = true;
+          SpyLogFactory.getSpyLogDelegator().debug("ResultSet." + methodCall.getMethodName() + 
+              " called: cursors not moving forward are not supported, " + 
+              "the rows collected might not match the rows read");
+        }
+        return false;
+      default:
+        return false;
     }
-    if (methodCall.equals("wasNull()") && getColumnCount() != 0) {
-      if (Boolean.TRUE.equals(returnValue)) {
-        row.set(colIndex - 1, NULL_RESULT_SET_VAL);
-      }
+  }
+
+  @Override
+  public boolean nextReturned(ResultSetSpy resultSetSpy, boolean hasRow) {
+    this.lastValueReturnedByNext = hasRow;
+    return rowCompleted(resultSetSpy, !hasRow);
+  }
+
+  @Override
+  public boolean closeReturned(ResultSetSpy resultSetSpy) {
+    //"close" triggers a printing only if the previous call to next 
+    //did not return false (end of result set already reached)
+    return rowCompleted(resultSetSpy, this.lastValueReturnedByNext);
+  }
+
+  /**
+   * Store the current row when the cursor moves or the result set is closed.
+   * @param isEndOfResultSet  <code>true</code> if the result set is complete.
+   * @return <code>true</code> if the result set, or the current chunk, is complete.
+   */
+  private boolean rowCompleted(ResultSetSpy resultSetSpy, boolean isEndOfResultSet) {
+    loadMetaDataIfNeeded(resultSetSpy.getRealResultSet());
+    if (row != null) {
+      //fixed-size List backed by the array, no copy
+      addRow(Arrays.asList(row));
+      row = null;
     }
-    if ("next()".equals(methodCall) || "first()".equals(methodCall)) {
-    	this.lastValueReturnedByNext = (Boolean) returnValue;
+    if (isEndOfResultSet) {
+      chunkComplete = false;
+      completeRows();
+      return true;
     }
-    if ("next()".equals(methodCall) || "first()".equals(methodCall) || 
-    		"close()".equals(methodCall)) {
-      loadMetaDataIfNeeded(resultSetSpy.getRealResultSet());
-      boolean isEndOfResultSet = 
-    		  //"close" triggers a printing only if the previous call to next 
-    		  //did not return false (end of result set already reached)
-    		  ("close()".equals(methodCall) && this.lastValueReturnedByNext != false) || 
-    		  Boolean.FALSE.equals(returnValue) ;
-      if (row != null) {
-        if (rows == null)
-          rows = new ArrayList<List<Object>>();
-        rows.add(row);
-        row = null;
-      }
-      if (isEndOfResultSet) {
-        return true;
-      }
+    if (chunkRows > 0 && rowCount >= chunkRows) {
+      chunkComplete = true;
+      completeRows();
+      return true;
     }
-    // TODO: Tim: if prev() called, warn about no support for reverse cursors
+    return false;
+  }
 
-    if ("getMetaData()".equals(methodCall)) {
-      // If the client code calls getMetaData then we don't have to
-      //here we assume that the real ResultSet is not yet closed. 
-      this.loadMetaDataIfNeeded((ResultSetMetaData) returnValue);
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, Object value) {
+    if (getColumnCount() != 0) {
+      colIndex = columnIndex;
+      makeRowIfNeeded();
+      row[colIndex - 1] = value;
     }
-    return false;
   }
 
-  private void makeRowIfNeeded() {
-    if (row == null) {
-      row = new ArrayList<Object>(getColumnCount());
-      for (int i = 0; i < getColumnCount(); ++i) {
-        row.add(UNREAD);
-      }
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, boolean value) {
+    getterReturned(resultSetSpy, columnIndex, Boolean.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, byte value) {
+    getterReturned(resultSetSpy, columnIndex, Byte.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, short value) {
+    getterReturned(resultSetSpy, columnIndex, Short.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, int value) {
+    getterReturned(resultSetSpy, columnIndex, Integer.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, long value) {
+    getterReturned(resultSetSpy, columnIndex, Long.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, float value) {
+    getterReturned(resultSetSpy, columnIndex, Float.valueOf(value));
+  }
+
+  @Override
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, double value) {
+    getterReturned(resultSetSpy, columnIndex, Double.valueOf(value));
+  }
+
+  @Override
+  public void wasNullReturned(ResultSetSpy resultSetSpy, boolean wasNull) {
+    if (wasNull && row != null && getColumnCount() != 0) {
+      row[colIndex - 1] = NULL_RESULT_SET_VAL;
     }
   }
 
-  private void setColIndexFromGetXXXMethodParams(Object... methodParams) {
-    Object param1 = methodParams[0];
-    if (param1 == null) {
+  @Override
+  public int getColumnIndex(String columnLabel) {
+    if (getColumnCount() == 0) {
+      return 0;
+    }
+    if (columnLabel == null) {
       throw new RuntimeException("ResultSet.getXXX() first param null? ");
     }
-    if (param1 instanceof Integer) {
-      colIndex = (Integer) param1;
-    } else if (param1 instanceof String) {
-      if (colNameToColIndex == null) {
-        throw new RuntimeException("ResultSet.getXXX(colName): colNameToColIndex null");
-      }
-      Integer idx = colNameToColIndex.get(((String) param1).toLowerCase());
+    int idx = colNameToColIndex.get(columnLabel);
+    if (idx == 0) {
+      throw new RuntimeException("ResultSet.getXXX(colName): could not look up name");
+    }
+    return idx;
+  }
 
-      if (idx == null) {
-        throw new RuntimeException("ResultSet.getXXX(colName): could not look up name");
-      }
-      colIndex = idx;
-    } else {
-      throw new AssertionError("ResultSet.getXXX called with: " + param1.getClass().getName());
+  private void makeRowIfNeeded() {
+    if (row == null) {
+      row = new Object[getColumnCount()];
+      Arrays.fill(row, UNREAD);
     }
   }
 
   @Override
-  public void preMethod(ResultSetSpy resultSetSpy, String methodCall, Object... methodParams) {
-    if ((methodCall.equals("next()") || methodCall.equals("close()")) && 
+  public void preMethod(ResultSetSpy resultSetSpy, MethodCall methodCall) {
+    int methodId = methodCall.getId();
+    if ((methodId == ResultSetSpy.NEXT_ID || methodId == ResultSetSpy.CLOSE_ID) && 
     		fillInUnreadValues) {
       if (row != null) {
         int colIndex = 0;
         for (Object v : row) {
-          if (v != null && v.toString().equals(UNREAD)) {
+          if (v == UNREAD) {
             Object resultSetValue = null;
             try {
               // Fill in any unread data 
@@ -292,9 +553,9 @@ public class DefaultResultSetCollector implements ResultSetCollector {
               resultSetValue = UNREAD_ERROR;
             }
             if (resultSetValue!=null) {
-              row.set(colIndex, resultSetValue);
+              row[colIndex] = resultSetValue;
             } else {
-              row.set(colIndex, NULL_RESULT_SET_VAL);
+              row[colIndex] = NULL_RESULT_SET_VAL;
             }
           }
           colIndex++;
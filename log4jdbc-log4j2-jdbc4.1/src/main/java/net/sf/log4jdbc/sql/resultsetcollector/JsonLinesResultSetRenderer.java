@@ -0,0 +1,95 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Render result sets as JSON Lines: one JSON object per row, keyed by column names,
+ * so that each line can be parsed on its own by a log pipeline. Numbers and booleans
+ * are written as JSON numbers and booleans, SQL {@code NULL}s as {@code null},
+ * and all other values as strings. Rows omitted to bound the memory used
+ * are not reported.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class JsonLinesResultSetRenderer extends StreamingResultSetRenderer {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    @Override
+    protected void appendHeader(String[] columnNames, boolean firstChunk, Appendable out) {
+        //each line is self-describing
+    }
+
+    @Override
+    protected void appendRow(String[] columnNames, List<Object> row, Appendable out)
+            throws IOException {
+        out.append('{');
+        int column = 0;
+        for (Object value : row) {
+            if (column == columnNames.length) {
+                break;
+            }
+            if (column > 0) {
+                out.append(',');
+            }
+            appendString(columnNames[column], out);
+            out.append(':');
+            appendValue(value, out);
+            column++;
+        }
+        out.append('}').append(nl);
+    }
+
+    private static void appendValue(Object value, Appendable out) throws IOException {
+        if (isNull(value)) {
+            out.append("null");
+        } else if (value instanceof Boolean || value instanceof Integer ||
+                value instanceof Long || value instanceof Short || value instanceof Byte ||
+                value instanceof BigInteger) {
+            out.append(value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.append(((BigDecimal) value).toString());
+        } else if ((value instanceof Double || value instanceof Float) &&
+                !Double.isNaN(((Number) value).doubleValue()) &&
+                !Double.isInfinite(((Number) value).doubleValue())) {
+            out.append(value.toString());
+        } else {
+            appendString(value.toString(), out);
+        }
+    }
+
+    /**
+     * Write {@code s} as a JSON string, escaping double quotes, backslashes
+     * and control characters.
+     */
+    private static void appendString(String s, Appendable out) throws IOException {
+        if (s == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.append(s, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':  out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        out.append(s, start, s.length()).append('"');
+    }
+}
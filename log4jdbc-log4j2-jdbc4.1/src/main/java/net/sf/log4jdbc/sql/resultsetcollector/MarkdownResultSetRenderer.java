@@ -0,0 +1,97 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Render result sets as Markdown tables. Unlike the {@link ResultSetCollectorPrinter},
+ * columns are not padded, so that rows are written as they are read.
+ * Each chunk of a result set streamed in chunks is rendered as a table
+ * with its own header, followed by the same footer as the {@code ResultSetCollectorPrinter}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class MarkdownResultSetRenderer extends StreamingResultSetRenderer {
+
+    @Override
+    protected void appendHeader(String[] columnNames, boolean firstChunk, Appendable out)
+            throws IOException {
+        out.append('|');
+        for (String columnName : columnNames) {
+            out.append(' ');
+            appendValue(columnName, out);
+            out.append(" |");
+        }
+        out.append(nl).append('|');
+        for (int column = 0; column < columnNames.length; column++) {
+            out.append(" --- |");
+        }
+        out.append(nl);
+    }
+
+    @Override
+    protected void appendRow(String[] columnNames, List<Object> row, Appendable out)
+            throws IOException {
+        out.append('|');
+        int column = 0;
+        for (Object value : row) {
+            if (column == columnNames.length) {
+                break;
+            }
+            out.append(' ');
+            appendValue(value == null ? "null" : value.toString(), out);
+            out.append(" |");
+            column++;
+        }
+        for (; column < columnNames.length; column++) {
+            out.append("  |");
+        }
+        out.append(nl);
+    }
+
+    @Override
+    protected void appendOmittedRows(String[] columnNames, long omittedRowCount,
+            Appendable out) throws IOException {
+        out.append("| ... ").append(String.valueOf(omittedRowCount)).append(" rows omitted ... |");
+        for (int column = 1; column < columnNames.length; column++) {
+            out.append("  |");
+        }
+        out.append(nl);
+    }
+
+    @Override
+    protected void appendFooter(ResultSetCollector resultSetCollector, Appendable out)
+            throws IOException {
+        long firstRowNumber = resultSetCollector.getFirstRowNumber();
+        if (firstRowNumber > 0) {
+            //result set streamed in chunks
+            long rowCount = resultSetCollector.getRowCount();
+            out.append(nl);
+            if (rowCount > 0) {
+                out.append("rows ").append(String.valueOf(firstRowNumber)).append(" to ")
+                    .append(String.valueOf(firstRowNumber + rowCount - 1));
+            } else {
+                out.append("end of result set, ").append(String.valueOf(firstRowNumber - 1))
+                    .append(" rows");
+            }
+            out.append(nl);
+        }
+    }
+
+    /**
+     * Write a value, escaping pipes and replacing line breaks, that would break the table.
+     */
+    private static void appendValue(String value, Appendable out) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '|' && c != '\n' && c != '\r') {
+                continue;
+            }
+            out.append(value, start, i).append(c == '|' ? "\\|" : " ");
+            start = i + 1;
+        }
+        out.append(value, start, value.length());
+    }
+}
@@ -18,6 +18,7 @@ package net.sf.log4jdbc.sql.resultsetcollector;
 import java.sql.ResultSet;
 import java.util.List;
 
+import net.sf.log4jdbc.sql.MethodCall;
 import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
 
 /**
@@ -25,28 +26,153 @@ import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
  * A ResultSetSpy instance may call a ResultSetCollector instance's methodReturned and preMethod
  * as and when appropriate. The ResultSetCollector is then expected to build a simple representation 
  * of the rows and columns in getRow()/getColumnCount()/getColumnName().
+ * <p>
+ * Modifications for log4jdbc-log4j2 1.17, breaking custom implementations: 
+ * <ul>
+ * <li>Modification of the signatures of <code>methodReturned</code> and <code>preMethod</code>, 
+ * accepting a {@link MethodCall} providing the method name and its raw arguments, 
+ * instead of a <code>String</code> description and varargs parameters.
+ * <li>Addition of the typed callbacks {@link #nextReturned(ResultSetSpy, boolean)}, 
+ * {@link #getterReturned(ResultSetSpy, int, Object)} and its primitive overloads, 
+ * {@link #wasNullReturned(ResultSetSpy, boolean)} and {@link #closeReturned(ResultSetSpy)}, 
+ * called by the ResultSetSpy instead of <code>methodReturned</code> for these methods; 
+ * and of {@link #getColumnIndex(String)}.
+ * <li>Addition of {@link #getRowCount()}, {@link #getOmittedRowCount()}, 
+ * {@link #getOmittedRowsIndex()} and {@link #getFirstRowNumber()}, 
+ * describing the rows omitted or streamed in chunks.
+ * </ul>
+ * Custom implementations should extend {@link AbstractResultSetCollector}, 
+ * which implements all the methods added on top of <code>methodReturned</code>, 
+ * so that only the signatures of <code>methodReturned</code> and <code>preMethod</code> 
+ * need to be updated.
  * @author Tim Azzopardi
  */
 public interface ResultSetCollector {
 
   /**
    * Expected to be called by a ResultSetSpy for all jdbc methods.
+   * @param methodCall  the <code>MethodCall</code> describing the method that returned, 
+   *                    providing its name and its raw arguments.
    * @return true if the result set is complete (next() returns false)
    */
   public boolean methodReturned(ResultSetSpy resultSetSpy,
-          String methodCall, Object returnValue, Object targetObject,
-          Object... methodParams);
+          MethodCall methodCall, Object returnValue, Object targetObject);
+
+  /**
+   * Called by a ResultSetSpy when <code>next</code> or <code>first</code> returned. 
+   * The typed callbacks (this method, {@link #getterReturned(ResultSetSpy, int, Object)}, 
+   * {@link #wasNullReturned(ResultSetSpy, boolean)} and {@link #closeReturned(ResultSetSpy)}) 
+   * are called instead of {@link #methodReturned(ResultSetSpy, MethodCall, Object, Object)} 
+   * for the methods they describe, so that no description of the call is built, 
+   * and no primitive value is boxed, by the ResultSetSpy.
+   * @param hasRow  the value returned.
+   * @return true if the result set, or the current chunk of it, is complete
+   */
+  public boolean nextReturned(ResultSetSpy resultSetSpy, boolean hasRow);
+
+  /**
+   * Called by a ResultSetSpy when a getter of a column value returned 
+   * (<code>getString</code>, <code>getInt</code>, <code>getObject</code>, ...). 
+   * @param columnIndex the index of the column the value was read from, starting from 1. 
+   *                    For getters called with a column label, the index is obtained 
+   *                    from {@link #getColumnIndex(String)}.
+   * @param value       the value returned.
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, Object value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, boolean value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, byte value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, short value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, int value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, long value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, float value);
+
+  /**
+   * @see #getterReturned(ResultSetSpy, int, Object)
+   */
+  public void getterReturned(ResultSetSpy resultSetSpy, int columnIndex, double value);
+
+  /**
+   * Called by a ResultSetSpy when <code>wasNull</code> returned.
+   * @param wasNull the value returned.
+   */
+  public void wasNullReturned(ResultSetSpy resultSetSpy, boolean wasNull);
+
+  /**
+   * Called by a ResultSetSpy when <code>close</code> returned.
+   * @return true if the result set was not completely collected before being closed, 
+   * and must then be reported
+   */
+  public boolean closeReturned(ResultSetSpy resultSetSpy);
+
+  /**
+   * Resolve the label of a column, to notify a value read by label 
+   * to {@link #getterReturned(ResultSetSpy, int, Object)}.
+   * @param columnLabel the label or name of the column, possibly prefixed 
+   *                    with the table name.
+   * @return the index of the column, starting from 1; 0 if the columns are not known.
+   */
+  public int getColumnIndex(String columnLabel);
 
   /**
    * Expected to be called by a ResultSetSpy for prior to the execution of all jdbc methods.
+   * @param methodCall  the <code>MethodCall</code> describing the method about to be called, 
+   *                    providing its name and its raw arguments.
    */
-  public void preMethod(ResultSetSpy resultSetSpy, String methodCall, Object... methodParams);
+  public void preMethod(ResultSetSpy resultSetSpy, MethodCall methodCall);
   
   /**
    * @return the result set objects
    */
   public List<List<Object>> getRows();
 
+  /**
+   * @return the number of rows read in the result set, or in the current chunk 
+   * if it is streamed, including the rows omitted from {@link #getRows()}.
+   */
+  public long getRowCount();
+
+  /**
+   * @return the number of rows read but omitted from {@link #getRows()}, 
+   * to bound the memory used with large result sets. 0 if all rows were kept.
+   */
+  public long getOmittedRowCount();
+
+  /**
+   * @return the index in {@link #getRows()} of the first row following the rows omitted, 
+   * meaningful only if {@link #getOmittedRowCount()} is greater than 0.
+   */
+  public int getOmittedRowsIndex();
+
+  /**
+   * @return the number in the result set of the first row read in the current chunk, 
+   * starting from 1, if the result set is streamed in chunks; 0 otherwise.
+   */
+  public long getFirstRowNumber();
+
   /**
    * @return the result set column count
    */
@@ -18,17 +18,49 @@
 
 package net.sf.log4jdbc.sql.resultsetcollector;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
+import net.sf.log4jdbc.Properties;
+
 /***
  * @author Tim Azzopardi
  * @author Mathieu Seppey 
  * 
  * Update : changed printResultSet into getResultSetToPrint
+ * <p>
+ * Update : the table is rendered from a single materialization of the cells: 
+ * each value is converted to a <code>String</code> once, to measure the width 
+ * of the columns and then to print it, and cells and borders are padded 
+ * with cached fill characters rather than with <code>String.format</code>. 
+ * Columns can be bounded to a maximum width, longer values being truncated 
+ * (see property <code>log4jdbc.resultsettable.max.column.width</code>).
+ * <p>
+ * Update : implements <code>ResultSetRenderer</code>, this is the renderer used 
+ * for the default format of the property <code>log4jdbc.resultsettable.format</code>.
  * 
  */
 
-public class ResultSetCollectorPrinter {
+public class ResultSetCollectorPrinter implements ResultSetRenderer {
+
+    private static final String nl = System.getProperty("line.separator");
+
+    /**
+     * A <code>String</code> appended at the end of truncated values, 
+     * if the column is wide enough.
+     */
+    private static final String TRUNCATION_MARK = "...";
+
+    /**
+     * Cached fill characters, appended by chunks to pad cells and borders.
+     */
+    private static final char[] SPACES = new char[64];
+    private static final char[] DASHES = new char[64];
+    static {
+        Arrays.fill(SPACES, ' ');
+        Arrays.fill(DASHES, '-');
+    }
 
     /**
      * A StringBuilder which is used to build the formatted table to print
@@ -36,10 +68,26 @@ public class ResultSetCollectorPrinter {
     private StringBuilder table = new StringBuilder(); ;
 
     /**
-     * Default constructor
+     * An <code>int</code> that is the maximum width of the values printed, 
+     * 0 if not bounded.
+     */
+    private final int maxColumnWidth;
+
+    /**
+     * Default constructor, using the maximum column width defined by the property 
+     * <code>log4jdbc.resultsettable.max.column.width</code>.
      */
     public ResultSetCollectorPrinter() {
+        this(Properties.getResultSetTableMaxColumnWidth());
+    }
 
+    /**
+     * @param maxColumnWidth    An <code>int</code> that is the maximum width 
+     *                          of the values printed, longer values being truncated; 
+     *                          0 if not bounded.
+     */
+    public ResultSetCollectorPrinter(int maxColumnWidth) {
+        this.maxColumnWidth = Math.max(maxColumnWidth, 0);
     }
 
     /***
@@ -63,87 +111,164 @@ public class ResultSetCollectorPrinter {
      */
     public String getResultSetToPrint(ResultSetCollector resultSetCollector) {
 
-        this.table.append(System.getProperty("line.separator"));
+        this.appendTable(resultSetCollector);
+
+        resultSetCollector.reset();
+
+        return this.table.toString() ;
+
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole table is built before being written to <code>out</code>, 
+     * as the width of the columns depends on all the rows.
+     */
+    @Override
+    public void render(ResultSetCollector resultSetCollector, Appendable out) 
+            throws IOException {
+        this.appendTable(resultSetCollector);
+        out.append(this.table);
+    }
+
+    /**
+     * Build the table representing the content of <code>resultSetCollector</code>.
+     * @param resultSetCollector the ResultSetCollector which has collected the data we want to print
+     */
+    private void appendTable(ResultSetCollector resultSetCollector) {
+
+        this.table.setLength(0);
+        this.table.append(nl);
 
         int columnCount = resultSetCollector.getColumnCount();
         int maxLength[] = new int[columnCount];
 
+        //materialize the header and the cells once, measuring the columns
+        String[] header = new String[columnCount];
         for (int column = 1; column <= columnCount; column++) {
-            maxLength[column - 1] = resultSetCollector.getColumnName(column)
-                    .length();
+            header[column - 1] = this.cell(resultSetCollector.getColumnName(column));
+            maxLength[column - 1] = header[column - 1].length();
         }
-        if (resultSetCollector.getRows() != null) {
-            for (List<Object> printRow : resultSetCollector.getRows()) {
+        List<List<Object>> rows = resultSetCollector.getRows();
+        String[][] cells = new String[rows == null ? 0 : rows.size()][];
+        int rowIndex = 0;
+        if (rows != null) {
+            for (List<Object> printRow : rows) {
+                String[] rowCells = new String[columnCount];
                 int colIndex = 0;
                 for (Object v : printRow) {
-                    if (v != null) {
-                        int length = v.toString().length();
-                        if (length > maxLength[colIndex]) {
-                            maxLength[colIndex] = length;
-                        }
+                    if (colIndex == columnCount) {
+                        break;
+                    }
+                    String cell = this.cell(v);
+                    rowCells[colIndex] = cell;
+                    if (cell.length() > maxLength[colIndex]) {
+                        maxLength[colIndex] = cell.length();
                     }
                     colIndex++;
                 }
+                cells[rowIndex++] = rowCells;
             }
         }
         for (int column = 1; column <= columnCount; column++) {
             maxLength[column - 1] = maxLength[column - 1] + 1;
         }
 
-        this.table.append("|");
-
-        for (int column = 1; column <= columnCount; column++) {
-            this.table.append(padRight("-", maxLength[column - 1]).replaceAll(" ", "-")
-                    + "|");
-        }
-        this.table.append(System.getProperty("line.separator"));
-        this.table.append("|");
-        for (int column = 1; column <= columnCount; column++) {
-            this.table.append(padRight(resultSetCollector.getColumnName(column),
-                    maxLength[column - 1])
-                    + "|");
+        StringBuilder border = new StringBuilder("|");
+        for (int column = 0; column < columnCount; column++) {
+            appendFill(border, DASHES, maxLength[column]);
+            border.append('|');
         }
-        this.table.append(System.getProperty("line.separator"));
-        this.table.append("|");
-        for (int column = 1; column <= columnCount; column++) {
-            this.table.append(padRight("-", maxLength[column - 1]).replaceAll(" ", "-")
-                    + "|");
-        }
-        this.table.append(System.getProperty("line.separator"));
-        if (resultSetCollector.getRows() != null) {
-            for (List<Object> printRow : resultSetCollector.getRows()) {
-                int colIndex = 0;
-                this.table.append("|");
-                for (Object v : printRow) {
-                    this.table.append(padRight(v == null ? "null" : v.toString(),
-                            maxLength[colIndex])
-                            + "|");
-                    colIndex++;
-                }
-                this.table.append(System.getProperty("line.separator"));
+        border.append(nl);
+
+        this.table.append(border);
+        this.appendRow(header, maxLength);
+        this.table.append(border);
+        long omittedRowCount = resultSetCollector.getOmittedRowCount();
+        int omittedRowsIndex = resultSetCollector.getOmittedRowsIndex();
+        for (rowIndex = 0; rowIndex < cells.length; rowIndex++) {
+            if (omittedRowCount > 0 && rowIndex == omittedRowsIndex) {
+                this.appendOmittedRows(omittedRowCount);
             }
+            this.appendRow(cells[rowIndex], maxLength);
         }
-        this.table.append("|");
-        for (int column = 1; column <= columnCount; column++) {
-            this.table.append(padRight("-", maxLength[column - 1]).replaceAll(" ", "-")
-                    + "|");
+        if (omittedRowCount > 0 && rows != null && rowIndex == omittedRowsIndex) {
+            this.appendOmittedRows(omittedRowCount);
         }
+        this.table.append(border);
 
-        this.table.append(System.getProperty("line.separator"));
+        long firstRowNumber = resultSetCollector.getFirstRowNumber();
+        if (firstRowNumber > 0) {
+            //result set streamed in chunks
+            long rowCount = resultSetCollector.getRowCount();
+            if (rowCount > 0) {
+                this.table.append("rows ").append(firstRowNumber).append(" to ")
+                    .append(firstRowNumber + rowCount - 1);
+            } else {
+                this.table.append("end of result set, ").append(firstRowNumber - 1)
+                    .append(" rows");
+            }
+            this.table.append(nl);
+        }
+    }
 
-        resultSetCollector.reset();
+    /**
+     * Convert a value to the <code>String</code> printed, truncated 
+     * to the maximum column width.
+     * @param v the value to print, either a cell or a column name.
+     * @return the <code>String</code> to print.
+     */
+    private String cell(Object v) {
+        String s = (v == null ? "null" : v.toString());
+        if (this.maxColumnWidth == 0 || s.length() <= this.maxColumnWidth) {
+            return s;
+        }
+        if (this.maxColumnWidth <= TRUNCATION_MARK.length()) {
+            return s.substring(0, this.maxColumnWidth);
+        }
+        return s.substring(0, this.maxColumnWidth - TRUNCATION_MARK.length()) + TRUNCATION_MARK;
+    }
 
-        return this.table.toString() ;
+    /**
+     * Append a row to the table, each cell padded to the width of its column.
+     * @param rowCells  The <code>String</code>s to print, <code>null</code> for missing cells.
+     * @param maxLength The width of each column.
+     */
+    private void appendRow(String[] rowCells, int[] maxLength) {
+        this.table.append('|');
+        for (int column = 0; column < maxLength.length; column++) {
+            String cell = rowCells[column];
+            if (cell == null) {
+                cell = "";
+            }
+            this.table.append(cell);
+            appendFill(this.table, SPACES, maxLength[column] - cell.length());
+            this.table.append('|');
+        }
+        this.table.append(nl);
+    }
 
+    /**
+     * Add a line to the table stating how many rows were omitted.
+     * @param omittedRowCount   A <code>long</code> that is the number of rows omitted.
+     */
+    private void appendOmittedRows(long omittedRowCount) {
+        this.table.append("| ... ").append(omittedRowCount).append(" rows omitted ...");
+        this.table.append(nl);
     }
 
     /***
-     * Add space to the provided <code>String</code> to match the provided width
-     * @param s the <code>String</code> we want to adjust
-     * @param n the width of the returned <code>String</code>
-     * @return a <code>String</code> matching the provided width
+     * Append <code>n</code> fill characters.
+     * @param out   the <code>StringBuilder</code> to append to
+     * @param fill  the cached fill characters to append
+     * @param n     the number of characters to append
      */
-    private static String padRight(String s, int n) {
-        return String.format("%1$-" + n + "s", s);
+    private static void appendFill(StringBuilder out, char[] fill, int n) {
+        while (n > 0) {
+            int length = Math.min(n, fill.length);
+            out.append(fill, 0, length);
+            n -= length;
+        }
     }
 }
@@ -0,0 +1,63 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+/**
+ * Defines how collected result sets are rendered. Corresponds to the property
+ * {@code log4jdbc.resultsettable.format}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public enum ResultSetFormat {
+    /**
+     * An ASCII table, see {@link ResultSetCollectorPrinter}.
+     */
+    TABLE,
+    /**
+     * Comma-separated values, see {@link CsvResultSetRenderer}.
+     */
+    CSV,
+    /**
+     * One JSON object per row, see {@link JsonLinesResultSetRenderer}.
+     */
+    JSONL,
+    /**
+     * A Markdown table, see {@link MarkdownResultSetRenderer}.
+     */
+    MARKDOWN;
+
+    /**
+     * @return  A new {@code ResultSetRenderer} rendering result sets in this format.
+     */
+    public ResultSetRenderer newRenderer() {
+        switch (this) {
+            case CSV:
+                return new CsvResultSetRenderer();
+            case JSONL:
+                return new JsonLinesResultSetRenderer();
+            case MARKDOWN:
+                return new MarkdownResultSetRenderer();
+            default:
+                return new ResultSetCollectorPrinter();
+        }
+    }
+
+    /**
+     * Obtain the {@code ResultSetFormat} corresponding to {@code name}.
+     *
+     * @param name  A {@code String} that is the name of a {@code ResultSetFormat},
+     *              case insensitive.
+     * @return      The corresponding {@code ResultSetFormat}, {@code null}
+     *              if {@code name} is {@code null} or not recognized.
+     */
+    public static ResultSetFormat fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ResultSetFormat format: ResultSetFormat.values()) {
+            if (format.name().equalsIgnoreCase(name.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import java.io.IOException;
+
+/**
+ * Strategy rendering the content of a {@link ResultSetCollector}, used by
+ * the {@code SpyLogDelegator}s when a result set, or a chunk of it, has been collected
+ * (see {@code SpyLogDelegator#resultSetCollected(ResultSetCollector)}).
+ * The implementation used is defined by the property
+ * {@code log4jdbc.resultsettable.format}, see {@link ResultSetFormat}.
+ * <p>
+ * When a result set is streamed in chunks (property
+ * {@code log4jdbc.resultsettable.chunk.rows}), this method is called for each chunk,
+ * as rows arrive, with the same {@code ResultSetCollector}: implementations can use
+ * {@link ResultSetCollector#getFirstRowNumber()} to know whether the chunk
+ * is the first one of the result set.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public interface ResultSetRenderer {
+    /**
+     * Write the rows currently held by {@code resultSetCollector} to {@code out}.
+     * {@code resultSetCollector} is not reset by this method.
+     *
+     * @param resultSetCollector    The {@code ResultSetCollector} holding the rows to render.
+     * @param out                   The {@code Appendable} to write to.
+     * @throws IOException          If {@code out} could not be written to.
+     */
+    public void render(ResultSetCollector resultSetCollector, Appendable out) throws IOException;
+}
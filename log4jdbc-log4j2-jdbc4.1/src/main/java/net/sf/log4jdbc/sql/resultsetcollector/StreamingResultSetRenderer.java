@@ -0,0 +1,111 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Skeleton of the {@link ResultSetRenderer}s writing each row to the {@code Appendable}
+ * as it is read from the {@link ResultSetCollector}, without measuring the columns first
+ * as the {@link ResultSetCollectorPrinter} does: the output does not depend on
+ * the rows of other chunks, and no cell is materialized.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public abstract class StreamingResultSetRenderer implements ResultSetRenderer {
+
+    protected static final String nl = System.getProperty("line.separator");
+
+    @Override
+    public void render(ResultSetCollector resultSetCollector, Appendable out)
+            throws IOException {
+        List<List<Object>> rows = resultSetCollector.getRows();
+        long firstRowNumber = resultSetCollector.getFirstRowNumber();
+        //nothing to write for the empty chunk reporting the end of a streamed result set
+        if (firstRowNumber > 1 && (rows == null || rows.isEmpty())) {
+            return;
+        }
+        int columnCount = resultSetCollector.getColumnCount();
+        String[] columnNames = new String[columnCount];
+        for (int column = 1; column <= columnCount; column++) {
+            columnNames[column - 1] = resultSetCollector.getColumnName(column);
+        }
+
+        out.append(nl);
+        this.appendHeader(columnNames, firstRowNumber <= 1, out);
+        long omittedRowCount = resultSetCollector.getOmittedRowCount();
+        int omittedRowsIndex = resultSetCollector.getOmittedRowsIndex();
+        int rowIndex = 0;
+        if (rows != null) {
+            for (List<Object> row : rows) {
+                if (omittedRowCount > 0 && rowIndex == omittedRowsIndex) {
+                    this.appendOmittedRows(columnNames, omittedRowCount, out);
+                }
+                this.appendRow(columnNames, row, out);
+                rowIndex++;
+            }
+            if (omittedRowCount > 0 && rowIndex == omittedRowsIndex) {
+                this.appendOmittedRows(columnNames, omittedRowCount, out);
+            }
+        }
+        this.appendFooter(resultSetCollector, out);
+    }
+
+    /**
+     * Write the header of the output, if any.
+     *
+     * @param columnNames       The names of the columns.
+     * @param firstChunk        A {@code boolean} that is {@code true} if the rows rendered
+     *                          are the first ones of the result set, {@code false} if they
+     *                          follow the rows of previous chunks.
+     * @param out               The {@code Appendable} to write to.
+     * @throws IOException      If {@code out} could not be written to.
+     */
+    protected abstract void appendHeader(String[] columnNames, boolean firstChunk,
+            Appendable out) throws IOException;
+
+    /**
+     * Write a row, followed by a line separator.
+     *
+     * @param columnNames       The names of the columns.
+     * @param row               The values of the row, possibly fewer than the columns.
+     * @param out               The {@code Appendable} to write to.
+     * @throws IOException      If {@code out} could not be written to.
+     */
+    protected abstract void appendRow(String[] columnNames, List<Object> row,
+            Appendable out) throws IOException;
+
+    /**
+     * Write that rows were omitted to bound the memory used
+     * (see {@link ResultSetCollector#getOmittedRowCount()}). Does nothing by default.
+     *
+     * @param columnNames       The names of the columns.
+     * @param omittedRowCount   A {@code long} that is the number of rows omitted.
+     * @param out               The {@code Appendable} to write to.
+     * @throws IOException      If {@code out} could not be written to.
+     */
+    protected void appendOmittedRows(String[] columnNames, long omittedRowCount,
+            Appendable out) throws IOException {
+        //nothing by default
+    }
+
+    /**
+     * Write the footer of the output. Does nothing by default.
+     *
+     * @param resultSetCollector    The {@code ResultSetCollector} holding the rows rendered.
+     * @param out                   The {@code Appendable} to write to.
+     * @throws IOException          If {@code out} could not be written to.
+     */
+    protected void appendFooter(ResultSetCollector resultSetCollector, Appendable out)
+            throws IOException {
+        //nothing by default
+    }
+
+    /**
+     * @param value A value collected.
+     * @return      {@code true} if {@code value} stands for an SQL {@code NULL}.
+     */
+    protected static boolean isNull(Object value) {
+        return value == null || value == DefaultResultSetCollector.NULL_RESULT_SET_VAL;
+    }
+}
@@ -0,0 +1,168 @@
+package net.sf.log4jdbc.sql.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, using log-linear buckets
+ * in the spirit of HdrHistogram: each power of 2 is divided into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets, so that values are recorded
+ * with a relative error below {@code 1 / SUB_BUCKET_COUNT}, whatever their magnitude.
+ * <p>
+ * Recording a value is wait-free (one atomic increment, plus a compare-and-set
+ * loop only when a new maximum is seen). Values greater than {@link #HIGHEST_TRACKABLE_VALUE}
+ * are counted in the last bucket, but the exact maximum is kept.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+class LatencyHistogram {
+    /**
+     * An {@code int} that is the number of bits used to index sub-buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    /**
+     * An {@code int} that is the number of linear sub-buckets per power of 2.
+     */
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /**
+     * A {@code long} that is the highest value, in nanoseconds, that can be recorded
+     * precisely (about 18 minutes).
+     */
+    static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+    /**
+     * An {@code int} that is the total number of buckets.
+     */
+    private static final int BUCKET_COUNT = bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    /**
+     * An {@code AtomicLongArray} storing the number of values recorded in each bucket.
+     */
+    private final AtomicLongArray counts;
+    /**
+     * An {@code AtomicLong} that is the number of values recorded.
+     */
+    private final AtomicLong totalCount;
+    /**
+     * An {@code AtomicLong} that is the sum of the values recorded.
+     */
+    private final AtomicLong totalValue;
+    /**
+     * An {@code AtomicLong} that is the highest value recorded.
+     */
+    private final AtomicLong maxValue;
+
+    /**
+     * Default constructor.
+     */
+    LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong();
+        this.totalValue = new AtomicLong();
+        this.maxValue = new AtomicLong();
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param value A {@code long} that is a latency in nanoseconds.
+     *              Negative values are recorded as 0.
+     */
+    void record(long value) {
+        long v = (value < 0 ? 0 : value);
+        this.counts.incrementAndGet(bucketIndex(Math.min(v, HIGHEST_TRACKABLE_VALUE)));
+        this.totalCount.incrementAndGet();
+        this.totalValue.addAndGet(v);
+        long max = this.maxValue.get();
+        while (v > max && !this.maxValue.compareAndSet(max, v)) {
+            max = this.maxValue.get();
+        }
+    }
+
+    /**
+     * @return  A {@code long} that is the number of values recorded.
+     */
+    long getTotalCount() {
+        return this.totalCount.get();
+    }
+
+    /**
+     * @return  A {@code long} that is the sum of the values recorded, in nanoseconds.
+     */
+    long getTotalValue() {
+        return this.totalValue.get();
+    }
+
+    /**
+     * @return  A {@code long} that is the highest value recorded, in nanoseconds.
+     */
+    long getMaxValue() {
+        return this.maxValue.get();
+    }
+
+    /**
+     * Compute the values at the requested percentiles. All percentiles are computed
+     * in one pass over a copy of the buckets, so that they are consistent
+     * with each other even if values are recorded concurrently.
+     *
+     * @param percentiles   An array of {@code double}s that are percentiles
+     *                      between 0 and 100, in ascending order.
+     * @return              An array of {@code long}s that are the values,
+     *                      in nanoseconds, at {@code percentiles}, in the same order.
+     *                      Values are the highest value equivalent to their bucket,
+     *                      capped by the maximum recorded.
+     */
+    long[] getValuesAtPercentiles(double... percentiles) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = this.counts.get(i);
+            count += snapshot[i];
+        }
+        long max = this.getMaxValue();
+        long[] values = new long[percentiles.length];
+        if (count == 0) {
+            return values;
+        }
+        int bucket = 0;
+        long cumulated = snapshot[0];
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = (long) Math.ceil(percentiles[p] / 100.0 * count);
+            if (rank < 1) {
+                rank = 1;
+            }
+            while (cumulated < rank && bucket < BUCKET_COUNT - 1) {
+                bucket++;
+                cumulated += snapshot[bucket];
+            }
+            values[p] = Math.min(highestEquivalentValue(bucket), max);
+        }
+        return values;
+    }
+
+    /**
+     * @param value A positive {@code long} lower than or equal to
+     *              {@link #HIGHEST_TRACKABLE_VALUE}.
+     * @return      An {@code int} that is the index of the bucket {@code value} belongs to.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * @param index An {@code int} that is the index of a bucket.
+     * @return      A {@code long} that is the highest value belonging to the bucket.
+     */
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,164 @@
+package net.sf.log4jdbc.sql.statistics;
+
+/**
+ * An immutable snapshot of the statistics collected for a SQL shape
+ * (see {@link SqlStatistics}). All times are in nanoseconds.
+ * <p>
+ * Only successful executions are counted in {@link #getCount()} and in the latency
+ * distribution; failed executions are counted in {@link #getErrorCount()}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class QueryStatistics {
+    /**
+     * A {@code String} that is the normalized SQL.
+     */
+    private final String shape;
+    /**
+     * A {@code long} that is the number of successful executions.
+     */
+    private final long count;
+    /**
+     * A {@code long} that is the number of failed executions.
+     */
+    private final long errorCount;
+    /**
+     * A {@code long} that is the total number of rows affected by updates.
+     */
+    private final long rowsAffected;
+    /**
+     * A {@code long} that is the total time spent in successful executions.
+     */
+    private final long totalTime;
+    /**
+     * A {@code long} that is the median latency.
+     */
+    private final long p50;
+    /**
+     * A {@code long} that is the 90th percentile latency.
+     */
+    private final long p90;
+    /**
+     * A {@code long} that is the 99th percentile latency.
+     */
+    private final long p99;
+    /**
+     * A {@code long} that is the 99.9th percentile latency.
+     */
+    private final long p999;
+    /**
+     * A {@code long} that is the highest latency.
+     */
+    private final long maxTime;
+
+    /**
+     * Constructor providing all values of this snapshot.
+     *
+     * @param shape         See {@link #getShape()}.
+     * @param count         See {@link #getCount()}.
+     * @param errorCount    See {@link #getErrorCount()}.
+     * @param rowsAffected  See {@link #getRowsAffected()}.
+     * @param totalTime     See {@link #getTotalTime()}.
+     * @param p50           See {@link #getP50()}.
+     * @param p90           See {@link #getP90()}.
+     * @param p99           See {@link #getP99()}.
+     * @param p999          See {@link #getP999()}.
+     * @param maxTime       See {@link #getMaxTime()}.
+     */
+    QueryStatistics(String shape, long count, long errorCount, long rowsAffected,
+            long totalTime, long p50, long p90, long p99, long p999, long maxTime) {
+        this.shape = shape;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.rowsAffected = rowsAffected;
+        this.totalTime = totalTime;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * @return  A {@code String} that is the normalized SQL these statistics are about,
+     *          with literals replaced by {@code ?}.
+     */
+    public String getShape() {
+        return this.shape;
+    }
+    /**
+     * @return  A {@code long} that is the number of successful executions.
+     */
+    public long getCount() {
+        return this.count;
+    }
+    /**
+     * @return  A {@code long} that is the number of executions that threw an exception.
+     */
+    public long getErrorCount() {
+        return this.errorCount;
+    }
+    /**
+     * @return  A {@code long} that is the total number of rows affected,
+     *          as returned by {@code executeUpdate} and {@code executeBatch}.
+     */
+    public long getRowsAffected() {
+        return this.rowsAffected;
+    }
+    /**
+     * @return  A {@code long} that is the total time spent in successful executions,
+     *          in nanoseconds.
+     */
+    public long getTotalTime() {
+        return this.totalTime;
+    }
+    /**
+     * @return  A {@code long} that is the mean latency of successful executions,
+     *          in nanoseconds.
+     */
+    public long getMeanTime() {
+        if (this.count == 0) {
+            return 0;
+        }
+        return this.totalTime / this.count;
+    }
+    /**
+     * @return  A {@code long} that is the median latency, in nanoseconds.
+     */
+    public long getP50() {
+        return this.p50;
+    }
+    /**
+     * @return  A {@code long} that is the 90th percentile latency, in nanoseconds.
+     */
+    public long getP90() {
+        return this.p90;
+    }
+    /**
+     * @return  A {@code long} that is the 99th percentile latency, in nanoseconds.
+     */
+    public long getP99() {
+        return this.p99;
+    }
+    /**
+     * @return  A {@code long} that is the 99.9th percentile latency, in nanoseconds.
+     */
+    public long getP999() {
+        return this.p999;
+    }
+    /**
+     * @return  A {@code long} that is the highest latency, in nanoseconds.
+     */
+    public long getMaxTime() {
+        return this.maxTime;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatistics [shape=" + this.shape + ", count=" + this.count +
+                ", errorCount=" + this.errorCount + ", rowsAffected=" + this.rowsAffected +
+                ", totalTime=" + this.totalTime + ", p50=" + this.p50 + ", p90=" + this.p90 +
+                ", p99=" + this.p99 + ", p999=" + this.p999 + ", maxTime=" + this.maxTime + "]";
+    }
+}
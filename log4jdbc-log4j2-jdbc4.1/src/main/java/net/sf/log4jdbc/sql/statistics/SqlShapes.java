@@ -0,0 +1,191 @@
+package net.sf.log4jdbc.sql.statistics;
+
+/**
+ * Normalizes SQL statements into shapes, so that executions of a same statement
+ * with different values can be aggregated: string and numeric literals are replaced
+ * by {@code ?}, comments are removed, runs of whitespace are collapsed into one space,
+ * and {@code IN} lists containing only placeholders are collapsed into {@code IN (?)}.
+ * Existing placeholders {@code ?} and quoted identifiers are kept.
+ * <p>
+ * For instance, {@code SELECT * FROM t WHERE a = 'x' AND b IN (1, 2, 3)}
+ * is normalized into {@code SELECT * FROM t WHERE a = ? AND b IN (?)}.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+final class SqlShapes {
+    /**
+     * Private constructor, this class only provides {@code static} methods.
+     */
+    private SqlShapes() {
+
+    }
+
+    /**
+     * Normalize {@code sql} into a shape. This method performs a single pass
+     * over {@code sql}.
+     *
+     * @param sql   A {@code String} that is the SQL statement to normalize.
+     * @return      A {@code String} that is the shape of {@code sql}.
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        final int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        //index in out of the character following the opening parenthesis
+        //of an IN list, -1 if we are not in an IN list.
+        int inListStart = -1;
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            //whitespace: collapse, only emitted before the next token
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            //comments are removed, and count as whitespace
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = (end < 0 ? length : end + 1);
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = (end < 0 ? length : end + 2);
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                //string literal, '' is an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (c == '"' || c == '`') {
+                //quoted identifier, kept as is
+                int end = sql.indexOf(c, i + 1);
+                end = (end < 0 ? length : end + 1);
+                out.append(sql, i, end);
+                i = end;
+            } else if (isDigit(c) && !endsWithIdentifierPart(out)) {
+                //numeric literal, including decimals, exponents and hexadecimal values
+                i++;
+                while (i < length) {
+                    char n = sql.charAt(i);
+                    if (isDigit(n) || n == '.' || Character.isLetter(n)) {
+                        i++;
+                    } else if ((n == '+' || n == '-') &&
+                            (sql.charAt(i - 1) == 'e' || sql.charAt(i - 1) == 'E')) {
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                out.append('?');
+            } else if (c == '(') {
+                inListStart = (endsWithInKeyword(out) ? out.length() + 1 : -1);
+                out.append(c);
+                i++;
+            } else if (c == ')') {
+                if (inListStart >= 0 && isPlaceholderList(out, inListStart)) {
+                    out.setLength(inListStart);
+                    out.append('?');
+                }
+                inListStart = -1;
+                out.append(c);
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param c A {@code char}.
+     * @return  {@code true} if {@code c} is an ASCII digit.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param out   A {@code StringBuilder} containing the shape being built.
+     * @return      {@code true} if the last character of {@code out} can be part
+     *              of an identifier (so that a following digit is not a literal,
+     *              e.g., {@code t1}).
+     */
+    private static boolean endsWithIdentifierPart(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' ||
+                last == '.' || last == ':' || last == '@';
+    }
+
+    /**
+     * @param out   A {@code StringBuilder} containing the shape being built.
+     * @return      {@code true} if {@code out} ends with the keyword {@code IN},
+     *              optionally followed by a space.
+     */
+    private static boolean endsWithInKeyword(StringBuilder out) {
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end < 2) {
+            return false;
+        }
+        char i = out.charAt(end - 2);
+        char n = out.charAt(end - 1);
+        if ((i != 'i' && i != 'I') || (n != 'n' && n != 'N')) {
+            return false;
+        }
+        if (end == 2) {
+            return true;
+        }
+        char before = out.charAt(end - 3);
+        return !Character.isLetterOrDigit(before) && before != '_';
+    }
+
+    /**
+     * @param out   A {@code StringBuilder} containing the shape being built.
+     * @param start An {@code int} that is the index in {@code out} where the list starts.
+     * @return      {@code true} if the characters of {@code out} from {@code start}
+     *              are only placeholders, commas, and spaces.
+     */
+    private static boolean isPlaceholderList(StringBuilder out, int start) {
+        boolean placeholder = false;
+        for (int j = start; j < out.length(); j++) {
+            char c = out.charAt(j);
+            if (c == '?') {
+                placeholder = true;
+            } else if (c != ',' && c != ' ') {
+                return false;
+            }
+        }
+        return placeholder;
+    }
+}
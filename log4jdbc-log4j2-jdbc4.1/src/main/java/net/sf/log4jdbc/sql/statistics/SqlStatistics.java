@@ -0,0 +1,272 @@
+package net.sf.log4jdbc.sql.statistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.log4jdbc.Properties;
+
+/**
+ * Collects in-process latency statistics about SQL executions, aggregated by SQL shape
+ * (SQL statements normalized with literals replaced by {@code ?},
+ * and {@code IN} lists collapsed). For each shape, a lock-free latency histogram
+ * is maintained, along with the number of failed executions and of rows affected.
+ * <p>
+ * Statistics are collected by the {@code StatementSpy}s only when the property
+ * {@code log4jdbc.statistics.enabled} is {@code true}, independently of the logging
+ * configuration, so that aggregated latencies can be obtained without logging
+ * each statement. They are then retrieved as {@link QueryStatistics} snapshots,
+ * see {@link #getQueryStatistics()}.
+ * <p>
+ * The number of shapes tracked is limited by the property
+ * {@code log4jdbc.statistics.max.shapes}; executions of additional shapes
+ * are only counted, see {@link #getUntrackedCount()}.
+ * <p>
+ * Callers executing the same SQL repeatedly, such as a {@code PreparedStatement}
+ * template, can normalize it once with {@link #getShape(String)}, and record
+ * executions of the returned {@link Shape}, to avoid normalizing it on each execution.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public final class SqlStatistics {
+    /**
+     * The {@code SqlStatistics} instance used by all spies.
+     */
+    private static final SqlStatistics INSTANCE =
+            new SqlStatistics(Properties.getSqlStatisticsMaxShapes());
+
+    /**
+     * @return  The {@code SqlStatistics} instance used by all spies.
+     */
+    public static SqlStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Statistics collected for one shape.
+     */
+    private static final class ShapeStatistics {
+        /**
+         * The {@code LatencyHistogram} of successful executions.
+         */
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        /**
+         * An {@code AtomicLong} that is the number of failed executions.
+         */
+        private final AtomicLong errorCount = new AtomicLong();
+        /**
+         * An {@code AtomicLong} that is the number of rows affected.
+         */
+        private final AtomicLong rowsAffected = new AtomicLong();
+    }
+
+    /**
+     * The shape of a SQL statement, obtained from {@link SqlStatistics#getShape(String)}.
+     * Recording an execution of a {@code Shape} only looks up its statistics.
+     */
+    public static final class Shape {
+        /**
+         * A {@code String} that is the normalized SQL, also used as key
+         * of {@link SqlStatistics#statistics}.
+         */
+        private final String value;
+
+        /**
+         * @param value A {@code String} that is the normalized SQL.
+         */
+        private Shape(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A {@code ConcurrentMap} associating shapes to their {@code ShapeStatistics}.
+     */
+    private final ConcurrentMap<String, ShapeStatistics> statistics;
+    /**
+     * An {@code int} that is the maximum number of shapes tracked.
+     */
+    private final int maxShapes;
+    /**
+     * An {@code AtomicLong} that is the number of executions not tracked
+     * because {@link #maxShapes} was reached.
+     */
+    private final AtomicLong untrackedCount;
+
+    /**
+     * Constructor providing the maximum number of shapes to track.
+     *
+     * @param maxShapes An {@code int} that is the maximum number of shapes tracked.
+     */
+    SqlStatistics(int maxShapes) {
+        this.statistics = new ConcurrentHashMap<String, ShapeStatistics>();
+        this.maxShapes = maxShapes;
+        this.untrackedCount = new AtomicLong();
+    }
+
+    /**
+     * Normalize {@code sql} into its {@code Shape}.
+     *
+     * @param sql   A {@code String} that is a SQL statement.
+     * @return      The {@code Shape} of {@code sql}.
+     */
+    public Shape getShape(String sql) {
+        return new Shape(SqlShapes.normalize(sql));
+    }
+
+    /**
+     * Record a successful execution of {@code sql}.
+     *
+     * @param sql           A {@code String} that is the SQL executed.
+     * @param execTime      A {@code long} that is the execution time in nanoseconds.
+     * @param rowsAffected  A {@code long} that is the number of rows affected,
+     *                      negative if unknown or not applicable.
+     */
+    public void recordExecution(String sql, long execTime, long rowsAffected) {
+        this.recordExecution(this.getShape(sql), execTime, rowsAffected);
+    }
+
+    /**
+     * Record a successful execution of a SQL statement of shape {@code shape}.
+     *
+     * @param shape         The {@code Shape} of the SQL executed.
+     * @param execTime      A {@code long} that is the execution time in nanoseconds.
+     * @param rowsAffected  A {@code long} that is the number of rows affected,
+     *                      negative if unknown or not applicable.
+     */
+    public void recordExecution(Shape shape, long execTime, long rowsAffected) {
+        ShapeStatistics shapeStatistics = this.getShapeStatistics(shape);
+        if (shapeStatistics == null) {
+            return;
+        }
+        shapeStatistics.histogram.record(execTime);
+        if (rowsAffected > 0) {
+            shapeStatistics.rowsAffected.addAndGet(rowsAffected);
+        }
+    }
+
+    /**
+     * Record a failed execution of {@code sql}.
+     *
+     * @param sql   A {@code String} that is the SQL that failed.
+     */
+    public void recordFailure(String sql) {
+        this.recordFailure(this.getShape(sql));
+    }
+
+    /**
+     * Record a failed execution of a SQL statement of shape {@code shape}.
+     *
+     * @param shape The {@code Shape} of the SQL that failed.
+     */
+    public void recordFailure(Shape shape) {
+        ShapeStatistics shapeStatistics = this.getShapeStatistics(shape);
+        if (shapeStatistics == null) {
+            return;
+        }
+        shapeStatistics.errorCount.incrementAndGet();
+    }
+
+    /**
+     * Obtain the {@code ShapeStatistics} of {@code shape},
+     * creating it if needed and if {@link #maxShapes} is not reached.
+     *
+     * @param shape A {@code Shape}.
+     * @return      The {@code ShapeStatistics} of {@code shape},
+     *              {@code null} if it is not tracked.
+     */
+    private ShapeStatistics getShapeStatistics(Shape shape) {
+        ShapeStatistics shapeStatistics = this.statistics.get(shape.value);
+        if (shapeStatistics != null) {
+            return shapeStatistics;
+        }
+        if (this.statistics.size() >= this.maxShapes) {
+            this.untrackedCount.incrementAndGet();
+            return null;
+        }
+        shapeStatistics = new ShapeStatistics();
+        ShapeStatistics previous = this.statistics.putIfAbsent(shape.value, shapeStatistics);
+        return (previous != null ? previous : shapeStatistics);
+    }
+
+    /**
+     * Obtain a snapshot of the statistics of all shapes, ordered by descending
+     * total execution time, so that the most expensive shapes come first.
+     *
+     * @return  A {@code List} of {@code QueryStatistics}.
+     */
+    public List<QueryStatistics> getQueryStatistics() {
+        List<QueryStatistics> snapshots =
+                new ArrayList<QueryStatistics>(this.statistics.size());
+        for (Map.Entry<String, ShapeStatistics> entry: this.statistics.entrySet()) {
+            snapshots.add(snapshot(entry.getKey(), entry.getValue()));
+        }
+        Collections.sort(snapshots, new Comparator<QueryStatistics>() {
+            @Override
+            public int compare(QueryStatistics o1, QueryStatistics o2) {
+                if (o1.getTotalTime() == o2.getTotalTime()) {
+                    return 0;
+                }
+                return (o1.getTotalTime() > o2.getTotalTime() ? -1 : 1);
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Obtain a snapshot of the statistics of the shape of {@code sql}.
+     *
+     * @param sql   A {@code String} that is a SQL statement, or a shape.
+     * @return      The {@code QueryStatistics} of the shape of {@code sql},
+     *              {@code null} if this shape is not tracked.
+     */
+    public QueryStatistics getQueryStatistics(String sql) {
+        String shape = SqlShapes.normalize(sql);
+        ShapeStatistics shapeStatistics = this.statistics.get(shape);
+        if (shapeStatistics == null) {
+            return null;
+        }
+        return snapshot(shape, shapeStatistics);
+    }
+
+    /**
+     * @return  A {@code long} that is the number of executions not tracked
+     *          because the maximum number of shapes was reached.
+     */
+    public long getUntrackedCount() {
+        return this.untrackedCount.get();
+    }
+
+    /**
+     * Discard all statistics collected.
+     */
+    public void reset() {
+        this.statistics.clear();
+        this.untrackedCount.set(0);
+    }
+
+    /**
+     * @param shape             A {@code String} that is a shape.
+     * @param shapeStatistics   The {@code ShapeStatistics} of {@code shape}.
+     * @return                  A {@code QueryStatistics} snapshot of {@code shapeStatistics}.
+     */
+    private static QueryStatistics snapshot(String shape, ShapeStatistics shapeStatistics) {
+        LatencyHistogram histogram = shapeStatistics.histogram;
+        long[] percentiles = histogram.getValuesAtPercentiles(50.0, 90.0, 99.0, 99.9);
+        return new QueryStatistics(shape, histogram.getTotalCount(),
+                shapeStatistics.errorCount.get(), shapeStatistics.rowsAffected.get(),
+                histogram.getTotalValue(), percentiles[0], percentiles[1],
+                percentiles[2], percentiles[3], histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,105 @@
+package net.sf.log4jdbc.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.regex.Pattern;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CallerLocation}.
+ */
+public class CallerLocationTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(CallerLocationTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test that the caller of the last log4jdbc frame is selected, even when
+     * frames of the logging framework are interleaved with log4jdbc frames.
+     */
+    @Test
+    public void shouldFindCallerOfLog4jdbc() {
+        StackTraceElement app = new StackTraceElement("com.example.Dao", "load", "Dao.java", 42);
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+            new StackTraceElement("net.sf.log4jdbc.log.CallerLocation", "getDebugInfo", "CallerLocation.java", 1),
+            new StackTraceElement("net.sf.log4jdbc.log.log4j2.message.SqlMessage", "getFormattedMessage", "SqlMessage.java", 2),
+            new StackTraceElement("org.apache.logging.log4j.core.Logger", "logMessage", "Logger.java", 3),
+            new StackTraceElement("net.sf.log4jdbc.sql.jdbcapi.StatementSpy", "executeQuery", "StatementSpy.java", 4),
+            app,
+            new StackTraceElement("com.example.Main", "main", "Main.java", 5)
+        };
+        assertSame(app, new CallerLocation(null).findCaller(stackTrace));
+    }
+
+    /**
+     * Test that only {@link CallerLocation#MAX_FRAMES} frames are walked.
+     */
+    @Test
+    public void shouldBoundWalk() {
+        StackTraceElement[] stackTrace = new StackTraceElement[CallerLocation.MAX_FRAMES + 2];
+        for (int i = 0; i < stackTrace.length; i++) {
+            stackTrace[i] = new StackTraceElement(
+                    i == 1 || i == CallerLocation.MAX_FRAMES ? "net.sf.log4jdbc.Spy" : "com.example.App",
+                    "call", "App.java", i);
+        }
+        assertEquals(2, new CallerLocation(null).findCaller(stackTrace).getLineNumber());
+    }
+
+    /**
+     * Test that the first frame of the application is selected, and that 
+     * the caller of log4jdbc is used when the application frame is deeper 
+     * than {@link CallerLocation#MAX_FRAMES}. 
+     */
+    @Test
+    public void shouldFindApplicationCaller() {
+        CallerLocation callerLocation = new CallerLocation(Pattern.compile("com\\.example\\..*"));
+        StackTraceElement[] stackTrace = new StackTraceElement[CallerLocation.MAX_FRAMES + 2];
+        for (int i = 0; i < stackTrace.length; i++) {
+            stackTrace[i] = new StackTraceElement(i < 2 ? "net.sf.log4jdbc.Spy" : "org.pool.Pool",
+                    "call", "Pool.java", i);
+        }
+        stackTrace[5] = new StackTraceElement("com.example.Dao", "load", "Dao.java", 5);
+        assertEquals(5, callerLocation.findCaller(stackTrace).getLineNumber());
+        assertEquals(Boolean.TRUE, callerLocation.applicationClasses.get("com.example.Dao"));
+        assertEquals(Boolean.FALSE, callerLocation.applicationClasses.get("org.pool.Pool"));
+
+        stackTrace[5] = stackTrace[4];
+        stackTrace[CallerLocation.MAX_FRAMES] = 
+                new StackTraceElement("com.example.Dao", "load", "Dao.java", 0);
+        assertEquals(2, callerLocation.findCaller(stackTrace).getLineNumber());
+    }
+
+    /**
+     * Test that the location of a call site is rendered only once.
+     */
+    @Test
+    public void shouldCacheCallSite() {
+        CallerLocation callerLocation = new CallerLocation(null);
+        String location = callerLocation.getLocation(
+                new StackTraceElement("com.example.Dao", "load", "Dao.java", 42));
+        assertEquals(" com.example.Dao.load(Dao.java:42)", location);
+        assertSame(location, callerLocation.getLocation(
+                new StackTraceElement("com.example.Dao", "load", "Dao.java", 42)));
+        assertNotSame(location, callerLocation.getLocation(
+                new StackTraceElement("com.example.Dao", "load", "Dao.java", 43)));
+        assertEquals(2, callerLocation.callSites.size());
+
+        String previous = null;
+        for (int i = 0; i < 3; i++) {
+            location = CallerLocation.getDebugInfo();
+            if (previous != null) {
+                assertSame(previous, location);
+            }
+            previous = location;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -360,7 +361,8 @@ public abstract class CheckLoggingFunctionalites extends TestAncestor
 
         // Run the method after ensuring the log file is empty 
         emptyLogFile();
-        TestSpyLogDelegator.exceptionOccured(cs, "test()",e,"SELECT * FROM Test", 1000L);
+        TestSpyLogDelegator.exceptionOccured(cs, "test()",e,"SELECT * FROM Test", 
+                TimeUnit.MILLISECONDS.toNanos(1000L));
 
         // Check the result
 
@@ -465,7 +467,7 @@ public abstract class CheckLoggingFunctionalites extends TestAncestor
 
         // Run the method after ensuring the log file is empty 
         emptyLogFile();
-        TestSpyLogDelegator.sqlTimingOccurred(cs,1000L,"test", "SELECT * FROM Test");
+        TestSpyLogDelegator.sqlTimingOccurred(cs,TimeUnit.MILLISECONDS.toNanos(1000L),"test", "SELECT * FROM Test");
 
         // Check the result
 
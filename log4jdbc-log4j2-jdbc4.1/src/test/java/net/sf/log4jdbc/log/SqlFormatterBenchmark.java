@@ -0,0 +1,171 @@
+package net.sf.log4jdbc.log;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.StringReader;
+import java.util.StringTokenizer;
+
+/**
+ * Benchmark comparing {@link SqlFormatter} to the previous implementation
+ * of <code>processSql</code>, which tokenized the SQL, then read it again
+ * line by line to collapse blank lines. This is not a unit test, it is run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=net.sf.log4jdbc.log.SqlFormatterBenchmark \
+ *     -Dexec.classpathScope=test
+ * </pre>
+ * It formats generated SQL statements of about 1 KB and 40 KB,
+ * and prints the average time per statement of each implementation.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class SqlFormatterBenchmark {
+    private static final String nl = System.getProperty("line.separator");
+
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final int ITERATIONS = 5000;
+
+    public static void main(String[] args) {
+        String[] sqls = new String[] {generateSql(1 << 10), generateSql(40 << 10)};
+        SqlFormatter formatter = new SqlFormatter(true, 90, true, true, true);
+        long sink = 0;
+        for (String sql : sqls) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                sink += legacyProcessSql(sql, true, 90, true, true).length();
+                sink += formatter.format(sql).length();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += legacyProcessSql(sql, true, 90, true, true).length();
+            }
+            long legacy = (System.nanoTime() - start) / ITERATIONS;
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += formatter.format(sql).length();
+            }
+            long current = (System.nanoTime() - start) / ITERATIONS;
+            System.out.println(sql.length() + " chars: previous processSql " + legacy +
+                    " ns/op, SqlFormatter " + current + " ns/op");
+        }
+        System.out.println("(" + sink + ")");
+    }
+
+    /**
+     * @param length    An {@code int} that is the minimum length of the SQL generated.
+     * @return          A {@code String} that is a generated reporting query,
+     *                  with blank lines and various whitespaces.
+     */
+    static String generateSql(int length) {
+        StringBuilder sql = new StringBuilder("  SELECT t0.id,\n");
+        int i = 0;
+        while (sql.length() < length) {
+            sql.append("\t  SUM(CASE WHEN t").append(i % 7).append(".status = 'OPEN' THEN t")
+               .append(i % 7).append(".amount ELSE 0 END) AS total_").append(i).append(",\r\n");
+            if (i % 10 == 0) {
+                sql.append("\n   \n\n");
+            }
+            i++;
+        }
+        sql.append("  t0.name\nFROM report t0\n\nWHERE t0.id > ? GROUP BY t0.id, t0.name  \n");
+        return sql.toString();
+    }
+
+    /**
+     * The previous implementation of <code>processSql</code>, from
+     * <code>Slf4jSpyLogDelegator</code>, with the options provided as arguments.
+     */
+    static String legacyProcessSql(String sql, boolean sqlTrim, int maxLineLength,
+            boolean addSemicolon, boolean trimExtraBlankLines)
+    {
+        if (sql==null)
+        {
+            return null;
+        }
+
+        if (sqlTrim)
+        {
+            sql = sql.trim();
+        }
+
+        StringBuilder output = new StringBuilder();
+
+        if (maxLineLength <= 0)
+        {
+            output.append(sql);
+        }
+        else
+        {
+            // insert line breaks into sql to make it more readable
+            StringTokenizer st = new StringTokenizer(sql);
+            String token;
+            int linelength = 0;
+
+            while (st.hasMoreElements())
+            {
+                token = (String) st.nextElement();
+
+                output.append(token);
+                linelength += token.length();
+                output.append(" ");
+                linelength++;
+                if (linelength > maxLineLength)
+                {
+                    output.append(nl);
+                    linelength = 0;
+                }
+            }
+        }
+
+        if (addSemicolon)
+        {
+            output.append(";");
+        }
+
+        String stringOutput = output.toString();
+
+        if (trimExtraBlankLines)
+        {
+            LineNumberReader lineReader = new LineNumberReader(new StringReader(stringOutput));
+
+            output = new StringBuilder();
+
+            int contiguousBlankLines = 0;
+            try
+            {
+                while (true)
+                {
+                    String line = lineReader.readLine();
+                    if (line==null)
+                    {
+                        break;
+                    }
+
+                    // is this line blank?
+                    if (line.trim().length() == 0)
+                    {
+                        contiguousBlankLines ++;
+                        // skip contiguous blank lines
+                        if (contiguousBlankLines > 1)
+                        {
+                            continue;
+                        }
+                    }
+                    else
+                    {
+                        contiguousBlankLines = 0;
+                        output.append(line);
+                    }
+                    output.append(nl);
+                }
+            }
+            catch (IOException e)
+            {
+                // since we are reading from a buffer, this isn't likely to happen,
+                // but if it does we just ignore it and treat it like its the end of the stream
+            }
+            stringOutput = output.toString();
+        }
+
+        return stringOutput;
+    }
+}
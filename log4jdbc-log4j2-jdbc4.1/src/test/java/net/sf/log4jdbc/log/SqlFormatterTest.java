@@ -0,0 +1,156 @@
+package net.sf.log4jdbc.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.sql.jdbcapi.DumpedSql;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SqlFormatter}.
+ */
+public class SqlFormatterTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(SqlFormatterTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String nl = System.getProperty("line.separator");
+
+    private static final String[] SQLS = new String[] {
+        "",
+        "   ",
+        "SELECT 1",
+        "  SELECT a,\n\n\n  b FROM t  \r\n\r\n WHERE c = ?\n",
+        "\n\nSELECT\ta\r\rFROM\f t\r",
+        "UPDATE t SET a = 'a  b'\n   \n\t\nWHERE id = 1;\n\n",
+        SqlFormatterBenchmark.generateSql(2000)
+    };
+
+    /**
+     * Test that the output is the same as the previous implementation,
+     * for all combinations of options.
+     */
+    @Test
+    public void shouldFormatAsPreviousImplementation() {
+        int[] maxLineLengths = new int[] {0, -1, 1, 10, 90};
+        for (int options = 0; options < 8; options++) {
+            boolean sqlTrim = (options & 1) != 0;
+            boolean addSemicolon = (options & 2) != 0;
+            boolean trimExtraBlankLines = (options & 4) != 0;
+            for (int maxLineLength : maxLineLengths) {
+                SqlFormatter formatter = new SqlFormatter(sqlTrim, maxLineLength,
+                        addSemicolon, trimExtraBlankLines, true);
+                for (String sql : SQLS) {
+                    assertEquals("options " + options + ", max " + maxLineLength + ", SQL " + sql,
+                            SqlFormatterBenchmark.legacyProcessSql(sql, sqlTrim, maxLineLength,
+                                    addSemicolon, trimExtraBlankLines),
+                            formatter.format(sql));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test formatting when lines are only separated, and not terminated,
+     * by a line separator.
+     */
+    @Test
+    public void shouldSeparateLines() {
+        SqlFormatter formatter = new SqlFormatter(true, 0, false, true, false);
+        assertEquals("SELECT a," + nl + nl + "  b FROM t  " + nl + nl + " WHERE c = ?",
+                formatter.format("  SELECT a,\n\n\n  b FROM t  \r\n\r\n WHERE c = ?\n"));
+
+        formatter = new SqlFormatter(true, 8, true, true, false);
+        assertEquals("SELECT a, " + nl + "b FROM t " + nl + ";",
+                formatter.format("SELECT a,\n\n b FROM  t"));
+        formatter = new SqlFormatter(true, 8, false, true, false);
+        assertEquals("SELECT a, " + nl + "b FROM t ",
+                formatter.format("SELECT a,\n\n b FROM  t"));
+
+        StringBuilder out = new StringBuilder("1. ");
+        formatter.formatTo("SELECT 1", out);
+        assertEquals("1. SELECT 1 ", out.toString());
+        assertEquals(null, formatter.format((String) null));
+    }
+
+    /**
+     * Test that the SQL template of a {@code PreparedStatement} is formatted only once,
+     * and that bound values are substituted to the formatted template.
+     */
+    @Test
+    public void shouldFormatTemplateOnce() {
+        SqlFormatter formatter = new SqlFormatter(true, 20, false, false, false, 10);
+        String template = "  SELECT a, b FROM t WHERE c = ? AND d = ?  ";
+
+        DumpedSql sql = mock(DumpedSql.class);
+        when(sql.getTemplate()).thenReturn(template);
+        when(sql.getBoundValues()).thenReturn(new String[] {"'x y'"});
+        assertEquals("SELECT a, b FROM t WHERE " + nl + "c = 'x y' AND d = ? ",
+                formatter.format(sql));
+        sql = mock(DumpedSql.class);
+        when(sql.getTemplate()).thenReturn(template);
+        when(sql.getBoundValues()).thenReturn(new String[] {"1", "2"});
+        StringBuilder out = new StringBuilder();
+        formatter.formatTo(sql, out);
+        assertEquals("SELECT a, b FROM t WHERE " + nl + "c = 1 AND d = 2 ", out.toString());
+
+        //SQL not produced from a template
+        assertEquals("SELECT 1 ", formatter.format("SELECT 1"));
+        assertEquals(null, formatter.format((DumpedSql) null));
+
+        FormattedSqlCache cache = formatter.getTemplateCache();
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    /**
+     * Test that bound values are substituted to the right placeholders when wrapping 
+     * lines joins a {@code --} comment with the placeholders following it.
+     */
+    @Test
+    public void shouldKeepPlaceholdersFollowingLineComment() {
+        SqlFormatter formatter = new SqlFormatter(true, 90, false, true, false, 10);
+        String template = "SELECT a, b -- pick columns\nFROM t WHERE a = ? AND b = ? " +
+                "AND c = ? AND d = ? AND e = ? AND f = ? AND g = ? AND h = ?";
+
+        DumpedSql sql = mock(DumpedSql.class);
+        when(sql.getTemplate()).thenReturn(template);
+        when(sql.getBoundValues()).thenReturn(
+                new String[] {"1", "2", "3", "4", "5", "6", "7", "8"});
+        String formatted = formatter.format(sql);
+        assertEquals("SELECT a, b -- pick columns FROM t WHERE a = 1 AND b = 2 AND c = 3 " +
+                "AND d = 4 AND e = 5 AND " + nl + "f = 6 AND g = 7 AND h = 8 ", formatted);
+        //same result from the cached template
+        assertEquals(formatted, formatter.format(sql));
+        assertEquals(1, formatter.getTemplateCache().getHitCount());
+    }
+
+    /**
+     * Test the eviction of entries when the {@code FormattedSqlCache} is full.
+     */
+    @Test
+    public void shouldEvictWhenFull() {
+        FormattedSqlCache cache = new FormattedSqlCache(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.getHitCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(null, cache.get("c"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+}
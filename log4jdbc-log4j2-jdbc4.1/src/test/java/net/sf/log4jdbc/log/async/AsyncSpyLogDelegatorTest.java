@@ -0,0 +1,228 @@
+package net.sf.log4jdbc.log.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.Spy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Unit tests for {@link AsyncSpyLogDelegator}.
+ */
+public class AsyncSpyLogDelegatorTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(AsyncSpyLogDelegatorTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test that events are dispatched in order to the decorated {@code SpyLogDelegator},
+     * and that pending events are dispatched when closing.
+     */
+    @Test
+    public void shouldDispatchInOrder() {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        Spy spy = mock(Spy.class);
+        MethodCall methodCall = new MethodCall("getInt", 1);
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 4,
+                OverflowPolicy.BLOCK, 10);
+
+        for (int i = 0; i < 20; i++) {
+            async.sqlTimingOccurred(spy, i, "executeQuery()", "SELECT " + i);
+        }
+        async.methodReturned(spy, methodCall, "1");
+        async.close();
+
+        InOrder inOrder = inOrder(delegate);
+        for (int i = 0; i < 20; i++) {
+            inOrder.verify(delegate).sqlTimingOccurred(spy, i, "executeQuery()", "SELECT " + i);
+        }
+        inOrder.verify(delegate).methodReturned(spy, methodCall, "1");
+        assertEquals(0, async.getDroppedCount());
+
+        //after closing, events are logged synchronously
+        async.connectionClosed(spy, 10L);
+        verify(delegate).connectionClosed(spy, 10L);
+    }
+
+    /**
+     * Test that an idle consumer is woken up by the next event published, 
+     * rather than at the end of its park.
+     */
+    @Test
+    public void shouldWakeUpIdleConsumer() throws InterruptedException {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        Spy spy = mock(Spy.class);
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 4,
+                OverflowPolicy.BLOCK, 10);
+        try {
+            //let the consumer back off to its longest park
+            Thread.sleep(1500);
+            async.connectionClosed(spy, 10L);
+            verify(delegate, timeout(200)).connectionClosed(spy, 10L);
+        } finally {
+            async.close();
+        }
+    }
+
+    /**
+     * Test that events are discarded and counted when the buffer is full
+     * and the policy is {@code DROP}.
+     */
+    @Test
+    public void shouldDropWhenFull() throws InterruptedException {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                blocked.countDown();
+                release.await();
+                return null;
+            }
+        }).when(delegate).debug(anyString());
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 4,
+                OverflowPolicy.DROP, 10);
+
+        //block the consumer, then fill the buffer
+        async.debug("block");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            async.sqlBatchSize(null, i);
+        }
+        release.countDown();
+        async.close();
+
+        //the slot of the event being dispatched is released only after the dispatch
+        assertEquals(7, async.getDroppedCount());
+        verify(delegate, times(3)).sqlBatchSize(any(Spy.class), anyInt());
+    }
+
+    /**
+     * Test that errors of the decorated {@code SpyLogDelegator} are reported 
+     * through its {@code debug} method, and that the following events are dispatched.
+     */
+    @Test
+    public void shouldReportDelegateErrors() {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        doThrow(new IllegalStateException("backend failure")).when(delegate)
+            .sqlBatchSize(any(Spy.class), eq(1));
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 4,
+                OverflowPolicy.BLOCK, 10);
+        async.sqlBatchSize(null, 1);
+        async.sqlBatchSize(null, 2);
+        async.close();
+
+        verify(delegate).debug(contains("backend failure"));
+        verify(delegate).sqlBatchSize(null, 2);
+    }
+
+    /**
+     * Test that the mutable arguments of a {@code MethodCall} are captured 
+     * when the event is published, even if they are modified before the dispatch.
+     */
+    @Test
+    public void shouldSnapshotMutableArguments() throws InterruptedException {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                blocked.countDown();
+                release.await();
+                return null;
+            }
+        }).when(delegate).debug(anyString());
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 4,
+                OverflowPolicy.BLOCK, 10);
+
+        Timestamp timestamp = Timestamp.valueOf("2014-01-02 03:04:05.123456789");
+        byte[] bytes = new byte[] {1, 2};
+        MethodCall methodCall = new MethodCall("setTimestamp", 1, timestamp, bytes);
+        String expected = methodCall.snapshot().toString();
+        async.debug("block");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        async.methodReturned(null, methodCall, "");
+        timestamp.setTime(0);
+        release.countDown();
+        async.close();
+
+        ArgumentCaptor<MethodCall> dispatched = ArgumentCaptor.forClass(MethodCall.class);
+        verify(delegate).methodReturned(eq((Spy) null), dispatched.capture(), eq(""));
+        assertEquals(expected, dispatched.getValue().toString());
+        assertTrue(expected.contains("2014-01-02 03:04:05.123456789"));
+        assertTrue(expected.contains(String.valueOf(bytes)));
+        MethodCall immutable = new MethodCall("getInt", 1);
+        assertSame(immutable, immutable.snapshot());
+    }
+
+    /**
+     * Test that no event is lost when {@code close} is called while events are published.
+     */
+    @Test
+    public void shouldNotLoseEventsWhenClosing() throws InterruptedException {
+        SpyLogDelegator delegate = mock(SpyLogDelegator.class);
+        final AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(delegate, 64,
+                OverflowPolicy.BLOCK, 10);
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 2000; j++) {
+                        async.sqlBatchSize(null, j);
+                    }
+                }
+            });
+            producers[i].start();
+        }
+        async.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        verify(delegate, times(8000)).sqlBatchSize(any(Spy.class), anyInt());
+        assertEquals(0, async.getDroppedCount());
+    }
+
+    /**
+     * Test that the shutdown hook registered by the constructor is removed by {@code close}.
+     */
+    @Test
+    public void shouldRemoveShutdownHook() {
+        AsyncSpyLogDelegator async = new AsyncSpyLogDelegator(mock(SpyLogDelegator.class), 4,
+                OverflowPolicy.BLOCK, 10);
+        async.close();
+        assertFalse(Runtime.getRuntime().removeShutdownHook(async.shutdownHook));
+    }
+}
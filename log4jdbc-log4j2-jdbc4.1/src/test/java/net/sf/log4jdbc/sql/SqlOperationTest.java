@@ -0,0 +1,54 @@
+package net.sf.log4jdbc.sql;
+
+import static org.junit.Assert.assertEquals;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SqlOperation}.
+ */
+public class SqlOperationTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(SqlOperationTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test {@link SqlOperation#classify(String)}.
+     */
+    @Test
+    public void shouldClassify() {
+        assertEquals(SqlOperation.SELECT, SqlOperation.classify("  select * from t"));
+        assertEquals(SqlOperation.SELECT, SqlOperation.classify("SELECT\n1"));
+        assertEquals(SqlOperation.SELECT, SqlOperation.classify(
+                "-- report\n/* hint */ (SELECT a FROM t) UNION (SELECT b FROM u)"));
+        assertEquals(SqlOperation.INSERT, SqlOperation.classify("/*+ APPEND */INSERT INTO t VALUES (?)"));
+        assertEquals(SqlOperation.UPDATE, SqlOperation.classify("Update t SET a = 1"));
+        assertEquals(SqlOperation.DELETE, SqlOperation.classify("delete from t"));
+        assertEquals(SqlOperation.CREATE, SqlOperation.classify("CREATE TABLE t (a INT)"));
+        assertEquals(SqlOperation.MERGE, SqlOperation.classify("MERGE INTO t USING u ON (t.a = u.a)"));
+        assertEquals(SqlOperation.MERGE, SqlOperation.classify("UPSERT INTO t VALUES (1)"));
+        assertEquals(SqlOperation.CALL, SqlOperation.classify("{call proc(?)}"));
+        assertEquals(SqlOperation.CALL, SqlOperation.classify("{? = call func(?)}"));
+        assertEquals(SqlOperation.CALL, SqlOperation.classify("EXEC proc 1"));
+
+        assertEquals(SqlOperation.SELECT, SqlOperation.classify(
+                "WITH RECURSIVE cte (a) AS (SELECT 1 UNION ALL SELECT a + 1 FROM cte), " +
+                "\"update\" AS (SELECT ')' FROM t) SELECT * FROM cte"));
+        assertEquals(SqlOperation.INSERT, SqlOperation.classify(
+                "with src as (select * from t) insert into u select * from src"));
+        assertEquals(SqlOperation.DELETE, SqlOperation.classify(
+                "WITH old AS (SELECT id FROM t) -- select\nDELETE FROM t WHERE id IN (SELECT id FROM old)"));
+
+        assertEquals(SqlOperation.OTHER, SqlOperation.classify(null));
+        assertEquals(SqlOperation.OTHER, SqlOperation.classify("  "));
+        assertEquals(SqlOperation.OTHER, SqlOperation.classify("selected"));
+        assertEquals(SqlOperation.OTHER, SqlOperation.classify("DROP TABLE t"));
+        assertEquals(SqlOperation.OTHER, SqlOperation.classify("/* unterminated"));
+    }
+}
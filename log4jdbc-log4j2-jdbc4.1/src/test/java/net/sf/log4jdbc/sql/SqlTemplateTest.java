@@ -0,0 +1,60 @@
+package net.sf.log4jdbc.sql;
+
+import static org.junit.Assert.assertEquals;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SqlTemplate}.
+ */
+public class SqlTemplateTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(SqlTemplateTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test that only actual placeholders are substituted.
+     */
+    @Test
+    public void shouldSubstitutePlaceholders() {
+        String[] values = new String[] {"1", "2", "3"};
+        assertEquals("SELECT a FROM t WHERE b = 1 AND c IN (2, 3)",
+                SqlTemplate.parse("SELECT a FROM t WHERE b = ? AND c IN (?, ?)").substitute(values));
+        assertEquals("SELECT '?', \"a?\", `b?` FROM t WHERE c = 1 -- d = ?\nAND e = 2",
+                SqlTemplate.parse("SELECT '?', \"a?\", `b?` FROM t WHERE c = ? -- d = ?\nAND e = ?")
+                .substitute(values));
+        assertEquals("SELECT 'it''s ?' /* a ? /* nested ? */ ? */ FROM t WHERE b = 1",
+                SqlTemplate.parse("SELECT 'it''s ?' /* a ? /* nested ? */ ? */ FROM t WHERE b = ?")
+                .substitute(values));
+        assertEquals("SELECT $$a ? b$$, $tag$?$tag$, $1 FROM t WHERE b = 1",
+                SqlTemplate.parse("SELECT $$a ? b$$, $tag$?$tag$, $1 FROM t WHERE b = ?")
+                .substitute(values));
+        //PostgreSQL JSONB operators
+        SqlTemplate template = SqlTemplate.parse(
+                "SELECT * FROM t WHERE d ?| array['a'] AND d ?& ? AND d ?? 'k' AND e = ?||'x'");
+        assertEquals(2, template.getPlaceholderCount());
+        assertEquals("SELECT * FROM t WHERE d ?| array['a'] AND d ?& 1 AND d ?? 'k' AND e = 2||'x'",
+                template.substitute(values));
+    }
+
+    /**
+     * Test that placeholders without value are kept.
+     */
+    @Test
+    public void shouldKeepUnboundPlaceholders() {
+        SqlTemplate template = SqlTemplate.parse("INSERT INTO t VALUES (?, ?, ?)");
+        assertEquals(3, template.getPlaceholderCount());
+        assertEquals("INSERT INTO t VALUES ('x', ?, ?)",
+                template.substitute(new String[] {"'x'", null}));
+        StringBuilder out = new StringBuilder("1. ");
+        template.appendTo(out, new String[0]);
+        assertEquals("1. INSERT INTO t VALUES (?, ?, ?)", out.toString());
+        assertEquals("SELECT 1", SqlTemplate.parse("SELECT 1").substitute(new String[] {"2"}));
+    }
+}
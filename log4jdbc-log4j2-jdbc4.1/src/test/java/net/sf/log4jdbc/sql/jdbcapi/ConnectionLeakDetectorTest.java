@@ -0,0 +1,98 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.Spy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConnectionLeakDetector}. Scans are run directly,
+ * without starting the background thread.
+ */
+public class ConnectionLeakDetectorTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(ConnectionLeakDetectorTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test that a connection open for longer than the threshold is reported once,
+     * with the last SQL executed and the opening site (log4jdbc frames excluded), and that closed connections
+     * are not reported.
+     */
+    @Test
+    public void shouldReportLeakOnce() throws SQLException, InterruptedException {
+        ConnectionLeakDetector detector = new ConnectionLeakDetector(1000000L, 1);
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.getConnectionLeakDetector()).thenReturn(detector);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+
+        ConnectionSpy leaked = new ConnectionSpy(connection, spyLogDelegator);
+        ConnectionSpy closed = new ConnectionSpy(connection, spyLogDelegator);
+        try {
+            assertTrue(leaked.getOpenConnection().openingSite != null);
+            leaked.createStatement().execute("SELECT 1");
+            leaked.createStatement().execute("SELECT 2");
+            closed.close();
+            Thread.sleep(5);
+
+            detector.scan();
+            detector.scan();
+            verify(spyLogDelegator, times(1)).connectionLeaked(eq(leaked), anyLong(),
+                    eq("SELECT 2"), startsWith("at "));
+            verify(spyLogDelegator, never()).connectionLeaked(eq(closed), anyLong(),
+                    anyString(), anyString());
+        } finally {
+            leaked.close();
+        }
+    }
+
+    /**
+     * Test that connections younger than the threshold, or not monitored,
+     * are not reported, and that the opening site is not captured if not sampled.
+     */
+    @Test
+    public void shouldIgnoreYoungConnections() throws SQLException {
+        ConnectionLeakDetector detector = new ConnectionLeakDetector(3600000000000L, 0);
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.getConnectionLeakDetector()).thenReturn(detector);
+        SpyLogDelegator notMonitored = mock(SpyLogDelegator.class);
+
+        ConnectionSpy young = new ConnectionSpy(mock(Connection.class), spyLogDelegator);
+        ConnectionSpy other = new ConnectionSpy(mock(Connection.class), notMonitored);
+        try {
+            assertTrue(young.getOpenConnection().openingSite == null);
+            assertTrue(other.getOpenConnection() == null);
+            detector.scan();
+            verify(spyLogDelegator, never()).connectionLeaked(any(Spy.class), anyLong(),
+                    anyString(), anyString());
+            verify(spyLogDelegator, never()).connectionLeaked(any(Spy.class), anyLong(),
+                    (String) isNull(), (String) isNull());
+        } finally {
+            young.close();
+            other.close();
+        }
+    }
+}
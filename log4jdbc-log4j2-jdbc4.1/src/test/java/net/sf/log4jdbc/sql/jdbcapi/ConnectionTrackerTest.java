@@ -0,0 +1,98 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConnectionTracker}. Other tests can leave connections open,
+ * so only variations of the number of open connections are checked.
+ */
+public class ConnectionTrackerTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(ConnectionTrackerTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test that connections opened and closed concurrently get distinct connection numbers,
+     * and are all unregistered.
+     */
+    @Test
+    public void shouldTrackConcurrently() throws InterruptedException {
+        final int threadCount = 8;
+        final int connectionsPerThread = 1000;
+        final ConnectionSpy connectionSpy = mock(ConnectionSpy.class);
+        final Set<Integer> connectionNumbers =
+                Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+        final CountDownLatch start = new CountDownLatch(1);
+        int initialCount = ConnectionTracker.getOpenConnectionCount();
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < connectionsPerThread; j++) {
+                        Integer connectionNumber = ConnectionTracker.register(connectionSpy);
+                        connectionNumbers.add(connectionNumber);
+                        ConnectionTracker.unregister(connectionNumber);
+                        //no effect
+                        ConnectionTracker.unregister(connectionNumber);
+                    }
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threadCount * connectionsPerThread, connectionNumbers.size());
+        assertEquals(initialCount, ConnectionTracker.getOpenConnectionCount());
+    }
+
+    /**
+     * Test that the dump of open connections is bounded, and lists the oldest connections.
+     */
+    @Test
+    public void shouldBoundDump() {
+        ConnectionSpy connectionSpy = mock(ConnectionSpy.class);
+        int initialCount = ConnectionTracker.getOpenConnectionCount();
+        List<Integer> connectionNumbers = new ArrayList<Integer>();
+        for (int i = 0; i < ConnectionTracker.MAX_DUMPED_CONNECTIONS + 10; i++) {
+            connectionNumbers.add(ConnectionTracker.register(connectionSpy));
+        }
+        try {
+            int count = initialCount + ConnectionTracker.MAX_DUMPED_CONNECTIONS + 10;
+            String dump = ConnectionTracker.getOpenConnectionsDump();
+            assertTrue(dump, dump.endsWith(" ... (" + count + ")"));
+            assertTrue(dump, !dump.contains(" " + connectionNumbers.get(connectionNumbers.size() - 1) + " "));
+        } finally {
+            for (Integer connectionNumber : connectionNumbers) {
+                ConnectionTracker.unregister(connectionNumber);
+            }
+        }
+        assertEquals(initialCount, ConnectionTracker.getOpenConnectionCount());
+    }
+}
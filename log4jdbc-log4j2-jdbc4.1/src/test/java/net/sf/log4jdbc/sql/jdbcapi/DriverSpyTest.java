@@ -0,0 +1,146 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DriverSpy}.
+ */
+public class DriverSpyTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(DriverSpyTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test {@link DriverSpy#getSubProtocol(String)}.
+     */
+    @Test
+    public void shouldGetSubProtocol() {
+        assertEquals("jdbc:mysql:", DriverSpy.getSubProtocol("jdbc:mysql://localhost/db"));
+        assertEquals("jdbc:oracle:", DriverSpy.getSubProtocol("jdbc:oracle:thin:@host:1521:sid"));
+        assertEquals("jdbc:mock", DriverSpy.getSubProtocol("jdbc:mock"));
+        assertEquals("nocolon", DriverSpy.getSubProtocol("nocolon"));
+    }
+
+    /**
+     * Test that the underlying driver is cached by sub-protocol, and that 
+     * it is evicted when it does not accept the URL anymore, when it fails 
+     * to connect, or when the cache is cleared 
+     * by {@link DriverSpy#clearUnderlyingDriverCache()}.
+     */
+    @Test
+    public void shouldCacheUnderlyingDriver() throws Exception {
+        DriverSpy driverSpy = new DriverSpy();
+        String url = "jdbc:log4" + MockDriverUtils.MOCKURL;
+        MockDriverUtils mock = new MockDriverUtils();
+        try {
+            Connection conn = driverSpy.connect(url, new Properties());
+            assertTrue(conn instanceof ConnectionSpy);
+            assertSame(mock.getMockConnection(), ((ConnectionSpy) conn).getRealConnection());
+            assertTrue(((ConnectionSpy) conn).getDriverResolutionTime() >= 0);
+            assertSame(DriverSpy.defaultRdbmsSpecifics, ((ConnectionSpy) conn).getRdbmsSpecifics());
+            assertSame(mock.getMockDriver(), DriverSpy.getCachedDriver("jdbc:mock:"));
+
+            //resolved from the cache
+            conn = driverSpy.connect(url, new Properties());
+            assertSame(mock.getMockConnection(), ((ConnectionSpy) conn).getRealConnection());
+            assertSame(mock.getMockDriver(), DriverSpy.getCachedDriver("jdbc:mock:"));
+
+            //a cached driver not accepting the URL anymore is evicted
+            when(mock.getMockDriver().acceptsURL(MockDriverUtils.MOCKURL)).thenReturn(false);
+            assertFalse(driverSpy.acceptsURL(url));
+            assertNull(DriverSpy.getCachedDriver("jdbc:mock:"));
+            when(mock.getMockDriver().acceptsURL(MockDriverUtils.MOCKURL)).thenReturn(true);
+            assertTrue(driverSpy.acceptsURL(url));
+            assertSame(mock.getMockDriver(), DriverSpy.getCachedDriver("jdbc:mock:"));
+
+            DriverSpy.clearUnderlyingDriverCache();
+            assertNull(DriverSpy.getCachedDriver("jdbc:mock:"));
+            assertTrue(driverSpy.acceptsURL(url));
+        } finally {
+            //deregister without going through MockDriverUtils, 
+            //so that the cache is not cleared
+            DriverManager.deregisterDriver(mock.getMockDriver());
+        }
+
+        //a deregistered driver is still served from the cache, until it fails to connect
+        assertTrue(driverSpy.acceptsURL(url));
+        when(mock.getMockDriver().connect(eq(MockDriverUtils.MOCKURL), any(Properties.class)))
+            .thenReturn(null);
+        try {
+            driverSpy.connect(url, new Properties());
+            fail("A driver failing to connect should throw an exception");
+        } catch (SQLException e) {
+            //test passed
+        }
+        assertNull(DriverSpy.getCachedDriver("jdbc:mock:"));
+        assertFalse(driverSpy.acceptsURL(url));
+    }
+
+    /**
+     * Test {@link DriverSpy#isClassPresent(String)} and {@link DriverDiscovery#fromName(String)}.
+     */
+    @Test
+    public void shouldDiscoverDrivers() {
+        assertTrue(DriverSpy.isClassPresent("net.sf.log4jdbc.sql.jdbcapi.DriverSpy"));
+        assertTrue(DriverSpy.isClassPresent("java.sql.Driver"));
+        assertFalse(DriverSpy.isClassPresent("oracle.jdbc.driver.OracleDriver"));
+
+        assertSame(DriverDiscovery.SERVICE_LOADER, DriverDiscovery.fromName(" service_loader "));
+        assertSame(DriverDiscovery.LAZY, DriverDiscovery.fromName("LAZY"));
+        assertNull(DriverDiscovery.fromName("parallel"));
+        assertNull(DriverDiscovery.fromName(null));
+    }
+
+    /**
+     * Test that the methods of {@link DriverSpy} not accepting a URL describe 
+     * the spy driver itself, whatever the underlying driver last requested.
+     */
+    @Test
+    public void shouldNotDependOnUnderlyingDriverRequested() throws Exception {
+        DriverSpy driverSpy = new DriverSpy();
+        this.assertSpyDriverInfo(driverSpy);
+        MockDriverUtils mock = new MockDriverUtils();
+        try {
+            when(mock.getMockDriver().getMajorVersion()).thenReturn(9);
+            when(mock.getMockDriver().jdbcCompliant()).thenReturn(true);
+            driverSpy.connect("jdbc:log4" + MockDriverUtils.MOCKURL, new Properties());
+            this.assertSpyDriverInfo(driverSpy);
+        } finally {
+            mock.deregister();
+        }
+    }
+
+    private void assertSpyDriverInfo(DriverSpy driverSpy) {
+        assertEquals(DriverSpy.MAJOR_VERSION, driverSpy.getMajorVersion());
+        assertEquals(DriverSpy.MINOR_VERSION, driverSpy.getMinorVersion());
+        assertFalse(driverSpy.jdbcCompliant());
+        try {
+            driverSpy.getParentLogger();
+            fail("A SQLFeatureNotSupportedException should have been thrown");
+        } catch (SQLFeatureNotSupportedException e) {
+            //test passed
+        }
+    }
+}
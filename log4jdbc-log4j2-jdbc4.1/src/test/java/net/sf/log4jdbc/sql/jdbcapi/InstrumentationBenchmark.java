@@ -0,0 +1,551 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
+
+/**
+ * Benchmark comparing calls to a raw <code>PreparedStatement</code> 
+ * to the same calls going through a {@link PreparedStatementSpy} 
+ * with {@link Instrumentation} disabled. This is not a unit test, 
+ * it is run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=net.sf.log4jdbc.sql.jdbcapi.InstrumentationBenchmark \
+ *     -Dexec.classpathScope=test
+ * </pre>
+ * The real statement is a hand-written no-op implementation, so that the time measured 
+ * is the overhead of the spy, without any reflective dispatch. Both configurations 
+ * are measured alternately over several rounds, and it prints the minimum, median 
+ * and maximum of the average time per <code>setInt</code>/<code>setInt</code>/
+ * <code>executeUpdate</code> sequence of each configuration.
+ *
+ * @since 1.17-SNAPSHOT
+ * @version 1.17-SNAPSHOT
+ */
+public class InstrumentationBenchmark {
+    private static final String SQL = "UPDATE t SET a = ? WHERE b = ?";
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 15;
+    private static final int ITERATIONS = 5000000;
+
+    public static void main(String[] args) throws SQLException {
+        PreparedStatement raw = new NoOpPreparedStatement();
+        ConnectionSpy connectionSpy = new ConnectionSpy(mock(Connection.class), 
+                new RdbmsSpecifics(), mock(SpyLogDelegator.class));
+        PreparedStatement spy = new PreparedStatementSpy(SQL, connectionSpy, raw, 
+                mock(SpyLogDelegator.class));
+        double[] rawTimes = new double[ROUNDS];
+        double[] disabledTimes = new double[ROUNDS];
+        long sink = 0;
+        try {
+            Instrumentation.setEnabled(false);
+            for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                sink += run(raw, ITERATIONS);
+                long rawTime = System.nanoTime() - start;
+                start = System.nanoTime();
+                sink += run(spy, ITERATIONS);
+                long disabledTime = System.nanoTime() - start;
+                if (round >= 0) {
+                    rawTimes[round] = (double) rawTime / ITERATIONS;
+                    disabledTimes[round] = (double) disabledTime / ITERATIONS;
+                }
+            }
+        } finally {
+            Instrumentation.setEnabled(true);
+        }
+        System.out.println("raw statement " + spread(rawTimes));
+        System.out.println("spy disabled  " + spread(disabledTimes));
+        System.out.println("(" + sink + ")");
+    }
+
+    private static long run(PreparedStatement statement, int iterations) throws SQLException {
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            statement.setInt(1, i);
+            statement.setInt(2, i >> 1);
+            sink += statement.executeUpdate();
+        }
+        return sink;
+    }
+
+    /**
+     * @param times An array of {@code double}s that are the times per operation 
+     *              measured in each round, in nanoseconds. It is sorted.
+     * @return      A {@code String} describing the minimum, median and maximum 
+     *              of {@code times}.
+     */
+    private static String spread(double[] times) {
+        Arrays.sort(times);
+        return String.format("min %.2f ns/op, median %.2f ns/op, max %.2f ns/op", 
+                times[0], times[times.length / 2], times[times.length - 1]);
+    }
+
+    /**
+     * A <code>PreparedStatement</code> doing nothing but summing the <code>int</code>s bound, 
+     * so that the JIT cannot eliminate the calls, and returning this sum from 
+     * <code>executeUpdate</code>. A Mockito mock would record each invocation, 
+     * and a dynamic proxy would add a reflective call, both dominating the time measured.
+     */
+    private static final class NoOpPreparedStatement implements PreparedStatement {
+        private int sum;
+
+        @Override
+        public void addBatch() throws SQLException {
+        }
+
+        @Override
+        public void addBatch(String sql) throws SQLException {
+        }
+
+        @Override
+        public void cancel() throws SQLException {
+        }
+
+        @Override
+        public void clearBatch() throws SQLException {
+        }
+
+        @Override
+        public void clearParameters() throws SQLException {
+        }
+
+        @Override
+        public void clearWarnings() throws SQLException {
+        }
+
+        @Override
+        public void close() throws SQLException {
+        }
+
+        @Override
+        public void closeOnCompletion() throws SQLException {
+        }
+
+        @Override
+        public boolean execute() throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean execute(String sql, String[] columnNames) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean execute(String sql) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public int[] executeBatch() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public ResultSet executeQuery() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public ResultSet executeQuery(String sql) throws SQLException {
+            return null;
+        }
+
+        @Override
+        public int executeUpdate() throws SQLException {
+            return sum;
+        }
+
+        @Override
+        public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+            return 1;
+        }
+
+        @Override
+        public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+            return 1;
+        }
+
+        @Override
+        public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+            return 1;
+        }
+
+        @Override
+        public int executeUpdate(String sql) throws SQLException {
+            return 1;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public int getFetchDirection() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public int getFetchSize() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public ResultSet getGeneratedKeys() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public int getMaxFieldSize() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public int getMaxRows() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public ResultSetMetaData getMetaData() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public boolean getMoreResults() throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean getMoreResults(int current) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public ParameterMetaData getParameterMetaData() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public int getQueryTimeout() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public ResultSet getResultSet() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public int getResultSetConcurrency() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public int getResultSetHoldability() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public int getResultSetType() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public int getUpdateCount() throws SQLException {
+            return 0;
+        }
+
+        @Override
+        public SQLWarning getWarnings() throws SQLException {
+            return null;
+        }
+
+        @Override
+        public boolean isCloseOnCompletion() throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean isPoolable() throws SQLException {
+            return false;
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return false;
+        }
+
+        @Override
+        public void setArray(int parameterIndex, Array x) throws SQLException {
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        }
+
+        @Override
+        public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, InputStream x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, InputStream x) throws SQLException {
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        }
+
+        @Override
+        public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        }
+
+        @Override
+        public void setByte(int parameterIndex, byte x) throws SQLException {
+        }
+
+        @Override
+        public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader x, int length) throws SQLException {
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Reader x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Reader x) throws SQLException {
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Clob x) throws SQLException {
+        }
+
+        @Override
+        public void setCursorName(String name) throws SQLException {
+        }
+
+        @Override
+        public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        }
+
+        @Override
+        public void setDate(int parameterIndex, Date x) throws SQLException {
+        }
+
+        @Override
+        public void setDouble(int parameterIndex, double x) throws SQLException {
+        }
+
+        @Override
+        public void setEscapeProcessing(boolean enable) throws SQLException {
+        }
+
+        @Override
+        public void setFetchDirection(int value) throws SQLException {
+        }
+
+        @Override
+        public void setFetchSize(int value) throws SQLException {
+        }
+
+        @Override
+        public void setFloat(int parameterIndex, float x) throws SQLException {
+        }
+
+        @Override
+        public void setInt(int parameterIndex, int x) throws SQLException {
+            sum += x;
+        }
+
+        @Override
+        public void setLong(int parameterIndex, long x) throws SQLException {
+        }
+
+        @Override
+        public void setMaxFieldSize(int value) throws SQLException {
+        }
+
+        @Override
+        public void setMaxRows(int value) throws SQLException {
+        }
+
+        @Override
+        public void setNCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setNCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, Reader x, long length) throws SQLException {
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, Reader x) throws SQLException {
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, NClob x) throws SQLException {
+        }
+
+        @Override
+        public void setNString(int parameterIndex, String x) throws SQLException {
+        }
+
+        @Override
+        public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        }
+
+        @Override
+        public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x) throws SQLException {
+        }
+
+        @Override
+        public void setPoolable(boolean enable) throws SQLException {
+        }
+
+        @Override
+        public void setQueryTimeout(int value) throws SQLException {
+        }
+
+        @Override
+        public void setRef(int parameterIndex, Ref x) throws SQLException {
+        }
+
+        @Override
+        public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        }
+
+        @Override
+        public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
+        }
+
+        @Override
+        public void setShort(int parameterIndex, short x) throws SQLException {
+        }
+
+        @Override
+        public void setString(int parameterIndex, String x) throws SQLException {
+        }
+
+        @Override
+        public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        }
+
+        @Override
+        public void setTime(int parameterIndex, Time x) throws SQLException {
+        }
+
+        @Override
+        public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        }
+
+        @Override
+        public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        }
+
+        @Override
+        public void setURL(int parameterIndex, URL x) throws SQLException {
+        }
+
+        @Override
+        public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link Instrumentation}.
+ */
+public class InstrumentationTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(InstrumentationTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String SQL = "SELECT * FROM t WHERE a = ?";
+
+    /**
+     * Test that spies forward calls straight to the real objects when 
+     * the instrumentation is disabled, and that it can be enabled again at runtime.
+     */
+    @Test
+    public void shouldPassThroughWhenDisabled() throws SQLException {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        PreparedStatement realStatement = mock(PreparedStatement.class);
+        ResultSet realResultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(SQL)).thenReturn(realStatement);
+        when(realStatement.executeQuery()).thenReturn(realResultSet);
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        assertTrue(Instrumentation.isEnabled());
+        try {
+            PreparedStatement statement = connectionSpy.prepareStatement(SQL);
+            Instrumentation.setEnabled(false);
+            assertFalse(Instrumentation.isEnabled());
+            statement.setInt(1, 5);
+            assertSame(realResultSet, statement.executeQuery());
+            verify(spyLogDelegator, never()).sqlOccurred(any(Spy.class), anyString(), 
+                    anyString());
+            verify(spyLogDelegator, never()).sqlOccurred(any(Spy.class), anyString(), 
+                    any(DumpedSql.class));
+            verify(spyLogDelegator, never()).methodReturned(any(Spy.class), 
+                    any(MethodCall.class), anyString());
+
+            Instrumentation.setEnabled(true);
+            ResultSet resultSet = statement.executeQuery();
+            assertTrue(resultSet instanceof ResultSetSpy);
+            assertSame(realResultSet, ((ResultSetSpy) resultSet).getRealResultSet());
+            ArgumentCaptor<DumpedSql> reported = ArgumentCaptor.forClass(DumpedSql.class);
+            verify(spyLogDelegator).sqlOccurred(eq((Spy) statement), anyString(), 
+                    reported.capture());
+            assertEquals(SQL, reported.getValue().getTemplate());
+            //the value bound while disabled was not traced
+            assertEquals(0, reported.getValue().getBoundValues().length);
+        } finally {
+            Instrumentation.setEnabled(true);
+            connectionSpy.close();
+        }
+    }
+
+    /**
+     * Test that the logging flags cached by the spies are read again 
+     * when the instrumentation is enabled again.
+     */
+    @Test
+    public void shouldReadLoggingFlagsWhenEnabledAgain() throws SQLException {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        Connection connection = mock(Connection.class);
+        Statement realStatement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(realStatement);
+        when(realStatement.getMaxRows()).thenReturn(10);
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        try {
+            Statement statement = connectionSpy.createStatement();
+            assertEquals(10, statement.getMaxRows());
+            verify(spyLogDelegator, never()).methodReturned(any(Spy.class), 
+                    any(MethodCall.class), anyString());
+
+            Instrumentation.setEnabled(false);
+            when(spyLogDelegator.isAuditLoggingEnabled()).thenReturn(true);
+            assertEquals(10, statement.getMaxRows());
+            verify(spyLogDelegator, never()).methodReturned(any(Spy.class), 
+                    any(MethodCall.class), anyString());
+
+            Instrumentation.setEnabled(true);
+            assertEquals(10, statement.getMaxRows());
+            verify(spyLogDelegator).methodReturned(eq((Spy) statement), 
+                    any(MethodCall.class), eq("10"));
+        } finally {
+            Instrumentation.setEnabled(true);
+            connectionSpy.close();
+        }
+    }
+
+    /**
+     * Test that a batch built while the instrumentation was toggled is not reported, 
+     * and that the next batch is.
+     */
+    @Test
+    public void shouldNotReportBatchBuiltAcrossModeChange() throws SQLException {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        Statement realStatement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(realStatement);
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        try {
+            Statement statement = connectionSpy.createStatement();
+            statement.addBatch("INSERT INTO t VALUES (1)");
+            Instrumentation.setEnabled(false);
+            statement.addBatch("INSERT INTO t VALUES (2)");
+            Instrumentation.setEnabled(true);
+            statement.addBatch("INSERT INTO t VALUES (3)");
+            statement.executeBatch();
+            verify(realStatement).executeBatch();
+            verify(spyLogDelegator, never()).sqlOccurred(any(Spy.class), anyString(), 
+                    anyString());
+
+            statement.addBatch("INSERT INTO t VALUES (4)");
+            statement.executeBatch();
+            verify(realStatement, times(2)).executeBatch();
+            verify(spyLogDelegator).sqlOccurred(eq((Spy) statement), anyString(), 
+                    eq("INSERT INTO t VALUES (4) {batchSize=1}"));
+        } finally {
+            Instrumentation.setEnabled(true);
+            connectionSpy.close();
+        }
+    }
+
+    /**
+     * Test that a <code>ResultSetSpy</code> forwards calls without reporting them 
+     * while the instrumentation is disabled.
+     */
+    @Test
+    public void shouldNotReportResultSetCallsWhenDisabled() throws SQLException {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isResultSetLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        Statement realStatement = mock(Statement.class);
+        ResultSet realResultSet = mock(ResultSet.class);
+        when(realResultSet.getInt(1)).thenReturn(5);
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        try {
+            StatementSpy statementSpy = new StatementSpy(connectionSpy, realStatement, 
+                    spyLogDelegator);
+            ResultSetSpy resultSet = new ResultSetSpy(statementSpy, realResultSet, 
+                    spyLogDelegator);
+            Instrumentation.setEnabled(false);
+            assertEquals(5, resultSet.getInt(1));
+            assertSame(statementSpy, resultSet.getStatement());
+            //only the creation of the result set was reported
+            verify(spyLogDelegator).methodReturned(eq((Spy) resultSet), 
+                    any(MethodCall.class), anyString());
+
+            Instrumentation.setEnabled(true);
+            assertEquals(5, resultSet.getInt(1));
+            verify(spyLogDelegator).methodReturned(eq((Spy) resultSet), 
+                    any(MethodCall.class), eq("5"));
+        } finally {
+            Instrumentation.setEnabled(true);
+            connectionSpy.close();
+        }
+    }
+}
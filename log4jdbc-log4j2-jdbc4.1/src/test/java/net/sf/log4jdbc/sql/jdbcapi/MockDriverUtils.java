@@ -80,8 +80,10 @@ public class MockDriverUtils
 			when(mockDriver.connect(eq(MOCKURL), any(Properties.class)))
 			    .thenReturn(mockConnectionTemp);
 
-			//register the mock Driver
+			//register the mock Driver, replacing any mock Driver previously 
+			//cached by the DriverSpy for the same URL
 			DriverManager.registerDriver(mockDriver);
+			DriverSpy.clearUnderlyingDriverCache();
 			mockDriverTemp = mockDriver;
 		} catch (SQLException e) {
 			//do nothing. The only method that could throw an actual exception 
@@ -99,6 +101,7 @@ public class MockDriverUtils
 	{
     	try {
 			DriverManager.deregisterDriver(this.getMockDriver());
+			DriverSpy.clearUnderlyingDriverCache();
 		} catch (SQLException e) {
 			//I don't think we should care about this during unit testing. 
 		}
@@ -0,0 +1,167 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.AbstractSpyLogDelegator;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for the tracing of bound values by {@link PreparedStatementSpy}.
+ */
+public class PreparedStatementSpyTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(PreparedStatementSpyTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String SQL = "SELECT * FROM t WHERE a = ? AND b = ? AND c = ?";
+
+    /**
+     * Test that bound values are formatted only when the SQL reported is rendered,
+     * with the values bound at the time of the execution.
+     */
+    @Test
+    public void shouldFormatBoundValuesOnDemand() throws SQLException {
+        RdbmsSpecifics rdbmsSpecifics = spy(new RdbmsSpecifics());
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class));
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, rdbmsSpecifics, spyLogDelegator);
+        try {
+            PreparedStatementSpy statement = 
+                    (PreparedStatementSpy) connectionSpy.prepareStatement(SQL);
+            statement.setInt(1, 5);
+            statement.setString(2, "x");
+            statement.execute();
+            ArgumentCaptor<DumpedSql> reported = ArgumentCaptor.forClass(DumpedSql.class);
+            verify(spyLogDelegator).sqlOccurred(eq(statement), anyString(), reported.capture());
+            DumpedSql firstSql = reported.getValue();
+            verify(spyLogDelegator, never()).sqlOccurred(any(Spy.class), anyString(), anyString());
+            verify(rdbmsSpecifics, never()).formatParameterObject(any());
+
+            statement.setInt(1, 6);
+            statement.execute();
+            verify(spyLogDelegator, times(2)).sqlOccurred(eq(statement), anyString(), 
+                    reported.capture());
+            DumpedSql secondSql = reported.getValue();
+            assertTrue(firstSql != secondSql);
+            assertEquals(SQL, firstSql.getTemplate());
+            assertEquals(SQL, secondSql.getTemplate());
+            verify(rdbmsSpecifics, never()).formatParameterObject(any());
+
+            //each snapshot keeps its own values, whatever the order of rendering
+            assertArrayEquals(new String[] {"6", "'x'"}, secondSql.getBoundValues());
+            assertEquals("SELECT * FROM t WHERE a = 6 AND b = 'x' AND c = ?", 
+                    secondSql.toString());
+            assertEquals("SELECT * FROM t WHERE a = 5 AND b = 'x' AND c = ?", 
+                    firstSql.toString());
+            assertEquals("SELECT * FROM t WHERE a = 5 AND b = 'x' AND c = ?", 
+                    new StringBuilder().append(firstSql).toString());
+        } finally {
+            connectionSpy.close();
+        }
+    }
+
+    /**
+     * Test that mutable values are copied when bound, so that the SQL reported 
+     * is rendered with the values bound, even if they are modified after the execution.
+     */
+    @Test
+    public void shouldSnapshotMutableBoundValues() throws SQLException {
+        RdbmsSpecifics rdbmsSpecifics = new RdbmsSpecifics();
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class));
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, rdbmsSpecifics, spyLogDelegator);
+        try {
+            PreparedStatementSpy statement = 
+                    (PreparedStatementSpy) connectionSpy.prepareStatement(SQL);
+            Timestamp timestamp = new Timestamp(1000000000000L);
+            timestamp.setNanos(123456789);
+            byte[] bytes = new byte[] {1, 2};
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(2000000000000L);
+            String[] expected = new String[] {
+                    rdbmsSpecifics.formatParameterObject(timestamp), 
+                    rdbmsSpecifics.formatParameterObject(bytes), 
+                    rdbmsSpecifics.formatParameterObject(calendar)};
+            statement.setTimestamp(1, timestamp);
+            statement.setBytes(2, bytes);
+            statement.setObject(3, calendar);
+            statement.execute();
+            ArgumentCaptor<DumpedSql> reported = ArgumentCaptor.forClass(DumpedSql.class);
+            verify(spyLogDelegator).sqlOccurred(eq(statement), anyString(), reported.capture());
+
+            //the application reuses its objects before the SQL is rendered
+            timestamp.setTime(0L);
+            bytes[0] = 9;
+            calendar.setTimeInMillis(0L);
+            assertArrayEquals(expected, reported.getValue().getBoundValues());
+        } finally {
+            connectionSpy.close();
+        }
+    }
+
+    /**
+     * Test that a {@code SpyLogDelegator} only implementing the methods accepting the SQL 
+     * as a {@code String} receives the SQL with the values bound.
+     */
+    @Test
+    public void shouldRenderValuesForStringDelegators() throws SQLException {
+        AbstractSpyLogDelegator spyLogDelegator = mock(AbstractSpyLogDelegator.class);
+        when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+        doCallRealMethod().when(spyLogDelegator).sqlOccurred(any(Spy.class), anyString(), 
+                any(DumpedSql.class));
+        doCallRealMethod().when(spyLogDelegator).sqlTimingOccurred(any(Spy.class), anyLong(), 
+                anyString(), any(DumpedSql.class));
+        when(spyLogDelegator.isSqlTimingLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class));
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        try {
+            PreparedStatement statement = connectionSpy.prepareStatement(SQL);
+            statement.setInt(1, 5);
+            statement.setString(2, "x");
+            statement.setNull(3, Types.INTEGER);
+            statement.executeUpdate();
+            String dumped = "SELECT * FROM t WHERE a = 5 AND b = 'x' AND c = NULL";
+            verify(spyLogDelegator).sqlOccurred(eq((Spy) statement), anyString(), eq(dumped));
+            verify(spyLogDelegator).sqlTimingOccurred(eq((Spy) statement), anyLong(), 
+                    anyString(), eq(dumped));
+        } finally {
+            connectionSpy.close();
+        }
+    }
+}
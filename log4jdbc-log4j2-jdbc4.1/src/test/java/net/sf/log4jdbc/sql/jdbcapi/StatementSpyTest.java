@@ -0,0 +1,66 @@
+package net.sf.log4jdbc.sql.jdbcapi;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.Spy;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for the reporting of SQL by {@link StatementSpy}.
+ */
+public class StatementSpyTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(StatementSpyTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String SQL = "UPDATE t SET a = 1";
+
+    /**
+     * Test that the SQL is not reported before its execution when the "jdbc.sqlonly" 
+     * events are not logged, while SQL timing events still are.
+     */
+    @Test
+    public void shouldReportSqlOnlyWhenLogged() throws SQLException {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        when(spyLogDelegator.isSqlTimingLoggingEnabled()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        ConnectionSpy connectionSpy = new ConnectionSpy(connection, new RdbmsSpecifics(), 
+                spyLogDelegator);
+        try {
+            Statement statement = connectionSpy.createStatement();
+            statement.executeUpdate(SQL);
+            verify(spyLogDelegator, never()).sqlOccurred(any(Spy.class), anyString(), 
+                    anyString());
+            verify(spyLogDelegator).sqlTimingOccurred(eq((Spy) statement), anyLong(), 
+                    eq("executeUpdate(" + SQL + ")"), eq(SQL));
+
+            when(spyLogDelegator.isSqlOnlyLoggingEnabled()).thenReturn(true);
+            Statement loggedStatement = connectionSpy.createStatement();
+            loggedStatement.executeUpdate(SQL);
+            verify(spyLogDelegator).sqlOccurred(eq((Spy) loggedStatement), 
+                    eq("executeUpdate(" + SQL + ")"), eq(SQL));
+        } finally {
+            connectionSpy.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RdbmsSpecificsResolver}.
+ */
+public class RdbmsSpecificsResolverTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(RdbmsSpecificsResolverTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test {@link RdbmsSpecificsResolver#fromUrl(String)}.
+     */
+    @Test
+    public void shouldResolveFromUrl() {
+        assertEquals(PostgreSqlRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:postgresql://localhost/db").getClass());
+        assertEquals(PostgreSqlRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:log4jdbc:postgresql://localhost/db").getClass());
+        assertEquals(H2RdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:h2:mem:test").getClass());
+        assertEquals(HsqldbRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:hsqldb:mem:test").getClass());
+        assertEquals(DerbyRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:derby:memory:test;create=true").getClass());
+        assertEquals(MariaDbRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:mariadb://localhost/db").getClass());
+        assertEquals(SqliteRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("JDBC:SQLITE:test.db").getClass());
+        assertEquals(OracleRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:oracle:thin:@host:1521:sid").getClass());
+        assertEquals(SqlServerRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromUrl("jdbc:sqlserver://host;databaseName=db").getClass());
+        assertSame(RdbmsSpecificsResolver.fromUrl("jdbc:h2:mem:a"), 
+                RdbmsSpecificsResolver.fromUrl("jdbc:h2:mem:b"));
+
+        assertNull(RdbmsSpecificsResolver.fromUrl("jdbc:mock:test"));
+        assertNull(RdbmsSpecificsResolver.fromUrl("h2:mem:test"));
+        assertNull(RdbmsSpecificsResolver.fromUrl(null));
+    }
+
+    /**
+     * Test {@link RdbmsSpecificsResolver#fromDriverClassName(String)} and 
+     * {@link RdbmsSpecificsResolver#fromProductName(String)}.
+     */
+    @Test
+    public void shouldResolveFromDriverAndProduct() {
+        assertEquals(PostgreSqlRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromDriverClassName("org.postgresql.Driver").getClass());
+        assertEquals(SqlServerRdbmsSpecifics.class, RdbmsSpecificsResolver.fromDriverClassName(
+                "com.microsoft.sqlserver.jdbc.SQLServerDriver").getClass());
+        assertNull(RdbmsSpecificsResolver.fromDriverClassName("com.example.Driver"));
+
+        assertEquals(HsqldbRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromProductName("HSQL Database Engine").getClass());
+        assertEquals(DerbyRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromProductName("Apache Derby").getClass());
+        assertEquals(Db2RdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromProductName("DB2/LINUXX8664").getClass());
+        assertEquals(MySqlRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromProductName("MySQL").getClass());
+        assertNull(RdbmsSpecificsResolver.fromProductName("Unknown"));
+    }
+
+    /**
+     * Test that names are resolved whatever the default locale is (with a Turkish 
+     * locale, the lower case of <code>I</code> is a dotless <code>i</code>).
+     */
+    @Test
+    public void shouldResolveWithTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertEquals(SqliteRdbmsSpecifics.class, 
+                    RdbmsSpecificsResolver.fromUrl("jdbc:SQLITE:test.db").getClass());
+            assertEquals(Db2RdbmsSpecifics.class, 
+                    RdbmsSpecificsResolver.fromProductName("DB2 UDB FOR AS/400").getClass());
+            assertEquals(SqliteRdbmsSpecifics.class, 
+                    RdbmsSpecificsResolver.fromProductName("SQLITE").getClass());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Test {@link RdbmsSpecificsResolver#fromMetaData(Connection)}.
+     */
+    @Test
+    public void shouldResolveFromMetaData() throws SQLException {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getURL()).thenReturn("jdbc:h2:mem:test");
+        assertEquals(H2RdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromMetaData(connection).getClass());
+        verify(metaData, never()).getDatabaseProductName();
+
+        when(metaData.getURL()).thenReturn(null);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        assertEquals(PostgreSqlRdbmsSpecifics.class, 
+                RdbmsSpecificsResolver.fromMetaData(connection).getClass());
+
+        when(connection.getMetaData()).thenThrow(new SQLException());
+        assertNull(RdbmsSpecificsResolver.fromMetaData(connection));
+    }
+}
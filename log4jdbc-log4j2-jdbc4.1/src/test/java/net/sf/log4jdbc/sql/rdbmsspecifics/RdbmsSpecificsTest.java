@@ -0,0 +1,150 @@
+package net.sf.log4jdbc.sql.rdbmsspecifics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RdbmsSpecifics} and its extensions.
+ */
+public class RdbmsSpecificsTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(RdbmsSpecificsTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test the formatting of {@code java.util.Date} parameters by the different 
+     * {@code RdbmsSpecifics}.
+     */
+    @Test
+    public void shouldFormatDates() {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 10:15:30.123");
+        java.sql.Date date = java.sql.Date.valueOf("2024-01-02");
+        Time time = Time.valueOf("10:15:30");
+
+        assertEquals("'01/02/2024 10:15:30.123'", 
+                new RdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("to_timestamp('01/02/2024 10:15:30.123', 'mm/dd/yyyy hh24:mi:ss.ff3')", 
+                new OracleRdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("to_date('01/02/2024 00:00:00', 'mm/dd/yyyy hh24:mi:ss')", 
+                new OracleRdbmsSpecifics().formatParameterObject(date));
+        assertEquals("'2024-01-02 10:15:30'", 
+                new MySqlRdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("'2024-01-02'", new MySqlRdbmsSpecifics().formatParameterObject(date));
+        assertEquals("'10:15:30'", new MySqlRdbmsSpecifics().formatParameterObject(time));
+        assertEquals("TIMESTAMP('2024-01-02 10:15:30.123')", 
+                new Db2RdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("'it''s'", new RdbmsSpecifics().formatParameterObject("it's"));
+        assertEquals("'plain'", new RdbmsSpecifics().formatParameterObject("plain"));
+    }
+
+    /**
+     * Test the formatting of parameters by the dialects supporting 
+     * SQL standard date/time literals, and by Derby and SQLite.
+     */
+    @Test
+    public void shouldFormatDialects() {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 10:15:30.123");
+        java.sql.Date date = java.sql.Date.valueOf("2024-01-02");
+        Time time = Time.valueOf("10:15:30");
+
+        RdbmsSpecifics postgreSql = new PostgreSqlRdbmsSpecifics();
+        assertEquals("TIMESTAMP '2024-01-02 10:15:30.123'", postgreSql.formatParameterObject(timestamp));
+        assertEquals("DATE '2024-01-02'", postgreSql.formatParameterObject(date));
+        assertEquals("TIME '10:15:30'", postgreSql.formatParameterObject(time));
+        assertEquals("TRUE", postgreSql.formatParameterObject(Boolean.TRUE));
+        assertEquals("'\\x01ff'::bytea", postgreSql.formatParameterObject(new byte[] {1, -1}));
+        assertEquals("'it''s'", postgreSql.formatParameterObject("it's"));
+
+        assertEquals("FALSE", new H2RdbmsSpecifics().formatParameterObject(Boolean.FALSE));
+        assertEquals("DATE '2024-01-02'", new HsqldbRdbmsSpecifics().formatParameterObject(date));
+        assertEquals("x'01ff'", new HsqldbRdbmsSpecifics().formatParameterObject(new byte[] {1, -1}));
+
+        RdbmsSpecifics derby = new DerbyRdbmsSpecifics();
+        assertEquals("TIMESTAMP('2024-01-02 10:15:30.123')", derby.formatParameterObject(timestamp));
+        assertEquals("DATE('2024-01-02')", derby.formatParameterObject(date));
+        assertEquals("TIME('10:15:30')", derby.formatParameterObject(time));
+
+        assertEquals("'2024-01-02 10:15:30'", new MariaDbRdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("'2024-01-02 10:15:30.123'", new SqliteRdbmsSpecifics().formatParameterObject(timestamp));
+        assertEquals("1", new SqliteRdbmsSpecifics().formatParameterObject(Boolean.TRUE));
+    }
+
+    /**
+     * Test that the cached formatters can be used concurrently.
+     */
+    @Test
+    public void shouldFormatDatesConcurrently() throws Exception {
+        final RdbmsSpecifics specifics = new Db2RdbmsSpecifics();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 8; i++) {
+                final int day = i + 10;
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        Timestamp timestamp = Timestamp.valueOf("2024-01-" + day + " 10:15:30.123");
+                        for (int j = 0; j < 2000; j++) {
+                            assertEquals("TIMESTAMP('2024-01-" + day + " 10:15:30.123')", 
+                                    specifics.formatParameterObject(timestamp));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> result: results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test {@link RdbmsSpecifics#formatTemporal(Object)}, and the formatting 
+     * of {@code java.time} parameters.
+     */
+    @Test
+    public void shouldFormatTemporals() throws Exception {
+        assertNull(RdbmsSpecifics.formatTemporal("2024-01-02"));
+        assertNull(RdbmsSpecifics.formatTemporal(null));
+
+        Class<?> localDateTime;
+        try {
+            localDateTime = Class.forName("java.time.LocalDateTime");
+        } catch (ClassNotFoundException e) {
+            Assume.assumeNoException(e);
+            return;
+        }
+        Object value = localDateTime.getMethod("parse", CharSequence.class)
+                .invoke(null, "2024-01-02T10:15:30.123");
+        assertEquals("'2024-01-02 10:15:30.123'", new RdbmsSpecifics().formatParameterObject(value));
+        assertEquals("'2024-01-02 10:15:30.123'", new MySqlRdbmsSpecifics().formatParameterObject(value));
+
+        Object zoned = Class.forName("java.time.ZonedDateTime").getMethod("parse", CharSequence.class)
+                .invoke(null, "2024-01-02T10:15:30+01:00[Europe/Paris]");
+        assertEquals("2024-01-02 10:15:30+01:00", RdbmsSpecifics.formatTemporal(zoned));
+
+        Object date = Class.forName("java.time.LocalDate").getMethod("parse", CharSequence.class)
+                .invoke(null, "2024-01-02");
+        assertEquals("'2024-01-02'", new OracleRdbmsSpecifics().formatParameterObject(date));
+    }
+}
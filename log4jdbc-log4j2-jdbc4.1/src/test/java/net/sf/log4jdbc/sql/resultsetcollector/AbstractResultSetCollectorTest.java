@@ -0,0 +1,169 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.jdbcapi.ConnectionSpy;
+import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
+import net.sf.log4jdbc.sql.jdbcapi.StatementSpy;
+import net.sf.log4jdbc.sql.rdbmsspecifics.RdbmsSpecifics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AbstractResultSetCollector}, and for the notification 
+ * of primitive values to {@code ResultSetCollector}s.
+ */
+public class AbstractResultSetCollectorTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(AbstractResultSetCollectorTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * A collector implementing only {@code methodReturned}, 
+     * the way collectors were written before the typed callbacks.
+     */
+    private static final class MethodReturnedCollector extends AbstractResultSetCollector {
+        private final List<List<Object>> rows = new ArrayList<List<Object>>();
+        private List<Object> row = new ArrayList<Object>();
+        private final List<String> methods = new ArrayList<String>();
+        /**
+         * The rows collected before the last reset, when the result set was complete.
+         */
+        private List<List<Object>> collectedRows;
+
+        @Override
+        public boolean methodReturned(ResultSetSpy resultSetSpy, MethodCall methodCall, 
+                Object returnValue, Object targetObject) {
+            this.methods.add(methodCall.toString());
+            switch (methodCall.getId()) {
+                case ResultSetSpy.GETTER_ID:
+                    this.row.add(returnValue);
+                    return false;
+                case ResultSetSpy.NEXT_ID:
+                    if (!this.row.isEmpty()) {
+                        this.rows.add(this.row);
+                        this.row = new ArrayList<Object>();
+                    }
+                    return !Boolean.TRUE.equals(returnValue);
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public void preMethod(ResultSetSpy resultSetSpy, MethodCall methodCall) {
+            //nothing to prepare
+        }
+        @Override
+        public List<List<Object>> getRows() {
+            return this.rows;
+        }
+        @Override
+        public int getColumnCount() {
+            return 4;
+        }
+        @Override
+        public String getColumnName(int column) {
+            return "col" + column;
+        }
+        @Override
+        public void reset() {
+            this.collectedRows = new ArrayList<List<Object>>(this.rows);
+            this.rows.clear();
+        }
+        @Override
+        public void loadMetaDataIfNeeded(ResultSet rs) {
+            //column names are fixed
+        }
+    }
+
+    /**
+     * Create a {@code ResultSetSpy} wrapping {@code realResultSet}, 
+     * notifying {@code collector}.
+     */
+    private static ResultSetSpy newResultSetSpy(ResultSet realResultSet, 
+            ResultSetCollector collector) {
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        ConnectionSpy connectionSpy = new ConnectionSpy(mock(Connection.class), 
+                new RdbmsSpecifics(), spyLogDelegator);
+        StatementSpy statementSpy = new StatementSpy(connectionSpy, mock(Statement.class), 
+                spyLogDelegator);
+        ResultSetSpy resultSetSpy = new ResultSetSpy(statementSpy, realResultSet, 
+                spyLogDelegator);
+        resultSetSpy.setResultSetCollector(collector);
+        return resultSetSpy;
+    }
+
+    /**
+     * Test that the typed callbacks are notified to {@code methodReturned}.
+     */
+    @Test
+    public void shouldNotifyMethodReturned() throws SQLException {
+        ResultSet realResultSet = mock(ResultSet.class);
+        when(realResultSet.next()).thenReturn(true, false);
+        when(realResultSet.getBoolean(1)).thenReturn(true);
+        when(realResultSet.getByte(2)).thenReturn((byte) 2);
+        when(realResultSet.getShort("COL3")).thenReturn((short) 3);
+        when(realResultSet.getString(4)).thenReturn(null);
+        when(realResultSet.wasNull()).thenReturn(true);
+        MethodReturnedCollector collector = new MethodReturnedCollector();
+        ResultSetSpy resultSet = newResultSetSpy(realResultSet, collector);
+
+        assertTrue(resultSet.next());
+        assertTrue(resultSet.getBoolean(1));
+        assertEquals(2, resultSet.getByte(2));
+        assertEquals(3, resultSet.getShort("COL3"));
+        resultSet.getString(4);
+        assertTrue(resultSet.wasNull());
+        resultSet.next();
+        resultSet.close();
+
+        assertEquals(Arrays.asList("next()", "getObject(1)", "getObject(2)", "getObject(3)", 
+                "getObject(4)", "wasNull()", "next()", "close()"), collector.methods);
+        assertEquals(1, collector.collectedRows.size());
+        assertEquals(Arrays.<Object>asList(Boolean.TRUE, Byte.valueOf((byte) 2), 
+                Short.valueOf((short) 3), null), collector.collectedRows.get(0));
+        assertEquals(3, collector.getColumnIndex("COL3"));
+        assertEquals(0, collector.getColumnIndex("unknown"));
+    }
+
+    /**
+     * Test that {@code boolean}, {@code byte} and {@code short} values 
+     * are notified without being boxed.
+     */
+    @Test
+    public void shouldNotifyPrimitiveValues() throws SQLException {
+        ResultSet realResultSet = mock(ResultSet.class);
+        when(realResultSet.getBoolean(1)).thenReturn(true);
+        when(realResultSet.getByte(2)).thenReturn((byte) 2);
+        when(realResultSet.getShort(3)).thenReturn((short) 3);
+        ResultSetCollector collector = mock(ResultSetCollector.class);
+        ResultSetSpy resultSet = newResultSetSpy(realResultSet, collector);
+
+        resultSet.getBoolean(1);
+        resultSet.getByte(2);
+        resultSet.getShort(3);
+        verify(collector).getterReturned(resultSet, 1, true);
+        verify(collector).getterReturned(resultSet, 2, (byte) 2);
+        verify(collector).getterReturned(resultSet, 3, (short) 3);
+    }
+}
@@ -0,0 +1,200 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.log4jdbc.TestAncestor;
+import net.sf.log4jdbc.log.SpyLogDelegator;
+import net.sf.log4jdbc.log.SpyLogFactory;
+import net.sf.log4jdbc.sql.MethodCall;
+import net.sf.log4jdbc.sql.jdbcapi.ResultSetSpy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the bounded and streaming modes of {@link DefaultResultSetCollector}.
+ */
+public class DefaultResultSetCollectorTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(DefaultResultSetCollectorTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final MethodCall NEXT = new MethodCall(ResultSetSpy.NEXT_ID, "next");
+
+    private ResultSetSpy resultSetSpy;
+    /**
+     * The rows of the last table printed by {@link #readRows(ResultSetCollector, int)}.
+     */
+    private List<List<Object>> printedRows;
+
+    @Before
+    public void mockResultSet() throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnName(1)).thenReturn("id");
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getTableName(1)).thenReturn("MyTable");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        this.resultSetSpy = mock(ResultSetSpy.class);
+        when(this.resultSetSpy.getRealResultSet()).thenReturn(resultSet);
+    }
+
+    /**
+     * Read {@code rowCount} rows, printing the collector each time it is complete,
+     * the way a {@code ResultSetSpy} does.
+     *
+     * @return  The tables printed.
+     */
+    private List<String> readRows(ResultSetCollector collector, int rowCount) {
+        List<String> tables = new ArrayList<String>();
+        for (int i = 1; i <= rowCount + 1; i++) {
+            boolean hasNext = i <= rowCount;
+            if (collector.methodReturned(this.resultSetSpy, NEXT, hasNext, null)) {
+                this.printedRows = new ArrayList<List<Object>>(collector.getRows());
+                tables.add(new ResultSetCollectorPrinter().getResultSetToPrint(collector));
+                collector.reset();
+            }
+            if (hasNext) {
+                collector.methodReturned(this.resultSetSpy,
+                        new MethodCall(ResultSetSpy.GETTER_ID, "getInt", 1), i, null);
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Test that only the first and last rows are kept, with a count of the rows omitted.
+     */
+    @Test
+    public void shouldKeepFirstAndLastRows() {
+        DefaultResultSetCollector collector = new DefaultResultSetCollector(false, 0, 2, 3);
+        List<String> tables = this.readRows(collector, 1000);
+        List<List<Object>> kept = this.printedRows;
+
+        assertEquals(1, tables.size());
+        assertEquals(5, kept.size());
+        assertEquals(1, kept.get(0).get(0));
+        assertEquals(2, kept.get(1).get(0));
+        assertEquals(998, kept.get(2).get(0));
+        assertEquals(1000, kept.get(4).get(0));
+        String table = tables.get(0);
+        assertTrue(table, table.contains("|2    |" + System.getProperty("line.separator") +
+                "| ... 995 rows omitted ..." + System.getProperty("line.separator") + "|998  |"));
+        assertFalse(table, table.contains("|500  |"));
+    }
+
+    /**
+     * Test that a result set is printed in chunks, and that the metadata are kept
+     * between chunks.
+     */
+    @Test
+    public void shouldStreamChunks() {
+        DefaultResultSetCollector collector = new DefaultResultSetCollector(false, 4, 0, 0);
+        List<String> tables = this.readRows(collector, 10);
+
+        assertEquals(3, tables.size());
+        assertTrue(tables.get(0), tables.get(0).contains("|id |"));
+        assertTrue(tables.get(0), tables.get(0).contains("|4  |"));
+        assertTrue(tables.get(0), tables.get(0).contains("rows 1 to 4"));
+        assertTrue(tables.get(1), tables.get(1).contains("|id |"));
+        assertTrue(tables.get(1), tables.get(1).contains("|5  |"));
+        assertTrue(tables.get(1), tables.get(1).contains("rows 5 to 8"));
+        assertFalse(tables.get(1), tables.get(1).contains("|4  |"));
+        assertTrue(tables.get(2), tables.get(2).contains("|10 |"));
+        assertTrue(tables.get(2), tables.get(2).contains("rows 9 to 10"));
+
+        //the last row read completes the last chunk
+        collector = new DefaultResultSetCollector(false, 5, 0, 0);
+        tables = this.readRows(collector, 10);
+        assertEquals(2, tables.size());
+        assertTrue(tables.get(1), tables.get(1).contains("rows 6 to 10"));
+    }
+
+    /**
+     * Test that values read by column name are resolved ignoring case,
+     * including names prefixed with the table name.
+     */
+    @Test
+    public void shouldResolveColumnNames() {
+        DefaultResultSetCollector collector = new DefaultResultSetCollector(false);
+        collector.methodReturned(this.resultSetSpy, NEXT, true, null);
+        collector.methodReturned(this.resultSetSpy,
+                new MethodCall(ResultSetSpy.GETTER_ID, "getString", "ID"), "a", null);
+        collector.methodReturned(this.resultSetSpy, NEXT, true, null);
+        collector.methodReturned(this.resultSetSpy,
+                new MethodCall(ResultSetSpy.GETTER_ID, "getString", "mytable.Id"), "b", null);
+        assertTrue(collector.methodReturned(this.resultSetSpy, NEXT, false, null));
+
+        assertEquals(2, collector.getRows().size());
+        assertEquals("a", collector.getRows().get(0).get(0));
+        assertEquals("b", collector.getRows().get(1).get(0));
+        assertEquals("id", collector.getColumnName(1));
+        try {
+            collector.methodReturned(this.resultSetSpy,
+                    new MethodCall(ResultSetSpy.GETTER_ID, "getString", "unknown"), "c", null);
+            throw new AssertionError("an exception should have been thrown");
+        } catch (RuntimeException e) {
+            //test passed
+        }
+    }
+
+    /**
+     * Test the typed callbacks, used by the {@code ResultSetSpy} instead of
+     * {@link ResultSetCollector#methodReturned(ResultSetSpy, MethodCall, Object, Object)}.
+     */
+    @Test
+    public void shouldCollectTypedValues() {
+        DefaultResultSetCollector collector = new DefaultResultSetCollector(false);
+        assertFalse(collector.nextReturned(this.resultSetSpy, true));
+        collector.getterReturned(this.resultSetSpy, collector.getColumnIndex("ID"), 1L);
+        assertFalse(collector.nextReturned(this.resultSetSpy, true));
+        collector.getterReturned(this.resultSetSpy, 1, 0);
+        collector.wasNullReturned(this.resultSetSpy, true);
+        assertTrue(collector.closeReturned(this.resultSetSpy));
+
+        assertEquals(2, collector.getRows().size());
+        assertEquals(Long.valueOf(1L), collector.getRows().get(0).get(0));
+        assertEquals("[null]", collector.getRows().get(1).get(0));
+    }
+
+    /**
+     * Test that moving the cursor backward is reported once per collector.
+     */
+    @Test
+    public void shouldReportRepositioningOnce() {
+        SpyLogDelegator previousLogger = SpyLogFactory.getSpyLogDelegator();
+        SpyLogDelegator spyLogDelegator = mock(SpyLogDelegator.class);
+        SpyLogFactory.setSpyLogDelegator(spyLogDelegator);
+        try {
+            DefaultResultSetCollector collector = new DefaultResultSetCollector(false, 0, 2, 3);
+            this.readRows(collector, 5);
+            assertFalse(collector.methodReturned(this.resultSetSpy, 
+                    new MethodCall(ResultSetSpy.REPOSITION_ID, "previous"), true, null));
+            assertFalse(collector.methodReturned(this.resultSetSpy, 
+                    new MethodCall(ResultSetSpy.REPOSITION_ID, "absolute", 2), true, null));
+            verify(spyLogDelegator, times(1)).debug(contains("ResultSet.previous"));
+            verify(spyLogDelegator, times(1)).debug(anyString());
+        } finally {
+            SpyLogFactory.setSpyLogDelegator(previousLogger);
+        }
+    }
+}
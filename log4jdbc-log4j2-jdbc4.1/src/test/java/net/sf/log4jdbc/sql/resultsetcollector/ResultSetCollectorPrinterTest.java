@@ -0,0 +1,91 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ResultSetCollectorPrinter}.
+ */
+public class ResultSetCollectorPrinterTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(ResultSetCollectorPrinterTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String nl = System.getProperty("line.separator");
+
+    private static ResultSetCollector mockCollector(List<List<Object>> rows, String... columnNames) {
+        ResultSetCollector collector = mock(ResultSetCollector.class);
+        when(collector.getRows()).thenReturn(rows);
+        when(collector.getColumnCount()).thenReturn(columnNames.length);
+        for (int i = 0; i < columnNames.length; i++) {
+            when(collector.getColumnName(i + 1)).thenReturn(columnNames[i]);
+        }
+        return collector;
+    }
+
+    /**
+     * Test the rendering of a table, with values wider than the column names,
+     * {@code null} values, and a column wider than the cached fill characters.
+     */
+    @Test
+    public void shouldPrintTable() {
+        List<List<Object>> rows = new ArrayList<List<Object>>();
+        rows.add(Arrays.<Object>asList("a", 12345, null));
+        rows.add(Arrays.<Object>asList("bcd", 6, "x"));
+        char[] longName = new char[70];
+        Arrays.fill(longName, 'n');
+        String wide = new String(longName);
+        String wideBorder = "-----------------------------------------------------------------------";
+        String wideFill = "                                                                      ";
+
+        String table = new ResultSetCollectorPrinter(0).getResultSetToPrint(
+                mockCollector(rows, "id", "value", wide));
+        assertEquals(nl +
+                "|----|------|" + wideBorder + "|" + nl +
+                "|id  |value |" + wide + " |" + nl +
+                "|----|------|" + wideBorder + "|" + nl +
+                "|a   |12345 |null" + wideFill.substring(3) + "|" + nl +
+                "|bcd |6     |x" + wideFill + "|" + nl +
+                "|----|------|" + wideBorder + "|" + nl, table);
+    }
+
+    /**
+     * Test that values and column names wider than the maximum column width are truncated.
+     */
+    @Test
+    public void shouldTruncateColumns() {
+        List<List<Object>> rows = new ArrayList<List<Object>>();
+        rows.add(Arrays.<Object>asList("a very long value", "ok"));
+
+        String table = new ResultSetCollectorPrinter(8).getResultSetToPrint(
+                mockCollector(rows, "description", "b"));
+        assertEquals(nl +
+                "|---------|---|" + nl +
+                "|descr... |b  |" + nl +
+                "|---------|---|" + nl +
+                "|a ver... |ok |" + nl +
+                "|---------|---|" + nl, table);
+
+        table = new ResultSetCollectorPrinter(2).getResultSetToPrint(
+                mockCollector(rows, "description", "b"));
+        assertEquals(nl +
+                "|---|---|" + nl +
+                "|de |b  |" + nl +
+                "|---|---|" + nl +
+                "|a  |ok |" + nl +
+                "|---|---|" + nl, table);
+    }
+}
@@ -0,0 +1,91 @@
+package net.sf.log4jdbc.sql.resultsetcollector;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.log4jdbc.TestAncestor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link ResultSetRenderer}s of the {@link ResultSetFormat}s.
+ */
+public class ResultSetRendererTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(ResultSetRendererTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    private static final String nl = System.getProperty("line.separator");
+
+    private ResultSetCollector collector;
+
+    @Before
+    public void mockCollector() {
+        List<List<Object>> rows = new ArrayList<List<Object>>();
+        rows.add(Arrays.<Object>asList(1, "a,\"b\""));
+        rows.add(Arrays.<Object>asList(2.5, DefaultResultSetCollector.NULL_RESULT_SET_VAL));
+        rows.add(Arrays.<Object>asList(true, "x|y\nz"));
+        this.collector = mock(ResultSetCollector.class);
+        when(this.collector.getColumnCount()).thenReturn(2);
+        when(this.collector.getColumnName(1)).thenReturn("id");
+        when(this.collector.getColumnName(2)).thenReturn("name");
+        when(this.collector.getRows()).thenReturn(rows);
+        when(this.collector.getRowCount()).thenReturn(3L);
+    }
+
+    private String render(ResultSetFormat format) throws IOException {
+        StringBuilder out = new StringBuilder();
+        format.newRenderer().render(this.collector, out);
+        return out.toString();
+    }
+
+    /**
+     * Test the rendering of values to be escaped and of SQL NULLs.
+     */
+    @Test
+    public void shouldRenderFormats() throws IOException {
+        assertEquals(nl + "id,name" + nl + "1,\"a,\"\"b\"\"\"" + nl + "2.5," + nl +
+                "true,\"x|y\nz\"" + nl, this.render(ResultSetFormat.CSV));
+        assertEquals(nl + "{\"id\":1,\"name\":\"a,\\\"b\\\"\"}" + nl +
+                "{\"id\":2.5,\"name\":null}" + nl +
+                "{\"id\":true,\"name\":\"x|y\\nz\"}" + nl, this.render(ResultSetFormat.JSONL));
+        assertEquals(nl + "| id | name |" + nl + "| --- | --- |" + nl +
+                "| 1 | a,\"b\" |" + nl + "| 2.5 | [null] |" + nl +
+                "| true | x\\|y z |" + nl, this.render(ResultSetFormat.MARKDOWN));
+        assertEquals(ResultSetFormat.JSONL, ResultSetFormat.fromName(" JsonL"));
+    }
+
+    /**
+     * Test that the header of a CSV streamed in chunks is written only once, 
+     * and that omitted rows are reported in Markdown.
+     */
+    @Test
+    public void shouldRenderChunks() throws IOException {
+        when(this.collector.getFirstRowNumber()).thenReturn(4L);
+        when(this.collector.getOmittedRowCount()).thenReturn(10L);
+        when(this.collector.getOmittedRowsIndex()).thenReturn(1);
+        assertEquals(nl + "1,\"a,\"\"b\"\"\"" + nl + "2.5," + nl +
+                "true,\"x|y\nz\"" + nl, this.render(ResultSetFormat.CSV));
+        assertEquals(nl + "| id | name |" + nl + "| --- | --- |" + nl +
+                "| 1 | a,\"b\" |" + nl + "| ... 10 rows omitted ... |  |" + nl + 
+                "| 2.5 | [null] |" + nl + "| true | x\\|y z |" + nl + 
+                nl + "rows 4 to 6" + nl, this.render(ResultSetFormat.MARKDOWN));
+
+        //empty chunk at the end of the result set
+        when(this.collector.getRows()).thenReturn(new ArrayList<List<Object>>());
+        when(this.collector.getRowCount()).thenReturn(0L);
+        when(this.collector.getOmittedRowCount()).thenReturn(0L);
+        assertEquals("", this.render(ResultSetFormat.JSONL));
+    }
+}
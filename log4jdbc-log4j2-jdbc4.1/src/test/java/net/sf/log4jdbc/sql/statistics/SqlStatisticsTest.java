@@ -0,0 +1,112 @@
+package net.sf.log4jdbc.sql.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+import net.sf.log4jdbc.TestAncestor;
+
+/**
+ * Unit tests for {@link SqlStatistics}.
+ */
+public class SqlStatisticsTest extends TestAncestor {
+    private final static Logger log = LogManager.getLogger(SqlStatisticsTest.class.getName());
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    /**
+     * Test the normalization of SQL statements into shapes.
+     */
+    @Test
+    public void shouldNormalizeSql() {
+        assertEquals("SELECT * FROM t1 WHERE a = ? AND b = ? AND c IN (?)",
+                SqlShapes.normalize("SELECT  *\n FROM t1 WHERE a = 'it''s' AND b = 12.5e-3 " +
+                        "AND c IN (1, 2,3)"));
+        assertEquals("SELECT \"col 1\" FROM t WHERE a IN (?) AND b = ?",
+                SqlShapes.normalize("SELECT \"col 1\" FROM t -- comment\n" +
+                        "WHERE a IN ( ?, ? ) AND /* 1 */ b = 0x1F"));
+        assertEquals("INSERT INTO t (a, b) VALUES (?, ?)",
+                SqlShapes.normalize("INSERT INTO t (a, b) VALUES (1, 'x')"));
+        assertEquals("SELECT * FROM t WHERE a IN (SELECT b FROM u WHERE c = ?)",
+                SqlShapes.normalize("SELECT * FROM t WHERE a IN (SELECT b FROM u WHERE c = 2)"));
+    }
+
+    /**
+     * Test the aggregation of executions by shape, and the computation of percentiles.
+     */
+    @Test
+    public void shouldAggregateByShape() {
+        SqlStatistics statistics = new SqlStatistics(2);
+        for (int i = 1; i <= 1000; i++) {
+            statistics.recordExecution("SELECT * FROM t WHERE id = " + i,
+                    TimeUnit.MICROSECONDS.toNanos(i), -1);
+        }
+        statistics.recordFailure("SELECT * FROM t WHERE id = 0");
+        statistics.recordExecution("UPDATE t SET a = 'x'", 10, 5);
+        statistics.recordExecution("UPDATE t SET a = 'y'", 10, 3);
+        statistics.recordExecution("DELETE FROM t", 10, 1);
+
+        List<QueryStatistics> snapshots = statistics.getQueryStatistics();
+        assertEquals(2, snapshots.size());
+        assertEquals(1, statistics.getUntrackedCount());
+
+        QueryStatistics select = snapshots.get(0);
+        assertEquals("SELECT * FROM t WHERE id = ?", select.getShape());
+        assertEquals(1000, select.getCount());
+        assertEquals(1, select.getErrorCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), select.getMaxTime());
+        assertPercentile(TimeUnit.MICROSECONDS.toNanos(500), select.getP50());
+        assertPercentile(TimeUnit.MICROSECONDS.toNanos(900), select.getP90());
+        assertPercentile(TimeUnit.MICROSECONDS.toNanos(990), select.getP99());
+        assertPercentile(TimeUnit.MICROSECONDS.toNanos(999), select.getP999());
+
+        QueryStatistics update = statistics.getQueryStatistics("UPDATE t SET a = 'z'");
+        assertEquals(2, update.getCount());
+        assertEquals(8, update.getRowsAffected());
+        assertNull(statistics.getQueryStatistics("DELETE FROM t"));
+
+        statistics.reset();
+        assertTrue(statistics.getQueryStatistics().isEmpty());
+    }
+
+    /**
+     * Test that executions recorded through a {@code Shape} are aggregated
+     * with those recorded through the SQL, including after a reset.
+     */
+    @Test
+    public void shouldRecordByShape() {
+        SqlStatistics statistics = new SqlStatistics(10);
+        SqlStatistics.Shape shape = statistics.getShape("SELECT * FROM t WHERE id = ?");
+        assertEquals("SELECT * FROM t WHERE id = ?", shape.toString());
+
+        statistics.recordExecution(shape, 10, -1);
+        statistics.recordExecution("SELECT * FROM t WHERE id = 2", 10, -1);
+        statistics.recordFailure(shape);
+        QueryStatistics select = statistics.getQueryStatistics(shape.toString());
+        assertEquals(2, select.getCount());
+        assertEquals(1, select.getErrorCount());
+
+        statistics.reset();
+        statistics.recordExecution(shape, 10, 2);
+        select = statistics.getQueryStatistics(shape.toString());
+        assertEquals(1, select.getCount());
+        assertEquals(2, select.getRowsAffected());
+    }
+
+    /**
+     * Check that {@code actual} is within the precision of {@link LatencyHistogram}.
+     */
+    private static void assertPercentile(long expected, long actual) {
+        assertTrue("Expected about " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}